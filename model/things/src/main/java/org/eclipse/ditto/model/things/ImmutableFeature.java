@@ -42,12 +42,19 @@ final class ImmutableFeature implements Feature {
     @Nullable private final FeatureDefinition definition;
     @Nullable private final FeatureProperties properties;
 
+    /**
+     * The lazily calculated hash code, which is also the entity tag of the feature. Events create new objects only for
+     * the features they change, hence the hash code is calculated at most once per version.
+     */
+    private int hashCode;
+
     private ImmutableFeature(final String featureId, @Nullable final FeatureDefinition definition,
             @Nullable final FeatureProperties properties) {
 
         this.featureId = ConditionChecker.checkNotNull(featureId, "ID of the Feature");
         this.definition = definition;
         this.properties = properties;
+        hashCode = 0;
     }
 
     /**
@@ -201,6 +208,15 @@ final class ImmutableFeature implements Feature {
 
     @Override
     public int hashCode() {
+        int result = hashCode;
+        if (0 == result) {
+            result = calculateHashCode();
+            hashCode = result;
+        }
+        return result;
+    }
+
+    private int calculateHashCode() {
         return Objects.hash(featureId, definition, properties);
     }
 
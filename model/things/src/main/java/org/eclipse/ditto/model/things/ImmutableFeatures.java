@@ -50,8 +50,15 @@ final class ImmutableFeatures implements Features {
 
     private final Map<String, Feature> features;
 
+    /**
+     * The lazily calculated hash code, which is also the entity tag of the features. Events create new objects only for
+     * the features if they change them, hence the hash code is calculated at most once per version.
+     */
+    private int hashCode;
+
     private ImmutableFeatures(final Map<String, Feature> features) {
         this.features = Collections.unmodifiableMap(new HashMap<>(checkNotNull(features, "features")));
+        hashCode = 0;
     }
 
     /**
@@ -271,6 +278,15 @@ final class ImmutableFeatures implements Features {
 
     @Override
     public int hashCode() {
+        int result = hashCode;
+        if (0 == result) {
+            result = calculateHashCode();
+            hashCode = result;
+        }
+        return result;
+    }
+
+    private int calculateHashCode() {
         return Objects.hash(features);
     }
 
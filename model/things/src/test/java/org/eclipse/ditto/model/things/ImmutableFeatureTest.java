@@ -60,6 +60,7 @@ public final class ImmutableFeatureTest {
 
         EqualsVerifier.forClass(ImmutableFeature.class)
                 .withPrefabValues(SoftReference.class, red, black)
+                .withCachedHashCode("hashCode", "calculateHashCode", ImmutableFeature.of("myFeature"))
                 .verify();
     }
 
@@ -75,7 +76,7 @@ public final class ImmutableFeatureTest {
         assertInstancesOf(ImmutableFeature.class,
                 areImmutable(),
                 provided(knownImmutableTypes).areAlsoImmutable(),
-                assumingFields("cachedJsonObject").areModifiedAsPartOfAnUnobservableCachingStrategy());
+                assumingFields("cachedJsonObject", "hashCode").areModifiedAsPartOfAnUnobservableCachingStrategy());
     }
 
     @Test(expected = NullPointerException.class)
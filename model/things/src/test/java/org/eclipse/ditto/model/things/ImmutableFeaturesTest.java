@@ -61,6 +61,7 @@ public final class ImmutableFeaturesTest {
         EqualsVerifier.forClass(ImmutableFeatures.class)
                 .usingGetClass()
                 .withPrefabValues(SoftReference.class, red, black)
+                .withCachedHashCode("hashCode", "calculateHashCode", ImmutableFeatures.empty())
                 .verify();
     }
 
@@ -69,7 +70,8 @@ public final class ImmutableFeaturesTest {
         assertInstancesOf(ImmutableFeatures.class,
                 areImmutable(),
                 provided(JsonObject.class, Feature.class).isAlsoImmutable(),
-                assumingFields("features").areSafelyCopiedUnmodifiableCollectionsWithImmutableElements());
+                assumingFields("features").areSafelyCopiedUnmodifiableCollectionsWithImmutableElements(),
+                assumingFields("hashCode").areModifiedAsPartOfAnUnobservableCachingStrategy());
     }
 
     @Test(expected = NullPointerException.class)
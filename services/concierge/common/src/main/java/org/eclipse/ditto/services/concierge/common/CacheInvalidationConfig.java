@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.common;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings of the replication of cache invalidations between Concierge instances.
+ */
+@Immutable
+public interface CacheInvalidationConfig {
+
+    /**
+     * Indicates whether cache invalidations are coalesced into batches and replicated via distributed data.
+     * If disabled, each cache invalidation is sent to all Concierge instances as a single pub-sub message.
+     *
+     * @return {@code true} if cache invalidations are replicated in batches, {@code false} else.
+     */
+    boolean isBatchingEnabled();
+
+    /**
+     * Returns the maximum duration to collect cache invalidations before they are published as one batch.
+     *
+     * @return the flush interval.
+     */
+    Duration getFlushInterval();
+
+    /**
+     * Returns the number of cache invalidations after which a batch is published before the flush interval elapsed.
+     *
+     * @return the maximum batch size.
+     */
+    int getMaxBatchSize();
+
+    /**
+     * Returns how many of its most recent batches each Concierge instance keeps in the distributed data.
+     * Subscribers which missed more batches than this invalidate their caches completely.
+     *
+     * @return the number of retained batches.
+     */
+    int getRetainedBatches();
+
+    /**
+     * Returns the maximum size in bytes of the serialized batches each Concierge instance keeps in the distributed
+     * data. The oldest batches are dropped first; batches are split if a single one would exceed this size.
+     * The entries of all Concierge instances are gossiped as a whole, so the number of instances multiplied by this
+     * size must stay below the maximum frame size of Akka remoting.
+     *
+     * @return the maximum size of the retained batches in bytes.
+     */
+    long getMaxRetainedSize();
+
+    /**
+     * Returns the age of the most recent batch of a Concierge instance after which its batches are removed from the
+     * distributed data.
+     *
+     * @return the timeout of stale origins.
+     */
+    Duration getStaleOriginTimeout();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code CacheInvalidationConfig}.
+     */
+    enum CacheInvalidationConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether cache invalidations are replicated in batches.
+         */
+        BATCHING_ENABLED("batching-enabled", true),
+
+        /**
+         * The maximum duration to collect cache invalidations before they are published.
+         */
+        FLUSH_INTERVAL("flush-interval", Duration.ofMillis(100L)),
+
+        /**
+         * The number of cache invalidations after which a batch is published immediately.
+         */
+        MAX_BATCH_SIZE("max-batch-size", 1_000),
+
+        /**
+         * The number of most recent batches each Concierge instance keeps in the distributed data.
+         */
+        RETAINED_BATCHES("retained-batches", 16),
+
+        /**
+         * The maximum size in bytes of the serialized batches each Concierge instance keeps in the distributed data.
+         */
+        MAX_RETAINED_SIZE("max-retained-size", 32_768L),
+
+        /**
+         * The age of the most recent batch after which the batches of a Concierge instance are removed.
+         */
+        STALE_ORIGIN_TIMEOUT("stale-origin-timeout", Duration.ofHours(1L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        CacheInvalidationConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.common;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings of the warm-up of the caches of a starting Concierge instance with the hottest
+ * cache keys of the other Concierge instances.
+ */
+@Immutable
+public interface CacheWarmUpConfig {
+
+    /**
+     * Indicates whether the caches are warmed up on startup and the hottest cache keys are shared with other Concierge
+     * instances.
+     *
+     * @return {@code true} if the cache warm-up is enabled, {@code false} else.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the number of hottest keys of each cache which each Concierge instance shares.
+     *
+     * @return the number of hottest keys per cache.
+     */
+    int getHottestKeys();
+
+    /**
+     * Returns the interval in which each Concierge instance shares the hottest keys of its caches.
+     *
+     * @return the publish interval.
+     */
+    Duration getPublishInterval();
+
+    /**
+     * Returns the maximum number of cache entries to load per second during the warm-up.
+     *
+     * @return the maximum load rate.
+     */
+    int getMaxLoadsPerSecond();
+
+    /**
+     * Returns the number of cache entries loaded in parallel during the warm-up.
+     *
+     * @return the parallelism.
+     */
+    int getParallelism();
+
+    /**
+     * Returns the maximum duration of the warm-up after which the Concierge instance reports itself as ready anyway.
+     *
+     * @return the timeout of the warm-up.
+     */
+    Duration getTimeout();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code CacheWarmUpConfig}.
+     */
+    enum CacheWarmUpConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether the cache warm-up is enabled.
+         */
+        ENABLED("enabled", true),
+
+        /**
+         * The number of hottest keys of each cache which each Concierge instance shares.
+         */
+        HOTTEST_KEYS("hottest-keys", 1_000),
+
+        /**
+         * The interval in which each Concierge instance shares the hottest keys of its caches.
+         */
+        PUBLISH_INTERVAL("publish-interval", Duration.ofMinutes(1L)),
+
+        /**
+         * The maximum number of cache entries to load per second during the warm-up.
+         */
+        MAX_LOADS_PER_SECOND("max-loads-per-second", 200),
+
+        /**
+         * The number of cache entries loaded in parallel during the warm-up.
+         */
+        PARALLELISM("parallelism", 8),
+
+        /**
+         * The maximum duration of the warm-up.
+         */
+        TIMEOUT("timeout", Duration.ofMinutes(1L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        CacheWarmUpConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+    }
+
+}
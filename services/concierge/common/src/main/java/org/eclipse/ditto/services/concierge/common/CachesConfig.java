@@ -46,6 +46,27 @@ public interface CachesConfig {
      */
     CacheConfig getEnforcerCacheConfig();
 
+    /**
+     * Returns the config of the replication of cache invalidations between Concierge instances.
+     *
+     * @return the config.
+     */
+    CacheInvalidationConfig getInvalidationConfig();
+
+    /**
+     * Returns the config of the filter of existing things in front of the thing ID cache.
+     *
+     * @return the config.
+     */
+    ExistenceFilterConfig getExistenceFilterConfig();
+
+    /**
+     * Returns the config of the warm-up of the caches on startup.
+     *
+     * @return the config.
+     */
+    CacheWarmUpConfig getWarmUpConfig();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code CachesConfig}.
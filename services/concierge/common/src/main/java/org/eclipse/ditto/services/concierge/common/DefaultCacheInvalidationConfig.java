@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.common;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class implements {@link CacheInvalidationConfig} for Ditto's Concierge service.
+ */
+@Immutable
+public final class DefaultCacheInvalidationConfig implements CacheInvalidationConfig {
+
+    private static final String CONFIG_PATH = "invalidation";
+
+    private final boolean batchingEnabled;
+    private final Duration flushInterval;
+    private final int maxBatchSize;
+    private final int retainedBatches;
+    private final long maxRetainedSize;
+    private final Duration staleOriginTimeout;
+
+    private DefaultCacheInvalidationConfig(final ConfigWithFallback configWithFallback) {
+        batchingEnabled =
+                configWithFallback.getBoolean(CacheInvalidationConfigValue.BATCHING_ENABLED.getConfigPath());
+        flushInterval = configWithFallback.getDuration(CacheInvalidationConfigValue.FLUSH_INTERVAL.getConfigPath());
+        maxBatchSize = configWithFallback.getInt(CacheInvalidationConfigValue.MAX_BATCH_SIZE.getConfigPath());
+        retainedBatches = configWithFallback.getInt(CacheInvalidationConfigValue.RETAINED_BATCHES.getConfigPath());
+        maxRetainedSize = configWithFallback.getBytes(CacheInvalidationConfigValue.MAX_RETAINED_SIZE.getConfigPath());
+        staleOriginTimeout =
+                configWithFallback.getDuration(CacheInvalidationConfigValue.STALE_ORIGIN_TIMEOUT.getConfigPath());
+    }
+
+    /**
+     * Returns an instance of {@code DefaultCacheInvalidationConfig} based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the cache invalidation config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultCacheInvalidationConfig of(final Config config) {
+        return new DefaultCacheInvalidationConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, CacheInvalidationConfigValue.values()));
+    }
+
+    @Override
+    public boolean isBatchingEnabled() {
+        return batchingEnabled;
+    }
+
+    @Override
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    @Override
+    public int getRetainedBatches() {
+        return retainedBatches;
+    }
+
+    @Override
+    public long getMaxRetainedSize() {
+        return maxRetainedSize;
+    }
+
+    @Override
+    public Duration getStaleOriginTimeout() {
+        return staleOriginTimeout;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultCacheInvalidationConfig that = (DefaultCacheInvalidationConfig) o;
+        return batchingEnabled == that.batchingEnabled &&
+                maxBatchSize == that.maxBatchSize &&
+                retainedBatches == that.retainedBatches &&
+                maxRetainedSize == that.maxRetainedSize &&
+                flushInterval.equals(that.flushInterval) &&
+                staleOriginTimeout.equals(that.staleOriginTimeout);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(batchingEnabled, flushInterval, maxBatchSize, retainedBatches, maxRetainedSize,
+                staleOriginTimeout);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "batchingEnabled=" + batchingEnabled +
+                ", flushInterval=" + flushInterval +
+                ", maxBatchSize=" + maxBatchSize +
+                ", retainedBatches=" + retainedBatches +
+                ", maxRetainedSize=" + maxRetainedSize +
+                ", staleOriginTimeout=" + staleOriginTimeout +
+                "]";
+    }
+
+}
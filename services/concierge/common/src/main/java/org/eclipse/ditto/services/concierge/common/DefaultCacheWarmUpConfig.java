@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.common;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class implements {@link CacheWarmUpConfig} for Ditto's Concierge service.
+ */
+@Immutable
+public final class DefaultCacheWarmUpConfig implements CacheWarmUpConfig {
+
+    private static final String CONFIG_PATH = "warm-up";
+
+    private final boolean enabled;
+    private final int hottestKeys;
+    private final Duration publishInterval;
+    private final int maxLoadsPerSecond;
+    private final int parallelism;
+    private final Duration timeout;
+
+    private DefaultCacheWarmUpConfig(final ConfigWithFallback configWithFallback) {
+        enabled = configWithFallback.getBoolean(CacheWarmUpConfigValue.ENABLED.getConfigPath());
+        hottestKeys = configWithFallback.getInt(CacheWarmUpConfigValue.HOTTEST_KEYS.getConfigPath());
+        publishInterval = configWithFallback.getDuration(CacheWarmUpConfigValue.PUBLISH_INTERVAL.getConfigPath());
+        maxLoadsPerSecond = configWithFallback.getInt(CacheWarmUpConfigValue.MAX_LOADS_PER_SECOND.getConfigPath());
+        parallelism = configWithFallback.getInt(CacheWarmUpConfigValue.PARALLELISM.getConfigPath());
+        timeout = configWithFallback.getDuration(CacheWarmUpConfigValue.TIMEOUT.getConfigPath());
+    }
+
+    /**
+     * Returns an instance of {@code DefaultCacheWarmUpConfig} based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the cache warm-up config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultCacheWarmUpConfig of(final Config config) {
+        return new DefaultCacheWarmUpConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, CacheWarmUpConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public int getHottestKeys() {
+        return hottestKeys;
+    }
+
+    @Override
+    public Duration getPublishInterval() {
+        return publishInterval;
+    }
+
+    @Override
+    public int getMaxLoadsPerSecond() {
+        return maxLoadsPerSecond;
+    }
+
+    @Override
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultCacheWarmUpConfig that = (DefaultCacheWarmUpConfig) o;
+        return enabled == that.enabled &&
+                hottestKeys == that.hottestKeys &&
+                maxLoadsPerSecond == that.maxLoadsPerSecond &&
+                parallelism == that.parallelism &&
+                publishInterval.equals(that.publishInterval) &&
+                timeout.equals(that.timeout);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, hottestKeys, publishInterval, maxLoadsPerSecond, parallelism, timeout);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", hottestKeys=" + hottestKeys +
+                ", publishInterval=" + publishInterval +
+                ", maxLoadsPerSecond=" + maxLoadsPerSecond +
+                ", parallelism=" + parallelism +
+                ", timeout=" + timeout +
+                "]";
+    }
+
+}
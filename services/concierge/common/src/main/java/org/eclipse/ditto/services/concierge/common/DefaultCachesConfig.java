@@ -35,11 +35,17 @@ public final class DefaultCachesConfig implements CachesConfig {
     private final Duration askTimeout;
     private final CacheConfig idCacheConfig;
     private final CacheConfig enforcerCacheConfig;
+    private final CacheInvalidationConfig invalidationConfig;
+    private final ExistenceFilterConfig existenceFilterConfig;
+    private final CacheWarmUpConfig warmUpConfig;
 
     private DefaultCachesConfig(final ScopedConfig config) {
         askTimeout = config.getDuration(CachesConfigValue.ASK_TIMEOUT.getConfigPath());
         idCacheConfig = DefaultCacheConfig.of(config, "id");
         enforcerCacheConfig = DefaultCacheConfig.of(config, "enforcer");
+        invalidationConfig = DefaultCacheInvalidationConfig.of(config);
+        existenceFilterConfig = DefaultExistenceFilterConfig.of(config);
+        warmUpConfig = DefaultCacheWarmUpConfig.of(config);
     }
 
     /**
@@ -68,6 +74,21 @@ public final class DefaultCachesConfig implements CachesConfig {
         return enforcerCacheConfig;
     }
 
+    @Override
+    public CacheInvalidationConfig getInvalidationConfig() {
+        return invalidationConfig;
+    }
+
+    @Override
+    public ExistenceFilterConfig getExistenceFilterConfig() {
+        return existenceFilterConfig;
+    }
+
+    @Override
+    public CacheWarmUpConfig getWarmUpConfig() {
+        return warmUpConfig;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -79,12 +100,16 @@ public final class DefaultCachesConfig implements CachesConfig {
         final DefaultCachesConfig that = (DefaultCachesConfig) o;
         return askTimeout.equals(that.askTimeout) &&
                 idCacheConfig.equals(that.idCacheConfig) &&
-                enforcerCacheConfig.equals(that.enforcerCacheConfig);
+                enforcerCacheConfig.equals(that.enforcerCacheConfig) &&
+                invalidationConfig.equals(that.invalidationConfig) &&
+                existenceFilterConfig.equals(that.existenceFilterConfig) &&
+                warmUpConfig.equals(that.warmUpConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(askTimeout, idCacheConfig, enforcerCacheConfig);
+        return Objects.hash(askTimeout, idCacheConfig, enforcerCacheConfig, invalidationConfig, existenceFilterConfig,
+                warmUpConfig);
     }
 
     @Override
@@ -93,6 +118,9 @@ public final class DefaultCachesConfig implements CachesConfig {
                 "askTimeout=" + askTimeout +
                 ", idCacheConfig=" + idCacheConfig +
                 ", enforcerCacheConfig=" + enforcerCacheConfig +
+                ", invalidationConfig=" + invalidationConfig +
+                ", existenceFilterConfig=" + existenceFilterConfig +
+                ", warmUpConfig=" + warmUpConfig +
                 "]";
     }
 
@@ -31,10 +31,15 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
 
     private final Duration askTimeout;
     private final int bufferSize;
+    private final int maxTasksPerEntity;
+    private final int preEnforcementParallelism;
 
     private DefaultEnforcementConfig(final ConfigWithFallback configWithFallback) {
         askTimeout = configWithFallback.getDuration(EnforcementConfigValue.ASK_TIMEOUT.getConfigPath());
         bufferSize = configWithFallback.getInt(EnforcementConfigValue.BUFFER_SIZE.getConfigPath());
+        maxTasksPerEntity = configWithFallback.getInt(EnforcementConfigValue.MAX_TASKS_PER_ENTITY.getConfigPath());
+        preEnforcementParallelism =
+                configWithFallback.getInt(EnforcementConfigValue.PRE_ENFORCEMENT_PARALLELISM.getConfigPath());
     }
 
     /**
@@ -59,6 +64,16 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
         return bufferSize;
     }
 
+    @Override
+    public int getMaxTasksPerEntity() {
+        return maxTasksPerEntity;
+    }
+
+    @Override
+    public int getPreEnforcementParallelism() {
+        return preEnforcementParallelism;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -68,12 +83,15 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
             return false;
         }
         final DefaultEnforcementConfig that = (DefaultEnforcementConfig) o;
-        return bufferSize == that.bufferSize && askTimeout.equals(that.askTimeout);
+        return bufferSize == that.bufferSize &&
+                maxTasksPerEntity == that.maxTasksPerEntity &&
+                preEnforcementParallelism == that.preEnforcementParallelism &&
+                askTimeout.equals(that.askTimeout);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(askTimeout, bufferSize);
+        return Objects.hash(askTimeout, bufferSize, maxTasksPerEntity, preEnforcementParallelism);
     }
 
     @Override
@@ -81,6 +99,8 @@ public final class DefaultEnforcementConfig implements EnforcementConfig {
         return getClass().getSimpleName() + " [" +
                 "askTimeout=" + askTimeout +
                 ", bufferSize=" + bufferSize +
+                ", maxTasksPerEntity=" + maxTasksPerEntity +
+                ", preEnforcementParallelism=" + preEnforcementParallelism +
                 "]";
     }
 
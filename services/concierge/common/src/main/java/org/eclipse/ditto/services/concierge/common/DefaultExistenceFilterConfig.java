@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.common;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class implements {@link ExistenceFilterConfig} for Ditto's Concierge service.
+ */
+@Immutable
+public final class DefaultExistenceFilterConfig implements ExistenceFilterConfig {
+
+    private static final String CONFIG_PATH = "existence-filter";
+
+    private final boolean enabled;
+    private final int expectedInsertionsPerNamespace;
+    private final double falsePositiveProbability;
+    private final int streamBurst;
+    private final Duration streamIdleTimeout;
+    private final Duration restartDelay;
+    private final Duration rebuildInterval;
+
+    private DefaultExistenceFilterConfig(final ConfigWithFallback configWithFallback) {
+        enabled = configWithFallback.getBoolean(ExistenceFilterConfigValue.ENABLED.getConfigPath());
+        expectedInsertionsPerNamespace = configWithFallback.getInt(
+                ExistenceFilterConfigValue.EXPECTED_INSERTIONS_PER_NAMESPACE.getConfigPath());
+        falsePositiveProbability =
+                configWithFallback.getDouble(ExistenceFilterConfigValue.FALSE_POSITIVE_PROBABILITY.getConfigPath());
+        streamBurst = configWithFallback.getInt(ExistenceFilterConfigValue.STREAM_BURST.getConfigPath());
+        streamIdleTimeout =
+                configWithFallback.getDuration(ExistenceFilterConfigValue.STREAM_IDLE_TIMEOUT.getConfigPath());
+        restartDelay = configWithFallback.getDuration(ExistenceFilterConfigValue.RESTART_DELAY.getConfigPath());
+        rebuildInterval = configWithFallback.getDuration(ExistenceFilterConfigValue.REBUILD_INTERVAL.getConfigPath());
+    }
+
+    /**
+     * Returns an instance of {@code DefaultExistenceFilterConfig} based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the existence filter config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultExistenceFilterConfig of(final Config config) {
+        return new DefaultExistenceFilterConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, ExistenceFilterConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public int getExpectedInsertionsPerNamespace() {
+        return expectedInsertionsPerNamespace;
+    }
+
+    @Override
+    public double getFalsePositiveProbability() {
+        return falsePositiveProbability;
+    }
+
+    @Override
+    public int getStreamBurst() {
+        return streamBurst;
+    }
+
+    @Override
+    public Duration getStreamIdleTimeout() {
+        return streamIdleTimeout;
+    }
+
+    @Override
+    public Duration getRestartDelay() {
+        return restartDelay;
+    }
+
+    @Override
+    public Duration getRebuildInterval() {
+        return rebuildInterval;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultExistenceFilterConfig that = (DefaultExistenceFilterConfig) o;
+        return enabled == that.enabled &&
+                expectedInsertionsPerNamespace == that.expectedInsertionsPerNamespace &&
+                Double.compare(that.falsePositiveProbability, falsePositiveProbability) == 0 &&
+                streamBurst == that.streamBurst &&
+                streamIdleTimeout.equals(that.streamIdleTimeout) &&
+                restartDelay.equals(that.restartDelay) &&
+                rebuildInterval.equals(that.rebuildInterval);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, expectedInsertionsPerNamespace, falsePositiveProbability, streamBurst,
+                streamIdleTimeout, restartDelay, rebuildInterval);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", expectedInsertionsPerNamespace=" + expectedInsertionsPerNamespace +
+                ", falsePositiveProbability=" + falsePositiveProbability +
+                ", streamBurst=" + streamBurst +
+                ", streamIdleTimeout=" + streamIdleTimeout +
+                ", restartDelay=" + restartDelay +
+                ", rebuildInterval=" + rebuildInterval +
+                "]";
+    }
+
+}
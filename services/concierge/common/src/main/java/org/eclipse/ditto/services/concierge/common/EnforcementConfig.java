@@ -38,6 +38,22 @@ public interface EnforcementConfig {
      */
     int getBufferSize();
 
+    /**
+     * Returns the maximum number of enforcement tasks of one entity which may be in progress at the same time.
+     * Further tasks of the entity are rejected until a task completes.
+     *
+     * @return the maximum number of in-progress tasks per entity.
+     */
+    int getMaxTasksPerEntity();
+
+    /**
+     * Returns the maximum number of signals which are pre-enforced concurrently by the enforcer actor. The order of
+     * the signals is retained.
+     *
+     * @return the pre-enforcement parallelism.
+     */
+    int getPreEnforcementParallelism();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code EnforcementConfig}.
@@ -52,7 +68,17 @@ public interface EnforcementConfig {
         /**
          * The buffer size used for the queue in the enforcer actor.
          */
-        BUFFER_SIZE("buffer-size", 1_000);
+        BUFFER_SIZE("buffer-size", 1_000),
+
+        /**
+         * The maximum number of enforcement tasks of one entity which may be in progress at the same time.
+         */
+        MAX_TASKS_PER_ENTITY("max-tasks-per-entity", 1_000),
+
+        /**
+         * The maximum number of signals which are pre-enforced concurrently.
+         */
+        PRE_ENFORCEMENT_PARALLELISM("pre-enforcement-parallelism", 16);
 
         private final String path;
         private final Object defaultValue;
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.common;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings of the filter of existing things which lets Concierge reject lookups of unknown
+ * thing IDs without asking the things shard region.
+ */
+@Immutable
+public interface ExistenceFilterConfig {
+
+    /**
+     * Indicates whether lookups of thing IDs pass through the existence filter.
+     *
+     * @return {@code true} if the existence filter is enabled, {@code false} else.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the number of thing IDs the first Bloom filter of each namespace is dimensioned for.
+     * Each further Bloom filter of a namespace is dimensioned for twice as many thing IDs as its predecessor.
+     *
+     * @return the expected insertions of the first Bloom filter of a namespace.
+     */
+    int getExpectedInsertionsPerNamespace();
+
+    /**
+     * Returns the probability of each Bloom filter to report an unknown thing ID as existent.
+     *
+     * @return the false positive probability.
+     */
+    double getFalsePositiveProbability();
+
+    /**
+     * Returns the number of thing IDs to request at once when streaming the IDs of all persisted things.
+     *
+     * @return the burst of the stream.
+     */
+    int getStreamBurst();
+
+    /**
+     * Returns the timeout of the stream of the IDs of all persisted things.
+     *
+     * @return the idle timeout of the stream.
+     */
+    Duration getStreamIdleTimeout();
+
+    /**
+     * Returns the delay after which a failed stream of the IDs of all persisted things is requested again.
+     *
+     * @return the delay of the restart.
+     */
+    Duration getRestartDelay();
+
+    /**
+     * Returns the interval after which the filter is rebuilt from the IDs of all persisted things. Rebuilding adds
+     * thing IDs whose creation events were lost and forgets the IDs of deleted things.
+     *
+     * @return the interval between two rebuilds.
+     */
+    Duration getRebuildInterval();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code ExistenceFilterConfig}.
+     */
+    enum ExistenceFilterConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether the existence filter is enabled.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The number of thing IDs the first Bloom filter of each namespace is dimensioned for.
+         */
+        EXPECTED_INSERTIONS_PER_NAMESPACE("expected-insertions-per-namespace", 10_000),
+
+        /**
+         * The false positive probability of each Bloom filter.
+         */
+        FALSE_POSITIVE_PROBABILITY("false-positive-probability", 0.01),
+
+        /**
+         * The number of thing IDs to request at once when streaming the IDs of all persisted things.
+         */
+        STREAM_BURST("stream-burst", 100),
+
+        /**
+         * The timeout of the stream of the IDs of all persisted things.
+         */
+        STREAM_IDLE_TIMEOUT("stream-idle-timeout", Duration.ofSeconds(10L)),
+
+        /**
+         * The delay after which a failed stream is requested again.
+         */
+        RESTART_DELAY("restart-delay", Duration.ofMinutes(1L)),
+
+        /**
+         * The interval after which the filter is rebuilt from the IDs of all persisted things.
+         */
+        REBUILD_INTERVAL("rebuild-interval", Duration.ofHours(1L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        ExistenceFilterConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+    }
+
+}
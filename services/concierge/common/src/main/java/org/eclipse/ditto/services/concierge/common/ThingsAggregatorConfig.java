@@ -39,6 +39,14 @@ public interface ThingsAggregatorConfig {
      */
     int getMaxParallelism();
 
+    /**
+     * Indicates whether the {@code RetrieveThing} commands of a {@code RetrieveThings} command are enforced in
+     * batches grouped by the policies of the things instead of one by one.
+     *
+     * @return whether batch enforcement is enabled.
+     */
+    boolean isBatchEnforcementEnabled();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code ThingsAggregatorConfig}.
@@ -53,7 +61,12 @@ public interface ThingsAggregatorConfig {
         /**
          * The maximum parallelism.
          */
-        MAX_PARALLELISM("max-parallelism", 20);
+        MAX_PARALLELISM("max-parallelism", 20),
+
+        /**
+         * Whether the things are enforced in batches grouped by policy.
+         */
+        BATCH_ENFORCEMENT_ENABLED("batch-enforcement-enabled", true);
 
         private final String path;
         private final Object defaultValue;
@@ -62,6 +62,18 @@ public final class DefaultCachesConfigTest {
         softly.assertThat(underTest.getAskTimeout())
                 .as("getAskTimeout")
                 .isEqualTo(CachesConfig.CachesConfigValue.ASK_TIMEOUT.getDefaultValue());
+        softly.assertThat(underTest.getInvalidationConfig().isBatchingEnabled())
+                .as(CacheInvalidationConfig.CacheInvalidationConfigValue.BATCHING_ENABLED.getConfigPath())
+                .isEqualTo(CacheInvalidationConfig.CacheInvalidationConfigValue.BATCHING_ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getInvalidationConfig().getFlushInterval())
+                .as(CacheInvalidationConfig.CacheInvalidationConfigValue.FLUSH_INTERVAL.getConfigPath())
+                .isEqualTo(CacheInvalidationConfig.CacheInvalidationConfigValue.FLUSH_INTERVAL.getDefaultValue());
+        softly.assertThat(underTest.getExistenceFilterConfig().isEnabled())
+                .as(ExistenceFilterConfig.ExistenceFilterConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(ExistenceFilterConfig.ExistenceFilterConfigValue.ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getWarmUpConfig().isEnabled())
+                .as(CacheWarmUpConfig.CacheWarmUpConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(CacheWarmUpConfig.CacheWarmUpConfigValue.ENABLED.getDefaultValue());
     }
 
     @Test
@@ -93,5 +105,80 @@ public final class DefaultCachesConfigTest {
                             .as(CacheConfig.CacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath())
                             .isEqualTo(Duration.ofMinutes(15L));
                 });
+
+        softly.assertThat(underTest.getInvalidationConfig())
+                .as("invalidationConfig")
+                .satisfies(invalidationConfig -> {
+                    softly.assertThat(invalidationConfig.isBatchingEnabled())
+                            .as(CacheInvalidationConfig.CacheInvalidationConfigValue.BATCHING_ENABLED.getConfigPath())
+                            .isFalse();
+                    softly.assertThat(invalidationConfig.getFlushInterval())
+                            .as(CacheInvalidationConfig.CacheInvalidationConfigValue.FLUSH_INTERVAL.getConfigPath())
+                            .isEqualTo(Duration.ofMillis(250L));
+                    softly.assertThat(invalidationConfig.getMaxBatchSize())
+                            .as(CacheInvalidationConfig.CacheInvalidationConfigValue.MAX_BATCH_SIZE.getConfigPath())
+                            .isEqualTo(500);
+                    softly.assertThat(invalidationConfig.getRetainedBatches())
+                            .as(CacheInvalidationConfig.CacheInvalidationConfigValue.RETAINED_BATCHES.getConfigPath())
+                            .isEqualTo(8);
+                    softly.assertThat(invalidationConfig.getMaxRetainedSize())
+                            .as(CacheInvalidationConfig.CacheInvalidationConfigValue.MAX_RETAINED_SIZE.getConfigPath())
+                            .isEqualTo(16_384L);
+                    softly.assertThat(invalidationConfig.getStaleOriginTimeout())
+                            .as(CacheInvalidationConfig.CacheInvalidationConfigValue.STALE_ORIGIN_TIMEOUT
+                                    .getConfigPath())
+                            .isEqualTo(Duration.ofMinutes(30L));
+                });
+
+        softly.assertThat(underTest.getExistenceFilterConfig())
+                .as("existenceFilterConfig")
+                .satisfies(existenceFilterConfig -> {
+                    softly.assertThat(existenceFilterConfig.isEnabled())
+                            .as(ExistenceFilterConfig.ExistenceFilterConfigValue.ENABLED.getConfigPath())
+                            .isTrue();
+                    softly.assertThat(existenceFilterConfig.getExpectedInsertionsPerNamespace())
+                            .as(ExistenceFilterConfig.ExistenceFilterConfigValue.EXPECTED_INSERTIONS_PER_NAMESPACE
+                                    .getConfigPath())
+                            .isEqualTo(5000);
+                    softly.assertThat(existenceFilterConfig.getFalsePositiveProbability())
+                            .as(ExistenceFilterConfig.ExistenceFilterConfigValue.FALSE_POSITIVE_PROBABILITY
+                                    .getConfigPath())
+                            .isEqualTo(0.001);
+                    softly.assertThat(existenceFilterConfig.getStreamBurst())
+                            .as(ExistenceFilterConfig.ExistenceFilterConfigValue.STREAM_BURST.getConfigPath())
+                            .isEqualTo(50);
+                    softly.assertThat(existenceFilterConfig.getStreamIdleTimeout())
+                            .as(ExistenceFilterConfig.ExistenceFilterConfigValue.STREAM_IDLE_TIMEOUT.getConfigPath())
+                            .isEqualTo(Duration.ofSeconds(20L));
+                    softly.assertThat(existenceFilterConfig.getRestartDelay())
+                            .as(ExistenceFilterConfig.ExistenceFilterConfigValue.RESTART_DELAY.getConfigPath())
+                            .isEqualTo(Duration.ofSeconds(30L));
+                    softly.assertThat(existenceFilterConfig.getRebuildInterval())
+                            .as(ExistenceFilterConfig.ExistenceFilterConfigValue.REBUILD_INTERVAL.getConfigPath())
+                            .isEqualTo(Duration.ofHours(2L));
+                });
+
+        softly.assertThat(underTest.getWarmUpConfig())
+                .as("warmUpConfig")
+                .satisfies(warmUpConfig -> {
+                    softly.assertThat(warmUpConfig.isEnabled())
+                            .as(CacheWarmUpConfig.CacheWarmUpConfigValue.ENABLED.getConfigPath())
+                            .isFalse();
+                    softly.assertThat(warmUpConfig.getHottestKeys())
+                            .as(CacheWarmUpConfig.CacheWarmUpConfigValue.HOTTEST_KEYS.getConfigPath())
+                            .isEqualTo(500);
+                    softly.assertThat(warmUpConfig.getPublishInterval())
+                            .as(CacheWarmUpConfig.CacheWarmUpConfigValue.PUBLISH_INTERVAL.getConfigPath())
+                            .isEqualTo(Duration.ofMinutes(2L));
+                    softly.assertThat(warmUpConfig.getMaxLoadsPerSecond())
+                            .as(CacheWarmUpConfig.CacheWarmUpConfigValue.MAX_LOADS_PER_SECOND.getConfigPath())
+                            .isEqualTo(50);
+                    softly.assertThat(warmUpConfig.getParallelism())
+                            .as(CacheWarmUpConfig.CacheWarmUpConfigValue.PARALLELISM.getConfigPath())
+                            .isEqualTo(4);
+                    softly.assertThat(warmUpConfig.getTimeout())
+                            .as(CacheWarmUpConfig.CacheWarmUpConfigValue.TIMEOUT.getConfigPath())
+                            .isEqualTo(Duration.ofSeconds(90L));
+                });
     }
 }
@@ -64,6 +64,12 @@ public final class DefaultEnforcementConfigTest {
         softly.assertThat(underTest.getBufferSize())
                 .as(EnforcementConfig.EnforcementConfigValue.BUFFER_SIZE.getConfigPath())
                 .isEqualTo(EnforcementConfig.EnforcementConfigValue.BUFFER_SIZE.getDefaultValue());
+        softly.assertThat(underTest.getMaxTasksPerEntity())
+                .as(EnforcementConfig.EnforcementConfigValue.MAX_TASKS_PER_ENTITY.getConfigPath())
+                .isEqualTo(EnforcementConfig.EnforcementConfigValue.MAX_TASKS_PER_ENTITY.getDefaultValue());
+        softly.assertThat(underTest.getPreEnforcementParallelism())
+                .as(EnforcementConfig.EnforcementConfigValue.PRE_ENFORCEMENT_PARALLELISM.getConfigPath())
+                .isEqualTo(EnforcementConfig.EnforcementConfigValue.PRE_ENFORCEMENT_PARALLELISM.getDefaultValue());
     }
 
     @Test
@@ -76,6 +82,12 @@ public final class DefaultEnforcementConfigTest {
         softly.assertThat(underTest.getBufferSize())
                 .as(EnforcementConfig.EnforcementConfigValue.BUFFER_SIZE.getConfigPath())
                 .isEqualTo(1337);
+        softly.assertThat(underTest.getMaxTasksPerEntity())
+                .as(EnforcementConfig.EnforcementConfigValue.MAX_TASKS_PER_ENTITY.getConfigPath())
+                .isEqualTo(42);
+        softly.assertThat(underTest.getPreEnforcementParallelism())
+                .as(EnforcementConfig.EnforcementConfigValue.PRE_ENFORCEMENT_PARALLELISM.getConfigPath())
+                .isEqualTo(7);
     }
 
 }
@@ -66,6 +66,10 @@ public final class DefaultThingsAggregatorConfigTest {
         softly.assertThat(underTest.getMaxParallelism())
                 .as(ThingsAggregatorConfig.ThingsAggregatorConfigValue.MAX_PARALLELISM.getConfigPath())
                 .isEqualTo(ThingsAggregatorConfig.ThingsAggregatorConfigValue.MAX_PARALLELISM.getDefaultValue());
+
+        softly.assertThat(underTest.isBatchEnforcementEnabled())
+                .as(ThingsAggregatorConfig.ThingsAggregatorConfigValue.BATCH_ENFORCEMENT_ENABLED.getConfigPath())
+                .isEqualTo(ThingsAggregatorConfig.ThingsAggregatorConfigValue.BATCH_ENFORCEMENT_ENABLED.getDefaultValue());
     }
 
     @Test
@@ -79,6 +83,10 @@ public final class DefaultThingsAggregatorConfigTest {
         softly.assertThat(underTest.getMaxParallelism())
                 .as(ThingsAggregatorConfig.ThingsAggregatorConfigValue.MAX_PARALLELISM.getConfigPath())
                 .isEqualTo(10);
+
+        softly.assertThat(underTest.isBatchEnforcementEnabled())
+                .as(ThingsAggregatorConfig.ThingsAggregatorConfigValue.BATCH_ENFORCEMENT_ENABLED.getConfigPath())
+                .isFalse();
     }
 
 }
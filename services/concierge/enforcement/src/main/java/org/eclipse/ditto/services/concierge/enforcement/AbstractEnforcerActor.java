@@ -12,7 +12,7 @@
  */
 package org.eclipse.ditto.services.concierge.enforcement;
 
-import java.util.concurrent.TimeUnit;
+import java.time.Duration;
 
 import javax.annotation.Nullable;
 
@@ -22,7 +22,6 @@ import org.eclipse.ditto.services.concierge.common.DittoConciergeConfig;
 import org.eclipse.ditto.services.concierge.common.EnforcementConfig;
 import org.eclipse.ditto.services.utils.akka.controlflow.AbstractGraphActor;
 import org.eclipse.ditto.services.utils.cache.Cache;
-import org.eclipse.ditto.services.utils.cache.CaffeineCache;
 import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
 import org.eclipse.ditto.services.utils.cache.InvalidateCacheEntry;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
@@ -34,8 +33,6 @@ import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
 import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.commands.base.Command;
 
-import com.github.benmanes.caffeine.cache.Caffeine;
-
 import akka.NotUsed;
 import akka.actor.ActorRef;
 import akka.japi.pf.ReceiveBuilder;
@@ -49,6 +46,8 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
 
     private static final String TIMER_NAME = "concierge_enforcements";
 
+    private static final Duration RESPONSE_RECEIVER_MAX_TIME_TO_LIVE = Duration.ofSeconds(120L);
+
     /**
      * Contextual information about this actor.
      */
@@ -91,7 +90,7 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
 
         contextual = Contextual.forActor(getSelf(), getContext().getSystem().deadLetters(),
                 pubSubMediator, conciergeForwarder, enforcementConfig.getAskTimeout(), logger,
-                createResponseReceiversCache());
+                ResponseReceivers.of(RESPONSE_RECEIVER_MAX_TIME_TO_LIVE));
 
         // register for sending messages via pub/sub to this enforcer
         // used for receiving cache invalidations from brother concierge nodes
@@ -148,6 +147,15 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
     @Override
     protected abstract Sink<Contextual<WithDittoHeaders>, ?> processedMessageSink();
 
+    /**
+     * Returns the enforcement config of this actor.
+     *
+     * @return the enforcement config.
+     */
+    protected EnforcementConfig getEnforcementConfig() {
+        return enforcementConfig;
+    }
+
     @Override
     protected int getBufferSize() {
         return enforcementConfig.getBufferSize();
@@ -158,8 +166,4 @@ public abstract class AbstractEnforcerActor extends AbstractGraphActor<Contextua
         return contextual.withReceivedMessage(message, getSender());
     }
 
-    private static Cache<String, ResponseReceiver> createResponseReceiversCache() {
-        return CaffeineCache.of(Caffeine.newBuilder().expireAfterWrite(120, TimeUnit.SECONDS));
-    }
-
 }
@@ -27,7 +27,6 @@ import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.services.utils.akka.controlflow.WithSender;
 import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
-import org.eclipse.ditto.services.utils.cache.Cache;
 import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
 import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
 import org.eclipse.ditto.signals.base.WithId;
@@ -70,7 +69,7 @@ public final class Contextual<T extends WithDittoHeaders> implements WithSender<
     private final Function<Object, Object> receiverWrapperFunction;
 
     // for live signal enforcement
-    private final Cache<String, ResponseReceiver> responseReceivers;
+    private final ResponseReceivers responseReceivers;
 
     @Nullable
     private final Supplier<CompletionStage<Object>> askFuture;
@@ -84,7 +83,7 @@ public final class Contextual<T extends WithDittoHeaders> implements WithSender<
             @Nullable final StartedTimer startedTimer,
             @Nullable final ActorRef receiver,
             @Nullable final Function<Object, Object> receiverWrapperFunction,
-            final Cache<String, ResponseReceiver> responseReceivers,
+            final ResponseReceivers responseReceivers,
             @Nullable final Supplier<CompletionStage<Object>> askFuture,
             final boolean changesAuthorization) {
         this.message = message;
@@ -109,7 +108,7 @@ public final class Contextual<T extends WithDittoHeaders> implements WithSender<
             final ActorRef conciergeForwarder,
             final Duration askTimeout,
             final DittoDiagnosticLoggingAdapter log,
-            final Cache<String, ResponseReceiver> responseReceivers) {
+            final ResponseReceivers responseReceivers) {
 
         return new Contextual<T>(null, self, deadLetters, pubSubMediator, conciergeForwarder, askTimeout, log, null,
                 null,
@@ -228,7 +227,7 @@ public final class Contextual<T extends WithDittoHeaders> implements WithSender<
         return receiverWrapperFunction != null ? receiverWrapperFunction : Function.identity();
     }
 
-    Cache<String, ResponseReceiver> getResponseReceivers() {
+    ResponseReceivers getResponseReceivers() {
         return responseReceivers;
     }
 
@@ -112,7 +112,9 @@ public interface EnforcementProvider<T extends Signal> {
                 preEnforcer.withErrorHandlingAsync(contextual,
                         contextual.withMessage(null).withReceiver(null),
                         converted -> createEnforcement(converted).enforceSafely()
-                )
+                ),
+                message.getDittoHeaders(),
+                contextual.getSender()
         );
     }
 
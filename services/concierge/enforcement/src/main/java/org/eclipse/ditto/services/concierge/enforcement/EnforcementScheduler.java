@@ -12,92 +12,191 @@
  */
 package org.eclipse.ditto.services.concierge.enforcement;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
 
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
-import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.metrics.instruments.gauge.Gauge;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreparedTimer;
+import org.eclipse.ditto.signals.commands.base.exceptions.GatewayServiceTooManyRequestsException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
-import akka.actor.Props;
-import akka.japi.pf.ReceiveBuilder;
+import akka.japi.Pair;
 import akka.pattern.Patterns;
+import scala.concurrent.ExecutionContext;
 
 /**
- * Actor that schedules enforcement tasks. Relying on the inherent timeout of enforcement tasks to not leak memory.
+ * Schedules enforcement tasks such that the tasks of one entity are dispatched in the order they were scheduled.
+ * Relying on the inherent timeout of enforcement tasks to not leak memory.
+ * <p>
+ * The in-flight tasks are kept in a concurrent map partitioned by entity ID. Scheduling and completing a task only
+ * update the entry of its entity atomically, so that the tasks of different entities never wait for each other and no
+ * actor messages are exchanged per task. The number of in-flight tasks per entity is bounded; tasks exceeding the
+ * bound are rejected with a {@link GatewayServiceTooManyRequestsException} without being started.
+ * </p>
  */
-final class EnforcementScheduler extends AbstractActor {
+@ThreadSafe
+final class EnforcementScheduler {
 
-    /**
-     * The name of this actor under the parent actor, which should be EnforcerActor.
-     */
-    static final String ACTOR_NAME = "scheduler";
+    private static final Logger LOGGER = LoggerFactory.getLogger(EnforcementScheduler.class);
 
     /**
      * Cache of started enforcement tasks for each entity ID.
      */
     private final Map<EntityId, Futures> futuresMap;
-    private final DittoDiagnosticLoggingAdapter log;
+    private final int maxTasksPerEntity;
+    private final ExecutionContext dispatcher;
     private final Counter scheduledEnforcementTasks;
     private final Counter completedEnforcementTasks;
+    private final Counter rejectedEnforcementTasks;
+    private final Gauge inFlightEnforcementTasks;
+    private final Histogram queueDepth;
+    private final PreparedTimer schedulingLatency;
 
-    private EnforcementScheduler() {
-        futuresMap = new HashMap<>();
-        log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+    private EnforcementScheduler(final int maxTasksPerEntity, final ExecutionContext dispatcher) {
+        futuresMap = new ConcurrentHashMap<>();
+        this.maxTasksPerEntity = maxTasksPerEntity;
+        this.dispatcher = dispatcher;
         scheduledEnforcementTasks = DittoMetrics.counter("scheduled_enforcement_tasks");
         completedEnforcementTasks = DittoMetrics.counter("completed_enforcement_tasks");
+        rejectedEnforcementTasks = DittoMetrics.counter("rejected_enforcement_tasks");
+        inFlightEnforcementTasks = DittoMetrics.gauge("in_flight_enforcement_tasks");
+        queueDepth = DittoMetrics.histogram("enforcement_queue_depth");
+        schedulingLatency = DittoMetrics.timer("enforcement_scheduling_latency");
     }
 
-    static Props props() {
-        return Props.create(EnforcementScheduler.class);
+    /**
+     * Creates an enforcement scheduler.
+     *
+     * @param maxTasksPerEntity the maximum number of in-flight tasks per entity.
+     * @param dispatcher the dispatcher to pipe the results of ask-steps with.
+     * @return the scheduler.
+     */
+    static EnforcementScheduler of(final int maxTasksPerEntity, final ExecutionContext dispatcher) {
+        return new EnforcementScheduler(maxTasksPerEntity, dispatcher);
     }
 
-    @Override
-    public Receive createReceive() {
-        return ReceiveBuilder.create()
-                .match(EnforcementTask.class, this::scheduleEnforcement)
-                .match(FutureComplete.class, this::futureComplete)
-                .matchAny(message -> log.warning("UnknownMessage <{}>", message))
-                .build();
-    }
+    /**
+     * Schedules an enforcement task after all in-flight tasks of its entity or rejects it if its entity has too many
+     * in-flight tasks.
+     *
+     * @param task the task to schedule.
+     */
+    void schedule(final EnforcementTask task) {
+        final EntityId entityId = task.getEntityId();
+        if (entityId.isDummy()) {
+            // This should not happen: Refuse to perform enforcement task for messages without ID.
+            LOGGER.error("EnforcementTaskWithoutEntityId <{}>", task);
+            return;
+        }
 
-    private void scheduleEnforcement(final EnforcementTask task) {
-        futuresMap.compute(task.getEntityId(), (entityId, cachedFutures) -> {
-            if (entityId.isDummy()) {
-                // This should not happen: Refuse to perform enforcement task for messages without ID.
-                log.error("EnforcementTaskWithoutEntityId <{}>", task);
-                return null;
-            } else {
-                log.debug("Scheduling <{}> at <{}>", task, cachedFutures);
-                final Futures previousFutures = cachedFutures != null ? cachedFutures : Futures.initial();
-                return scheduleTaskAfter(previousFutures, task);
+        // the task is only started after the map was updated, so that its completion never updates the map
+        // recursively
+        final CompletableFuture<Futures> previousFuturesPromise = new CompletableFuture<>();
+        final long scheduledNanos = System.nanoTime();
+        final CompletionStage<?> taskFuture = previousFuturesPromise.thenCompose(previousFutures ->
+                scheduleTaskAfter(previousFutures, task, scheduledNanos));
+
+        final AtomicReference<Futures> previousFuturesHolder = new AtomicReference<>();
+        futuresMap.compute(entityId, (id, cachedFutures) -> {
+            final Futures previousFutures = cachedFutures != null ? cachedFutures : Futures.initial();
+            if (previousFutures.referenceCount >= maxTasksPerEntity) {
+                return cachedFutures;
             }
+            previousFuturesHolder.set(previousFutures);
+            return task.changesAuthorization()
+                    ? previousFutures.appendAuthFuture(taskFuture)
+                    : previousFutures.appendEnforceFuture(taskFuture);
         });
-        scheduledEnforcementTasks.increment();
+
+        final Futures previousFutures = previousFuturesHolder.get();
+        if (null != previousFutures) {
+            LOGGER.debug("Scheduling <{}> at <{}>", task, previousFutures);
+            scheduledEnforcementTasks.increment();
+            inFlightEnforcementTasks.increment();
+            queueDepth.record((long) previousFutures.referenceCount);
+            previousFuturesPromise.complete(previousFutures);
+        } else {
+            reject(task);
+        }
     }
 
-    private void futureComplete(final FutureComplete futureComplete) {
-        log.debug("Got <{}>", futureComplete);
-        futureComplete.getError().ifPresent(error -> log.error(error, "FutureFailed <{}>", futureComplete));
-        futuresMap.computeIfPresent(futureComplete.entityId, (entityId, futures) -> {
-            log.debug("Reducing reference count <{}>", futures);
+    /**
+     * Returns the number of in-flight tasks of an entity.
+     *
+     * @param entityId the entity ID.
+     * @return the number of scheduled tasks of the entity which did not complete yet.
+     */
+    int getInFlightTasks(final EntityId entityId) {
+        final Futures futures = futuresMap.get(entityId);
+        return null != futures ? futures.referenceCount : 0;
+    }
+
+    private void reject(final EnforcementTask task) {
+        LOGGER.info("Rejecting <{}> with correlation ID <{}> because <{}> tasks of the entity are in progress.",
+                task, task.getDittoHeaders().getCorrelationId().orElse(null), maxTasksPerEntity);
+        rejectedEnforcementTasks.increment();
+        task.getSender().ifPresent(sender -> sender.tell(GatewayServiceTooManyRequestsException.newBuilder()
+                .message("Too many requests for the entity <" + task.getEntityId() + "> are in progress.")
+                .description("Please wait until previous requests for the entity completed before trying again.")
+                .dittoHeaders(task.getDittoHeaders())
+                .build(), ActorRef.noSender()));
+    }
+
+    /**
+     * Schedule an enforcement task based on previous futures of an entity such that enforcement task does not start
+     * until all previous authorization changes are complete and does not complete until all previous tasks are
+     * complete.
+     *
+     * @param previousFutures in-flight enforcement tasks for the same entity.
+     * @param task the task to schedule.
+     * @param scheduledNanos nano time when the task was scheduled.
+     * @return the future of the scheduled task.
+     */
+    private CompletionStage<?> scheduleTaskAfter(final Futures previousFutures, final EnforcementTask task,
+            final long scheduledNanos) {
+
+        return previousFutures.authFuture.thenCompose(authChangeComplete -> {
+            schedulingLatency.record(System.nanoTime() - scheduledNanos, TimeUnit.NANOSECONDS);
+            final CompletionStage<Pair<Contextual<?>, Long>> enforcementResultWithNanos =
+                    task.start().thenApply(enforcementResult -> Pair.create(enforcementResult, System.nanoTime()));
+            return previousFutures.enforceFuture.thenCombine(enforcementResultWithNanos,
+                    (previousTaskComplete, enforcementResult) ->
+                            dispatchEnforcedMessage(enforcementResult.first(), enforcementResult.second())
+            );
+        }).handle((result, error) -> onTaskComplete(task, error));
+    }
+
+    private Void onTaskComplete(final EnforcementTask task, @Nullable final Throwable error) {
+        if (null != error) {
+            LOGGER.error("FutureFailed <{}>", task, error);
+        }
+        futuresMap.computeIfPresent(task.getEntityId(), (entityId, futures) -> {
+            LOGGER.debug("Reducing reference count <{}>", futures);
             return futures.onComplete();
         });
         completedEnforcementTasks.increment();
+        inFlightEnforcementTasks.decrement();
+        return null;
     }
 
-    private Void dispatchEnforcedMessage(final Contextual<?> enforcementResult) {
+    private Void dispatchEnforcedMessage(final Contextual<?> enforcementResult, final long enforcedNanos) {
         final DittoDiagnosticLoggingAdapter logger = enforcementResult.getLog();
         final Optional<? extends WithDittoHeaders> messageOpt = enforcementResult.getMessageOptional();
         if (messageOpt.isPresent()) {
@@ -112,7 +211,7 @@ final class EnforcementScheduler extends AbstractActor {
                 // It does not disrupt command order guarantee to run the ask-future here if the ask-future
                 // is initiated by a call to Patterns.ask(), because Patterns.ask() calls ActorRef.tell()
                 // in the calling thread.
-                Patterns.pipe(askFutureOpt.get().get(), getContext().dispatcher()).to(receiver);
+                Patterns.pipe(EnforcementStage.RESPONSE.time(askFutureOpt.get()), dispatcher).to(receiver);
             } else if (receiverOpt.isPresent()) {
                 final ActorRef receiver = receiverOpt.get();
                 final Object wrappedMsg =
@@ -123,6 +222,7 @@ final class EnforcementScheduler extends AbstractActor {
                 logger.debug("No receiver found in Contextual - as a result just ignoring it: <{}>", enforcementResult);
             }
             logger.discardCorrelationId();
+            EnforcementStage.DISPATCH.recordSince(enforcedNanos);
         } else {
             // message does not exist; nothing to dispatch
             logger.debug("Not dispatching due to lack of message: {}", enforcementResult);
@@ -130,59 +230,6 @@ final class EnforcementScheduler extends AbstractActor {
         return null;
     }
 
-    /**
-     * Schedule an enforcement task based on previous futures of an entity such that enforcement task does not start
-     * until all previous authorization changes are complete and does not complete until all previous tasks are
-     * complete.
-     *
-     * @param previousFutures in-flight enforcement tasks for the same entity.
-     * @param task the task to schedule.
-     * @return the next in-flight enforcement tasks, including the scheduled task.
-     */
-    private Futures scheduleTaskAfter(final Futures previousFutures, final EnforcementTask task) {
-        final CompletionStage<?> taskFuture =
-                previousFutures.authFuture.thenCompose(authChangeComplete ->
-                        previousFutures.enforceFuture.thenCombine(task.start(),
-                                (previousTaskComplete, enforcementResult) -> dispatchEnforcedMessage(enforcementResult)
-                        )
-                ).handle((result, error) -> sendFutureComplete(task, error));
-        return task.changesAuthorization()
-                ? previousFutures.appendAuthFuture(taskFuture)
-                : previousFutures.appendEnforceFuture(taskFuture);
-    }
-
-    private Void sendFutureComplete(final EnforcementTask task, @Nullable final Throwable error) {
-        getSelf().tell(FutureComplete.of(task.getEntityId(), error), ActorRef.noSender());
-        return null;
-    }
-
-    /**
-     * Self-sent event to signal completion of an enforcement task for cache maintenance.
-     */
-    private static final class FutureComplete {
-
-        private final EntityId entityId;
-        @Nullable final Throwable error;
-
-        private FutureComplete(final EntityId entityId, @Nullable final Throwable error) {
-            this.entityId = entityId;
-            this.error = error;
-        }
-
-        private static FutureComplete of(final EntityId entityId, @Nullable final Throwable error) {
-            return new FutureComplete(entityId, error);
-        }
-
-        private Optional<Throwable> getError() {
-            return Optional.ofNullable(error);
-        }
-
-        @Override
-        public String toString() {
-            return getClass().getSimpleName() + "[entityId=" + entityId + "]";
-        }
-    }
-
     /**
      * Cache entry for 1 entity including: its last scheduled authorization-changing task, its last scheduled
      * non-authorization-changing task, and the amount of in-flight enforcement tasks.
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.enforcement;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreparedTimer;
+
+/**
+ * The stages a signal passes in the enforcer actor, each with a timer tagged by the stage name.
+ */
+enum EnforcementStage {
+
+    /**
+     * Pre-enforcement of the signal, e.g. namespace blocking, validation and placeholder substitution.
+     */
+    PRE_ENFORCEMENT("pre_enforcement"),
+
+    /**
+     * Lookup of the enforcer of the entity in the caches.
+     */
+    CACHE_LOOKUP("cache_lookup"),
+
+    /**
+     * Authorization of the signal by the enforcer, including all asks the authorization depends on.
+     */
+    AUTHORIZATION("authorization"),
+
+    /**
+     * Dispatching the authorized signal after all previous tasks of the entity completed.
+     */
+    DISPATCH("dispatch"),
+
+    /**
+     * Waiting for the response of the entity the signal was dispatched to.
+     */
+    RESPONSE("response");
+
+    private static final String TIMER_NAME = "concierge_enforcement_stage";
+
+    private final PreparedTimer timer;
+
+    EnforcementStage(final String stageName) {
+        timer = DittoMetrics.timer(TIMER_NAME).tag("stage", stageName);
+    }
+
+    /**
+     * Record the duration of this stage.
+     *
+     * @param startNanos the value of {@link System#nanoTime()} when this stage started.
+     */
+    void recordSince(final long startNanos) {
+        timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Start this stage and record its duration when the future of the stage completes, successfully or not.
+     *
+     * @param stage the stage to start.
+     * @param <T> type of the result of the stage.
+     * @return the future of the stage.
+     */
+    <T> CompletionStage<T> time(final Supplier<CompletionStage<T>> stage) {
+        final long startNanos = System.nanoTime();
+        return stage.get().whenComplete((result, error) -> recordSince(startNanos));
+    }
+
+}
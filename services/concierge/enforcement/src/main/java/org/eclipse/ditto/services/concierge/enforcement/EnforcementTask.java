@@ -12,12 +12,18 @@
  */
 package org.eclipse.ditto.services.concierge.enforcement;
 
+import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Supplier;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 
+import akka.actor.ActorRef;
+
 /**
  * An enforcement task to be scheduled.
  */
@@ -26,12 +32,17 @@ final class EnforcementTask {
     private final EntityId entityId;
     private final boolean changesAuthorization;
     private final Supplier<CompletionStage<Contextual<?>>> taskSupplier;
+    private final DittoHeaders dittoHeaders;
+    @Nullable private final ActorRef sender;
 
     private EnforcementTask(final EntityId entityId,
-            final boolean changesAuthorization, final Supplier<CompletionStage<Contextual<?>>> taskSupplier) {
+            final boolean changesAuthorization, final Supplier<CompletionStage<Contextual<?>>> taskSupplier,
+            final DittoHeaders dittoHeaders, @Nullable final ActorRef sender) {
         this.entityId = entityId;
         this.taskSupplier = taskSupplier;
         this.changesAuthorization = changesAuthorization;
+        this.dittoHeaders = dittoHeaders;
+        this.sender = sender;
     }
 
     /**
@@ -47,10 +58,31 @@ final class EnforcementTask {
     static <T extends WithDittoHeaders<?>> EnforcementTask of(final EntityId entityId,
             final boolean changesAuthorization,
             final Supplier<CompletionStage<Contextual<T>>> taskSupplier) {
+
+        return of(entityId, changesAuthorization, taskSupplier, DittoHeaders.empty(), null);
+    }
+
+    /**
+     * Create an enforcement task to be executed later which can be rejected without starting it.
+     *
+     * @param entityId entity ID for sequentialization.
+     * @param changesAuthorization whether dispatching the signal would change authorization for subsequent signals.
+     * @param taskSupplier supplier that when called, starts the enforcement task and returns the result as a future.
+     * @param dittoHeaders headers of the enforced signal.
+     * @param sender sender of the enforced signal to notify if the task is rejected, or {@code null}.
+     * @param <T> type of enforced signals.
+     * @return the task.
+     */
+    @SuppressWarnings("unchecked") // due to parameterized cast
+    static <T extends WithDittoHeaders<?>> EnforcementTask of(final EntityId entityId,
+            final boolean changesAuthorization,
+            final Supplier<CompletionStage<Contextual<T>>> taskSupplier,
+            final DittoHeaders dittoHeaders,
+            @Nullable final ActorRef sender) {
         // The cast is safe: Supplier and CompletionStage are both covariant in its type parameter.
         final Supplier<CompletionStage<Contextual<?>>> theTaskSupplier =
                 (Supplier<CompletionStage<Contextual<?>>>) (Object) taskSupplier;
-        return new EnforcementTask(entityId, changesAuthorization, theTaskSupplier);
+        return new EnforcementTask(entityId, changesAuthorization, theTaskSupplier, dittoHeaders, sender);
     }
 
     EntityId getEntityId() {
@@ -65,6 +97,14 @@ final class EnforcementTask {
         return taskSupplier.get();
     }
 
+    DittoHeaders getDittoHeaders() {
+        return dittoHeaders;
+    }
+
+    Optional<ActorRef> getSender() {
+        return Optional.ofNullable(sender);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() +
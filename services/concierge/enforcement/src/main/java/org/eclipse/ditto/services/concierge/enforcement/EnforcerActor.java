@@ -13,6 +13,7 @@
 package org.eclipse.ditto.services.concierge.enforcement;
 
 import java.util.ArrayList;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -60,9 +61,10 @@ public final class EnforcerActor extends AbstractEnforcerActor {
             @Nullable final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache) {
 
         super(pubSubMediator, conciergeForwarder, thingIdCache, aclEnforcerCache, policyEnforcerCache);
-        final ActorRef enforcementScheduler =
-                getContext().actorOf(EnforcementScheduler.props(), EnforcementScheduler.ACTOR_NAME);
-        sink = assembleSink(enforcementProviders, preEnforcer, enforcementScheduler);
+        final EnforcementScheduler enforcementScheduler =
+                EnforcementScheduler.of(getEnforcementConfig().getMaxTasksPerEntity(), getContext().dispatcher());
+        sink = assembleSink(enforcementProviders, preEnforcer, enforcementScheduler,
+                getEnforcementConfig().getPreEnforcementParallelism());
     }
 
     /**
@@ -125,19 +127,27 @@ public final class EnforcerActor extends AbstractEnforcerActor {
     /**
      * Create the sink that defines the behavior of this enforcer actor by creating enforcement tasks for incoming
      * messages.
+     * <p>
+     * Pre-enforcement does not depend on the state of the entities, hence it is performed for up to
+     * {@code preEnforcementParallelism} messages concurrently before the enforcement tasks are scheduled. The order of
+     * the messages is retained so that the tasks of each entity are still scheduled in the order of arrival.
+     * </p>
      *
      * @param enforcementProviders a set of {@link EnforcementProvider}s.
      * @param preEnforcer a function executed before actual enforcement, may be {@code null}.
+     * @param enforcementScheduler the scheduler of the enforcement tasks.
+     * @param preEnforcementParallelism the maximum number of messages pre-enforced concurrently.
      * @return a handler as {@link Flow} of {@link Contextual} messages.
      */
     @SuppressWarnings("unchecked") // due to GraphDSL usage
     private Sink<Contextual<WithDittoHeaders>, CompletionStage<Done>> assembleSink(
             final Set<EnforcementProvider<?>> enforcementProviders,
             @Nullable final PreEnforcer preEnforcer,
-            final ActorRef enforcementScheduler) {
+            final EnforcementScheduler enforcementScheduler,
+            final int preEnforcementParallelism) {
 
-        final PreEnforcer preEnforcerStep =
-                preEnforcer != null ? preEnforcer : CompletableFuture::completedStage;
+        // pre-enforcement already happened when the enforcement tasks are created
+        final PreEnforcer preEnforcedStep = CompletableFuture::completedStage;
         final Graph<FlowShape<Contextual<WithDittoHeaders>, EnforcementTask>, NotUsed> enforcerFlow =
                 GraphDSL.create(
                         Broadcast.<Contextual<WithDittoHeaders>>create(enforcementProviders.size()),
@@ -147,7 +157,7 @@ public final class EnforcerActor extends AbstractEnforcerActor {
                             final ArrayList<EnforcementProvider<?>> providers = new ArrayList<>(enforcementProviders);
                             for (int i = 0; i < providers.size(); i++) {
                                 builder.from(bcast.out(i))
-                                        .via(builder.add(providers.get(i).createEnforcementTask(preEnforcerStep)))
+                                        .via(builder.add(providers.get(i).createEnforcementTask(preEnforcedStep)))
                                         .toInlet(merge.in(i));
                             }
 
@@ -155,7 +165,22 @@ public final class EnforcerActor extends AbstractEnforcerActor {
                         });
 
         return Flow.<Contextual<WithDittoHeaders>>create()
+                .via(preEnforcementFlow(preEnforcer, preEnforcementParallelism))
                 .via(enforcerFlow)
-                .toMat(Sink.foreach(task -> enforcementScheduler.tell(task, ActorRef.noSender())), Keep.right());
+                .toMat(Sink.foreach(enforcementScheduler::schedule), Keep.right());
+    }
+
+    private static Flow<Contextual<WithDittoHeaders>, Contextual<WithDittoHeaders>, NotUsed> preEnforcementFlow(
+            @Nullable final PreEnforcer preEnforcer, final int parallelism) {
+
+        if (null == preEnforcer) {
+            return Flow.create();
+        }
+        return Flow.<Contextual<WithDittoHeaders>>create()
+                .mapAsync(parallelism, contextual -> EnforcementStage.PRE_ENFORCEMENT.time(() ->
+                        preEnforcer.withErrorHandlingAsync(contextual, Optional.<Contextual<WithDittoHeaders>>empty(),
+                                preEnforced -> CompletableFuture.completedStage(Optional.of(preEnforced)))))
+                .filter(Optional::isPresent)
+                .map(Optional::get);
     }
 }
@@ -18,6 +18,7 @@ import java.util.Map;
 import java.util.concurrent.CompletionStage;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.model.enforcers.Enforcer;
@@ -84,11 +85,12 @@ public final class EnforcerRetriever {
      */
     public CompletionStage<Contextual<WithDittoHeaders>> retrieve(final EntityIdWithResourceType entityKey,
             final BiFunction<Entry<EntityIdWithResourceType>, Entry<Enforcer>, CompletionStage<Contextual<WithDittoHeaders>>> handler) {
+        final long startNanos = System.nanoTime();
         return idCache.get(entityKey).thenCompose(enforcerKeyEntryOptional -> {
             if (enforcerKeyEntryOptional.isEmpty()) {
                 // may happen due to namespace blocking
                 LOGGER.info("Did not get id-cache value for entityKey <{}>.", entityKey);
-                return handler.apply(Entry.nonexistent(), Entry.nonexistent());
+                return authorize(startNanos, () -> handler.apply(Entry.nonexistent(), Entry.nonexistent()));
             } else {
                 final Entry<EntityIdWithResourceType> enforcerKeyEntry = enforcerKeyEntryOptional.get();
                 if (enforcerKeyEntry.exists()) {
@@ -100,10 +102,10 @@ public final class EnforcerRetriever {
                         throw GatewayInternalErrorException.newBuilder()
                                 .build();
                     }
-                    return retrieveByEnforcerKey(enforcerKey, enforcerEntry ->
+                    return retrieveByEnforcerKey(enforcerKey, startNanos, enforcerEntry ->
                             handler.apply(enforcerKeyEntry, enforcerEntry));
                 } else {
-                    return handler.apply(enforcerKeyEntry, Entry.nonexistent());
+                    return authorize(startNanos, () -> handler.apply(enforcerKeyEntry, Entry.nonexistent()));
                 }
             }
         });
@@ -117,6 +119,13 @@ public final class EnforcerRetriever {
      */
     public CompletionStage<Contextual<WithDittoHeaders>> retrieveByEnforcerKey(final EntityIdWithResourceType enforcerKey,
             final Function<Entry<Enforcer>, CompletionStage<Contextual<WithDittoHeaders>>> handler) {
+        return retrieveByEnforcerKey(enforcerKey, System.nanoTime(), handler);
+    }
+
+    private CompletionStage<Contextual<WithDittoHeaders>> retrieveByEnforcerKey(
+            final EntityIdWithResourceType enforcerKey,
+            final long startNanos,
+            final Function<Entry<Enforcer>, CompletionStage<Contextual<WithDittoHeaders>>> handler) {
         final String resourceType = enforcerKey.getResourceType();
         final Cache<EntityIdWithResourceType, Entry<Enforcer>> enforcerCache =
                 enforcerCacheFunction.apply(resourceType);
@@ -128,13 +137,22 @@ public final class EnforcerRetriever {
                     if (!enforcerEntryOptional.isPresent()) {
                         // may happen due to namespace blocking
                         LOGGER.info("Did not get enforcer-cache value for entityKey <{}>.", enforcerKey);
-                        return handler.apply(Entry.nonexistent());
+                        return authorize(startNanos, () -> handler.apply(Entry.nonexistent()));
                     } else {
                         final Entry<Enforcer> enforcerEntry = enforcerEntryOptional.get();
-                        return handler.apply(enforcerEntry);
+                        return authorize(startNanos, () -> handler.apply(enforcerEntry));
                     }
                 });
 
     }
 
+    /**
+     * Record the duration of the cache lookup and time the authorization by the handler of the lookup results.
+     */
+    private static CompletionStage<Contextual<WithDittoHeaders>> authorize(final long cacheLookupStartNanos,
+            final Supplier<CompletionStage<Contextual<WithDittoHeaders>>> authorization) {
+        EnforcementStage.CACHE_LOOKUP.recordSince(cacheLookupStartNanos);
+        return EnforcementStage.AUTHORIZATION.time(authorization);
+    }
+
 }
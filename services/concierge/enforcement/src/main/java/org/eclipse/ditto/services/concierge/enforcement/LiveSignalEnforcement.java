@@ -60,7 +60,7 @@ import akka.actor.ActorRef;
 public final class LiveSignalEnforcement extends AbstractEnforcement<Signal> {
 
     private final EnforcerRetriever enforcerRetriever;
-    private final Cache<String, ResponseReceiver> responseReceivers;
+    private final ResponseReceivers responseReceivers;
     private final LiveSignalPub liveSignalPub;
 
     private LiveSignalEnforcement(final Contextual<Signal> context,
@@ -145,29 +145,28 @@ public final class LiveSignalEnforcement extends AbstractEnforcement<Signal> {
     private CompletionStage<Contextual<WithDittoHeaders>> doEnforce(final Signal liveSignal, final ActorRef sender,
             final Entry<Enforcer> enforcerEntry) {
 
-        final Optional<String> correlationIdOpt = liveSignal.getDittoHeaders().getCorrelationId();
-        if (enforcerEntry.exists() && correlationIdOpt.isPresent()) {
+        final DittoHeaders dittoHeaders = liveSignal.getDittoHeaders();
+        final Optional<String> correlationIdOpt = dittoHeaders.getCorrelationId();
+        // fire-and-forget signals need no correlation ID because no response is routed back to their sender
+        if (enforcerEntry.exists() && (correlationIdOpt.isPresent() || !dittoHeaders.isResponseRequired())) {
             final Enforcer enforcer = enforcerEntry.getValueOrThrow();
-            final String correlationId = correlationIdOpt.get();
 
             if (liveSignal instanceof SendClaimMessage) {
-                if (liveSignal.getDittoHeaders().isResponseRequired()) {
-                    responseReceivers.put(correlationId, ResponseReceiver.of(sender, liveSignal.getDittoHeaders()));
-                }
+                registerResponseReceiver(liveSignal, sender);
                 // claim messages require no enforcement, publish them right away:
                 return CompletableFuture.completedFuture(
                         publishMessageCommand((SendClaimMessage) liveSignal, enforcer));
 
             } else if (liveSignal instanceof CommandResponse) {
-                return enforceLiveCommandResponse(liveSignal, correlationId);
+                return CompletableFuture.completedFuture(enforceLiveCommandResponse(liveSignal, correlationIdOpt));
             } else {
                 final Optional<StreamingType> streamingType = StreamingType.fromSignal(liveSignal);
                 if (streamingType.isPresent()) {
-                    return enforceLiveSignal(streamingType.get(), liveSignal, sender, enforcer, correlationId);
+                    return enforceLiveSignal(streamingType.get(), liveSignal, sender, enforcer);
                 } else {
                     log().error("Unsupported Signal in LiveSignalEnforcement: <{}>", liveSignal);
                     throw GatewayInternalErrorException.newBuilder()
-                            .dittoHeaders(liveSignal.getDittoHeaders())
+                            .dittoHeaders(dittoHeaders)
                             .build();
                 }
             }
@@ -178,40 +177,46 @@ public final class LiveSignalEnforcement extends AbstractEnforcement<Signal> {
                             " looked up! Answering with ThingNotAccessibleException.", liveSignal.getType(),
                     liveSignal.getEntityId());
             throw ThingNotAccessibleException.newBuilder(ThingId.of(entityId().getId()))
-                    .dittoHeaders(liveSignal.getDittoHeaders())
+                    .dittoHeaders(dittoHeaders)
                     .build();
         }
     }
 
-    private CompletionStage<Contextual<WithDittoHeaders>> enforceLiveCommandResponse(final Signal liveSignal,
-            final String correlationId) {
+    /**
+     * Register the sender of a live signal as receiver of its response. Fire-and-forget signals skip the
+     * registration so that they cause no bookkeeping at all.
+     */
+    private void registerResponseReceiver(final Signal liveSignal, final ActorRef sender) {
+        final DittoHeaders dittoHeaders = liveSignal.getDittoHeaders();
+        if (dittoHeaders.isResponseRequired()) {
+            dittoHeaders.getCorrelationId()
+                    .ifPresent(correlationId -> responseReceivers.put(correlationId, sender, dittoHeaders));
+        }
+    }
+
+    private Contextual<WithDittoHeaders> enforceLiveCommandResponse(final Signal liveSignal,
+            final Optional<String> correlationIdOpt) {
         // no enforcement for responses required - the original sender will get the answer:
-        return responseReceivers.get(correlationId)
-                .thenApply(responseReceiver -> {
-                    if (responseReceiver.isPresent()) {
-                        responseReceivers.invalidate(correlationId);
-                        log().debug("Scheduling CommandResponse <{}> to original sender: <{}>", liveSignal,
-                                responseReceiver.get());
-                        final ResponseReceiver receiver = responseReceiver.get();
-                        return withMessageToReceiver(receiver.enhance(liveSignal), receiver.ref());
-                    } else {
-                        log(liveSignal).warning("No outstanding responses receiver for CommandResponse <{}>",
-                                liveSignal.getType());
-                        return withoutReceiver(liveSignal);
-                    }
-                });
+        final Optional<ResponseReceiver> responseReceiver = correlationIdOpt.flatMap(responseReceivers::remove);
+        if (responseReceiver.isPresent()) {
+            final ResponseReceiver receiver = responseReceiver.get();
+            log().debug("Scheduling CommandResponse <{}> to original sender: <{}>", liveSignal, receiver.ref());
+            return withMessageToReceiver(receiver.enhance(liveSignal), receiver.ref());
+        } else {
+            log(liveSignal).warning("No outstanding responses receiver for CommandResponse <{}>",
+                    liveSignal.getType());
+            return withoutReceiver(liveSignal);
+        }
     }
 
     private CompletionStage<Contextual<WithDittoHeaders>> enforceLiveSignal(final StreamingType streamingType,
-            final Signal liveSignal, final ActorRef sender, final Enforcer enforcer, final String correlationId) {
+            final Signal liveSignal, final ActorRef sender, final Enforcer enforcer) {
 
         switch (streamingType) {
             case MESSAGES:
                 final Contextual<WithDittoHeaders> contextual =
                         enforceMessageCommand((MessageCommand) liveSignal, enforcer);
-                if (liveSignal.getDittoHeaders().isResponseRequired()) {
-                    responseReceivers.put(correlationId, ResponseReceiver.of(sender, liveSignal.getDittoHeaders()));
-                }
+                registerResponseReceiver(liveSignal, sender);
                 return CompletableFuture.completedFuture(contextual);
             case LIVE_EVENTS:
                 return enforceLiveEvent(liveSignal, enforcer);
@@ -230,9 +235,7 @@ public final class LiveSignalEnforcement extends AbstractEnforcement<Signal> {
                     final Command<?> withReadSubjects =
                             addEffectedReadSubjectsToThingSignal((Command<?>) liveSignal, enforcer);
                     log(withReadSubjects).info("Live Command was authorized: <{}>", withReadSubjects);
-                    if (liveSignal.getDittoHeaders().isResponseRequired()) {
-                        responseReceivers.put(correlationId, ResponseReceiver.of(sender, liveSignal.getDittoHeaders()));
-                    }
+                    registerResponseReceiver(liveSignal, sender);
                     return CompletableFuture.completedFuture(
                             publishLiveSignal(withReadSubjects, liveSignalPub.command()));
                 } else {
@@ -40,6 +40,7 @@ import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
 import org.eclipse.ditto.services.utils.cache.InvalidateCacheEntry;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
 import org.eclipse.ditto.services.utils.cacheloaders.IdentityCache;
+import org.eclipse.ditto.services.utils.cluster.BinaryEnvelope;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.signals.commands.base.CommandToExceptionRegistry;
 import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
@@ -222,7 +223,8 @@ public final class PolicyCommandEnforcement extends AbstractEnforcement<PolicyCo
     }
 
     /**
-     * Forward a command to policies-shard-region.
+     * Forward a command to policies-shard-region. The command is wrapped in a {@link BinaryEnvelope}, so that the
+     * shard region is able to route it without deserializing it.
      *
      * @param command command to forward.
      * @return the contextual including message and receiver
@@ -231,7 +233,7 @@ public final class PolicyCommandEnforcement extends AbstractEnforcement<PolicyCo
         if (command instanceof PolicyModifyCommand) {
             invalidateCaches(command.getEntityId());
         }
-        return withMessageToReceiver(command, policiesShardRegion);
+        return withMessageToReceiver(command, policiesShardRegion, BinaryEnvelope::of);
     }
 
     /**
@@ -243,8 +245,8 @@ public final class PolicyCommandEnforcement extends AbstractEnforcement<PolicyCo
     private void invalidateCaches(final PolicyId policyId) {
         final EntityIdWithResourceType entityId = EntityIdWithResourceType.of(PolicyCommand.RESOURCE_TYPE, policyId);
         enforcerCache.invalidate(entityId);
-        pubSubMediator().tell(DistPubSubAccess.sendToAll(
-                ConciergeMessagingConstants.ENFORCER_ACTOR_PATH,
+        pubSubMediator().tell(DistPubSubAccess.send(
+                ConciergeMessagingConstants.CACHE_INVALIDATION_PUBLISHER_PATH,
                 InvalidateCacheEntry.of(entityId),
                 true),
                 self());
@@ -27,21 +27,24 @@ final class ResponseReceiver {
 
     private final ActorRef actorRef;
     private final DittoHeaders internalHeaders;
+    private final long expiresAtNanos;
 
-    private ResponseReceiver(final ActorRef actorRef, final DittoHeaders internalHeaders) {
+    private ResponseReceiver(final ActorRef actorRef, final DittoHeaders internalHeaders, final long expiresAtNanos) {
         this.actorRef = actorRef;
         this.internalHeaders = internalHeaders;
+        this.expiresAtNanos = expiresAtNanos;
     }
 
     /**
-     * Create a cache entry for live response handling.
+     * Create an entry of the correlation table for live response handling.
      *
      * @param sender who sent the live signal.
      * @param commandHeaders headers of the live signal.
+     * @param expiresAtNanos value of {@link System#nanoTime()} after which the entry expires.
      * @return context to handle the response of the live signal.
      */
-    static ResponseReceiver of(final ActorRef sender, final DittoHeaders commandHeaders) {
-        return new ResponseReceiver(sender, filterRelevantHeaders(commandHeaders));
+    static ResponseReceiver of(final ActorRef sender, final DittoHeaders commandHeaders, final long expiresAtNanos) {
+        return new ResponseReceiver(sender, filterRelevantHeaders(commandHeaders), expiresAtNanos);
     }
 
     /**
@@ -51,6 +54,14 @@ final class ResponseReceiver {
         return actorRef;
     }
 
+    /**
+     * @param nowNanos the current value of {@link System#nanoTime()}.
+     * @return whether the response is no longer expected.
+     */
+    boolean isExpired(final long nowNanos) {
+        return nowNanos - expiresAtNanos >= 0L;
+    }
+
     /**
      * Enhance response by relevant internal headers from the original live signal.
      *
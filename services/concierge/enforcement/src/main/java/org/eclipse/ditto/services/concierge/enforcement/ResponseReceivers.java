@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.enforcement;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+
+import akka.actor.ActorRef;
+
+/**
+ * Correlation table of the receivers of live responses by the correlation IDs of the live signals.
+ * <p>
+ * Each receiver expires after the timeout of its live signal, but not later than the maximum time-to-live. Expired
+ * receivers are removed by a sweep over the table which runs at most once per sweep interval as part of a
+ * registration, so that the table needs neither a timer nor a cache with per-entry futures.
+ * </p>
+ */
+@ThreadSafe
+final class ResponseReceivers {
+
+    private static final long SWEEPS_PER_TIME_TO_LIVE = 4L;
+
+    private final Map<String, ResponseReceiver> receivers;
+    private final long maxTimeToLiveNanos;
+    private final long sweepIntervalNanos;
+    private final AtomicLong nextSweepNanos;
+
+    private ResponseReceivers(final Duration maxTimeToLive) {
+        receivers = new ConcurrentHashMap<>();
+        maxTimeToLiveNanos = maxTimeToLive.toNanos();
+        sweepIntervalNanos = Math.max(1L, maxTimeToLiveNanos / SWEEPS_PER_TIME_TO_LIVE);
+        nextSweepNanos = new AtomicLong(System.nanoTime() + sweepIntervalNanos);
+    }
+
+    /**
+     * Create an empty correlation table.
+     *
+     * @param maxTimeToLive the maximum duration after which a registered receiver expires.
+     * @return the correlation table.
+     */
+    static ResponseReceivers of(final Duration maxTimeToLive) {
+        return new ResponseReceivers(maxTimeToLive);
+    }
+
+    /**
+     * Register the receiver of the response of a live signal.
+     *
+     * @param correlationId the correlation ID of the live signal.
+     * @param sender who sent the live signal.
+     * @param signalHeaders headers of the live signal.
+     */
+    void put(final String correlationId, final ActorRef sender, final DittoHeaders signalHeaders) {
+        final long now = System.nanoTime();
+        final long timeToLiveNanos = signalHeaders.getTimeout()
+                .map(Duration::toNanos)
+                .filter(timeout -> timeout > 0L && timeout < maxTimeToLiveNanos)
+                .orElse(maxTimeToLiveNanos);
+        receivers.put(correlationId, ResponseReceiver.of(sender, signalHeaders, now + timeToLiveNanos));
+        sweepIfDue(now);
+    }
+
+    /**
+     * Remove the receiver of a response.
+     *
+     * @param correlationId the correlation ID of the response.
+     * @return the receiver if it was registered and did not expire.
+     */
+    Optional<ResponseReceiver> remove(final String correlationId) {
+        final ResponseReceiver receiver = receivers.remove(correlationId);
+        if (null != receiver && !receiver.isExpired(System.nanoTime())) {
+            return Optional.of(receiver);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @return the number of registered receivers including those which expired but were not swept yet.
+     */
+    int size() {
+        return receivers.size();
+    }
+
+    private void sweepIfDue(final long now) {
+        final long nextSweep = nextSweepNanos.get();
+        if (now - nextSweep >= 0L && nextSweepNanos.compareAndSet(nextSweep, now + sweepIntervalNanos)) {
+            receivers.values().removeIf(receiver -> receiver.isExpired(now));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "size=" + receivers.size() +
+                ", maxTimeToLiveNanos=" + maxTimeToLiveNanos +
+                "]";
+    }
+
+}
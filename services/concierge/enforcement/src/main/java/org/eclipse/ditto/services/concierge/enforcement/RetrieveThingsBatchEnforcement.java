@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.enforcement;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
+import org.eclipse.ditto.signals.commands.things.ThingCommand;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import akka.actor.ActorRef;
+import akka.japi.Pair;
+import akka.pattern.Patterns;
+
+/**
+ * Enforces the {@code RetrieveThing} commands of a {@link RetrieveThings} command in batches: the thing IDs are grouped
+ * by the policy of the things, the enforcer of each policy is resolved once per group and the things retrieved from the
+ * things shard region are filtered with the enforcer of their group.
+ * <p>
+ * Things which are not controlled by an existing policy, e.g. things with an access control list or unknown things,
+ * are retrieved with the regular enforcement of single {@code RetrieveThing} commands.
+ * </p>
+ */
+@Immutable
+public final class RetrieveThingsBatchEnforcement {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RetrieveThingsBatchEnforcement.class);
+
+    private final ActorRef thingsShardRegion;
+    private final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache;
+    private final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache;
+    private final PreEnforcer preEnforcer;
+    private final Duration retrieveSingleThingTimeout;
+
+    private RetrieveThingsBatchEnforcement(final ActorRef thingsShardRegion,
+            final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache,
+            final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
+            final PreEnforcer preEnforcer,
+            final Duration retrieveSingleThingTimeout) {
+
+        this.thingsShardRegion = requireNonNull(thingsShardRegion);
+        this.thingIdCache = requireNonNull(thingIdCache);
+        this.policyEnforcerCache = requireNonNull(policyEnforcerCache);
+        this.preEnforcer = requireNonNull(preEnforcer);
+        this.retrieveSingleThingTimeout = requireNonNull(retrieveSingleThingTimeout);
+    }
+
+    /**
+     * Creates a {@code RetrieveThingsBatchEnforcement}.
+     *
+     * @param thingsShardRegion the things shard region to retrieve the things from.
+     * @param thingIdCache the cache of the enforcer keys of things.
+     * @param policyEnforcerCache the cache of policy enforcers.
+     * @param preEnforcer the pre-enforcer applied to each {@code RetrieveThing} command.
+     * @param retrieveSingleThingTimeout the timeout of retrieving a single thing from the shard region.
+     * @return the batch enforcement.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static RetrieveThingsBatchEnforcement of(final ActorRef thingsShardRegion,
+            final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache,
+            final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
+            final PreEnforcer preEnforcer,
+            final Duration retrieveSingleThingTimeout) {
+
+        return new RetrieveThingsBatchEnforcement(thingsShardRegion, thingIdCache, policyEnforcerCache, preEnforcer,
+                retrieveSingleThingTimeout);
+    }
+
+    /**
+     * Checks whether a {@code RetrieveThings} command can be enforced in batches. Commands of API version 1 and
+     * commands selecting the inlined policy of the things require the regular enforcement.
+     *
+     * @param retrieveThings the command.
+     * @return whether the command can be enforced in batches.
+     */
+    public static boolean isApplicable(final RetrieveThings retrieveThings) {
+        return JsonSchemaVersion.V_1 != retrieveThings.getImplementedSchemaVersion() &&
+                !retrieveThings.getSelectedFields()
+                        .filter(RetrieveThingsBatchEnforcement::selectsInlinedPolicy)
+                        .isPresent();
+    }
+
+    /**
+     * Plans the retrieval of the things of a {@code RetrieveThings} command. Each planned retrieval yields either a
+     * {@code RetrieveThingResponse} with a view restricted by the enforcer of the thing or a
+     * {@code DittoRuntimeException}.
+     *
+     * @param retrieveThings the command.
+     * @param singleRetrieval retrieves a thing with the regular enforcement if the thing cannot be batched.
+     * @return the retrievals paired with the ID of the retrieved thing in arbitrary order.
+     */
+    public CompletionStage<List<Pair<ThingId, Supplier<CompletionStage<Object>>>>> planRetrievals(
+            final RetrieveThings retrieveThings,
+            final Function<RetrieveThing, CompletionStage<Object>> singleRetrieval) {
+
+        final DittoHeaders dittoHeaders = retrieveThings.getDittoHeaders();
+        @Nullable final JsonFieldSelector selectedFields = retrieveThings.getSelectedFields().orElse(null);
+        final List<RetrieveThing> commands = retrieveThings.getThingEntityIds()
+                .stream()
+                .filter(Objects::nonNull)
+                .map(thingId -> RetrieveThing.getBuilder(thingId, dittoHeaders)
+                        .withSelectedFields(selectedFields)
+                        .build())
+                .collect(Collectors.toList());
+
+        final List<CompletableFuture<Optional<EntityIdWithResourceType>>> policyKeys = commands.stream()
+                .map(command -> lookUpPolicyKey(command.getThingEntityId()))
+                .collect(Collectors.toList());
+
+        return allOf(policyKeys).thenCompose(unused -> {
+            final List<Pair<ThingId, Supplier<CompletionStage<Object>>>> retrievals =
+                    new ArrayList<>(commands.size());
+            final Map<EntityIdWithResourceType, List<RetrieveThing>> commandsByPolicy = new LinkedHashMap<>();
+            for (int i = 0; i < commands.size(); i++) {
+                final RetrieveThing command = commands.get(i);
+                final Optional<EntityIdWithResourceType> policyKey = policyKeys.get(i).join();
+                if (policyKey.isPresent()) {
+                    commandsByPolicy.computeIfAbsent(policyKey.get(), key -> new ArrayList<>()).add(command);
+                } else {
+                    retrievals.add(retrieval(command, () -> singleRetrieval.apply(command)));
+                }
+            }
+
+            // resolve the enforcer of each policy exactly once
+            final Map<EntityIdWithResourceType, CompletableFuture<Optional<Enforcer>>> enforcers =
+                    new LinkedHashMap<>();
+            commandsByPolicy.keySet().forEach(policyKey -> enforcers.put(policyKey, lookUpEnforcer(policyKey)));
+
+            return allOf(enforcers.values()).thenApply(unused2 -> {
+                int batched = 0;
+                for (final Map.Entry<EntityIdWithResourceType, List<RetrieveThing>> group :
+                        commandsByPolicy.entrySet()) {
+                    final Optional<Enforcer> enforcer = enforcers.get(group.getKey()).join();
+                    for (final RetrieveThing command : group.getValue()) {
+                        if (enforcer.isPresent()) {
+                            retrievals.add(retrieval(command, () -> retrieveWithEnforcer(command, enforcer.get())));
+                            batched++;
+                        } else {
+                            retrievals.add(retrieval(command, () -> singleRetrieval.apply(command)));
+                        }
+                    }
+                }
+                LOGGER.debug("Retrieving <{}> things of <{}> policies in batches and <{}> things one by one.",
+                        batched, enforcers.size(), retrievals.size() - batched);
+                return retrievals;
+            });
+        });
+    }
+
+    private CompletableFuture<Optional<EntityIdWithResourceType>> lookUpPolicyKey(final ThingId thingId) {
+        return thingIdCache.get(EntityIdWithResourceType.of(ThingCommand.RESOURCE_TYPE, thingId))
+                .thenApply(entry -> entry.filter(Entry::exists)
+                        .map(Entry::getValueOrThrow)
+                        .filter(key -> PolicyCommand.RESOURCE_TYPE.equals(key.getResourceType())))
+                .exceptionally(error -> Optional.empty());
+    }
+
+    private CompletableFuture<Optional<Enforcer>> lookUpEnforcer(final EntityIdWithResourceType policyKey) {
+        return policyEnforcerCache.get(policyKey)
+                .thenApply(entry -> entry.filter(Entry::exists).map(Entry::getValueOrThrow))
+                .exceptionally(error -> Optional.empty());
+    }
+
+    private CompletionStage<Object> retrieveWithEnforcer(final RetrieveThing command, final Enforcer enforcer) {
+        return preEnforcer.apply(command)
+                .thenCompose(preEnforced -> {
+                    final RetrieveThing retrieveThing = (RetrieveThing) preEnforced;
+                    return ThingCommandEnforcement.authorizeByPolicy(enforcer, retrieveThing)
+                            .map(authorized -> Patterns.ask(thingsShardRegion, authorized, retrieveSingleThingTimeout)
+                                    .thenApply(response -> buildJsonView(response, enforcer)))
+                            .orElseGet(() -> CompletableFuture.completedFuture(
+                                    ThingCommandEnforcement.errorForThingCommand(retrieveThing)));
+                });
+    }
+
+    private static Pair<ThingId, Supplier<CompletionStage<Object>>> retrieval(final RetrieveThing command,
+            final Supplier<CompletionStage<Object>> retrieval) {
+
+        return Pair.create(command.getThingEntityId(), retrieval);
+    }
+
+    private static Object buildJsonView(final Object response, final Enforcer enforcer) {
+        if (response instanceof RetrieveThingResponse) {
+            return ThingCommandEnforcement.buildJsonViewForThingQueryCommandResponse(
+                    (RetrieveThingResponse) response, enforcer);
+        }
+        return response;
+    }
+
+    private static boolean selectsInlinedPolicy(final JsonFieldSelector selectedFields) {
+        return selectedFields.getPointers()
+                .stream()
+                .anyMatch(pointer -> pointer.getRoot()
+                        .filter(key -> Policy.INLINED_FIELD_NAME.equals(key.toString()))
+                        .isPresent());
+    }
+
+    private static CompletableFuture<Void> allOf(final Collection<? extends CompletableFuture<?>> futures) {
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+    }
+
+}
@@ -80,6 +80,7 @@ import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
 import org.eclipse.ditto.services.utils.cache.InvalidateCacheEntry;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
 import org.eclipse.ditto.services.utils.cacheloaders.IdentityCache;
+import org.eclipse.ditto.services.utils.cluster.BinaryEnvelope;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.signals.commands.base.CommandToExceptionRegistry;
 import org.eclipse.ditto.signals.commands.base.exceptions.GatewayInternalErrorException;
@@ -226,7 +227,8 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
             return enforceCreateThingBySelf()
                     .thenCompose(pair ->
                             handleInitialCreateThing(pair.createThing, pair.enforcer)
-                                    .thenApply(create -> create.withReceiver(thingsShardRegion))
+                                    .thenApply(create -> create.withReceiver(thingsShardRegion)
+                                            .withReceiverWrapperFunction(BinaryEnvelope::of))
                     )
                     .exceptionally(throwable -> {
                         final DittoRuntimeException dittoRuntimeException =
@@ -564,7 +566,7 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
      * @param enforcer the enforcer.
      * @return response with view on entity restricted by enforcer.
      */
-    private static <T extends ThingQueryCommandResponse> T buildJsonViewForThingQueryCommandResponse(
+    static <T extends ThingQueryCommandResponse> T buildJsonViewForThingQueryCommandResponse(
             final ThingQueryCommandResponse<T> response, final Enforcer enforcer) {
 
         final JsonValue entity = response.getEntity();
@@ -578,7 +580,8 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
     }
 
     /**
-     * Forward a command to things-shard-region.
+     * Forward a command to things-shard-region. The command is wrapped in a {@link BinaryEnvelope}, so that the
+     * shard region is able to route it without deserializing it.
      *
      * @param command command to forward.
      * @return the contextual including message and receiver
@@ -587,7 +590,7 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
         if (command instanceof ThingModifyCommand && ((ThingModifyCommand) command).changesAuthorization()) {
             invalidateThingCaches(command.getThingEntityId());
         }
-        return withMessageToReceiver(command, thingsShardRegion);
+        return withMessageToReceiver(command, thingsShardRegion, BinaryEnvelope::of);
     }
 
     /**
@@ -600,8 +603,8 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
         final EntityIdWithResourceType entityId = EntityIdWithResourceType.of(ThingCommand.RESOURCE_TYPE, thingId);
         thingIdCache.invalidate(entityId);
         aclEnforcerCache.invalidate(entityId);
-        pubSubMediator().tell(DistPubSubAccess.sendToAll(
-                ConciergeMessagingConstants.ENFORCER_ACTOR_PATH,
+        pubSubMediator().tell(DistPubSubAccess.send(
+                ConciergeMessagingConstants.CACHE_INVALIDATION_PUBLISHER_PATH,
                 InvalidateCacheEntry.of(entityId),
                 true),
                 self());
@@ -610,8 +613,8 @@ public final class ThingCommandEnforcement extends AbstractEnforcement<ThingComm
     private void invalidatePolicyCache(final PolicyId policyId) {
         final EntityIdWithResourceType entityId = EntityIdWithResourceType.of(PolicyCommand.RESOURCE_TYPE, policyId);
         policyEnforcerCache.invalidate(entityId);
-        pubSubMediator().tell(DistPubSubAccess.sendToAll(
-                ConciergeMessagingConstants.ENFORCER_ACTOR_PATH,
+        pubSubMediator().tell(DistPubSubAccess.send(
+                ConciergeMessagingConstants.CACHE_INVALIDATION_PUBLISHER_PATH,
                 InvalidateCacheEntry.of(entityId),
                 true),
                 self());
@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.concierge.enforcement;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.after;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.timeout;
@@ -28,7 +29,7 @@ import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
-import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.signals.commands.base.exceptions.GatewayServiceTooManyRequestsException;
 import org.eclipse.ditto.signals.commands.things.modify.ModifyPolicyId;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
 import org.junit.AfterClass;
@@ -38,7 +39,6 @@ import org.junit.Test;
 import org.mockito.InOrder;
 import org.mockito.Mockito;
 
-import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.testkit.TestProbe;
 import akka.testkit.javadsl.TestKit;
@@ -46,9 +46,11 @@ import scala.concurrent.duration.FiniteDuration;
 
 public final class EnforcementSchedulerTest {
 
+    private static final int MAX_TASKS_PER_ENTITY = 3;
+
     private static ActorSystem actorSystem;
 
-    private ActorRef underTest;
+    private EnforcementScheduler underTest;
 
     @BeforeClass
     public static void beforeClass() {
@@ -65,7 +67,7 @@ public final class EnforcementSchedulerTest {
 
     @Before
     public void setup() {
-        underTest = actorSystem.actorOf(EnforcementScheduler.props());
+        underTest = EnforcementScheduler.of(MAX_TASKS_PER_ENTITY, actorSystem.dispatcher());
     }
 
     @Test
@@ -78,7 +80,7 @@ public final class EnforcementSchedulerTest {
             final Contextual<WithDittoHeaders> baseContextual = Contextual.forActor(getRef(), deadLetterProbe.ref(),
                     pubSubProbe.ref(), conciergeForwarderProbe.ref(),
                     Duration.ofSeconds(10), Mockito.mock(DittoDiagnosticLoggingAdapter.class),
-                    Mockito.mock(Cache.class));
+                    ResponseReceivers.of(Duration.ofSeconds(10)));
             final ThingId thingId = ThingId.of("busy", "thing");
             final PolicyId policyId = PolicyId.of("some", "policy");
             final PolicyId policyId2 = PolicyId.of("other", "policy");
@@ -144,10 +146,10 @@ public final class EnforcementSchedulerTest {
                     inOrder(retrieveThing1TaskSpy, modifyPolicyId1TaskSpy, retrieveThing2TaskSpy,
                             modifyPolicyId2TaskSpy);
 
-            underTest.tell(retrieveThing1TaskSpy, getRef());
-            underTest.tell(modifyPolicyId1TaskSpy, getRef());
-            underTest.tell(retrieveThing2TaskSpy, getRef());
-            underTest.tell(modifyPolicyId2TaskSpy, getRef());
+            underTest.schedule(retrieveThing1TaskSpy);
+            underTest.schedule(modifyPolicyId1TaskSpy);
+            underTest.schedule(retrieveThing2TaskSpy);
+            underTest.schedule(modifyPolicyId2TaskSpy);
 
             inOrder.verify(retrieveThing1TaskSpy, timeout(500)).start();
             // Ensures that modifyPolicyId1 is scheduled without waiting for retrieveThing1 being finished.
@@ -164,4 +166,28 @@ public final class EnforcementSchedulerTest {
         }};
     }
 
+    @Test
+    public void rejectsTasksExceedingTheLimitPerEntity() {
+        new TestKit(actorSystem) {{
+            final ThingId thingId = ThingId.of("busy", "thing");
+            final ThingId otherThingId = ThingId.of("other", "thing");
+            final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().correlationId("rejected").build();
+            final CompletableFuture<Contextual<RetrieveThing>> neverCompleting = new CompletableFuture<>();
+
+            for (int i = 0; i < MAX_TASKS_PER_ENTITY; i++) {
+                underTest.schedule(EnforcementTask.of(thingId, false, () -> neverCompleting, dittoHeaders, getRef()));
+            }
+            underTest.schedule(EnforcementTask.of(thingId, false, () -> neverCompleting, dittoHeaders, getRef()));
+            underTest.schedule(
+                    EnforcementTask.of(otherThingId, false, () -> neverCompleting, dittoHeaders, getRef()));
+
+            final GatewayServiceTooManyRequestsException rejection =
+                    expectMsgClass(GatewayServiceTooManyRequestsException.class);
+            assertThat(rejection.getDittoHeaders().getCorrelationId()).contains("rejected");
+            expectNoMessage();
+            assertThat(underTest.getInFlightTasks(thingId)).isEqualTo(MAX_TASKS_PER_ENTITY);
+            assertThat(underTest.getInFlightTasks(otherThingId)).isEqualTo(1);
+        }};
+    }
+
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.enforcement;
+
+import org.eclipse.ditto.services.utils.cluster.BinaryEnvelope;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.japi.pf.ReceiveBuilder;
+
+/**
+ * Mock shard region which unwraps {@link BinaryEnvelope}s like the message extractor of a shard region and forwards
+ * all messages to the actor standing in for the entities.
+ */
+public final class MockShardRegionActor extends AbstractActor {
+
+    private final ActorRef entities;
+
+    @SuppressWarnings("unused")
+    private MockShardRegionActor(final ActorRef entities) {
+        this.entities = entities;
+    }
+
+    public static Props props(final ActorRef entities) {
+        return Props.create(MockShardRegionActor.class, entities);
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(BinaryEnvelope.class, envelope -> entities.forward(envelope.getPayload(), getContext()))
+                .matchAny(message -> entities.forward(message, getContext()))
+                .build();
+    }
+
+}
@@ -51,6 +51,7 @@ import org.eclipse.ditto.services.utils.cache.CaffeineCache;
 import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
 import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcerCacheLoader;
+import org.eclipse.ditto.services.utils.cluster.BinaryEnvelope;
 import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
 import org.eclipse.ditto.signals.commands.policies.exceptions.PolicyNotAccessibleException;
 import org.eclipse.ditto.signals.commands.policies.exceptions.PolicyNotModifiableException;
@@ -198,6 +199,21 @@ public final class PolicyCommandEnforcementTest {
         expectMsg(testKit, mockResponse);
     }
 
+    @Test
+    public void modifyPolicyIsForwardedInBinaryEnvelope() {
+        final ModifyPolicy modifyPolicy = ModifyPolicy.of(POLICY_ID, POLICY, DITTO_HEADERS);
+
+        enforcer.tell(modifyPolicy, testKit.getRef());
+
+        expectMsg(policiesShardRegionProbe, SUDO_RETRIEVE_POLICY);
+        policiesShardRegionProbe.lastSender().tell(createDefaultPolicyResponse(), policiesShardRegionProbe.ref());
+
+        final BinaryEnvelope envelope = policiesShardRegionProbe.expectMsgClass(BinaryEnvelope.class);
+        assertThat(envelope.getEntityId()).contains(POLICY_ID.toString());
+        assertThat(envelope.getCorrelationId()).contains(CORRELATION_ID);
+        assertThat(envelope.getPayload()).isEqualTo(modifyPolicy);
+    }
+
     @Test
     public void modifyPolicyInvalidatesCache() {
         // GIVEN: authorized modify policy command is forwarded and response is received
@@ -448,8 +464,12 @@ public final class PolicyCommandEnforcementTest {
         assertThat(actual).isEqualTo(expected);
     }
 
+    /*
+     * Commands forwarded to the shard region are wrapped in a BinaryEnvelope which the shard region unwraps.
+     */
     private static <T> void expectMsg(final akka.testkit.TestKit testKit, final T expected) {
-        @SuppressWarnings("unchecked") final T actual = (T) testKit.expectMsgClass(expected.getClass());
+        final Object message = testKit.expectMsgClass(Object.class);
+        final Object actual = message instanceof BinaryEnvelope ? ((BinaryEnvelope) message).getPayload() : message;
         assertThat(actual).isEqualTo(expected);
     }
 
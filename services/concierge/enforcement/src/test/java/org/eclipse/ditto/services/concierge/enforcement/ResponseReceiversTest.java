@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.enforcement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.junit.Test;
+
+import akka.actor.ActorRef;
+
+/**
+ * Tests {@link ResponseReceivers}.
+ */
+public final class ResponseReceiversTest {
+
+    @Test
+    public void removeReturnsRegisteredReceiverOnce() {
+        final ResponseReceivers underTest = ResponseReceivers.of(Duration.ofMinutes(1L));
+        underTest.put("correlation-id", ActorRef.noSender(), DittoHeaders.empty());
+
+        assertThat(underTest.remove("correlation-id")).isPresent();
+        assertThat(underTest.remove("correlation-id")).isEmpty();
+        assertThat(underTest.size()).isZero();
+    }
+
+    @Test
+    public void receiverExpiresAfterTimeoutOfSignal() throws InterruptedException {
+        final ResponseReceivers underTest = ResponseReceivers.of(Duration.ofMinutes(1L));
+        underTest.put("correlation-id", ActorRef.noSender(),
+                DittoHeaders.newBuilder().timeout(Duration.ofMillis(10L)).build());
+
+        Thread.sleep(50L);
+
+        assertThat(underTest.remove("correlation-id")).isEmpty();
+    }
+
+    @Test
+    public void expiredReceiversAreSwept() throws InterruptedException {
+        final ResponseReceivers underTest = ResponseReceivers.of(Duration.ofMillis(20L));
+        underTest.put("expiring", ActorRef.noSender(), DittoHeaders.empty());
+
+        Thread.sleep(50L);
+        underTest.put("fresh", ActorRef.noSender(), DittoHeaders.newBuilder().timeout(Duration.ofMinutes(1L)).build());
+
+        assertThat(underTest.size()).isEqualTo(1);
+        assertThat(underTest.remove("fresh")).isPresent();
+    }
+
+}
@@ -101,10 +101,16 @@ public final class TestSetup {
 
     public static ActorRef newEnforcerActor(final ActorSystem system,
             final ActorRef testActorRef,
-            final ActorRef thingsShardRegion,
-            final ActorRef policiesShardRegion,
+            final ActorRef thingsEntities,
+            final ActorRef policiesEntities,
             @Nullable final PreEnforcer preEnforcer) {
 
+        final ActorRef thingsShardRegion = system.actorOf(MockShardRegionActor.props(thingsEntities));
+        // one shard region per entities actor to keep the order of the messages sent to it
+        final ActorRef policiesShardRegion = policiesEntities.equals(thingsEntities)
+                ? thingsShardRegion
+                : system.actorOf(MockShardRegionActor.props(policiesEntities));
+
         final ActorRef conciergeForwarder =
                 new TestProbe(system, createUniqueName()).ref();
         final Duration askTimeout = CACHES_CONFIG.getAskTimeout();
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.starter.actors;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.eclipse.ditto.services.concierge.common.CacheInvalidationConfig;
+import org.eclipse.ditto.services.models.concierge.ConciergeMessagingConstants;
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.cache.CacheInvalidationBatch;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.InvalidateCacheEntry;
+import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import akka.actor.AbstractActorWithTimers;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.pf.ReceiveBuilder;
+
+/**
+ * Actor which replicates cache invalidations of the local Concierge instance to all other Concierge instances.
+ * It is registered at the pub-sub mediator so that enforcements can reach it via
+ * {@link ConciergeMessagingConstants#CACHE_INVALIDATION_PUBLISHER_PATH} with local affinity.
+ * <p>
+ * If batching is enabled, the received {@link InvalidateCacheEntry} messages are coalesced into revision-tagged
+ * {@link CacheInvalidationBatch}es which are replicated via {@link CacheInvalidations}. Otherwise each
+ * {@code InvalidateCacheEntry} is sent to all other enforcer actors via pub-sub.
+ * </p>
+ */
+public final class CacheInvalidationPublisher extends AbstractActorWithTimers {
+
+    /**
+     * Name of this actor.
+     */
+    public static final String ACTOR_NAME = "cacheInvalidationPublisher";
+
+    private static final String FLUSH_TIMER_KEY = "flush";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CacheInvalidationPublisher.class);
+
+    private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
+
+    private final ActorRef pubSubMediator;
+    private final CacheInvalidations cacheInvalidations;
+    private final CacheInvalidationConfig config;
+    private final String origin;
+    private final Deque<CacheInvalidationBatch> retainedBatches;
+    private final Counter publishedBatches;
+    private final Counter publishedEntityIds;
+
+    private Set<EntityIdWithResourceType> pendingEntityIds;
+    private long revision;
+
+    @SuppressWarnings("unused")
+    private CacheInvalidationPublisher(final ActorRef pubSubMediator, final CacheInvalidations cacheInvalidations,
+            final CacheInvalidationConfig config) {
+
+        this.pubSubMediator = pubSubMediator;
+        this.cacheInvalidations = cacheInvalidations;
+        this.config = config;
+        origin = cacheInvalidations.newOrigin(UUID.randomUUID().toString());
+        retainedBatches = new ArrayDeque<>(config.getRetainedBatches());
+        publishedBatches = DittoMetrics.counter("cache_invalidation_published_batches");
+        publishedEntityIds = DittoMetrics.counter("cache_invalidation_published_entity_ids");
+        pendingEntityIds = new LinkedHashSet<>();
+        revision = 0L;
+
+        pubSubMediator.tell(DistPubSubAccess.put(getSelf()), getSelf());
+    }
+
+    /**
+     * Create Props of an actor to replicate cache invalidations.
+     *
+     * @param pubSubMediator the pub-sub mediator.
+     * @param cacheInvalidations the distributed data of cache invalidation batches.
+     * @param config the cache invalidation config.
+     * @return the Props object.
+     */
+    public static Props props(final ActorRef pubSubMediator, final CacheInvalidations cacheInvalidations,
+            final CacheInvalidationConfig config) {
+
+        return Props.create(CacheInvalidationPublisher.class, pubSubMediator, cacheInvalidations, config);
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(InvalidateCacheEntry.class, this::invalidateCacheEntry)
+                .matchEquals(Control.FLUSH, flush -> flush())
+                .matchAny(message -> log.warning("Unhandled: <{}>", message))
+                .build();
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        flush();
+        super.postStop();
+    }
+
+    private void invalidateCacheEntry(final InvalidateCacheEntry invalidateCacheEntry) {
+        if (!config.isBatchingEnabled()) {
+            pubSubMediator.tell(DistPubSubAccess.sendToAll(ConciergeMessagingConstants.ENFORCER_ACTOR_PATH,
+                    invalidateCacheEntry, true), getSelf());
+        } else {
+            pendingEntityIds.add(invalidateCacheEntry.getEntityId());
+            if (pendingEntityIds.size() >= config.getMaxBatchSize()) {
+                flush();
+            } else if (!getTimers().isTimerActive(FLUSH_TIMER_KEY)) {
+                getTimers().startSingleTimer(FLUSH_TIMER_KEY, Control.FLUSH, config.getFlushInterval());
+            }
+        }
+    }
+
+    private void flush() {
+        getTimers().cancel(FLUSH_TIMER_KEY);
+        if (pendingEntityIds.isEmpty()) {
+            return;
+        }
+        final List<CacheInvalidationBatch> batches = CacheInvalidations.toBatches(revision + 1, Instant.now(),
+                new ArrayList<>(pendingEntityIds), config.getMaxRetainedSize());
+        pendingEntityIds = new LinkedHashSet<>();
+        revision = batches.get(batches.size() - 1).getRevision();
+        for (final CacheInvalidationBatch batch : batches) {
+            retainedBatches.addLast(batch);
+            publishedBatches.increment();
+            publishedEntityIds.increment(batch.getEntityIds().size());
+            log.debug("Publishing batch <{}> of <{}> cache invalidations.", batch.getRevision(),
+                    batch.getEntityIds().size());
+        }
+        while (retainedBatches.size() > config.getRetainedBatches()) {
+            retainedBatches.removeFirst();
+        }
+
+        cacheInvalidations.publish(origin, new ArrayList<>(retainedBatches), config.getMaxRetainedSize(),
+                config.getStaleOriginTimeout())
+                .exceptionally(error -> {
+                    LOGGER.error("Failed to publish cache invalidations up to batch <{}>.", revision, error);
+                    return null;
+                });
+    }
+
+    private enum Control {
+        FLUSH
+    }
+
+}
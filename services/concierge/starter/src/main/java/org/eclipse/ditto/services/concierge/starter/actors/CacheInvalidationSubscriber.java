@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.starter.actors;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.CacheInvalidationBatch;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
+
+import akka.actor.AbstractActor;
+import akka.actor.Props;
+import akka.cluster.ddata.LWWMap;
+import akka.cluster.ddata.Replicator;
+import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.pf.ReceiveBuilder;
+import akka.util.ByteString;
+
+/**
+ * Actor that applies the batches of cache invalidations replicated via {@link CacheInvalidations} to the local caches.
+ * <p>
+ * For each origin, the revision of the last applied batch is remembered. Only newer batches are applied, all entity IDs
+ * of them in one bulk invalidation per cache. If an origin published more batches since the last change than it
+ * retains, the local caches are invalidated completely.
+ * </p>
+ */
+public final class CacheInvalidationSubscriber extends AbstractActor {
+
+    /**
+     * Name of this actor.
+     */
+    public static final String ACTOR_NAME = "cacheInvalidationSubscriber";
+
+    private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
+
+    private final CacheInvalidations cacheInvalidations;
+    private final Collection<Cache<EntityIdWithResourceType, ?>> cachesToMaintain;
+    private final Map<String, Long> appliedRevisions;
+    private final Histogram invalidationLag;
+    private final Counter appliedBatches;
+    private final Counter completeInvalidations;
+
+    @SuppressWarnings("unused")
+    private CacheInvalidationSubscriber(final CacheInvalidations cacheInvalidations,
+            final Collection<Cache<EntityIdWithResourceType, ?>> cachesToMaintain) {
+
+        this.cacheInvalidations = cacheInvalidations;
+        this.cachesToMaintain = cachesToMaintain;
+        appliedRevisions = new HashMap<>();
+        invalidationLag = DittoMetrics.histogram("cache_invalidation_lag_millis");
+        appliedBatches = DittoMetrics.counter("cache_invalidation_applied_batches");
+        completeInvalidations = DittoMetrics.counter("cache_invalidation_complete_invalidations");
+
+        cacheInvalidations.subscribeForChanges(getSelf());
+    }
+
+    /**
+     * Create Props of an actor to apply replicated cache invalidations.
+     *
+     * @param cacheInvalidations the distributed data of cache invalidation batches.
+     * @param caches caches to invalidate.
+     * @return the Props object.
+     */
+    public static Props props(final CacheInvalidations cacheInvalidations,
+            final Collection<Cache<EntityIdWithResourceType, ?>> caches) {
+
+        return Props.create(CacheInvalidationSubscriber.class, cacheInvalidations, caches);
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(Replicator.Changed.class, this::handleChanged)
+                .matchAny(message -> log.warning("Unhandled: <{}>", message))
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void handleChanged(final Replicator.Changed<?> changed) {
+        if (changed.dataValue() instanceof LWWMap) {
+            applyBatches(((LWWMap<String, ByteString>) changed.dataValue()).getEntries());
+        } else {
+            log.warning("Unhandled: <{}>", changed);
+        }
+    }
+
+    private void applyBatches(final Map<String, ByteString> batchesByOrigin) {
+        final Set<EntityIdWithResourceType> entityIdsToInvalidate = new HashSet<>();
+        final List<CacheInvalidationBatch> batchesToApply = new ArrayList<>();
+        boolean invalidateCompletely = false;
+        for (final Map.Entry<String, ByteString> entry : batchesByOrigin.entrySet()) {
+            final String origin = entry.getKey();
+            if (!cacheInvalidations.isOwnOrigin(origin)) {
+                final List<CacheInvalidationBatch> batches = CacheInvalidations.deserialize(entry.getValue());
+                final Long appliedRevision = appliedRevisions.get(origin);
+                if (!batches.isEmpty()) {
+                    // batches of new origins are applied completely because invalidations are idempotent
+                    if (null != appliedRevision && batches.get(0).getRevision() > appliedRevision + 1) {
+                        log.warning("Missed batches of origin <{}> after revision <{}>.", origin, appliedRevision);
+                        invalidateCompletely = true;
+                    }
+                    for (final CacheInvalidationBatch batch : batches) {
+                        if (null == appliedRevision || batch.getRevision() > appliedRevision) {
+                            batchesToApply.add(batch);
+                            entityIdsToInvalidate.addAll(batch.getEntityIds());
+                        }
+                    }
+                    appliedRevisions.put(origin, batches.get(batches.size() - 1).getRevision());
+                }
+            }
+        }
+        appliedRevisions.keySet().retainAll(batchesByOrigin.keySet());
+
+        if (invalidateCompletely) {
+            completeInvalidations.increment();
+            cachesToMaintain.forEach(CacheInvalidationSubscriber::invalidateAll);
+        } else if (!entityIdsToInvalidate.isEmpty()) {
+            log.debug("Invalidating <{}> cache entries of <{}> batches.", entityIdsToInvalidate.size(),
+                    batchesToApply.size());
+            cachesToMaintain.forEach(cache -> cache.invalidateAll(entityIdsToInvalidate));
+        }
+        recordLag(batchesToApply);
+    }
+
+    private void recordLag(final List<CacheInvalidationBatch> appliedBatchList) {
+        final Instant now = Instant.now();
+        appliedBatchList.forEach(batch -> {
+            appliedBatches.increment();
+            invalidationLag.record(Math.max(0L, Duration.between(batch.getTimestamp(), now).toMillis()));
+        });
+    }
+
+    private static void invalidateAll(final Cache<EntityIdWithResourceType, ?> cache) {
+        cache.invalidateAll(new ArrayList<>(cache.asMap().keySet()));
+    }
+
+}
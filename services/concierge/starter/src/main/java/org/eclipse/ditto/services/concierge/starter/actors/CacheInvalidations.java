@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.starter.actors;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.services.models.concierge.ConciergeMessagingConstants;
+import org.eclipse.ditto.services.utils.cache.CacheInvalidationBatch;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.ddata.DistributedData;
+import org.eclipse.ditto.services.utils.ddata.DistributedDataConfig;
+
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+import akka.cluster.Cluster;
+import akka.cluster.ddata.Key;
+import akka.cluster.ddata.LWWMap;
+import akka.cluster.ddata.LWWMapKey;
+import akka.cluster.ddata.Replicator;
+import akka.cluster.ddata.SelfUniqueAddress;
+import akka.util.ByteString;
+import akka.util.ByteStringBuilder;
+
+/**
+ * Distributed data of the most recent batches of cache invalidations of each origin, i. e. of each publisher of
+ * cache invalidations in the Concierge cluster. Each origin only writes its own entry; the entries are replicated
+ * to all Concierge instances by gossip.
+ */
+public final class CacheInvalidations extends DistributedData<LWWMap<String, ByteString>> {
+
+    /**
+     * Name of the replicator actor.
+     */
+    public static final String ACTOR_NAME = "cacheInvalidationsReplicator";
+
+    /**
+     * Key of the distributed data. Should be unique among LWWMaps.
+     */
+    private static final Key<LWWMap<String, ByteString>> KEY = LWWMapKey.create("CacheInvalidations");
+
+    private static final ByteString ARRAY_START = ByteString.fromString("[");
+    private static final ByteString ARRAY_END = ByteString.fromString("]");
+    private static final ByteString SEPARATOR = ByteString.fromString(",");
+
+    private final SelfUniqueAddress selfUniqueAddress;
+
+    private CacheInvalidations(final DistributedDataConfig config, final ActorSystem system) {
+        super(config, system, system.dispatcher());
+        selfUniqueAddress = SelfUniqueAddress.apply(Cluster.get(system).selfUniqueAddress());
+    }
+
+    /**
+     * Get an instance of this distributed data with the default configuration. The provided Akka system must be a
+     * cluster member with the role {@code concierge}.
+     *
+     * @param system the actor system where the replicator actor will be created.
+     * @return the instance of the distributed data.
+     */
+    public static CacheInvalidations of(final ActorSystem system) {
+        return Provider.INSTANCE.get(system);
+    }
+
+    /**
+     * Create a new origin of cache invalidations of this cluster member. Each origin is unique in the cluster.
+     *
+     * @param discriminator distinguishes origins of the same cluster member.
+     * @return the origin.
+     */
+    public String newOrigin(final String discriminator) {
+        return getOriginPrefix() + discriminator;
+    }
+
+    /**
+     * Test whether an origin belongs to this cluster member.
+     *
+     * @param origin the origin.
+     * @return whether cache invalidations of the origin were published by this cluster member.
+     */
+    public boolean isOwnOrigin(final String origin) {
+        return origin.startsWith(getOriginPrefix());
+    }
+
+    /**
+     * Replace the batches of an origin in the local replica. The batches are replicated by gossip. Only the most
+     * recent batches whose serialized form fits into {@code maxSerializedSize} bytes are kept. Entries of other
+     * origins whose most recent batch is older than {@code staleOriginTimeout} are removed.
+     *
+     * @param origin the origin of the batches.
+     * @param batches the most recent batches of the origin.
+     * @param maxSerializedSize the maximum size in bytes of the serialized batches of the origin.
+     * @param staleOriginTimeout the age after which the batches of an origin are considered stale.
+     * @return future that completes after the update of the local replica, exceptionally if there is any error.
+     */
+    public CompletionStage<Void> publish(final String origin, final List<CacheInvalidationBatch> batches,
+            final long maxSerializedSize, final Duration staleOriginTimeout) {
+
+        final ByteString serializedBatches = serialize(batches, maxSerializedSize);
+        return update(Replicator.writeLocal(), lwwMap ->
+                removeStaleOrigins(lwwMap, origin, Instant.now().minus(staleOriginTimeout))
+                        .put(selfUniqueAddress, origin, serializedBatches));
+    }
+
+    /**
+     * Deserialize the batches of an origin.
+     *
+     * @param serializedBatches the batches as stored in the distributed data.
+     * @return the batches in the order of their revisions.
+     * @throws org.eclipse.ditto.json.JsonRuntimeException if the batches cannot be deserialized.
+     */
+    public static List<CacheInvalidationBatch> deserialize(final ByteString serializedBatches) {
+        return JsonFactory.newArray(serializedBatches.decodeString(StandardCharsets.UTF_8))
+                .stream()
+                .filter(JsonValue::isObject)
+                .map(JsonValue::asObject)
+                .map(CacheInvalidationBatch::fromJson)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Create batches of consecutive revisions of cache invalidations. The entity IDs are halved until each batch
+     * serialized on its own fits into {@code maxSerializedSize} bytes, unless a batch has a single entity ID.
+     *
+     * @param firstRevision the revision of the first batch.
+     * @param timestamp the timestamp of the batches.
+     * @param entityIds the IDs of the cache entries to invalidate.
+     * @param maxSerializedSize the maximum size in bytes of a serialized batch.
+     * @return the batches in the order of their revisions.
+     */
+    public static List<CacheInvalidationBatch> toBatches(final long firstRevision, final Instant timestamp,
+            final List<EntityIdWithResourceType> entityIds, final long maxSerializedSize) {
+
+        final CacheInvalidationBatch batch = CacheInvalidationBatch.of(firstRevision, timestamp, entityIds);
+        final long serializedSize = ARRAY_START.size() + serialize(batch).size() + ARRAY_END.size();
+        if (entityIds.size() <= 1 || serializedSize <= maxSerializedSize) {
+            return Collections.singletonList(batch);
+        }
+        final int half = entityIds.size() / 2;
+        final List<CacheInvalidationBatch> batches =
+                new ArrayList<>(toBatches(firstRevision, timestamp, entityIds.subList(0, half), maxSerializedSize));
+        final long nextRevision = batches.get(batches.size() - 1).getRevision() + 1;
+        batches.addAll(toBatches(nextRevision, timestamp, entityIds.subList(half, entityIds.size()),
+                maxSerializedSize));
+        return batches;
+    }
+
+    /**
+     * Serialize the most recent batches whose serialized form fits into {@code maxSerializedSize} bytes. Older
+     * batches are dropped; the most recent batch is always kept.
+     *
+     * @param batches the batches in the order of their revisions.
+     * @param maxSerializedSize the maximum size of the serialized batches.
+     * @return the serialized batches.
+     */
+    static ByteString serialize(final List<CacheInvalidationBatch> batches, final long maxSerializedSize) {
+        final Deque<ByteString> serializedBatches = new ArrayDeque<>();
+        long size = ARRAY_START.size() + ARRAY_END.size();
+        for (int i = batches.size() - 1; i >= 0; i--) {
+            final ByteString serializedBatch = serialize(batches.get(i));
+            final long sizeWithBatch =
+                    size + serializedBatch.size() + (serializedBatches.isEmpty() ? 0 : SEPARATOR.size());
+            if (!serializedBatches.isEmpty() && sizeWithBatch > maxSerializedSize) {
+                break;
+            }
+            serializedBatches.addFirst(serializedBatch);
+            size = sizeWithBatch;
+        }
+        final ByteStringBuilder builder = ByteString.createBuilder().append(ARRAY_START);
+        final Iterator<ByteString> iterator = serializedBatches.iterator();
+        while (iterator.hasNext()) {
+            builder.append(iterator.next());
+            if (iterator.hasNext()) {
+                builder.append(SEPARATOR);
+            }
+        }
+        return builder.append(ARRAY_END).result();
+    }
+
+    @Override
+    protected Key<LWWMap<String, ByteString>> getKey() {
+        return KEY;
+    }
+
+    @Override
+    protected LWWMap<String, ByteString> getInitialValue() {
+        return LWWMap.empty();
+    }
+
+    private String getOriginPrefix() {
+        return selfUniqueAddress.uniqueAddress().address() + "#" + selfUniqueAddress.uniqueAddress().longUid() + "/";
+    }
+
+    private LWWMap<String, ByteString> removeStaleOrigins(final LWWMap<String, ByteString> lwwMap,
+            final String ownOrigin, final Instant staleBefore) {
+
+        LWWMap<String, ByteString> result = lwwMap;
+        for (final Map.Entry<String, ByteString> entry : lwwMap.getEntries().entrySet()) {
+            if (!ownOrigin.equals(entry.getKey()) && isStale(entry.getValue(), staleBefore)) {
+                result = result.remove(selfUniqueAddress, entry.getKey());
+            }
+        }
+        return result;
+    }
+
+    private static boolean isStale(final ByteString serializedBatches, final Instant staleBefore) {
+        final List<CacheInvalidationBatch> batches = deserialize(serializedBatches);
+        return batches.isEmpty() || batches.get(batches.size() - 1).getTimestamp().isBefore(staleBefore);
+    }
+
+    private static ByteString serialize(final CacheInvalidationBatch batch) {
+        return ByteString.fromString(batch.toJson().toString(), StandardCharsets.UTF_8);
+    }
+
+    private static final class Provider
+            extends DistributedData.AbstractDDataProvider<LWWMap<String, ByteString>, CacheInvalidations> {
+
+        private static final Provider INSTANCE = new Provider();
+
+        private Provider() {}
+
+        @Override
+        public CacheInvalidations createExtension(final ExtendedActorSystem system) {
+            return new CacheInvalidations(DistributedData.createConfig(system, ACTOR_NAME,
+                    ConciergeMessagingConstants.CLUSTER_ROLE), system);
+        }
+    }
+
+}
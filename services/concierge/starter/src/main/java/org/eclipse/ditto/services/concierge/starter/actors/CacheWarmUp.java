@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.starter.actors;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.services.concierge.common.CacheWarmUpConfig;
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.health.RetrieveHealth;
+import org.eclipse.ditto.services.utils.health.RetrieveHealthResponse;
+import org.eclipse.ditto.services.utils.health.StatusInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import akka.actor.AbstractActorWithTimers;
+import akka.actor.Props;
+import akka.actor.Status;
+import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.Pair;
+import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
+import akka.stream.ActorMaterializer;
+import akka.stream.KillSwitches;
+import akka.stream.UniqueKillSwitch;
+import akka.stream.javadsl.Keep;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+
+/**
+ * Actor which warms up the caches of a starting Concierge instance and afterwards shares the hottest keys of the
+ * caches with the Concierge instances started later.
+ * <p>
+ * On start, the hottest keys of all Concierge instances are read from {@link HotCacheKeys} and loaded into the caches
+ * at a limited rate, the keys of the first cache first. Until the warm-up completed or timed out, this actor answers
+ * {@link RetrieveHealth} with {@link StatusInfo.Status#DOWN} so that the instance is not reported ready.
+ * </p>
+ */
+public final class CacheWarmUp extends AbstractActorWithTimers {
+
+    /**
+     * Name of this actor.
+     */
+    public static final String ACTOR_NAME = "cacheWarmUp";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CacheWarmUp.class);
+
+    private static final String TIMEOUT_TIMER_KEY = "timeout";
+    private static final String PUBLISH_TIMER_KEY = "publish";
+
+    private static final StatusInfo WARMING_UP = StatusInfo.fromStatus(StatusInfo.Status.DOWN, "warming up caches");
+    private static final StatusInfo WARM = StatusInfo.fromStatus(StatusInfo.Status.UP);
+
+    private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
+
+    private final HotCacheKeys hotCacheKeys;
+    private final Map<String, Cache<EntityIdWithResourceType, ?>> caches;
+    private final CacheWarmUpConfig config;
+    private final ActorMaterializer materializer;
+
+    @Nullable private UniqueKillSwitch killSwitch;
+    private boolean warm;
+
+    @SuppressWarnings("unused")
+    private CacheWarmUp(final HotCacheKeys hotCacheKeys, final Map<String, Cache<EntityIdWithResourceType, ?>> caches,
+            final CacheWarmUpConfig config) {
+
+        this.hotCacheKeys = hotCacheKeys;
+        this.caches = caches;
+        this.config = config;
+        materializer = ActorMaterializer.create(getContext());
+        killSwitch = null;
+        warm = false;
+    }
+
+    /**
+     * Create Props of an actor to warm up caches.
+     *
+     * @param hotCacheKeys the distributed data of the hottest cache keys.
+     * @param caches the caches to warm up by their names, in the order of warm-up.
+     * @param config the cache warm-up config.
+     * @return the Props object.
+     */
+    public static Props props(final HotCacheKeys hotCacheKeys,
+            final Map<String, Cache<EntityIdWithResourceType, ?>> caches, final CacheWarmUpConfig config) {
+
+        return Props.create(CacheWarmUp.class, hotCacheKeys, new LinkedHashMap<>(caches), config);
+    }
+
+    @Override
+    public void preStart() {
+        getTimers().startSingleTimer(TIMEOUT_TIMER_KEY, Control.TIMEOUT, config.getTimeout());
+        Patterns.pipe(hotCacheKeys.read().thenApply(HottestKeys::new), getContext().dispatcher()).to(getSelf());
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        if (null != killSwitch) {
+            killSwitch.shutdown();
+        }
+        super.postStop();
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(HottestKeys.class, this::warmUp)
+                .matchEquals(Control.WARM_UP_COMPLETED, completed -> warmUpFinished("completed"))
+                .matchEquals(Control.TIMEOUT, timeout -> warmUpFinished("timed out"))
+                .match(Status.Failure.class, failure -> {
+                    log.error(failure.cause(), "Cache warm-up failed.");
+                    warmUpFinished("failed");
+                })
+                .matchEquals(Control.PUBLISH, publish -> publishHottestKeys())
+                .match(RetrieveHealth.class, retrieveHealth -> getSender().tell(
+                        RetrieveHealthResponse.of(warm ? WARM : WARMING_UP, DittoHeaders.empty()), getSelf()))
+                .matchAny(message -> log.warning("Unhandled: <{}>", message))
+                .build();
+    }
+
+    private void warmUp(final HottestKeys hottestKeys) {
+        if (warm) {
+            return;
+        }
+        final List<Pair<Cache<EntityIdWithResourceType, ?>, EntityIdWithResourceType>> entriesToLoad =
+                new ArrayList<>();
+        caches.forEach((cacheName, cache) -> hottestKeys.keysByCache.getOrDefault(cacheName, List.of())
+                .forEach(key -> entriesToLoad.add(Pair.create(cache, key))));
+        log.info("Warming up caches with <{}> entries.", entriesToLoad.size());
+
+        final AtomicLong failedLoads = new AtomicLong();
+        final Pair<UniqueKillSwitch, CompletionStage<Object>> killSwitchAndCompletion = Source.from(entriesToLoad)
+                .throttle(config.getMaxLoadsPerSecond(), Duration.ofSeconds(1L))
+                .mapAsyncUnordered(config.getParallelism(), cacheAndKey -> cacheAndKey.first()
+                        .get(cacheAndKey.second())
+                        .handle((value, error) -> {
+                            if (null != error) {
+                                failedLoads.incrementAndGet();
+                            }
+                            return cacheAndKey;
+                        }))
+                .viaMat(KillSwitches.single(), Keep.right())
+                .toMat(Sink.ignore(), Keep.both())
+                .mapMaterializedValue(pair -> Pair.create(pair.first(), pair.second().thenApply(done -> {
+                    if (failedLoads.get() > 0L) {
+                        LOGGER.warn("<{}> cache entries failed to load during warm-up.", failedLoads.get());
+                    }
+                    return (Object) Control.WARM_UP_COMPLETED;
+                })))
+                .run(materializer);
+        killSwitch = killSwitchAndCompletion.first();
+        Patterns.pipe(killSwitchAndCompletion.second(), getContext().dispatcher()).to(getSelf());
+    }
+
+    private void warmUpFinished(final String reason) {
+        if (warm) {
+            return;
+        }
+        log.info("Cache warm-up {}.", reason);
+        warm = true;
+        getTimers().cancel(TIMEOUT_TIMER_KEY);
+        if (null != killSwitch) {
+            killSwitch.shutdown();
+            killSwitch = null;
+        }
+        getTimers().startPeriodicTimer(PUBLISH_TIMER_KEY, Control.PUBLISH, config.getPublishInterval());
+    }
+
+    private void publishHottestKeys() {
+        final Map<String, List<EntityIdWithResourceType>> hottestKeysByCache = new LinkedHashMap<>();
+        caches.forEach((cacheName, cache) -> hottestKeysByCache.put(cacheName,
+                cache.getHottestKeys(config.getHottestKeys())));
+        hotCacheKeys.publish(hottestKeysByCache).exceptionally(error -> {
+            LOGGER.error("Failed to publish the hottest cache keys.", error);
+            return null;
+        });
+    }
+
+    private enum Control {
+        WARM_UP_COMPLETED,
+        TIMEOUT,
+        PUBLISH
+    }
+
+    private static final class HottestKeys {
+
+        private final Map<String, List<EntityIdWithResourceType>> keysByCache;
+
+        private HottestKeys(final Map<String, List<EntityIdWithResourceType>> keysByCache) {
+            this.keysByCache = keysByCache;
+        }
+    }
+
+}
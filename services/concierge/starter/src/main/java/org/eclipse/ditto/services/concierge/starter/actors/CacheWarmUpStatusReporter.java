@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.starter.actors;
+
+import org.eclipse.ditto.services.utils.health.AbstractHealthCheckingActor;
+import org.eclipse.ditto.services.utils.health.RetrieveHealth;
+import org.eclipse.ditto.services.utils.health.RetrieveHealthResponse;
+
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.japi.pf.ReceiveBuilder;
+
+/**
+ * Actor to report whether the {@link CacheWarmUp} of this Concierge instance finished.
+ */
+public final class CacheWarmUpStatusReporter extends AbstractHealthCheckingActor {
+
+    private final ActorRef cacheWarmUp;
+
+    @SuppressWarnings("unused")
+    private CacheWarmUpStatusReporter(final ActorRef cacheWarmUp) {
+        this.cacheWarmUp = cacheWarmUp;
+    }
+
+    /**
+     * Create Props for this actor.
+     *
+     * @param cacheWarmUp the cache warm-up actor.
+     * @return Props to report the status of the cache warm-up.
+     */
+    public static Props props(final ActorRef cacheWarmUp) {
+        return Props.create(CacheWarmUpStatusReporter.class, cacheWarmUp);
+    }
+
+    @Override
+    protected Receive matchCustomMessages() {
+        return ReceiveBuilder.create()
+                .match(RetrieveHealthResponse.class, response -> updateHealth(response.getStatusInfo()))
+                .build();
+    }
+
+    @Override
+    protected void triggerHealthRetrieval() {
+        cacheWarmUp.tell(RetrieveHealth.newInstance(), getSelf());
+    }
+
+}
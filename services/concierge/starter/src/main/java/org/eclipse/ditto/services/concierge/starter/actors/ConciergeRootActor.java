@@ -17,8 +17,12 @@ import static akka.http.javadsl.server.Directives.logResult;
 import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletionStage;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.services.base.actors.DittoRootActor;
 import org.eclipse.ditto.services.base.config.http.HttpConfig;
 import org.eclipse.ditto.services.concierge.actors.ShardRegions;
@@ -86,7 +90,11 @@ public final class ConciergeRootActor extends DittoRootActor {
                 EventSnapshotCleanupCoordinator.props(conciergeConfig.getPersistenceCleanupConfig(), pubSubMediator,
                         shardRegions));
 
-        final ActorRef healthCheckingActor = startHealthCheckingActor(conciergeConfig, cleanupCoordinator);
+        // report the instance as ready only after the caches are warmed up, if they are warmed up at all
+        final ActorRef cacheWarmUp = context.findChild(CacheWarmUp.ACTOR_NAME).orElse(null);
+
+        final ActorRef healthCheckingActor =
+                startHealthCheckingActor(conciergeConfig, cleanupCoordinator, cacheWarmUp);
 
         bindHttpStatusRoute(healthCheckingActor, conciergeConfig.getHttpConfig(), materializer);
     }
@@ -122,7 +130,7 @@ public final class ConciergeRootActor extends DittoRootActor {
     }
 
     private ActorRef startHealthCheckingActor(final ConciergeConfig conciergeConfig,
-            final ActorRef cleanupCoordinator) {
+            final ActorRef cleanupCoordinator, @Nullable final ActorRef cacheWarmUp) {
 
         final HealthCheckConfig healthCheckConfig = conciergeConfig.getHealthCheckConfig();
 
@@ -138,11 +146,17 @@ public final class ConciergeRootActor extends DittoRootActor {
         final ActorRef cleanupCoordinatorProxy = ClusterUtil.startSingletonProxy(getContext(),
                 ConciergeMessagingConstants.CLUSTER_ROLE, cleanupCoordinator);
 
+        final List<Props> statusReporterProps = new ArrayList<>();
+        statusReporterProps.add(SingletonStatusReporter.props(ConciergeMessagingConstants.CLUSTER_ROLE,
+                cleanupCoordinatorProxy));
+        if (null != cacheWarmUp) {
+            statusReporterProps.add(CacheWarmUpStatusReporter.props(cacheWarmUp));
+        }
+
         return startChildActor(DefaultHealthCheckingActorFactory.ACTOR_NAME,
                 DefaultHealthCheckingActorFactory.props(healthCheckingActorOptions,
                         MongoHealthChecker.props(),
-                        SingletonStatusReporter.props(ConciergeMessagingConstants.CLUSTER_ROLE,
-                                cleanupCoordinatorProxy))
+                        statusReporterProps.toArray(new Props[0]))
         );
     }
 
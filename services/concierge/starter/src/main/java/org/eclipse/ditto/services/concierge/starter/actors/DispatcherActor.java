@@ -21,17 +21,20 @@ import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
+import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.services.concierge.common.DittoConciergeConfig;
 import org.eclipse.ditto.services.concierge.common.EnforcementConfig;
 import org.eclipse.ditto.services.concierge.enforcement.PreEnforcer;
+import org.eclipse.ditto.services.concierge.enforcement.RetrieveThingsBatchEnforcement;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
 import org.eclipse.ditto.services.models.thingsearch.commands.sudo.ThingSearchSudoCommand;
 import org.eclipse.ditto.services.utils.akka.controlflow.AbstractGraphActor;
 import org.eclipse.ditto.services.utils.akka.controlflow.Filter;
 import org.eclipse.ditto.services.utils.akka.controlflow.WithSender;
+import org.eclipse.ditto.services.utils.cluster.BinaryEnvelope;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
@@ -67,7 +70,8 @@ public final class DispatcherActor extends AbstractGraphActor<DispatcherActor.Im
     @SuppressWarnings("unused")
     private DispatcherActor(final ActorRef enforcerActor,
             final ActorRef pubSubMediator,
-            final Flow<ImmutableDispatch, ImmutableDispatch, NotUsed> handler) {
+            final Flow<ImmutableDispatch, ImmutableDispatch, NotUsed> handler,
+            @Nullable final RetrieveThingsBatchEnforcement batchEnforcement) {
 
         super(WithDittoHeaders.class);
 
@@ -76,7 +80,7 @@ public final class DispatcherActor extends AbstractGraphActor<DispatcherActor.Im
         ).getEnforcementConfig();
 
         this.handler = handler;
-        final Props props = ThingsAggregatorActor.props(enforcerActor);
+        final Props props = ThingsAggregatorActor.props(enforcerActor, batchEnforcement);
         thingsAggregatorActor = getContext().actorOf(props, ThingsAggregatorActor.ACTOR_NAME);
 
         initActor(getSelf(), pubSubMediator);
@@ -105,7 +109,8 @@ public final class DispatcherActor extends AbstractGraphActor<DispatcherActor.Im
 
     @Override
     protected void preEnhancement(final ReceiveBuilder receiveBuilder) {
-        // no-op
+        receiveBuilder.match(BinaryEnvelope.class, envelope ->
+                getSelf().forward(envelope.getPayload(), getContext()));
     }
 
     /**
@@ -131,10 +136,28 @@ public final class DispatcherActor extends AbstractGraphActor<DispatcherActor.Im
             final ActorRef enforcerActor,
             final PreEnforcer preEnforcer) {
 
+        return props(pubSubMediator, enforcerActor, preEnforcer, null);
+    }
+
+    /**
+     * Create Akka actor configuration Props object with pre-enforcer and batch enforcement of {@code RetrieveThings}.
+     *
+     * @param pubSubMediator Akka pub-sub mediator.
+     * @param enforcerActor the address of the enforcer actor.
+     * @param preEnforcer the pre-enforcer as graph.
+     * @param batchEnforcement the batch enforcement of {@code RetrieveThings} or {@code null} to enforce each
+     * retrieved thing separately.
+     * @return the Props object.
+     */
+    public static Props props(final ActorRef pubSubMediator,
+            final ActorRef enforcerActor,
+            final PreEnforcer preEnforcer,
+            @Nullable final RetrieveThingsBatchEnforcement batchEnforcement) {
+
         final Flow<ImmutableDispatch, ImmutableDispatch, NotUsed> dispatchFlow =
                 Flow.fromGraph(createDispatchFlow(pubSubMediator, preEnforcer));
 
-        return Props.create(DispatcherActor.class, enforcerActor, pubSubMediator, dispatchFlow);
+        return Props.create(DispatcherActor.class, enforcerActor, pubSubMediator, dispatchFlow, batchEnforcement);
     }
 
     /**
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.starter.actors;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.services.models.concierge.ConciergeMessagingConstants;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.ddata.DistributedData;
+import org.eclipse.ditto.services.utils.ddata.DistributedDataConfig;
+
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+import akka.cluster.Cluster;
+import akka.cluster.ddata.Key;
+import akka.cluster.ddata.LWWMap;
+import akka.cluster.ddata.LWWMapKey;
+import akka.cluster.ddata.Replicator;
+import akka.cluster.ddata.SelfUniqueAddress;
+import akka.util.ByteString;
+
+/**
+ * Distributed data of the hottest cache keys of each Concierge instance, by which starting Concierge instances warm up
+ * their caches. Each instance only writes the entry of its own address so that a restarted instance finds the keys
+ * of its previous incarnation.
+ */
+public final class HotCacheKeys extends DistributedData<LWWMap<String, ByteString>> {
+
+    /**
+     * Name of the replicator actor.
+     */
+    public static final String ACTOR_NAME = "hotCacheKeysReplicator";
+
+    /**
+     * Key of the distributed data. Should be unique among LWWMaps.
+     */
+    private static final Key<LWWMap<String, ByteString>> KEY = LWWMapKey.create("HotCacheKeys");
+
+    private final Cluster cluster;
+    private final SelfUniqueAddress selfUniqueAddress;
+
+    private HotCacheKeys(final DistributedDataConfig config, final ActorSystem system) {
+        super(config, system, system.dispatcher());
+        cluster = Cluster.get(system);
+        selfUniqueAddress = SelfUniqueAddress.apply(cluster.selfUniqueAddress());
+    }
+
+    /**
+     * Get an instance of this distributed data with the default configuration. The provided Akka system must be a
+     * cluster member with the role {@code concierge}.
+     *
+     * @param system the actor system where the replicator actor will be created.
+     * @return the instance of the distributed data.
+     */
+    public static HotCacheKeys of(final ActorSystem system) {
+        return Provider.INSTANCE.get(system);
+    }
+
+    /**
+     * Replace the hottest keys of this instance in the local replica. The keys are replicated by gossip. Entries of
+     * addresses which are no longer cluster members are removed.
+     *
+     * @param hottestKeysByCache the hottest keys of each cache by the name of the cache.
+     * @return future that completes after the update of the local replica, exceptionally if there is any error.
+     */
+    public CompletionStage<Void> publish(final Map<String, List<EntityIdWithResourceType>> hottestKeysByCache) {
+        final ByteString serializedKeys = serialize(hottestKeysByCache);
+        final String ownAddress = cluster.selfAddress().toString();
+        final Set<String> memberAddresses = new LinkedHashSet<>();
+        cluster.state().getMembers().forEach(member -> memberAddresses.add(member.address().toString()));
+        return update(Replicator.writeLocal(), lwwMap -> {
+            LWWMap<String, ByteString> result = lwwMap;
+            for (final String address : lwwMap.getEntries().keySet()) {
+                if (!ownAddress.equals(address) && !memberAddresses.contains(address)) {
+                    result = result.remove(selfUniqueAddress, address);
+                }
+            }
+            return result.put(selfUniqueAddress, ownAddress, serializedKeys);
+        });
+    }
+
+    /**
+     * Read the hottest keys of all Concierge instances from a majority of replicas.
+     *
+     * @return future of the distinct hottest keys of each cache by the name of the cache.
+     */
+    public CompletionStage<Map<String, List<EntityIdWithResourceType>>> read() {
+        return get(new Replicator.ReadMajority(readTimeout)).thenApply(optionalLwwMap -> {
+            final Map<String, Set<EntityIdWithResourceType>> mergedKeys = new LinkedHashMap<>();
+            optionalLwwMap.ifPresent(lwwMap -> lwwMap.getEntries().values().forEach(serializedKeys ->
+                    deserialize(serializedKeys).forEach((cacheName, keys) ->
+                            mergedKeys.computeIfAbsent(cacheName, name -> new LinkedHashSet<>()).addAll(keys))));
+            final Map<String, List<EntityIdWithResourceType>> result = new LinkedHashMap<>();
+            mergedKeys.forEach((cacheName, keys) -> result.put(cacheName, new ArrayList<>(keys)));
+            return result;
+        });
+    }
+
+    @Override
+    protected Key<LWWMap<String, ByteString>> getKey() {
+        return KEY;
+    }
+
+    @Override
+    protected LWWMap<String, ByteString> getInitialValue() {
+        return LWWMap.empty();
+    }
+
+    private static ByteString serialize(final Map<String, List<EntityIdWithResourceType>> hottestKeysByCache) {
+        final JsonObjectBuilder builder = JsonFactory.newObjectBuilder();
+        hottestKeysByCache.forEach((cacheName, keys) -> builder.set(cacheName, toJsonArray(keys)));
+        return ByteString.fromString(builder.build().toString(), StandardCharsets.UTF_8);
+    }
+
+    private static JsonValue toJsonArray(final Collection<EntityIdWithResourceType> keys) {
+        return keys.stream()
+                .map(EntityIdWithResourceType::toString)
+                .map(JsonValue::of)
+                .collect(JsonCollectors.valuesToArray());
+    }
+
+    private static Map<String, List<EntityIdWithResourceType>> deserialize(final ByteString serializedKeys) {
+        final JsonObject jsonObject = JsonFactory.newObject(serializedKeys.decodeString(StandardCharsets.UTF_8));
+        final Map<String, List<EntityIdWithResourceType>> result = new LinkedHashMap<>();
+        jsonObject.forEach(field -> {
+            if (field.getValue().isArray()) {
+                result.put(field.getKeyName(), field.getValue()
+                        .asArray()
+                        .stream()
+                        .filter(JsonValue::isString)
+                        .map(JsonValue::asString)
+                        .map(EntityIdWithResourceType::readFrom)
+                        .collect(Collectors.toList()));
+            }
+        });
+        return result;
+    }
+
+    private static final class Provider
+            extends DistributedData.AbstractDDataProvider<LWWMap<String, ByteString>, HotCacheKeys> {
+
+        private static final Provider INSTANCE = new Provider();
+
+        private Provider() {}
+
+        @Override
+        public HotCacheKeys createExtension(final ExtendedActorSystem system) {
+            return new HotCacheKeys(DistributedData.createConfig(system, ACTOR_NAME,
+                    ConciergeMessagingConstants.CLUSTER_ROLE), system);
+        }
+    }
+
+}
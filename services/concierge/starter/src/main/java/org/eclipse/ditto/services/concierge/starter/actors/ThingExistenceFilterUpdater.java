@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.starter.actors;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.concierge.common.ExistenceFilterConfig;
+import org.eclipse.ditto.services.models.streaming.BatchedEntityIdWithRevisions;
+import org.eclipse.ditto.services.models.streaming.EntityIdWithRevision;
+import org.eclipse.ditto.services.models.streaming.SudoStreamPids;
+import org.eclipse.ditto.services.models.things.ThingEventPubSubFactory;
+import org.eclipse.ditto.services.models.things.ThingsMessagingConstants;
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.eclipse.ditto.services.utils.cacheloaders.ThingExistenceFilter;
+import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.services.utils.pubsub.DistributedSub;
+import org.eclipse.ditto.signals.commands.things.ThingCommand;
+import org.eclipse.ditto.signals.events.things.ThingCreated;
+import org.eclipse.ditto.signals.events.things.ThingEvent;
+
+import akka.NotUsed;
+import akka.actor.AbstractActorWithTimers;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.actor.Status;
+import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
+import akka.stream.ActorMaterializer;
+import akka.stream.SourceRef;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+
+/**
+ * Actor that fills a {@link ThingExistenceFilter} with the IDs of all persisted things and keeps it up to date.
+ * <p>
+ * The actor first subscribes to thing events so that no thing created during the initial stream is missed. Then it
+ * streams the persistence IDs of all things from the journal, which contains things whose first snapshot was not
+ * taken yet, and marks the filter ready once the stream completed. Failed streams are restarted after a delay.
+ * Each {@link ThingCreated} event adds the thing ID to the filter and invalidates the cached entries of the thing,
+ * which might have been loaded as nonexistent before the event arrived.
+ * </p>
+ * <p>
+ * Thing events are delivered at most once, so a lost {@code ThingCreated} event would let the filter reject an
+ * existing thing. Therefore the filter is rebuilt from the stream of persisted thing IDs in the configured rebuild
+ * interval, which also forgets deleted things.
+ * </p>
+ */
+public final class ThingExistenceFilterUpdater extends AbstractActorWithTimers {
+
+    /**
+     * Name of this actor.
+     */
+    public static final String ACTOR_NAME = "thingExistenceFilterUpdater";
+
+    private static final String RESTART_TIMER_KEY = "restart";
+    private static final String REBUILD_TIMER_KEY = "rebuild";
+
+    private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
+
+    private final ThingExistenceFilter existenceFilter;
+    private final ExistenceFilterConfig config;
+    private final ActorRef pubSubMediator;
+    private final Collection<Cache<EntityIdWithResourceType, ?>> cachesToMaintain;
+    private final ActorMaterializer materializer;
+    private final DistributedSub thingEventSub;
+
+    private boolean subscribed;
+    private boolean rebuilding;
+
+    @SuppressWarnings("unused")
+    private ThingExistenceFilterUpdater(final ThingExistenceFilter existenceFilter,
+            final ExistenceFilterConfig config, final ActorRef pubSubMediator,
+            final Collection<Cache<EntityIdWithResourceType, ?>> cachesToMaintain) {
+
+        this.existenceFilter = existenceFilter;
+        this.config = config;
+        this.pubSubMediator = pubSubMediator;
+        this.cachesToMaintain = cachesToMaintain;
+        materializer = ActorMaterializer.create(getContext());
+        thingEventSub = ThingEventPubSubFactory.readSubjectsOnly(getContext()).startDistributedSub();
+        subscribed = false;
+        rebuilding = false;
+    }
+
+    /**
+     * Create Props of an actor to fill and update a thing existence filter.
+     *
+     * @param existenceFilter the filter to fill.
+     * @param config the config of the existence filter.
+     * @param pubSubMediator the pub-sub mediator.
+     * @param cachesToMaintain caches whose entries are invalidated when the thing is created.
+     * @return the Props object.
+     */
+    public static Props props(final ThingExistenceFilter existenceFilter, final ExistenceFilterConfig config,
+            final ActorRef pubSubMediator, final Collection<Cache<EntityIdWithResourceType, ?>> cachesToMaintain) {
+
+        return Props.create(ThingExistenceFilterUpdater.class, existenceFilter, config, pubSubMediator,
+                cachesToMaintain);
+    }
+
+    @Override
+    public void preStart() {
+        subscribeForThingEvents();
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(ThingCreated.class, this::thingCreated)
+                .match(ThingEvent.class, this::ignoreThingEvent)
+                .matchEquals(Control.SUBSCRIBED, this::subscribed)
+                .matchEquals(Control.RESTART, restart -> restart())
+                .matchEquals(Control.REBUILD, rebuild -> rebuild())
+                .match(StreamCompleted.class, this::streamCompleted)
+                .match(Status.Failure.class, this::streamFailed)
+                .matchAny(message -> log.warning("Unhandled: <{}>", message))
+                .build();
+    }
+
+    private void subscribeForThingEvents() {
+        final CompletionStage<Control> subscription =
+                thingEventSub.subscribeWithAck(Collections.singleton(ThingEvent.TYPE_PREFIX), getSelf())
+                        .thenApply(ack -> Control.SUBSCRIBED);
+        Patterns.pipe(subscription, getContext().dispatcher()).to(getSelf());
+    }
+
+    private void subscribed(final Control ack) {
+        subscribed = true;
+        startStream();
+    }
+
+    private void restart() {
+        if (subscribed) {
+            startStream();
+        } else {
+            subscribeForThingEvents();
+        }
+    }
+
+    private void rebuild() {
+        log.info("Rebuilding the existence filter.");
+        existenceFilter.startRebuild();
+        rebuilding = true;
+        restart();
+    }
+
+    private void thingCreated(final ThingCreated thingCreated) {
+        final ThingId thingId = thingCreated.getThingEntityId();
+        existenceFilter.put(thingId);
+        final EntityIdWithResourceType entityId = EntityIdWithResourceType.of(ThingCommand.RESOURCE_TYPE, thingId);
+        cachesToMaintain.forEach(cache -> cache.invalidate(entityId));
+    }
+
+    private void ignoreThingEvent(final ThingEvent<?> thingEvent) {
+        // thing IDs cannot be removed from Bloom filters; deleted things remain false positives
+    }
+
+    private void startStream() {
+        log.info("Streaming IDs of all persisted things into the existence filter.");
+        final AtomicLong thingIds = new AtomicLong();
+        final SudoStreamPids sudoStreamPids = SudoStreamPids.of(config.getStreamBurst(),
+                config.getStreamIdleTimeout().toMillis(), DittoHeaders.empty());
+        final CompletionStage<StreamCompleted> streamCompleted = Source.single(
+                DistPubSubAccess.send(ThingsMessagingConstants.THINGS_STREAM_PROVIDER_ACTOR_PATH, sudoStreamPids,
+                        false))
+                .mapAsync(1, send -> Patterns.ask(pubSubMediator, send, config.getStreamIdleTimeout()))
+                .flatMapConcat(ThingExistenceFilterUpdater::handleSourceRef)
+                .map(entityIdWithRevision -> ThingId.of(entityIdWithRevision.getEntityId()))
+                .runWith(Sink.foreach(thingId -> {
+                    existenceFilter.put(thingId);
+                    thingIds.incrementAndGet();
+                }), materializer)
+                .thenApply(done -> new StreamCompleted(thingIds.get()));
+        Patterns.pipe(streamCompleted, getContext().dispatcher()).to(getSelf());
+    }
+
+    private void streamCompleted(final StreamCompleted streamCompleted) {
+        log.info("Existence filter is ready after streaming <{}> thing IDs. Rebuilding it in <{}>.",
+                streamCompleted.thingIds, config.getRebuildInterval());
+        existenceFilter.markReady();
+        if (rebuilding) {
+            rebuilding = false;
+            invalidateNonexistentThings();
+        }
+        getTimers().startSingleTimer(REBUILD_TIMER_KEY, Control.REBUILD, config.getRebuildInterval());
+    }
+
+    /**
+     * Invalidates cached entries of things loaded as nonexistent, which might have been rejected by the filter before
+     * the rebuild added their IDs.
+     */
+    private void invalidateNonexistentThings() {
+        cachesToMaintain.forEach(cache -> cache.invalidateAll(cache.asMap()
+                .entrySet()
+                .stream()
+                .filter(entry -> ThingCommand.RESOURCE_TYPE.equals(entry.getKey().getResourceType()))
+                .filter(entry -> entry.getValue() instanceof Entry && !((Entry<?>) entry.getValue()).exists())
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList())));
+    }
+
+    private void streamFailed(final Status.Failure failure) {
+        log.error(failure.cause(), "Filling the existence filter failed. Restarting in <{}>.",
+                config.getRestartDelay());
+        getTimers().startSingleTimer(RESTART_TIMER_KEY, Control.RESTART, config.getRestartDelay());
+    }
+
+    private static Source<EntityIdWithRevision<?>, NotUsed> handleSourceRef(final Object reply) {
+        if (reply instanceof SourceRef) {
+            return ((SourceRef<?>) reply).getSource()
+                    .flatMapConcat(ThingExistenceFilterUpdater::handleBatch)
+                    .mapMaterializedValue(any -> NotUsed.getInstance());
+        } else {
+            return Source.failed(new IllegalStateException("Expected SourceRef, got: " + reply));
+        }
+    }
+
+    private static Source<EntityIdWithRevision<?>, NotUsed> handleBatch(final Object element) {
+        if (element instanceof BatchedEntityIdWithRevisions) {
+            final BatchedEntityIdWithRevisions<?> batch = (BatchedEntityIdWithRevisions<?>) element;
+            return Source.from(batch.getElements()).map(entityIdWithRevision -> (EntityIdWithRevision<?>) entityIdWithRevision);
+        } else {
+            return Source.failed(new IllegalStateException("Expected BatchedEntityIdWithRevisions, got: " + element));
+        }
+    }
+
+    private enum Control {
+        SUBSCRIBED,
+        RESTART,
+        REBUILD
+    }
+
+    private static final class StreamCompleted {
+
+        private final long thingIds;
+
+        private StreamCompleted(final long thingIds) {
+            this.thingIds = thingIds;
+        }
+    }
+
+}
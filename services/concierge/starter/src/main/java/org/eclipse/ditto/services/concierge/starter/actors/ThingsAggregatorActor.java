@@ -13,38 +13,49 @@
 package org.eclipse.ditto.services.concierge.starter.actors;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
-import org.eclipse.ditto.model.base.json.Jsonifiable;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.concierge.common.DittoConciergeConfig;
 import org.eclipse.ditto.services.concierge.common.ThingsAggregatorConfig;
+import org.eclipse.ditto.services.concierge.enforcement.RetrieveThingsBatchEnforcement;
 import org.eclipse.ditto.services.models.concierge.ConciergeWrapper;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.StartedTimer;
 import org.eclipse.ditto.signals.commands.base.Command;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingUnavailableException;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
 
+import akka.NotUsed;
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
 import akka.actor.Props;
 import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.Pair;
 import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.AskTimeoutException;
 import akka.pattern.Patterns;
 import akka.stream.ActorMaterializer;
 import akka.stream.javadsl.Source;
 import akka.stream.javadsl.StreamRefs;
-import akka.util.Timeout;
 import scala.concurrent.ExecutionContext;
 
 /**
@@ -59,15 +70,23 @@ public final class ThingsAggregatorActor extends AbstractActor {
 
     private static final String AGGREGATOR_INTERNAL_DISPATCHER = "aggregator-internal-dispatcher";
 
+    private static final String TRACE_AGGREGATOR_RETRIEVE_THING = "aggregator_retrievething";
+    private static final String TAG_OUTCOME = "outcome";
+    private static final String OUTCOME_SUCCESS = "success";
+    private static final String OUTCOME_ERROR = "error";
+    private static final String OUTCOME_TIMEOUT = "timeout";
+
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
     private final ActorRef targetActor;
     private final ExecutionContext aggregatorDispatcher;
     private final java.time.Duration retrieveSingleThingTimeout;
     private final int maxParallelism;
     private final ActorMaterializer actorMaterializer;
+    @Nullable private final RetrieveThingsBatchEnforcement batchEnforcement;
 
     @SuppressWarnings("unused")
-    private ThingsAggregatorActor(final ActorRef targetActor) {
+    private ThingsAggregatorActor(final ActorRef targetActor,
+            @Nullable final RetrieveThingsBatchEnforcement batchEnforcement) {
         this.targetActor = targetActor;
         aggregatorDispatcher = getContext().system().dispatchers().lookup(AGGREGATOR_INTERNAL_DISPATCHER);
         final ThingsAggregatorConfig aggregatorConfig = DittoConciergeConfig.of(
@@ -76,6 +95,7 @@ public final class ThingsAggregatorActor extends AbstractActor {
         retrieveSingleThingTimeout = aggregatorConfig.getSingleRetrieveThingTimeout();
         maxParallelism = aggregatorConfig.getMaxParallelism();
         actorMaterializer = ActorMaterializer.create(getContext());
+        this.batchEnforcement = aggregatorConfig.isBatchEnforcementEnabled() ? batchEnforcement : null;
     }
 
     /**
@@ -85,7 +105,21 @@ public final class ThingsAggregatorActor extends AbstractActor {
      * @return the Akka configuration Props object
      */
     public static Props props(final ActorRef targetActor) {
-        return Props.create(ThingsAggregatorActor.class, targetActor)
+        return props(targetActor, null);
+    }
+
+    /**
+     * Creates Akka configuration object Props for this ThingsAggregatorActor which enforces the things of
+     * {@code RetrieveThings} commands in batches.
+     *
+     * @param targetActor the Actor selection to delegate "asks" for the aggregation to.
+     * @param batchEnforcement the batch enforcement or {@code null} to delegate each thing to {@code targetActor}.
+     * @return the Akka configuration Props object
+     */
+    public static Props props(final ActorRef targetActor,
+            @Nullable final RetrieveThingsBatchEnforcement batchEnforcement) {
+
+        return Props.create(ThingsAggregatorActor.class, targetActor, batchEnforcement)
                 .withDispatcher(AGGREGATOR_INTERNAL_DISPATCHER);
     }
 
@@ -121,23 +155,35 @@ public final class ThingsAggregatorActor extends AbstractActor {
     }
 
     private void retrieveThings(final RetrieveThings retrieveThings, final ActorRef resultReceiver) {
-        final JsonFieldSelector selectedFields = retrieveThings.getSelectedFields().orElse(null);
-        retrieveThingsAndSendResult(retrieveThings.getThingEntityIds(), selectedFields, retrieveThings, resultReceiver);
+        final List<ThingId> thingIds = retrieveThings.getThingEntityIds();
+        final Source<Pair<ThingId, Supplier<CompletionStage<Object>>>, NotUsed> retrievals;
+        if (null != batchEnforcement && RetrieveThingsBatchEnforcement.isApplicable(retrieveThings)) {
+            retrievals = Source.fromCompletionStage(
+                    batchEnforcement.planRetrievals(retrieveThings, this::askTargetActor))
+                    .mapConcat(plannedRetrievals -> plannedRetrievals);
+        } else {
+            final JsonFieldSelector selectedFields = retrieveThings.getSelectedFields().orElse(null);
+            retrievals = singleRetrievals(thingIds, selectedFields, retrieveThings);
+        }
+        retrieveThingsAndSendResult(retrievals, calculateParallelism(thingIds), retrieveThings.getDittoHeaders(),
+                resultReceiver);
     }
 
     private void retrieveThings(final SudoRetrieveThings sudoRetrieveThings, final ActorRef resultReceiver) {
         final JsonFieldSelector selectedFields = sudoRetrieveThings.getSelectedFields().orElse(null);
-        retrieveThingsAndSendResult(sudoRetrieveThings.getThingIds(), selectedFields, sudoRetrieveThings,
-                resultReceiver);
+        final List<ThingId> thingIds = sudoRetrieveThings.getThingIds();
+        retrieveThingsAndSendResult(singleRetrievals(thingIds, selectedFields, sudoRetrieveThings),
+                calculateParallelism(thingIds), sudoRetrieveThings.getDittoHeaders(), resultReceiver);
     }
 
-    private void retrieveThingsAndSendResult(final Collection<ThingId> thingIds,
+    private Source<Pair<ThingId, Supplier<CompletionStage<Object>>>, NotUsed> singleRetrievals(
+            final Collection<ThingId> thingIds,
             @Nullable final JsonFieldSelector selectedFields,
-            final Command<?> command, final ActorRef resultReceiver) {
+            final Command<?> command) {
 
         final DittoHeaders dittoHeaders = command.getDittoHeaders();
 
-        final CompletionStage<?> commandResponseSource = Source.from(thingIds)
+        return Source.from(thingIds)
                 .filter(Objects::nonNull)
                 .map(thingId -> {
                     final Command<?> toBeWrapped;
@@ -152,10 +198,24 @@ public final class ThingsAggregatorActor extends AbstractActor {
                                 .map(sf -> SudoRetrieveThing.of(thingId, sf, dittoHeaders))
                                 .orElse(SudoRetrieveThing.of(thingId, dittoHeaders));
                     }
-                    return ConciergeWrapper.wrapForEnforcerRouter(toBeWrapped);
-                })
-                .ask(calculateParallelism(thingIds), targetActor, Jsonifiable.class,
-                        Timeout.apply(retrieveSingleThingTimeout.toMillis(), TimeUnit.MILLISECONDS))
+                    final Supplier<CompletionStage<Object>> retrieval = () -> askTargetActor(toBeWrapped);
+                    return Pair.create(thingId, retrieval);
+                });
+    }
+
+    /*
+     * The things are emitted as soon as they are retrieved, i. e. in arbitrary order. Each retrieval is limited by
+     * its own timeout so that a single slow thing does not fail or delay the retrieval of the other things.
+     */
+    private void retrieveThingsAndSendResult(
+            final Source<Pair<ThingId, Supplier<CompletionStage<Object>>>, NotUsed> retrievals,
+            final int parallelism,
+            final DittoHeaders dittoHeaders,
+            final ActorRef resultReceiver) {
+
+        final CompletionStage<?> commandResponseSource = retrievals
+                .mapAsyncUnordered(Math.max(1, parallelism),
+                        retrieval -> retrieveSingleThing(retrieval.first(), retrieval.second(), dittoHeaders))
                 .log("command-response", log)
                 .runWith(StreamRefs.sourceRef(), actorMaterializer);
 
@@ -163,6 +223,52 @@ public final class ThingsAggregatorActor extends AbstractActor {
                 .to(resultReceiver);
     }
 
+    private CompletionStage<Object> askTargetActor(final Command<?> command) {
+        return Patterns.ask(targetActor, ConciergeWrapper.wrapForEnforcerRouter(command), retrieveSingleThingTimeout);
+    }
+
+    private CompletionStage<Object> retrieveSingleThing(final ThingId thingId,
+            final Supplier<CompletionStage<Object>> retrieval,
+            final DittoHeaders dittoHeaders) {
+
+        final StartedTimer timer = DittoMetrics.timer(TRACE_AGGREGATOR_RETRIEVE_THING).start();
+        return retrieval.get()
+                .toCompletableFuture()
+                .orTimeout(retrieveSingleThingTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .handle((response, error) -> {
+                    final Object result;
+                    if (null != error) {
+                        final Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                        timer.tag(TAG_OUTCOME, cause instanceof TimeoutException ||
+                                cause instanceof AskTimeoutException ? OUTCOME_TIMEOUT : OUTCOME_ERROR);
+                        result = withEntityId(thingId, DittoRuntimeException.asDittoRuntimeException(cause, c ->
+                                ThingUnavailableException.newBuilder(thingId)
+                                        .dittoHeaders(dittoHeaders)
+                                        .cause(c)
+                                        .build()));
+                    } else if (response instanceof DittoRuntimeException) {
+                        timer.tag(TAG_OUTCOME, OUTCOME_ERROR);
+                        result = withEntityId(thingId, (DittoRuntimeException) response);
+                    } else {
+                        timer.tag(TAG_OUTCOME, OUTCOME_SUCCESS);
+                        result = response;
+                    }
+                    timer.stop();
+                    return result;
+                });
+    }
+
+    /*
+     * Errors carry the ID of the thing in their headers so that the receiver is able to tell which thing failed,
+     * e. g. in order to restore the requested order of the things.
+     */
+    private static DittoRuntimeException withEntityId(final ThingId thingId, final DittoRuntimeException error) {
+        return error.setDittoHeaders(error.getDittoHeaders()
+                .toBuilder()
+                .putHeader(DittoHeaderDefinition.ENTITY_ID.getKey(), thingId.toString())
+                .build());
+    }
+
     private int calculateParallelism(final Collection<ThingId> thingIds) {
         final int size = thingIds.size();
         if (size < maxParallelism / 2) {
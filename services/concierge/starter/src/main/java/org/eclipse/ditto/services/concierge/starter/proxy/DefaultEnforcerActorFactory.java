@@ -17,8 +17,15 @@ import static org.eclipse.ditto.services.models.concierge.ConciergeMessagingCons
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.Nullable;
 
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
@@ -32,16 +39,26 @@ import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.concierge.actors.ShardRegions;
 import org.eclipse.ditto.services.concierge.common.CachesConfig;
 import org.eclipse.ditto.services.concierge.common.ConciergeConfig;
+import org.eclipse.ditto.services.concierge.common.ExistenceFilterConfig;
 import org.eclipse.ditto.services.concierge.enforcement.EnforcementProvider;
 import org.eclipse.ditto.services.concierge.enforcement.EnforcerActor;
 import org.eclipse.ditto.services.concierge.enforcement.LiveSignalEnforcement;
 import org.eclipse.ditto.services.concierge.enforcement.PolicyCommandEnforcement;
 import org.eclipse.ditto.services.concierge.enforcement.PreEnforcer;
+import org.eclipse.ditto.services.concierge.enforcement.RetrieveThingsBatchEnforcement;
 import org.eclipse.ditto.services.concierge.enforcement.ThingCommandEnforcement;
 import org.eclipse.ditto.services.concierge.enforcement.placeholders.PlaceholderSubstitution;
 import org.eclipse.ditto.services.concierge.enforcement.validators.CommandWithOptionalEntityValidator;
+import org.eclipse.ditto.services.concierge.common.CacheInvalidationConfig;
+import org.eclipse.ditto.services.concierge.common.CacheWarmUpConfig;
+import org.eclipse.ditto.services.concierge.starter.actors.CacheInvalidationPublisher;
+import org.eclipse.ditto.services.concierge.starter.actors.CacheInvalidationSubscriber;
+import org.eclipse.ditto.services.concierge.starter.actors.CacheInvalidations;
+import org.eclipse.ditto.services.concierge.starter.actors.CacheWarmUp;
 import org.eclipse.ditto.services.concierge.starter.actors.CachedNamespaceInvalidator;
 import org.eclipse.ditto.services.concierge.starter.actors.DispatcherActor;
+import org.eclipse.ditto.services.concierge.starter.actors.HotCacheKeys;
+import org.eclipse.ditto.services.concierge.starter.actors.ThingExistenceFilterUpdater;
 import org.eclipse.ditto.services.models.concierge.ConciergeMessagingConstants;
 import org.eclipse.ditto.services.models.concierge.actors.ConciergeEnforcerClusterRouterFactory;
 import org.eclipse.ditto.services.models.concierge.actors.ConciergeForwarderActor;
@@ -50,9 +67,12 @@ import org.eclipse.ditto.services.utils.cache.Cache;
 import org.eclipse.ditto.services.utils.cache.CacheFactory;
 import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
 import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.eclipse.ditto.services.utils.cache.entry.EntryWeigher;
 import org.eclipse.ditto.services.utils.cacheloaders.AclEnforcerCacheLoader;
 import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcerCacheLoader;
 import org.eclipse.ditto.services.utils.cacheloaders.ThingEnforcementIdCacheLoader;
+import org.eclipse.ditto.services.utils.cacheloaders.ThingExistenceFilter;
+import org.eclipse.ditto.services.utils.cacheloaders.ThingExistenceFilterCacheLoader;
 import org.eclipse.ditto.services.utils.cluster.ClusterUtil;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.namespaces.BlockNamespaceBehavior;
@@ -93,8 +113,15 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
 
         final ActorRef thingsShardRegionProxy = shardRegions.things();
 
+        final ExistenceFilterConfig existenceFilterConfig = cachesConfig.getExistenceFilterConfig();
+        final ThingExistenceFilter thingExistenceFilter = existenceFilterConfig.isEnabled()
+                ? ThingExistenceFilter.of(existenceFilterConfig.getExpectedInsertionsPerNamespace(),
+                existenceFilterConfig.getFalsePositiveProbability())
+                : null;
+
         final AsyncCacheLoader<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingEnforcerIdCacheLoader =
-                new ThingEnforcementIdCacheLoader(askTimeout, thingsShardRegionProxy);
+                withExistenceFilter(new ThingEnforcementIdCacheLoader(askTimeout, thingsShardRegionProxy),
+                        thingExistenceFilter, ID_CACHE_METRIC_NAME_PREFIX);
         final Cache<EntityIdWithResourceType, Entry<EntityIdWithResourceType>> thingIdCache =
                 CacheFactory.createCache(thingEnforcerIdCacheLoader, cachesConfig.getIdCacheConfig(),
                         ID_CACHE_METRIC_NAME_PREFIX + ThingCommand.RESOURCE_TYPE,
@@ -105,18 +132,22 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
         final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache =
                 CacheFactory.createCache(policyEnforcerCacheLoader, cachesConfig.getEnforcerCacheConfig(),
                         ENFORCER_CACHE_METRIC_NAME_PREFIX + "policy",
-                        actorSystem.dispatchers().lookup("policy-enforcer-cache-dispatcher"));
+                        actorSystem.dispatchers().lookup("policy-enforcer-cache-dispatcher"),
+                        EntryWeigher.getInstance());
 
         final AsyncCacheLoader<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCacheLoader =
-                new AclEnforcerCacheLoader(askTimeout, thingsShardRegionProxy);
+                withExistenceFilter(new AclEnforcerCacheLoader(askTimeout, thingsShardRegionProxy),
+                        thingExistenceFilter, ENFORCER_CACHE_METRIC_NAME_PREFIX + "acl_");
         final Cache<EntityIdWithResourceType, Entry<Enforcer>> aclEnforcerCache =
                 CacheFactory.createCache(aclEnforcerCacheLoader, cachesConfig.getEnforcerCacheConfig(),
                         ENFORCER_CACHE_METRIC_NAME_PREFIX + "acl",
-                        actorSystem.dispatchers().lookup("acl-enforcer-cache-dispatcher"));
+                        actorSystem.dispatchers().lookup("acl-enforcer-cache-dispatcher"),
+                        EntryWeigher.getInstance());
 
         // pre-enforcer
         final BlockedNamespaces blockedNamespaces = BlockedNamespaces.of(actorSystem);
-        final PreEnforcer preEnforcer = newPreEnforcer(blockedNamespaces, PlaceholderSubstitution.newInstance());
+        final PreEnforcer preEnforcer =
+                newPreEnforcer(blockedNamespaces, PlaceholderSubstitution.newInstance(), thingExistenceFilter);
 
         final LiveSignalPub liveSignalPub = LiveSignalPub.of(context);
 
@@ -131,8 +162,11 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
                 ConciergeEnforcerClusterRouterFactory.createConciergeEnforcerClusterRouter(context,
                         conciergeConfig.getClusterConfig().getNumberOfShards());
 
-        context.actorOf(DispatcherActor.props(pubSubMediator, conciergeEnforcerRouter),
-                DispatcherActor.ACTOR_NAME);
+        final RetrieveThingsBatchEnforcement batchEnforcement = RetrieveThingsBatchEnforcement.of(
+                thingsShardRegionProxy, thingIdCache, policyEnforcerCache, preEnforcer,
+                conciergeConfig.getThingsAggregatorConfig().getSingleRetrieveThingTimeout());
+        context.actorOf(DispatcherActor.props(pubSubMediator, conciergeEnforcerRouter,
+                CompletableFuture::completedFuture, batchEnforcement), DispatcherActor.ACTOR_NAME);
 
         final ActorRef conciergeForwarder =
                 context.actorOf(ConciergeForwarderActor.props(pubSubMediator, conciergeEnforcerRouter),
@@ -140,11 +174,34 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
         pubSubMediator.tell(DistPubSubAccess.put(conciergeForwarder), ActorRef.noSender());
 
         // start cache invalidator
+        final List<Cache<EntityIdWithResourceType, ?>> cachesToMaintain =
+                Arrays.asList(thingIdCache, policyEnforcerCache, aclEnforcerCache);
         final Props cachedNamespaceInvalidatorProps =
-                CachedNamespaceInvalidator.props(blockedNamespaces,
-                        Arrays.asList(thingIdCache, policyEnforcerCache, aclEnforcerCache));
+                CachedNamespaceInvalidator.props(blockedNamespaces, cachesToMaintain);
         context.actorOf(cachedNamespaceInvalidatorProps, CachedNamespaceInvalidator.ACTOR_NAME);
 
+        // start replication of cache invalidations to and from the other concierge instances
+        startCacheInvalidationReplication(context, cachesConfig.getInvalidationConfig(), pubSubMediator,
+                cachesToMaintain);
+
+        // start warming up the caches with the hottest keys of the other concierge instances
+        final CacheWarmUpConfig warmUpConfig = cachesConfig.getWarmUpConfig();
+        if (warmUpConfig.isEnabled()) {
+            final Map<String, Cache<EntityIdWithResourceType, ?>> cachesToWarmUp = new LinkedHashMap<>();
+            cachesToWarmUp.put("thing-id", thingIdCache);
+            cachesToWarmUp.put("policy-enforcer", policyEnforcerCache);
+            cachesToWarmUp.put("acl-enforcer", aclEnforcerCache);
+            context.actorOf(CacheWarmUp.props(HotCacheKeys.of(actorSystem), cachesToWarmUp, warmUpConfig),
+                    CacheWarmUp.ACTOR_NAME);
+        }
+
+        // start filling the existence filter with the IDs of all persisted things
+        if (null != thingExistenceFilter) {
+            context.actorOf(ThingExistenceFilterUpdater.props(thingExistenceFilter, existenceFilterConfig,
+                    pubSubMediator, Arrays.asList(thingIdCache, aclEnforcerCache)),
+                    ThingExistenceFilterUpdater.ACTOR_NAME);
+        }
+
         // start cluster singleton that writes to the distributed cache of blocked namespaces
         final Props blockedNamespacesUpdaterProps = BlockedNamespacesUpdater.props(blockedNamespaces, pubSubMediator);
         ClusterUtil.startSingleton(actorSystem, actorSystem, CLUSTER_ROLE,
@@ -159,6 +216,30 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
         return context.actorOf(enforcerProps, EnforcerActor.ACTOR_NAME);
     }
 
+    private static <V> AsyncCacheLoader<EntityIdWithResourceType, Entry<V>> withExistenceFilter(
+            final AsyncCacheLoader<EntityIdWithResourceType, Entry<V>> cacheLoader,
+            @Nullable final ThingExistenceFilter thingExistenceFilter, final String metricNamePrefix) {
+
+        if (null == thingExistenceFilter) {
+            return cacheLoader;
+        }
+        return new ThingExistenceFilterCacheLoader<>(cacheLoader, thingExistenceFilter,
+                metricNamePrefix + "existence_filter_rejections");
+    }
+
+    private static void startCacheInvalidationReplication(final ActorContext context,
+            final CacheInvalidationConfig cacheInvalidationConfig, final ActorRef pubSubMediator,
+            final List<Cache<EntityIdWithResourceType, ?>> cachesToMaintain) {
+
+        final CacheInvalidations cacheInvalidations = CacheInvalidations.of(context.system());
+        context.actorOf(CacheInvalidationPublisher.props(pubSubMediator, cacheInvalidations, cacheInvalidationConfig),
+                CacheInvalidationPublisher.ACTOR_NAME);
+        if (cacheInvalidationConfig.isBatchingEnabled()) {
+            context.actorOf(CacheInvalidationSubscriber.props(cacheInvalidations, cachesToMaintain),
+                    CacheInvalidationSubscriber.ACTOR_NAME);
+        }
+    }
+
     /**
      * Set the "ditto-originator" header to the primary authorization subject of a signal.
      *
@@ -178,15 +259,35 @@ public final class DefaultEnforcerActorFactory implements EnforcerActorFactory<C
     }
 
     private static PreEnforcer newPreEnforcer(final BlockedNamespaces blockedNamespaces,
-            final PlaceholderSubstitution placeholderSubstitution) {
-
-        return withDittoHeaders ->
-                BlockNamespaceBehavior.of(blockedNamespaces)
-                        .block(withDittoHeaders)
-                        .thenApply(CommandWithOptionalEntityValidator.getInstance())
-                        .thenApply(DefaultEnforcerActorFactory::prependDefaultNamespaceToCreateThing)
-                        .thenApply(DefaultEnforcerActorFactory::setOriginatorHeader)
-                        .thenCompose(placeholderSubstitution);
+            final PlaceholderSubstitution placeholderSubstitution,
+            @Nullable final ThingExistenceFilter thingExistenceFilter) {
+
+        final BlockNamespaceBehavior blockNamespaceBehavior = BlockNamespaceBehavior.of(blockedNamespaces);
+        return withDittoHeaders -> {
+            // the namespace check reads distributed data and does not depend on the other steps: run it concurrently
+            final CompletionStage<WithDittoHeaders> namespaceCheck = blockNamespaceBehavior.block(withDittoHeaders);
+            final CompletionStage<WithDittoHeaders> transformation =
+                    CompletableFuture.completedStage(withDittoHeaders)
+                            .thenApply(CommandWithOptionalEntityValidator.getInstance())
+                            .thenApply(DefaultEnforcerActorFactory::prependDefaultNamespaceToCreateThing)
+                            .thenApply(DefaultEnforcerActorFactory::setOriginatorHeader)
+                            .thenCompose(placeholderSubstitution);
+            return namespaceCheck.thenCombine(transformation, (unblocked, transformed) -> transformed)
+                    .thenApply(signal -> addCreatedThingToExistenceFilter(signal, thingExistenceFilter));
+        };
+    }
+
+    /**
+     * Add the ID of a thing to be created to the existence filter before the thing ID is looked up, so that this
+     * instance does not treat the thing as nonexistent until its {@code ThingCreated} event arrives.
+     */
+    private static WithDittoHeaders addCreatedThingToExistenceFilter(final WithDittoHeaders signal,
+            @Nullable final ThingExistenceFilter thingExistenceFilter) {
+
+        if (null != thingExistenceFilter && signal instanceof CreateThing) {
+            thingExistenceFilter.put(((CreateThing) signal).getThingEntityId());
+        }
+        return signal;
     }
 
     private static WithDittoHeaders prependDefaultNamespaceToCreateThing(final WithDittoHeaders<?> signal) {
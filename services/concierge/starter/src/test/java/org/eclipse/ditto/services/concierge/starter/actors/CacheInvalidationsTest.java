@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.concierge.starter.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.eclipse.ditto.model.base.entity.id.DefaultEntityId;
+import org.eclipse.ditto.services.utils.cache.CacheInvalidationBatch;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.junit.Test;
+
+import akka.util.ByteString;
+
+/**
+ * Unit test for the serialization of {@link CacheInvalidations}.
+ */
+public final class CacheInvalidationsTest {
+
+    /**
+     * Default of {@code akka.remote.artery.advanced.maximum-frame-size} in Ditto.
+     */
+    private static final int MAXIMUM_FRAME_SIZE = 256_000;
+
+    private static final long MAX_RETAINED_SIZE = 32_768L;
+    private static final Instant TIMESTAMP = Instant.parse("2020-04-01T12:00:00Z");
+
+    @Test
+    public void serializedBatchesStayBelowMaxRetainedSize() {
+        // 16 retained flushes of the default maximum batch size of 1000 entity IDs
+        final List<CacheInvalidationBatch> batches = new ArrayList<>();
+        for (int flush = 0; flush < 16; flush++) {
+            final long nextRevision = batches.isEmpty() ? 1L : batches.get(batches.size() - 1).getRevision() + 1;
+            batches.addAll(CacheInvalidations.toBatches(nextRevision, TIMESTAMP, entityIds(flush, 1_000),
+                    MAX_RETAINED_SIZE));
+        }
+
+        final ByteString serializedBatches = CacheInvalidations.serialize(batches, MAX_RETAINED_SIZE);
+
+        assertThat(serializedBatches.size()).isLessThanOrEqualTo((int) MAX_RETAINED_SIZE);
+        assertThat(serializedBatches.size()).isLessThan(MAXIMUM_FRAME_SIZE);
+    }
+
+    @Test
+    public void largeBatchesAreSplitIntoConsecutiveRevisions() {
+        final List<EntityIdWithResourceType> entityIds = entityIds(0, 1_000);
+
+        final List<CacheInvalidationBatch> batches =
+                CacheInvalidations.toBatches(5L, TIMESTAMP, entityIds, MAX_RETAINED_SIZE);
+
+        assertThat(batches.size()).isGreaterThan(1);
+        assertThat(batches).extracting(CacheInvalidationBatch::getRevision)
+                .containsExactlyElementsOf(LongStream.range(5L, 5L + batches.size()).boxed()
+                        .collect(Collectors.toList()));
+        assertThat(batches.stream().flatMap(batch -> batch.getEntityIds().stream()).collect(Collectors.toList()))
+                .isEqualTo(entityIds);
+        assertThat(batches).allSatisfy(batch ->
+                assertThat((long) CacheInvalidations.serialize(Collections.singletonList(batch), 0L).size())
+                        .isLessThanOrEqualTo(MAX_RETAINED_SIZE));
+    }
+
+    @Test
+    public void smallBatchesAreNotSplit() {
+        final List<CacheInvalidationBatch> batches =
+                CacheInvalidations.toBatches(5L, TIMESTAMP, entityIds(0, 10), MAX_RETAINED_SIZE);
+
+        assertThat(batches).containsExactly(CacheInvalidationBatch.of(5L, TIMESTAMP, entityIds(0, 10)));
+    }
+
+    @Test
+    public void oldestBatchesAreDropped() {
+        final List<CacheInvalidationBatch> batches = IntStream.rangeClosed(1, 16)
+                .mapToObj(revision -> batch(revision, 100))
+                .collect(Collectors.toList());
+
+        final List<CacheInvalidationBatch> deserialized =
+                CacheInvalidations.deserialize(CacheInvalidations.serialize(batches, MAX_RETAINED_SIZE));
+
+        assertThat(deserialized).isNotEmpty();
+        assertThat(deserialized.size()).isLessThan(batches.size());
+        assertThat(deserialized).isEqualTo(batches.subList(batches.size() - deserialized.size(), batches.size()));
+    }
+
+    @Test
+    public void batchesWithinMaxRetainedSizeAreKept() {
+        final List<CacheInvalidationBatch> batches = IntStream.rangeClosed(1, 4)
+                .mapToObj(revision -> batch(revision, 10))
+                .collect(Collectors.toList());
+
+        final ByteString serializedBatches = CacheInvalidations.serialize(batches, MAX_RETAINED_SIZE);
+
+        assertThat(CacheInvalidations.deserialize(serializedBatches)).isEqualTo(batches);
+    }
+
+    @Test
+    public void mostRecentBatchIsKeptEvenIfTooLarge() {
+        final List<CacheInvalidationBatch> batches = new ArrayList<>();
+        batches.add(batch(1, 10));
+        batches.add(batch(2, 10));
+
+        final List<CacheInvalidationBatch> deserialized =
+                CacheInvalidations.deserialize(CacheInvalidations.serialize(batches, 1L));
+
+        assertThat(deserialized).containsExactly(batches.get(1));
+    }
+
+    private static CacheInvalidationBatch batch(final long revision, final int numberOfEntityIds) {
+        return CacheInvalidationBatch.of(revision, TIMESTAMP, entityIds(revision, numberOfEntityIds));
+    }
+
+    private static List<EntityIdWithResourceType> entityIds(final long prefix, final int numberOfEntityIds) {
+        return IntStream.range(0, numberOfEntityIds)
+                .mapToObj(i -> EntityIdWithResourceType.of("thing",
+                        DefaultEntityId.of("org.eclipse.ditto.test:thing-" + prefix + "-" + i)))
+                .collect(Collectors.toList());
+    }
+
+}
@@ -36,6 +36,7 @@ import org.eclipse.ditto.services.gateway.util.config.endpoints.HttpConfig;
 import org.eclipse.ditto.services.gateway.util.config.security.DevOpsConfig;
 import org.eclipse.ditto.services.utils.devops.DevOpsCommandsActor;
 import org.eclipse.ditto.signals.commands.common.RetrieveConfig;
+import org.eclipse.ditto.signals.commands.common.RetrieveSerializationStatistics;
 import org.eclipse.ditto.signals.commands.devops.ChangeLogLevel;
 import org.eclipse.ditto.signals.commands.devops.DevOpsCommand;
 import org.eclipse.ditto.signals.commands.devops.ExecutePiggybackCommand;
@@ -46,6 +47,7 @@ import akka.actor.ActorSystem;
 import akka.http.javadsl.server.PathMatchers;
 import akka.http.javadsl.server.RequestContext;
 import akka.http.javadsl.server.Route;
+import akka.http.javadsl.unmarshalling.StringUnmarshallers;
 import akka.japi.function.Function;
 
 /**
@@ -61,12 +63,18 @@ public final class DevOpsRoute extends AbstractRoute {
     private static final String PATH_LOGGING = "logging";
     private static final String PATH_PIGGYBACK = "piggyback";
     private static final String PATH_CONFIG = "config";
+    private static final String PATH_SERIALIZATION = "serialization";
 
     /**
      * Path parameter for retrieving config.
      */
     private static final String PATH_PARAMETER = "path";
 
+    /**
+     * Parameter for the maximum number of manifests in serialization statistics.
+     */
+    private static final String LIMIT_PARAMETER = "limit";
+
     /**
      * Actor path of DevOpsCommandsActor for ALL services. Not starting DevOpsCommandsActor at this path results
      * in the service not getting any RetrieveConfig commands.
@@ -121,7 +129,10 @@ public final class DevOpsRoute extends AbstractRoute {
                             ),
                             rawPathPrefix(PathMatchers.slash().concat(PATH_CONFIG),
                                     () -> // /devops/config
-                                            config(ctx, createHeaders(queryParameters)))
+                                            config(ctx, createHeaders(queryParameters))),
+                            rawPathPrefix(PathMatchers.slash().concat(PATH_SERIALIZATION),
+                                    () -> // /devops/serialization
+                                            serialization(ctx, createHeaders(queryParameters)))
                     )
             );
         });
@@ -148,6 +159,13 @@ public final class DevOpsRoute extends AbstractRoute {
         return buildRouteWithOptionalServiceNameAndInstance(ctx, dittoHeaders, this::routeConfig);
     }
 
+    /*
+     * @return {@code /devops/serialization} route.
+     */
+    private Route serialization(final RequestContext ctx, final DittoHeaders dittoHeaders) {
+        return buildRouteWithOptionalServiceNameAndInstance(ctx, dittoHeaders, this::routeSerialization);
+    }
+
     /*
      * @return {@code /devops/<logging|piggyback>/} route.
      */
@@ -285,6 +303,25 @@ public final class DevOpsRoute extends AbstractRoute {
                                 headersWithAggregate))));
     }
 
+    private Route routeSerialization(final RequestContext ctx,
+            final String serviceName,
+            final String instance,
+            final DittoHeaders dittoHeaders) {
+
+        final DittoHeaders headersWithAggregate = dittoHeaders.toBuilder()
+                .putHeader(DevOpsCommandsActor.AGGREGATE_HEADER,
+                        String.valueOf(serviceName == null || instance == null))
+                .build();
+
+        return get(() -> parameterOptional(StringUnmarshallers.INTEGER, LIMIT_PARAMETER, limit ->
+                handlePerRequest(ctx,
+                        ExecutePiggybackCommand.of(serviceName,
+                                instance,
+                                DEVOPS_COMMANDS_ACTOR_SELECTION,
+                                RetrieveSerializationStatistics.of(limit.orElse(null), headersWithAggregate).toJson(),
+                                headersWithAggregate))));
+    }
+
     private static Function<JsonValue, JsonValue> transformResponse(final CharSequence serviceName,
             final CharSequence instance) {
 
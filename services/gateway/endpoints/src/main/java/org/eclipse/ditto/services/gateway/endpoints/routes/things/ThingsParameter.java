@@ -25,7 +25,13 @@ public enum ThingsParameter {
     /**
      * Request parameter for including only the selected fields in the Thing JSON document(s).
      */
-    FIELDS("fields");
+    FIELDS("fields"),
+
+    /**
+     * Request parameter for streaming the Things as chunked JSON array as soon as they are retrieved: with value
+     * {@code ordered} in the order of the requested IDs, with any other value in the order they are retrieved.
+     */
+    STREAM("stream");
 
     private final String parameterValue;
 
@@ -14,10 +14,12 @@ package org.eclipse.ditto.services.gateway.endpoints.routes.things;
 
 import static org.eclipse.ditto.model.base.exceptions.DittoJsonException.wrapJsonRuntimeException;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
@@ -28,6 +30,7 @@ import org.eclipse.ditto.json.JsonObjectBuilder;
 import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.auth.AuthorizationModelFactory;
 import org.eclipse.ditto.model.base.exceptions.DittoJsonException;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.policies.Policy;
 import org.eclipse.ditto.model.policies.PolicyId;
@@ -42,6 +45,8 @@ import org.eclipse.ditto.services.gateway.endpoints.utils.UriEncoding;
 import org.eclipse.ditto.services.gateway.util.config.endpoints.CommandConfig;
 import org.eclipse.ditto.services.gateway.util.config.endpoints.HttpConfig;
 import org.eclipse.ditto.services.gateway.util.config.endpoints.MessageConfig;
+import org.eclipse.ditto.services.utils.aggregator.StreamRetrieveThings;
+import org.eclipse.ditto.signals.commands.base.exceptions.GatewayInternalErrorException;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingIdNotExplicitlySettableException;
 import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
 import org.eclipse.ditto.signals.commands.things.modify.DeleteAclEntry;
@@ -67,10 +72,15 @@ import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
 
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
+import akka.http.javadsl.model.ContentTypes;
+import akka.http.javadsl.model.HttpEntities;
+import akka.http.javadsl.model.HttpResponse;
 import akka.http.javadsl.server.PathMatchers;
 import akka.http.javadsl.server.RequestContext;
 import akka.http.javadsl.server.Route;
+import akka.pattern.Patterns;
 import akka.stream.javadsl.Source;
+import akka.util.ByteString;
 
 /**
  * Builder for creating Akka HTTP routes for {@code /things}.
@@ -83,6 +93,9 @@ public final class ThingsRoute extends AbstractRoute {
     private static final String PATH_THING_DEFINITION = "definition";
     private static final String PATH_ACL = "acl";
 
+    private static final String STREAM_ORDERED = "ordered";
+    private static final Duration STREAM_THINGS_TIMEOUT = Duration.ofSeconds(60);
+
     private final FeaturesRoute featuresRoute;
     private final MessagesRoute messagesRoute;
 
@@ -223,16 +236,57 @@ public final class ThingsRoute extends AbstractRoute {
     private Route buildRetrieveThingsRoute(final RequestContext ctx, final DittoHeaders dittoHeaders) {
         return parameter(ThingsParameter.IDS.toString(), idsString ->
                 parameterOptional(ThingsParameter.FIELDS.toString(), fieldsString ->
-                        handlePerRequest(ctx, dittoHeaders, Source.empty(), emptyRequestBody -> RetrieveThings
-                                .getBuilder(
-                                        idsString.isEmpty() ? Collections.emptyList() : splitThingIdString(idsString))
-                                .selectedFields(calculateSelectedFields(fieldsString))
-                                .dittoHeaders(dittoHeaders).build())
+                        parameterOptional(ThingsParameter.STREAM.toString(), streamMode -> streamMode
+                                .map(mode -> streamThings(
+                                        retrieveThings(idsString, fieldsString, dittoHeaders),
+                                        STREAM_ORDERED.equals(mode)))
+                                .orElseGet(() -> handlePerRequest(ctx, dittoHeaders, Source.empty(),
+                                        emptyRequestBody -> retrieveThings(idsString, fieldsString, dittoHeaders)))
+                        )
                 )
 
         );
     }
 
+    private RetrieveThings retrieveThings(final String idsString, final Optional<String> fieldsString,
+            final DittoHeaders dittoHeaders) {
+
+        return RetrieveThings.getBuilder(
+                idsString.isEmpty() ? Collections.emptyList() : splitThingIdString(idsString))
+                .selectedFields(calculateSelectedFields(fieldsString))
+                .dittoHeaders(dittoHeaders).build();
+    }
+
+    /*
+     * Responds with a chunked JSON array to which each Thing is appended as soon as it is retrieved, so that a single
+     * slow Thing does not delay the response of all other Things.
+     */
+    private Route streamThings(final RetrieveThings retrieveThings, final boolean preserveOrder) {
+        final DittoHeaders dittoHeaders = retrieveThings.getDittoHeaders();
+        final Duration timeout = dittoHeaders.getTimeout().orElse(STREAM_THINGS_TIMEOUT);
+        final CompletionStage<HttpResponse> httpResponse =
+                Patterns.ask(proxyActor, StreamRetrieveThings.of(retrieveThings, preserveOrder), timeout)
+                        .thenApply(response -> {
+                            if (response instanceof Source) {
+                                @SuppressWarnings("unchecked") final Source<String, ?> things =
+                                        (Source<String, ?>) response;
+                                return HttpResponse.create()
+                                        .withEntity(HttpEntities.createChunked(ContentTypes.APPLICATION_JSON, things
+                                                .map(ByteString::fromString)
+                                                .intersperse(ByteString.fromString("["), ByteString.fromString(","),
+                                                        ByteString.fromString("]"))));
+                            } else if (response instanceof DittoRuntimeException) {
+                                throw (DittoRuntimeException) response;
+                            } else {
+                                throw GatewayInternalErrorException.newBuilder()
+                                        .dittoHeaders(dittoHeaders)
+                                        .build();
+                            }
+                        });
+
+        return completeWithFuture(httpResponse);
+    }
+
     private List<ThingId> splitThingIdString(final String thingIdString) {
         return Arrays.stream(thingIdString.split(","))
                 .map(ThingId::of)
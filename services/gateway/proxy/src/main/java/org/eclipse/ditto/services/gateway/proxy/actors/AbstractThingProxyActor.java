@@ -12,17 +12,29 @@
  */
 package org.eclipse.ditto.services.gateway.proxy.actors;
 
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.services.models.things.commands.sudo.EnforcedThingQuery;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThings;
+import org.eclipse.ditto.services.utils.aggregator.StreamRetrieveThings;
 import org.eclipse.ditto.services.utils.aggregator.ThingsAggregatorProxyActor;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.signals.base.Signal;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.devops.DevOpsCommand;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
+import org.eclipse.ditto.signals.commands.things.query.ThingQueryCommand;
 import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThings;
 
 import akka.actor.ActorRef;
 import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
 
 /**
  * Abstract implementation of {@link AbstractProxyActor} for all {@link org.eclipse.ditto.signals.commands.base.Command}s
@@ -32,16 +44,41 @@ public abstract class AbstractThingProxyActor extends AbstractProxyActor {
 
     private final ActorRef devOpsCommandsActor;
     private final ActorRef conciergeForwarder;
+    @Nullable private final ActorRef thingsShardRegionProxy;
+    private final Duration localReadEnforcementTimeout;
     private final ActorRef aggregatorProxyActor;
 
     protected AbstractThingProxyActor(final ActorRef pubSubMediator,
             final ActorRef devOpsCommandsActor,
             final ActorRef conciergeForwarder) {
 
+        this(pubSubMediator, devOpsCommandsActor, conciergeForwarder, null, Duration.ZERO);
+    }
+
+    /**
+     * Constructs an {@code AbstractThingProxyActor} which sends thing query commands directly to the things shard
+     * region to be enforced by the things service if {@code thingsShardRegionProxy} is not {@code null}.
+     *
+     * @param pubSubMediator the Pub/Sub mediator.
+     * @param devOpsCommandsActor the Actor ref to the local DevOpsCommandsActor.
+     * @param conciergeForwarder the Actor ref to the concierge forwarder.
+     * @param thingsShardRegionProxy proxy of the things shard region or {@code null} if thing query commands are
+     * enforced by concierge.
+     * @param localReadEnforcementTimeout how long to wait for the things service to answer a thing query command
+     * before it is sent to concierge instead.
+     */
+    protected AbstractThingProxyActor(final ActorRef pubSubMediator,
+            final ActorRef devOpsCommandsActor,
+            final ActorRef conciergeForwarder,
+            @Nullable final ActorRef thingsShardRegionProxy,
+            final Duration localReadEnforcementTimeout) {
+
         super(pubSubMediator);
 
         this.devOpsCommandsActor = devOpsCommandsActor;
         this.conciergeForwarder = conciergeForwarder;
+        this.thingsShardRegionProxy = thingsShardRegionProxy;
+        this.localReadEnforcementTimeout = localReadEnforcementTimeout;
 
         aggregatorProxyActor = getContext().actorOf(ThingsAggregatorProxyActor.props(conciergeForwarder),
                 ThingsAggregatorProxyActor.ACTOR_NAME);
@@ -60,6 +97,7 @@ public abstract class AbstractThingProxyActor extends AbstractProxyActor {
                 /* handle RetrieveThings in a special way */
                 .match(RetrieveThings.class, rt -> aggregatorProxyActor.forward(rt, getContext()))
                 .match(SudoRetrieveThings.class, srt -> aggregatorProxyActor.forward(srt, getContext()))
+                .match(StreamRetrieveThings.class, srt -> aggregatorProxyActor.forward(srt, getContext()))
 
                 .match(QueryThings.class, qt -> {
                     final ActorRef responseActor = getContext().actorOf(
@@ -68,6 +106,9 @@ public abstract class AbstractThingProxyActor extends AbstractProxyActor {
                     conciergeForwarder.tell(qt, responseActor);
                 })
 
+                /* enforce thing query commands in things service if enabled */
+                .match(ThingQueryCommand.class, this::isLocallyEnforceable, this::askThingsShardRegion)
+
                 /* send all other Commands to Concierge Service */
                 .match(Command.class, this::forwardToConciergeService)
 
@@ -89,4 +130,45 @@ public abstract class AbstractThingProxyActor extends AbstractProxyActor {
         conciergeForwarder.forward(signal, getContext());
     }
 
+    private boolean isLocallyEnforceable(final ThingQueryCommand<?> command) {
+        return null != thingsShardRegionProxy &&
+                JsonSchemaVersion.V_1 != command.getImplementedSchemaVersion() &&
+                !isLiveSignal(command) &&
+                !isPolicyInlined(command);
+    }
+
+    /*
+     * Things instances which do not enforce the query themselves (disabled or not yet updated) reply with the
+     * EnforcedThingQuery, in which case, as well as if they do not answer within the local read enforcement timeout,
+     * the query falls back to concierge. Errors the things service answered with are passed on to the sender, so that
+     * e.g. a rejected query is not enforced a second time.
+     */
+    private void askThingsShardRegion(final ThingQueryCommand<?> command) {
+        final ActorRef sender = getSender();
+        final Duration timeout = command.getDittoHeaders()
+                .getTimeout()
+                .filter(commandTimeout -> commandTimeout.compareTo(localReadEnforcementTimeout) < 0)
+                .orElse(localReadEnforcementTimeout);
+        Patterns.ask(thingsShardRegionProxy, EnforcedThingQuery.of(command), timeout)
+                .whenComplete((response, error) -> {
+                    final Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                    if (cause instanceof DittoRuntimeException) {
+                        sender.tell(cause, ActorRef.noSender());
+                    } else if (null != cause || response instanceof EnforcedThingQuery) {
+                        conciergeForwarder.tell(command, sender);
+                    } else {
+                        sender.tell(response, ActorRef.noSender());
+                    }
+                });
+    }
+
+    private static boolean isPolicyInlined(final ThingQueryCommand<?> command) {
+        return command.getSelectedFields()
+                .filter(selector -> selector.getPointers().stream().anyMatch(jsonPointer ->
+                        jsonPointer.getRoot()
+                                .filter(jsonKey -> Policy.INLINED_FIELD_NAME.equals(jsonKey.toString()))
+                                .isPresent()))
+                .isPresent();
+    }
+
 }
@@ -12,6 +12,10 @@
  */
 package org.eclipse.ditto.services.gateway.proxy.actors;
 
+import java.time.Duration;
+
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.signals.commands.base.Command;
 
 import akka.actor.ActorRef;
@@ -25,9 +29,12 @@ public final class ProxyActor extends AbstractThingProxyActor {
     @SuppressWarnings("unused")
     private ProxyActor(final ActorRef pubSubMediator,
             final ActorRef devOpsCommandsActor,
-            final ActorRef conciergeForwarder) {
+            final ActorRef conciergeForwarder,
+            @Nullable final ActorRef thingsShardRegionProxy,
+            final Duration localReadEnforcementTimeout) {
 
-        super(pubSubMediator, devOpsCommandsActor, conciergeForwarder);
+        super(pubSubMediator, devOpsCommandsActor, conciergeForwarder, thingsShardRegionProxy,
+                localReadEnforcementTimeout);
     }
 
     /**
@@ -41,7 +48,30 @@ public final class ProxyActor extends AbstractThingProxyActor {
             final ActorRef devOpsCommandsActor,
             final ActorRef conciergeForwarder) {
 
-        return Props.create(ProxyActor.class, pubSubMediator, devOpsCommandsActor, conciergeForwarder);
+        return props(pubSubMediator, devOpsCommandsActor, conciergeForwarder, null, Duration.ZERO);
+    }
+
+    /**
+     * Creates Akka configuration object Props for this ProxyActor which sends thing query commands directly to the
+     * things shard region to be enforced there.
+     *
+     * @param pubSubMediator the Pub/Sub mediator to use for subscribing for events.
+     * @param devOpsCommandsActor the Actor ref to the local DevOpsCommandsActor.
+     * @param conciergeForwarder the Actor ref to the concierge forwarder.
+     * @param thingsShardRegionProxy proxy of the things shard region or {@code null} if thing query commands are
+     * enforced by concierge.
+     * @param localReadEnforcementTimeout how long to wait for the things service to answer a thing query command
+     * before it is sent to concierge instead.
+     * @return the Akka configuration Props object.
+     */
+    public static Props props(final ActorRef pubSubMediator,
+            final ActorRef devOpsCommandsActor,
+            final ActorRef conciergeForwarder,
+            @Nullable final ActorRef thingsShardRegionProxy,
+            final Duration localReadEnforcementTimeout) {
+
+        return Props.create(ProxyActor.class, pubSubMediator, devOpsCommandsActor, conciergeForwarder,
+                thingsShardRegionProxy, localReadEnforcementTimeout);
     }
 
 }
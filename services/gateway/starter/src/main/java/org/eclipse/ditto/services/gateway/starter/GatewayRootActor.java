@@ -13,9 +13,12 @@
 package org.eclipse.ditto.services.gateway.starter;
 
 import java.time.Duration;
+import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Supplier;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.model.base.headers.DittoHeadersSizeChecker;
 import org.eclipse.ditto.protocoladapter.HeaderTranslator;
 import org.eclipse.ditto.services.base.actors.DittoRootActor;
@@ -54,9 +57,11 @@ import org.eclipse.ditto.services.gateway.util.config.streaming.StreamingConfig;
 import org.eclipse.ditto.services.models.concierge.actors.ConciergeEnforcerClusterRouterFactory;
 import org.eclipse.ditto.services.models.concierge.actors.ConciergeForwarderActor;
 import org.eclipse.ditto.services.models.concierge.pubsub.DittoProtocolSub;
+import org.eclipse.ditto.services.models.things.ThingsMessagingConstants;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.cluster.ClusterStatusSupplier;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
 import org.eclipse.ditto.services.utils.cluster.config.ClusterConfig;
 import org.eclipse.ditto.services.utils.config.InstanceIdentifierSupplier;
 import org.eclipse.ditto.services.utils.config.LocalHostAddressSupplier;
@@ -74,6 +79,7 @@ import akka.actor.ActorSystem;
 import akka.actor.CoordinatedShutdown;
 import akka.actor.Props;
 import akka.cluster.Cluster;
+import akka.cluster.sharding.ClusterSharding;
 import akka.dispatch.MessageDispatcher;
 import akka.event.DiagnosticLoggingAdapter;
 import akka.event.Logging;
@@ -123,8 +129,12 @@ final class GatewayRootActor extends DittoRootActor {
         final ActorRef conciergeForwarder = startChildActor(ConciergeForwarderActor.ACTOR_NAME,
                 ConciergeForwarderActor.props(pubSubMediator, conciergeEnforcerRouter));
 
+        final ActorRef thingsShardRegionProxy =
+                startThingsShardRegionProxyIfLocalReadEnforcementEnabled(actorSystem, gatewayConfig, numberOfShards);
+
         final ActorRef proxyActor = startChildActor(AbstractProxyActor.ACTOR_NAME,
-                ProxyActor.props(pubSubMediator, devOpsCommandsActor, conciergeForwarder));
+                ProxyActor.props(pubSubMediator, devOpsCommandsActor, conciergeForwarder, thingsShardRegionProxy,
+                        gatewayConfig.getCommandConfig().getLocalReadEnforcementTimeout()));
 
         pubSubMediator.tell(DistPubSubAccess.put(getSelf()), getSelf());
 
@@ -195,6 +205,21 @@ final class GatewayRootActor extends DittoRootActor {
         return Props.create(GatewayRootActor.class, gatewayConfig, pubSubMediator, materializer);
     }
 
+    @Nullable
+    private ActorRef startThingsShardRegionProxyIfLocalReadEnforcementEnabled(final ActorSystem actorSystem,
+            final GatewayConfig gatewayConfig, final int numberOfShards) {
+
+        if (!gatewayConfig.getCommandConfig().isLocalReadEnforcementEnabled()) {
+            return null;
+        }
+        log.info("Sending thing query commands to shard region <{}> for local read enforcement.",
+                ThingsMessagingConstants.SHARD_REGION);
+        return ClusterSharding.get(actorSystem)
+                .startProxy(ThingsMessagingConstants.SHARD_REGION,
+                        Optional.of(ThingsMessagingConstants.CLUSTER_ROLE),
+                        ShardRegionExtractor.of(numberOfShards, actorSystem));
+    }
+
     @Override
     public Receive createReceive() {
         return ReceiveBuilder.create()
@@ -14,11 +14,14 @@ package org.eclipse.ditto.services.gateway.streaming.actors;
 
 import java.time.Instant;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
@@ -207,7 +210,8 @@ final class StreamingSessionActor extends AbstractActor {
                     }
                     final StreamingSession session = StreamingSession.of(startStreaming.getNamespaces(), criteria,
                             startStreaming.getExtraFields().orElse(null));
-                    streamingSessions.put(startStreaming.getStreamingType(), session);
+                    final StreamingSession previousSession =
+                            streamingSessions.put(startStreaming.getStreamingType(), session);
 
 
                     logger.debug("Got 'StartStreaming' message in <{}> session, subscribing for <{}> in Cluster ...",
@@ -217,15 +221,20 @@ final class StreamingSessionActor extends AbstractActor {
                     // In Cluster: Subscribe
                     final AcknowledgeSubscription subscribeAck =
                             new AcknowledgeSubscription(startStreaming.getStreamingType());
-                    final Collection<StreamingType> currentStreamingTypes = streamingSessions.keySet();
-                    dittoProtocolSub.subscribe(currentStreamingTypes, authorizationContext.getAuthorizationSubjectIds(),
-                            getSelf()).thenAccept(ack -> getSelf().tell(subscribeAck, getSelf()));
+                    final Collection<StreamingType> currentStreamingTypes =
+                            EnumSet.copyOf(streamingSessions.keySet());
+                    final List<String> subjectIds = authorizationContext.getAuthorizationSubjectIds();
+                    final List<String> twinEventNamespaces = getTwinEventNamespaces();
+                    unsubscribeStaleTwinEventNamespaces(startStreaming.getStreamingType(), previousSession, session)
+                            .thenCompose(unsubscribed -> dittoProtocolSub.subscribe(currentStreamingTypes,
+                                    subjectIds, twinEventNamespaces, getSelf()))
+                            .thenAccept(ack -> getSelf().tell(subscribeAck, getSelf()));
                 })
                 .match(StopStreaming.class, stopStreaming -> {
                     logger.debug("Got 'StopStreaming' message in <{}> session, unsubscribing from <{}> in Cluster ...",
                             type, stopStreaming.getStreamingType().name());
 
-                    streamingSessions.remove(stopStreaming.getStreamingType());
+                    final StreamingSession stoppedSession = streamingSessions.remove(stopStreaming.getStreamingType());
 
                     // In Cluster: Unsubscribe
                     final AcknowledgeUnsubscription unsubscribeAck =
@@ -237,7 +246,7 @@ final class StreamingSessionActor extends AbstractActor {
                                 .thenAccept(ack -> getSelf().tell(unsubscribeAck, getSelf()));
                     } else {
                         dittoProtocolSub.removeTwinSubscriber(getSelf(),
-                                authorizationContext.getAuthorizationSubjectIds())
+                                authorizationContext.getAuthorizationSubjectIds(), getNamespaces(stoppedSession))
                                 .thenAccept(ack -> getSelf().tell(unsubscribeAck, getSelf()));
                     }
                 })
@@ -394,6 +403,32 @@ final class StreamingSessionActor extends AbstractActor {
         }
     }
 
+    /**
+     * Twin events are subscribed for in the namespaces of the session of twin events only, so that the events of other
+     * namespaces are not sent to this node.
+     *
+     * @return the namespaces of the twin events subscribed for, or an empty list for all namespaces.
+     */
+    private List<String> getTwinEventNamespaces() {
+        return getNamespaces(streamingSessions.get(StreamingType.EVENTS));
+    }
+
+    private CompletionStage<Void> unsubscribeStaleTwinEventNamespaces(final StreamingType streamingType,
+            @Nullable final StreamingSession previousSession,
+            final StreamingSession session) {
+
+        if (StreamingType.EVENTS == streamingType && null != previousSession &&
+                !previousSession.getNamespaces().equals(session.getNamespaces())) {
+            return dittoProtocolSub.removeTwinSubscriber(getSelf(), authorizationContext.getAuthorizationSubjectIds(),
+                    previousSession.getNamespaces());
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private static List<String> getNamespaces(@Nullable final StreamingSession session) {
+        return null != session ? session.getNamespaces() : Collections.emptyList();
+    }
+
     private boolean matchesNamespaces(final Signal<?> signal, final StreamingSession session) {
         final List<String> namespaces = session.getNamespaces();
         final boolean result = namespaces.isEmpty() || namespaces.contains(namespaceFromId(signal));
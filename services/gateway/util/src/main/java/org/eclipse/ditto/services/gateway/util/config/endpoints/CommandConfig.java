@@ -38,6 +38,24 @@ public interface CommandConfig {
      */
     Duration getMaxTimeout();
 
+    /**
+     * Indicates whether thing query commands are routed directly to the things shard region to be enforced there
+     * instead of being enforced by concierge.
+     *
+     * @return {@code true} if thing query commands are enforced by the things service, {@code false} else.
+     * @since 1.2.0
+     */
+    boolean isLocalReadEnforcementEnabled();
+
+    /**
+     * Returns the maximum duration to wait for the things service to answer a locally enforced thing query command
+     * before it is enforced by concierge instead.
+     *
+     * @return the timeout of local read enforcement.
+     * @since 1.2.0
+     */
+    Duration getLocalReadEnforcementTimeout();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code CommandConfig}.
@@ -52,7 +70,17 @@ public interface CommandConfig {
         /**
          * The maximum possible timeout of requested command.
          */
-        MAX_TIMEOUT("max-timeout", "1m");
+        MAX_TIMEOUT("max-timeout", "1m"),
+
+        /**
+         * Whether thing query commands are enforced by the things service.
+         */
+        LOCAL_READ_ENFORCEMENT_ENABLED("local-read-enforcement-enabled", false),
+
+        /**
+         * The maximum duration to wait for the things service to answer a locally enforced thing query command.
+         */
+        LOCAL_READ_ENFORCEMENT_TIMEOUT("local-read-enforcement-timeout", "2s");
 
         private final String path;
         private final Object defaultValue;
@@ -34,10 +34,16 @@ public final class DefaultCommandConfig implements CommandConfig {
 
     private final Duration defaultTimeout;
     private final Duration maxTimeout;
+    private final boolean localReadEnforcementEnabled;
+    private final Duration localReadEnforcementTimeout;
 
     private DefaultCommandConfig(final ScopedConfig scopedConfig) {
         defaultTimeout = scopedConfig.getDuration(CommandConfigValue.DEFAULT_TIMEOUT.getConfigPath());
         maxTimeout = scopedConfig.getDuration(CommandConfigValue.MAX_TIMEOUT.getConfigPath());
+        localReadEnforcementEnabled =
+                scopedConfig.getBoolean(CommandConfigValue.LOCAL_READ_ENFORCEMENT_ENABLED.getConfigPath());
+        localReadEnforcementTimeout =
+                scopedConfig.getDuration(CommandConfigValue.LOCAL_READ_ENFORCEMENT_TIMEOUT.getConfigPath());
     }
 
     /**
@@ -62,6 +68,16 @@ public final class DefaultCommandConfig implements CommandConfig {
         return maxTimeout;
     }
 
+    @Override
+    public boolean isLocalReadEnforcementEnabled() {
+        return localReadEnforcementEnabled;
+    }
+
+    @Override
+    public Duration getLocalReadEnforcementTimeout() {
+        return localReadEnforcementTimeout;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -71,12 +87,15 @@ public final class DefaultCommandConfig implements CommandConfig {
             return false;
         }
         final DefaultCommandConfig that = (DefaultCommandConfig) o;
-        return Objects.equals(defaultTimeout, that.defaultTimeout) && Objects.equals(maxTimeout, that.maxTimeout);
+        return localReadEnforcementEnabled == that.localReadEnforcementEnabled &&
+                Objects.equals(defaultTimeout, that.defaultTimeout) &&
+                Objects.equals(maxTimeout, that.maxTimeout) &&
+                Objects.equals(localReadEnforcementTimeout, that.localReadEnforcementTimeout);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(defaultTimeout, maxTimeout);
+        return Objects.hash(defaultTimeout, maxTimeout, localReadEnforcementEnabled, localReadEnforcementTimeout);
     }
 
     @Override
@@ -84,6 +103,8 @@ public final class DefaultCommandConfig implements CommandConfig {
         return getClass().getSimpleName() + " [" +
                 "defaultTimeout=" + defaultTimeout +
                 ", maxTimeout=" + maxTimeout +
+                ", localReadEnforcementEnabled=" + localReadEnforcementEnabled +
+                ", localReadEnforcementTimeout=" + localReadEnforcementTimeout +
                 "]";
     }
 
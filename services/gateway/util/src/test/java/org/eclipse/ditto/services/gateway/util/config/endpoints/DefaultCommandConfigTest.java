@@ -66,6 +66,12 @@ public final class DefaultCommandConfigTest {
         softly.assertThat(underTest.getMaxTimeout())
                 .as(MessageConfig.MessageConfigValue.MAX_TIMEOUT.getConfigPath())
                 .isEqualTo(Duration.ofSeconds(60L));
+        softly.assertThat(underTest.isLocalReadEnforcementEnabled())
+                .as(CommandConfig.CommandConfigValue.LOCAL_READ_ENFORCEMENT_ENABLED.getConfigPath())
+                .isFalse();
+        softly.assertThat(underTest.getLocalReadEnforcementTimeout())
+                .as(CommandConfig.CommandConfigValue.LOCAL_READ_ENFORCEMENT_TIMEOUT.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(2L));
     }
 
     @Test
@@ -78,6 +84,12 @@ public final class DefaultCommandConfigTest {
         softly.assertThat(underTest.getMaxTimeout())
                 .as(MessageConfig.MessageConfigValue.MAX_TIMEOUT.getConfigPath())
                 .isEqualTo(Duration.ofSeconds(55L));
+        softly.assertThat(underTest.isLocalReadEnforcementEnabled())
+                .as(CommandConfig.CommandConfigValue.LOCAL_READ_ENFORCEMENT_ENABLED.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.getLocalReadEnforcementTimeout())
+                .as(CommandConfig.CommandConfigValue.LOCAL_READ_ENFORCEMENT_TIMEOUT.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(3L));
     }
 
 }
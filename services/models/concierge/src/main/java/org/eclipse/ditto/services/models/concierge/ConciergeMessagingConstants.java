@@ -44,6 +44,11 @@ public final class ConciergeMessagingConstants {
      */
     public static final String FORWARDER_ACTOR_PATH = ROOT_ACTOR_PATH + "/conciergeForwarder";
 
+    /**
+     * Path of the concierge actor which replicates cache invalidations to the other concierge instances.
+     */
+    public static final String CACHE_INVALIDATION_PUBLISHER_PATH = ROOT_ACTOR_PATH + "/cacheInvalidationPublisher";
+
     /**
      * Name of the blocked-namespace-updater singleton.
      */
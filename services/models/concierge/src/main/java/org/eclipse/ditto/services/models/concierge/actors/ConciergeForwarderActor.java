@@ -19,6 +19,7 @@ import java.util.function.Function;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.services.models.concierge.ConciergeWrapper;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.cluster.BinaryEnvelope;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.signals.base.Signal;
 
@@ -123,7 +124,8 @@ public class ConciergeForwarderActor extends AbstractActor {
     }
 
     private static DistributedPubSubMediator.Send wrapForPubSub(final Signal<?> signal) {
-        return DistPubSubAccess.send(DISPATCHER_ACTOR_PATH, signal);
+        // the dispatcher actor only deserializes the signal once it dispatches it
+        return DistPubSubAccess.send(DISPATCHER_ACTOR_PATH, BinaryEnvelope.of(signal));
     }
 
 }
@@ -36,6 +36,25 @@ public interface DittoProtocolSub {
     CompletionStage<Void> subscribe(Collection<StreamingType> types,
             Collection<String> topics, ActorRef subscriber);
 
+    /**
+     * Subscribe for each streaming type the same collection of topics, but for twin events only in some namespaces.
+     * Twin events of other namespaces are then not sent to the node of the subscriber at all.
+     *
+     * @param types the streaming types.
+     * @param topics the topics.
+     * @param twinEventNamespaces the namespaces of the twin events to subscribe for, or an empty collection to
+     * subscribe for twin events of all namespaces.
+     * @param subscriber who is subscribing.
+     * @return future that completes or fails according to the acknowledgement.
+     */
+    default CompletionStage<Void> subscribe(final Collection<StreamingType> types,
+            final Collection<String> topics,
+            final Collection<String> twinEventNamespaces,
+            final ActorRef subscriber) {
+
+        return subscribe(types, topics, subscriber);
+    }
+
     /**
      * Remove a subscriber.
      *
@@ -63,6 +82,21 @@ public interface DittoProtocolSub {
      */
     CompletionStage<Void> removeTwinSubscriber(ActorRef subscriber, Collection<String> topics);
 
+    /**
+     * Remove a subscriber from the twin events channel only after it subscribed for twin events in some namespaces.
+     *
+     * @param subscriber whom to remove.
+     * @param topics what were the subscribed topics.
+     * @param twinEventNamespaces what were the namespaces of the subscribed twin events.
+     * @return future that completes or fails according to the acknowledgement.
+     */
+    default CompletionStage<Void> removeTwinSubscriber(final ActorRef subscriber,
+            final Collection<String> topics,
+            final Collection<String> twinEventNamespaces) {
+
+        return removeTwinSubscriber(subscriber, topics);
+    }
+
     /**
      * Create {@code DittoProtocolSub} for an actor system.
      *
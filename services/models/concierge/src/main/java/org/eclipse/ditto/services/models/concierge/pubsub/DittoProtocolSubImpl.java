@@ -25,6 +25,7 @@ import java.util.stream.Collectors;
 import org.eclipse.ditto.services.models.concierge.streaming.StreamingType;
 import org.eclipse.ditto.services.models.things.ThingEventPubSubFactory;
 import org.eclipse.ditto.services.utils.pubsub.DistributedSub;
+import org.eclipse.ditto.services.utils.pubsub.extractors.NamespacedReadSubjectExtractor;
 
 import akka.actor.ActorContext;
 import akka.actor.ActorRef;
@@ -55,13 +56,21 @@ final class DittoProtocolSubImpl implements DittoProtocolSub {
     public CompletionStage<Void> subscribe(final Collection<StreamingType> types,
             final Collection<String> topics,
             final ActorRef subscriber) {
+        return subscribe(types, topics, Collections.emptySet(), subscriber);
+    }
+
+    @Override
+    public CompletionStage<Void> subscribe(final Collection<StreamingType> types,
+            final Collection<String> topics,
+            final Collection<String> twinEventNamespaces,
+            final ActorRef subscriber) {
         final CompletionStage<?> nop = CompletableFuture.completedFuture(null);
         return partitionByStreamingTypes(types,
                 liveTypes -> !liveTypes.isEmpty()
                         ? liveSignalSub.subscribeWithFilterAndAck(topics, subscriber, toFilter(liveTypes))
                         : nop,
                 hasTwinEvents -> hasTwinEvents
-                        ? twinEventSub.subscribeWithAck(topics, subscriber)
+                        ? twinEventSub.subscribeWithAck(toTwinEventTopics(topics, twinEventNamespaces), subscriber)
                         : nop
         );
     }
@@ -87,7 +96,15 @@ final class DittoProtocolSubImpl implements DittoProtocolSub {
 
     @Override
     public CompletionStage<Void> removeTwinSubscriber(final ActorRef subscriber, final Collection<String> topics) {
-        return twinEventSub.unsubscribeWithAck(topics, subscriber).thenApply(ack -> null);
+        return removeTwinSubscriber(subscriber, topics, Collections.emptySet());
+    }
+
+    @Override
+    public CompletionStage<Void> removeTwinSubscriber(final ActorRef subscriber,
+            final Collection<String> topics,
+            final Collection<String> twinEventNamespaces) {
+        return twinEventSub.unsubscribeWithAck(toTwinEventTopics(topics, twinEventNamespaces), subscriber)
+                .thenApply(ack -> null);
     }
 
     private CompletionStage<Void> partitionByStreamingTypes(final Collection<StreamingType> types,
@@ -107,6 +124,12 @@ final class DittoProtocolSubImpl implements DittoProtocolSub {
         return CompletableFuture.allOf(liveStage, twinStage);
     }
 
+    private static Collection<String> toTwinEventTopics(final Collection<String> topics,
+            final Collection<String> namespaces) {
+        // subscribing for namespace-qualified topics keeps twin events of other namespaces away from this node
+        return namespaces.isEmpty() ? topics : NamespacedReadSubjectExtractor.toTopics(topics, namespaces);
+    }
+
     private static Predicate<Collection<String>> toFilter(final Collection<StreamingType> streamingTypes) {
         final Set<String> streamingTypeTopics =
                 streamingTypes.stream().map(StreamingType::getDistributedPubSubTopic).collect(Collectors.toSet());
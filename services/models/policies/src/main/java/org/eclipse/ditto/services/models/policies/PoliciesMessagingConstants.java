@@ -33,6 +33,11 @@ public final class PoliciesMessagingConstants {
      */
     public static final String POLICIES_STREAM_PROVIDER_ACTOR_PATH = ROOT_ACTOR_PATH + "/persistenceStreamingActor";
 
+    /**
+     * Path of the actor streaming the policies of a subject from the subject index.
+     */
+    public static final String POLICY_SUBJECT_INDEX_ACTOR_PATH = ROOT_ACTOR_PATH + "/policySubjectIndex";
+
     /**
      * Name of the shard region for Policy entities.
      */
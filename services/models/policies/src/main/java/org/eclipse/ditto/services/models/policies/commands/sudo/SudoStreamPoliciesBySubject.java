@@ -0,0 +1,252 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.policies.commands.sudo;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.model.base.entity.id.DefaultEntityId;
+import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonParsableCommand;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.services.models.streaming.StartStreamRequest;
+import org.eclipse.ditto.signals.base.WithIdButActuallyNot;
+import org.eclipse.ditto.signals.commands.base.AbstractCommand;
+import org.eclipse.ditto.utils.jsr305.annotations.AllValuesAreNonnullByDefault;
+
+/**
+ * Command which starts a stream of the tags of all policies containing a subject, ordered by policy ID, w/o
+ * authorization context. The stream is read from the subject index of the policies service and answered with a
+ * {@code SourceRef} of {@link org.eclipse.ditto.services.models.policies.PolicyTag}s whose revisions are those at
+ * which the subjects of the policies last changed.
+ */
+@Immutable
+@AllValuesAreNonnullByDefault
+@JsonParsableCommand(typePrefix = SudoCommand.TYPE_PREFIX, name = SudoStreamPoliciesBySubject.NAME)
+public final class SudoStreamPoliciesBySubject extends AbstractCommand<SudoStreamPoliciesBySubject>
+        implements SudoCommand<SudoStreamPoliciesBySubject>, StartStreamRequest, WithIdButActuallyNot {
+
+    /**
+     * Name of the "Sudo Stream Policies By Subject" command.
+     */
+    public static final String NAME = "sudoStreamPoliciesBySubject";
+
+    /**
+     * Type of this command.
+     */
+    public static final String TYPE = SudoCommand.TYPE_PREFIX + NAME;
+
+    private final String subjectId;
+    private final int burst;
+    private final long timeoutMillis;
+    private final EntityId lowerBound;
+
+    private SudoStreamPoliciesBySubject(final String subjectId,
+            final int burst,
+            final long timeoutMillis,
+            final EntityId lowerBound,
+            final DittoHeaders dittoHeaders) {
+
+        super(TYPE, dittoHeaders);
+        this.subjectId = checkNotNull(subjectId, "subjectId");
+        this.burst = burst;
+        this.timeoutMillis = timeoutMillis;
+        this.lowerBound = lowerBound;
+    }
+
+    /**
+     * Creates a new {@code SudoStreamPoliciesBySubject} command.
+     *
+     * @param subjectId the ID of the subject, e.g. {@code "google:user-1"}.
+     * @param burst the amount of policy tags to read in a batch.
+     * @param timeoutMillis maximum time to wait for acknowledgement of each stream element.
+     * @param dittoHeaders the command headers of the request.
+     * @return the command.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static SudoStreamPoliciesBySubject of(final String subjectId, final int burst, final long timeoutMillis,
+            final DittoHeaders dittoHeaders) {
+
+        return new SudoStreamPoliciesBySubject(subjectId, burst, timeoutMillis, DefaultEntityId.dummy(),
+                dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code SudoStreamPoliciesBySubject} from a JSON object.
+     *
+     * @param jsonObject the JSON representation of the command.
+     * @param dittoHeaders the optional command headers of the request.
+     * @return the command.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if the passed in {@code jsonObject} was not in the
+     * expected format.
+     */
+    public static SudoStreamPoliciesBySubject fromJson(final JsonObject jsonObject,
+            final DittoHeaders dittoHeaders) {
+
+        final String subjectId = jsonObject.getValueOrThrow(JsonFields.JSON_SUBJECT_ID);
+        final int burst = jsonObject.getValueOrThrow(JsonFields.JSON_BURST);
+        final long timeoutMillis = jsonObject.getValueOrThrow(JsonFields.JSON_TIMEOUT_MILLIS);
+        final EntityId lowerBound = jsonObject.getValue(JsonFields.JSON_LOWER_BOUND)
+                .map(DefaultEntityId::of)
+                .orElseGet(DefaultEntityId::dummy);
+        return new SudoStreamPoliciesBySubject(subjectId, burst, timeoutMillis, lowerBound, dittoHeaders);
+    }
+
+    /**
+     * Create a copy of this command with a lower-bound set to resume a stream. The stream contains the policies whose
+     * IDs are greater than the lower bound.
+     *
+     * @param lowerBound the exclusive lower-bound policy ID.
+     * @return a copy of this command with lower-bound set.
+     */
+    public SudoStreamPoliciesBySubject withLowerBound(final EntityId lowerBound) {
+        return new SudoStreamPoliciesBySubject(subjectId, burst, timeoutMillis, lowerBound, getDittoHeaders());
+    }
+
+    /**
+     * Returns the ID of the subject whose policies are streamed.
+     *
+     * @return the subject ID.
+     */
+    public String getSubjectId() {
+        return subjectId;
+    }
+
+    /**
+     * Return the exclusive lower-bound policy ID to resume a stream.
+     *
+     * @return the lower-bound policy ID.
+     */
+    public EntityId getLowerBound() {
+        return lowerBound;
+    }
+
+    /**
+     * Return whether the command has a non-empty lower bound.
+     *
+     * @return whether the command has a non-empty lower bound.
+     */
+    public boolean hasNonEmptyLowerBound() {
+        return !lowerBound.isDummy();
+    }
+
+    @Override
+    public int getBurst() {
+        return burst;
+    }
+
+    @Override
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> thePredicate) {
+
+        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+        jsonObjectBuilder.set(JsonFields.JSON_SUBJECT_ID, subjectId, predicate);
+        jsonObjectBuilder.set(JsonFields.JSON_BURST, burst, predicate);
+        jsonObjectBuilder.set(JsonFields.JSON_TIMEOUT_MILLIS, timeoutMillis, predicate);
+        jsonObjectBuilder.set(JsonFields.JSON_LOWER_BOUND, lowerBound.toString(), predicate);
+    }
+
+    @Override
+    public String getTypePrefix() {
+        return SudoCommand.TYPE_PREFIX;
+    }
+
+    @Override
+    public Category getCategory() {
+        return Category.QUERY;
+    }
+
+    @Override
+    public SudoStreamPoliciesBySubject setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return new SudoStreamPoliciesBySubject(subjectId, burst, timeoutMillis, lowerBound, dittoHeaders);
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
+        }
+        final SudoStreamPoliciesBySubject that = (SudoStreamPoliciesBySubject) obj;
+        return that.canEqual(this) &&
+                burst == that.burst &&
+                timeoutMillis == that.timeoutMillis &&
+                Objects.equals(subjectId, that.subjectId) &&
+                Objects.equals(lowerBound, that.lowerBound) &&
+                super.equals(that);
+    }
+
+    @Override
+    protected boolean canEqual(@Nullable final Object other) {
+        return other instanceof SudoStreamPoliciesBySubject;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), subjectId, burst, timeoutMillis, lowerBound);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + super.toString() +
+                ", subjectId=" + subjectId +
+                ", burst=" + burst +
+                ", timeoutMillis=" + timeoutMillis +
+                ", lowerBound=" + lowerBound +
+                "]";
+    }
+
+    /**
+     * An enumeration of the known {@link org.eclipse.ditto.json.JsonField}s of this command.
+     */
+    static final class JsonFields {
+
+        static final JsonFieldDefinition<String> JSON_SUBJECT_ID =
+                JsonFactory.newStringFieldDefinition("payload/subjectId", FieldType.REGULAR, JsonSchemaVersion.V_2);
+
+        static final JsonFieldDefinition<Integer> JSON_BURST =
+                JsonFactory.newIntFieldDefinition("payload/burst", FieldType.REGULAR, JsonSchemaVersion.V_2);
+
+        static final JsonFieldDefinition<Long> JSON_TIMEOUT_MILLIS =
+                JsonFactory.newLongFieldDefinition("payload/timeoutMillis", FieldType.REGULAR, JsonSchemaVersion.V_2);
+
+        static final JsonFieldDefinition<String> JSON_LOWER_BOUND =
+                JsonFactory.newStringFieldDefinition("payload/lowerBound", FieldType.REGULAR, JsonSchemaVersion.V_2);
+
+        private JsonFields() {
+            throw new AssertionError();
+        }
+
+    }
+
+}
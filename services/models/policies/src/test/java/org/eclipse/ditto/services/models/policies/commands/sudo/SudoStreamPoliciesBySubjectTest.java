@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.policies.commands.sudo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.model.base.entity.id.DefaultEntityId;
+import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Tests {@link org.eclipse.ditto.services.models.policies.commands.sudo.SudoStreamPoliciesBySubject}.
+ */
+public final class SudoStreamPoliciesBySubjectTest {
+
+    private static final String SUBJECT_ID = "google:user-1";
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(SudoStreamPoliciesBySubject.class, areImmutable(),
+                provided(EntityId.class).isAlsoImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(SudoStreamPoliciesBySubject.class)
+                .withRedefinedSuperclass()
+                .verify();
+    }
+
+    @Test
+    public void testSerialization() {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().randomCorrelationId().build();
+
+        final SudoStreamPoliciesBySubject underTest = SudoStreamPoliciesBySubject.of(SUBJECT_ID, 100, 10_000L,
+                dittoHeaders)
+                .withLowerBound(DefaultEntityId.of("policy:namespace:lower-bound"));
+
+        final SudoStreamPoliciesBySubject deserialized =
+                SudoStreamPoliciesBySubject.fromJson(JsonFactory.newObject(underTest.toJsonString()), dittoHeaders);
+
+        assertThat(deserialized).isEqualTo(underTest);
+        assertThat(deserialized.hasNonEmptyLowerBound()).isTrue();
+    }
+
+    @Test
+    public void commandWithoutLowerBoundStartsFromTheBeginning() {
+        final SudoStreamPoliciesBySubject underTest =
+                SudoStreamPoliciesBySubject.of(SUBJECT_ID, 100, 10_000L, DittoHeaders.empty());
+
+        assertThat(underTest.hasNonEmptyLowerBound()).isFalse();
+        assertThat(underTest.getSubjectId()).isEqualTo(SUBJECT_ID);
+    }
+
+}
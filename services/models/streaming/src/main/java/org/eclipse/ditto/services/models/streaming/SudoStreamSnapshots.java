@@ -60,11 +60,13 @@ public final class SudoStreamSnapshots extends AbstractCommand<SudoStreamSnapsho
     private final int burst;
     private final long timeoutMillis;
     private final EntityId lowerBound;
+    private final EntityId upperBound;
     private final JsonArray snapshotFields;
 
     private SudoStreamSnapshots(final Integer burst,
             final Long timeoutMillis,
             final EntityId lowerBound,
+            final EntityId upperBound,
             final JsonArray snapshotFields,
             final DittoHeaders dittoHeaders) {
 
@@ -73,6 +75,7 @@ public final class SudoStreamSnapshots extends AbstractCommand<SudoStreamSnapsho
         this.burst = burst;
         this.timeoutMillis = timeoutMillis;
         this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
         this.snapshotFields = snapshotFields;
     }
 
@@ -92,7 +95,8 @@ public final class SudoStreamSnapshots extends AbstractCommand<SudoStreamSnapsho
         final JsonArray snapshotFields = fields.stream()
                 .map(JsonValue::of)
                 .collect(JsonCollectors.valuesToArray());
-        return new SudoStreamSnapshots(burst, timeoutMillis, DefaultEntityId.dummy(), snapshotFields, dittoHeaders);
+        return new SudoStreamSnapshots(burst, timeoutMillis, DefaultEntityId.dummy(), DefaultEntityId.dummy(),
+                snapshotFields, dittoHeaders);
     }
 
     /**
@@ -112,9 +116,12 @@ public final class SudoStreamSnapshots extends AbstractCommand<SudoStreamSnapsho
         final EntityId lowerBound = jsonObject.getValue(JsonFields.JSON_LOWER_BOUND)
                 .map(DefaultEntityId::of)
                 .orElseGet(DefaultEntityId::dummy);
+        final EntityId upperBound = jsonObject.getValue(JsonFields.JSON_UPPER_BOUND)
+                .map(DefaultEntityId::of)
+                .orElseGet(DefaultEntityId::dummy);
         final JsonArray snapshotFields =
                 jsonObject.getValue(JsonFields.JSON_SNAPSHOT_FIELDS).orElseGet(JsonArray::empty);
-        return new SudoStreamSnapshots(burst, timeoutMillis, lowerBound, snapshotFields, dittoHeaders);
+        return new SudoStreamSnapshots(burst, timeoutMillis, lowerBound, upperBound, snapshotFields, dittoHeaders);
     }
 
     /**
@@ -125,7 +132,22 @@ public final class SudoStreamSnapshots extends AbstractCommand<SudoStreamSnapsho
      * @return a copy of this command with lower-bound set.
      */
     public SudoStreamSnapshots withLowerBound(final EntityId lowerBound) {
-        return new SudoStreamSnapshots(burst, timeoutMillis, lowerBound, snapshotFields, getDittoHeaders());
+        return new SudoStreamSnapshots(burst, timeoutMillis, lowerBound, upperBound, snapshotFields,
+                getDittoHeaders());
+    }
+
+    /**
+     * Create a copy of this command with an upper-bound set. The upper bound must be a full PID consisting of a prefix
+     * and an entity ID. The stream contains the snapshots of the PIDs greater than the lower bound and less than or
+     * equal to the upper bound, so that the commands of consecutive bounds stream disjoint partitions of the snapshot
+     * store which may be streamed in parallel.
+     *
+     * @param upperBound the upper bound.
+     * @return a copy of this command with upper-bound set.
+     */
+    public SudoStreamSnapshots withUpperBound(final EntityId upperBound) {
+        return new SudoStreamSnapshots(burst, timeoutMillis, lowerBound, upperBound, snapshotFields,
+                getDittoHeaders());
     }
 
     /**
@@ -146,6 +168,24 @@ public final class SudoStreamSnapshots extends AbstractCommand<SudoStreamSnapsho
         return !lowerBound.isDummy();
     }
 
+    /**
+     * Return the inclusive upper-bound PID of the partition to stream.
+     *
+     * @return the upper-bound PID.
+     */
+    public EntityId getUpperBound() {
+        return upperBound;
+    }
+
+    /**
+     * Return whether the command has a non-empty upper bound.
+     *
+     * @return whether the command has a non-empty upper bound.
+     */
+    public boolean hasNonEmptyUpperBound() {
+        return !upperBound.isDummy();
+    }
+
     /**
      * Return snapshot fields to request for each streamed snapshot.
      *
@@ -174,6 +214,7 @@ public final class SudoStreamSnapshots extends AbstractCommand<SudoStreamSnapsho
         jsonObjectBuilder.set(JsonFields.JSON_BURST, burst, predicate);
         jsonObjectBuilder.set(JsonFields.JSON_TIMEOUT_MILLIS, timeoutMillis, predicate);
         jsonObjectBuilder.set(JsonFields.JSON_LOWER_BOUND, lowerBound.toString(), predicate);
+        jsonObjectBuilder.set(JsonFields.JSON_UPPER_BOUND, upperBound.toString(), predicate);
         jsonObjectBuilder.set(JsonFields.JSON_SNAPSHOT_FIELDS, snapshotFields, predicate);
     }
 
@@ -189,12 +230,12 @@ public final class SudoStreamSnapshots extends AbstractCommand<SudoStreamSnapsho
 
     @Override
     public SudoStreamSnapshots setDittoHeaders(final DittoHeaders dittoHeaders) {
-        return new SudoStreamSnapshots(burst, timeoutMillis, lowerBound, snapshotFields, dittoHeaders);
+        return new SudoStreamSnapshots(burst, timeoutMillis, lowerBound, upperBound, snapshotFields, dittoHeaders);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), burst, timeoutMillis, lowerBound, snapshotFields);
+        return Objects.hash(super.hashCode(), burst, timeoutMillis, lowerBound, upperBound, snapshotFields);
     }
 
     @Override
@@ -204,6 +245,7 @@ public final class SudoStreamSnapshots extends AbstractCommand<SudoStreamSnapsho
             return burst == that.burst &&
                     timeoutMillis == that.timeoutMillis &&
                     Objects.equals(lowerBound, that.lowerBound) &&
+                    Objects.equals(upperBound, that.upperBound) &&
                     Objects.equals(snapshotFields, that.snapshotFields) &&
                     super.equals(that);
         } else {
@@ -222,6 +264,7 @@ public final class SudoStreamSnapshots extends AbstractCommand<SudoStreamSnapsho
                 + ", burst=" + burst
                 + ", timeoutMillis=" + timeoutMillis
                 + ", lowerBound=" + lowerBound
+                + ", upperBound=" + upperBound
                 + ", snapshotFields=" + snapshotFields
                 + "]";
     }
@@ -247,6 +290,9 @@ public final class SudoStreamSnapshots extends AbstractCommand<SudoStreamSnapsho
         static final JsonFieldDefinition<String> JSON_LOWER_BOUND =
                 JsonFactory.newStringFieldDefinition("payload/lowerBound", REGULAR, V_1, V_2);
 
+        static final JsonFieldDefinition<String> JSON_UPPER_BOUND =
+                JsonFactory.newStringFieldDefinition("payload/upperBound", REGULAR, V_1, V_2);
+
         static final JsonFieldDefinition<JsonArray> JSON_SNAPSHOT_FIELDS =
                 JsonFactory.newJsonArrayFieldDefinition("payload/fields", REGULAR, V_1, V_2);
     }
@@ -21,6 +21,7 @@ import java.util.List;
 
 import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.entity.id.DefaultEntityId;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.FieldType;
@@ -59,6 +60,21 @@ public final class SudoStreamSnapshotsTest {
         assertThat(deserialized).isEqualTo(underTest);
     }
 
+    @Test
+    public void testSerializationWithBounds() {
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().randomCorrelationId().build();
+        final SudoStreamSnapshots underTest =
+                SudoStreamSnapshots.of(123, 456L, List.of("hello", "world"), dittoHeaders)
+                        .withLowerBound(DefaultEntityId.of("ns:lower"))
+                        .withUpperBound(DefaultEntityId.of("ns:upper"));
+        final JsonObject serialized = underTest.toJson(FieldType.regularOrSpecial());
+        final SudoStreamSnapshots deserialized = SudoStreamSnapshots.fromJson(serialized, dittoHeaders);
+
+        assertThat(deserialized).isEqualTo(underTest);
+        assertThat(deserialized.hasNonEmptyUpperBound()).isTrue();
+        assertThat(deserialized.getUpperBound().toString()).isEqualTo("ns:upper");
+    }
+
     @Test
     public void parseWithRegistry() {
         final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().randomCorrelationId().build();
@@ -17,6 +17,7 @@ import java.util.Arrays;
 import org.eclipse.ditto.services.utils.cluster.ShardRegionExtractor;
 import org.eclipse.ditto.services.utils.pubsub.AbstractPubSubFactory;
 import org.eclipse.ditto.services.utils.pubsub.extractors.ConstantTopics;
+import org.eclipse.ditto.services.utils.pubsub.extractors.NamespacedReadSubjectExtractor;
 import org.eclipse.ditto.services.utils.pubsub.extractors.PubSubTopicExtractor;
 import org.eclipse.ditto.services.utils.pubsub.extractors.ReadSubjectExtractor;
 import org.eclipse.ditto.services.utils.pubsub.extractors.ShardIdExtractor;
@@ -26,6 +27,10 @@ import akka.actor.ActorContext;
 
 /**
  * Pub-sub factory for thing events.
+ * <p>
+ * Thing events are published to their read-subjects both plain and qualified by the namespace of the thing, so that
+ * subscribers restricted to some namespaces receive the events of their namespaces only.
+ * </p>
  */
 public final class ThingEventPubSubFactory extends AbstractPubSubFactory<ThingEvent> {
 
@@ -74,7 +79,12 @@ public final class ThingEventPubSubFactory extends AbstractPubSubFactory<ThingEv
     }
 
     private static PubSubTopicExtractor<ThingEvent> readSubjectOnlyExtractor() {
-        return ReadSubjectExtractor.<ThingEvent>of().with(ConstantTopics.of(ThingEvent.TYPE_PREFIX));
+        return ReadSubjectExtractor.<ThingEvent>of().with(
+                Arrays.asList(ConstantTopics.of(ThingEvent.TYPE_PREFIX), namespacedReadSubjectExtractor()));
+    }
+
+    private static PubSubTopicExtractor<ThingEvent> namespacedReadSubjectExtractor() {
+        return NamespacedReadSubjectExtractor.of(event -> event.getThingEntityId().getNamespace());
     }
 
     private static PubSubTopicExtractor<ThingEvent> shardIdOnlyExtractor(final ShardRegionExtractor extractor) {
@@ -82,7 +92,7 @@ public final class ThingEventPubSubFactory extends AbstractPubSubFactory<ThingEv
     }
 
     private static PubSubTopicExtractor<ThingEvent> toTopicExtractor(final ShardRegionExtractor shardRegionExtractor) {
-        return ReadSubjectExtractor.<ThingEvent>of().with(
-                Arrays.asList(ConstantTopics.of(ThingEvent.TYPE_PREFIX), shardIdOnlyExtractor(shardRegionExtractor)));
+        return ReadSubjectExtractor.<ThingEvent>of().with(Arrays.asList(ConstantTopics.of(ThingEvent.TYPE_PREFIX),
+                namespacedReadSubjectExtractor(), shardIdOnlyExtractor(shardRegionExtractor)));
     }
 }
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.things.commands.sudo;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonParsableCommand;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.signals.commands.base.AbstractCommand;
+import org.eclipse.ditto.signals.commands.base.Command;
+import org.eclipse.ditto.signals.commands.base.GlobalCommandRegistry;
+import org.eclipse.ditto.signals.commands.things.query.ThingQueryCommand;
+import org.eclipse.ditto.utils.jsr305.annotations.AllValuesAreNonnullByDefault;
+
+/**
+ * Command which carries a {@link ThingQueryCommand} that was <em>not</em> enforced by the concierge service. This
+ * command is sent only internally by the gateway to the things shard region if local read enforcement is enabled; the
+ * things service has to enforce the carried query command by the policy of the thing before executing it.
+ * <p>
+ * If the things service is not able to enforce the query command itself, e.g. because the thing is not controlled by
+ * a policy, it replies with this command in order to let the sender route the query command via concierge.
+ * </p>
+ */
+@Immutable
+@AllValuesAreNonnullByDefault
+@JsonParsableCommand(typePrefix = EnforcedThingQuery.TYPE_PREFIX, name = EnforcedThingQuery.NAME)
+public final class EnforcedThingQuery extends AbstractCommand<EnforcedThingQuery>
+        implements SudoCommand<EnforcedThingQuery> {
+
+    /**
+     * Name of the "Enforced Thing Query" command.
+     */
+    public static final String NAME = "enforcedThingQuery";
+
+    /**
+     * Type of this command.
+     */
+    public static final String TYPE = TYPE_PREFIX + NAME;
+
+    static final JsonFieldDefinition<JsonObject> JSON_COMMAND =
+            JsonFactory.newJsonObjectFieldDefinition("payload/command", FieldType.REGULAR, JsonSchemaVersion.V_2);
+
+    private final ThingQueryCommand<?> thingQueryCommand;
+
+    private EnforcedThingQuery(final ThingQueryCommand<?> thingQueryCommand) {
+        super(TYPE, thingQueryCommand.getDittoHeaders());
+        this.thingQueryCommand = thingQueryCommand;
+    }
+
+    /**
+     * Creates a new {@code EnforcedThingQuery}.
+     *
+     * @param thingQueryCommand the query command which has to be enforced by the things service. The headers of the
+     * query command are the headers of the created command.
+     * @return the command.
+     * @throws NullPointerException if {@code thingQueryCommand} is {@code null}.
+     */
+    public static EnforcedThingQuery of(final ThingQueryCommand<?> thingQueryCommand) {
+        return new EnforcedThingQuery(checkNotNull(thingQueryCommand, "thingQueryCommand"));
+    }
+
+    /**
+     * Creates a new {@code EnforcedThingQuery} from a JSON object.
+     *
+     * @param jsonObject the JSON object of which a new EnforcedThingQuery is to be created.
+     * @param dittoHeaders the headers of the command.
+     * @return the EnforcedThingQuery which was created from the given JSON object.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if the passed in {@code jsonObject} was not in the
+     * expected format.
+     * @throws IllegalArgumentException if the carried command is no thing query command.
+     */
+    public static EnforcedThingQuery fromJson(final JsonObject jsonObject, final DittoHeaders dittoHeaders) {
+        final JsonObject commandJson = jsonObject.getValueOrThrow(JSON_COMMAND);
+        final Command<?> command = GlobalCommandRegistry.getInstance().parse(commandJson, dittoHeaders);
+        if (!(command instanceof ThingQueryCommand)) {
+            throw new IllegalArgumentException("Expected a ThingQueryCommand, got: " + command.getType());
+        }
+        return new EnforcedThingQuery((ThingQueryCommand<?>) command);
+    }
+
+    /**
+     * Returns the query command which has to be enforced by the things service.
+     *
+     * @return the query command.
+     */
+    public ThingQueryCommand<?> getThingQueryCommand() {
+        return thingQueryCommand;
+    }
+
+    @Override
+    public String getId() {
+        return String.valueOf(getEntityId());
+    }
+
+    @Override
+    public EntityId getEntityId() {
+        return thingQueryCommand.getThingEntityId();
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> thePredicate) {
+        final Predicate<JsonField> predicate = schemaVersion.and(thePredicate);
+
+        jsonObjectBuilder.set(SudoCommand.JsonFields.JSON_THING_ID, getId(), predicate);
+        jsonObjectBuilder.set(JSON_COMMAND, thingQueryCommand.toJson(thingQueryCommand.getImplementedSchemaVersion(),
+                FieldType.regularOrSpecial()), predicate);
+    }
+
+    @Override
+    public Category getCategory() {
+        return Category.QUERY;
+    }
+
+    @Override
+    public EnforcedThingQuery setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return new EnforcedThingQuery((ThingQueryCommand<?>) thingQueryCommand.setDittoHeaders(dittoHeaders));
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        if (!super.equals(o)) {
+            return false;
+        }
+        final EnforcedThingQuery that = (EnforcedThingQuery) o;
+        return that.canEqual(this) && Objects.equals(thingQueryCommand, that.thingQueryCommand);
+    }
+
+    @Override
+    protected boolean canEqual(@Nullable final Object other) {
+        return other instanceof EnforcedThingQuery;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), thingQueryCommand);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "thingQueryCommand=" + thingQueryCommand +
+                "]";
+    }
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.models.things.commands.sudo;
+
+import static org.eclipse.ditto.json.assertions.DittoJsonAssertions.assertThat;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.commands.base.Command;
+import org.eclipse.ditto.signals.commands.base.GlobalCommandRegistry;
+import org.eclipse.ditto.signals.commands.things.modify.DeleteAttribute;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveAttribute;
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link EnforcedThingQuery}.
+ */
+public final class EnforcedThingQueryTest {
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto.test", "myThing");
+
+    private static final DittoHeaders DITTO_HEADERS = DittoHeaders.newBuilder()
+            .correlationId("enforced-thing-query")
+            .build();
+
+    private static final RetrieveAttribute RETRIEVE_ATTRIBUTE =
+            RetrieveAttribute.of(THING_ID, JsonPointer.of("location"), DITTO_HEADERS);
+
+    private static final JsonObject KNOWN_JSON = JsonFactory.newObjectBuilder()
+            .set(SudoCommand.JsonFields.TYPE, EnforcedThingQuery.TYPE)
+            .set(SudoCommand.JsonFields.JSON_THING_ID, THING_ID.toString())
+            .set(EnforcedThingQuery.JSON_COMMAND, RETRIEVE_ATTRIBUTE.toJson(FieldType.regularOrSpecial()))
+            .build();
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(EnforcedThingQuery.class)
+                .withRedefinedSuperclass()
+                .verify();
+    }
+
+    @Test
+    public void toJsonReturnsExpected() {
+        final EnforcedThingQuery underTest = EnforcedThingQuery.of(RETRIEVE_ATTRIBUTE);
+        final JsonObject actualJson = underTest.toJson(FieldType.regularOrSpecial());
+
+        assertThat(actualJson).isEqualTo(KNOWN_JSON);
+    }
+
+    @Test
+    public void createInstanceFromValidJson() {
+        final EnforcedThingQuery underTest = EnforcedThingQuery.fromJson(KNOWN_JSON, DITTO_HEADERS);
+
+        assertThat((CharSequence) underTest.getEntityId()).isEqualTo(THING_ID);
+        assertThat(underTest.getThingQueryCommand()).isEqualTo(RETRIEVE_ATTRIBUTE);
+        assertThat(underTest.getDittoHeaders()).isEqualTo(DITTO_HEADERS);
+    }
+
+    @Test
+    public void checkSudoCommandRegistryWorks() {
+        final Command<?> command = GlobalCommandRegistry.getInstance().parse(KNOWN_JSON, DITTO_HEADERS);
+
+        assertThat(command).isEqualTo(EnforcedThingQuery.of(RETRIEVE_ATTRIBUTE));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void fromJsonWithModifyCommandFails() {
+        final JsonObject jsonWithModifyCommand = KNOWN_JSON.toBuilder()
+                .set(EnforcedThingQuery.JSON_COMMAND,
+                        DeleteAttribute.of(THING_ID, JsonPointer.of("location"), DITTO_HEADERS)
+                                .toJson(FieldType.regularOrSpecial()))
+                .build();
+
+        EnforcedThingQuery.fromJson(jsonWithModifyCommand, DITTO_HEADERS);
+    }
+
+}
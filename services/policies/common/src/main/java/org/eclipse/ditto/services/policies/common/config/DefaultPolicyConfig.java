@@ -18,7 +18,7 @@ import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.services.base.config.supervision.DefaultSupervisorConfig;
 import org.eclipse.ditto.services.base.config.supervision.SupervisorConfig;
-import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
 import org.eclipse.ditto.services.utils.config.ScopedConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultActivityCheckConfig;
@@ -38,11 +38,13 @@ public final class DefaultPolicyConfig implements PolicyConfig {
     private final SupervisorConfig supervisorConfig;
     private final ActivityCheckConfig activityCheckConfig;
     private final SnapshotConfig snapshotConfig;
+    private final boolean subjectIndexEnabled;
 
     private DefaultPolicyConfig(final ScopedConfig scopedConfig) {
         supervisorConfig = DefaultSupervisorConfig.of(scopedConfig);
         activityCheckConfig = DefaultActivityCheckConfig.of(scopedConfig);
         snapshotConfig = DefaultSnapshotConfig.of(scopedConfig);
+        subjectIndexEnabled = scopedConfig.getBoolean(PolicyConfigValue.SUBJECT_INDEX_ENABLED.getConfigPath());
     }
 
     /**
@@ -53,7 +55,7 @@ public final class DefaultPolicyConfig implements PolicyConfig {
      * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
      */
     public static DefaultPolicyConfig of(final Config config) {
-        return new DefaultPolicyConfig(DefaultScopedConfig.newInstance(config, CONFIG_PATH));
+        return new DefaultPolicyConfig(ConfigWithFallback.newInstance(config, CONFIG_PATH, PolicyConfigValue.values()));
     }
 
     @Override
@@ -71,6 +73,11 @@ public final class DefaultPolicyConfig implements PolicyConfig {
         return snapshotConfig;
     }
 
+    @Override
+    public boolean isSubjectIndexEnabled() {
+        return subjectIndexEnabled;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -80,14 +87,15 @@ public final class DefaultPolicyConfig implements PolicyConfig {
             return false;
         }
         final DefaultPolicyConfig that = (DefaultPolicyConfig) o;
-        return Objects.equals(supervisorConfig, that.supervisorConfig) &&
+        return subjectIndexEnabled == that.subjectIndexEnabled &&
+                Objects.equals(supervisorConfig, that.supervisorConfig) &&
                 Objects.equals(activityCheckConfig, that.activityCheckConfig) &&
                 Objects.equals(snapshotConfig, that.snapshotConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(supervisorConfig, activityCheckConfig, snapshotConfig);
+        return Objects.hash(supervisorConfig, activityCheckConfig, snapshotConfig, subjectIndexEnabled);
     }
 
     @Override
@@ -96,6 +104,7 @@ public final class DefaultPolicyConfig implements PolicyConfig {
                 " supervisorConfig=" + supervisorConfig +
                 ", activityCheckConfig=" + activityCheckConfig +
                 ", snapshotConfig=" + snapshotConfig +
+                ", subjectIndexEnabled=" + subjectIndexEnabled +
                 "]";
     }
 
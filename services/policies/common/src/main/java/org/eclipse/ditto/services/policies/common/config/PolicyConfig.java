@@ -15,6 +15,7 @@ package org.eclipse.ditto.services.policies.common.config;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.services.base.config.supervision.WithSupervisorConfig;
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.WithActivityCheckConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.WithSnapshotConfig;
 
@@ -23,4 +24,43 @@ import org.eclipse.ditto.services.utils.persistence.mongo.config.WithSnapshotCon
  */
 @Immutable
 public interface PolicyConfig extends WithSupervisorConfig, WithActivityCheckConfig, WithSnapshotConfig {
+
+    /**
+     * Indicates whether the policy persistence actors maintain the index of policy IDs by subject IDs.
+     *
+     * @return {@code true} if the subject index is maintained, {@code false} else.
+     */
+    boolean isSubjectIndexEnabled();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code PolicyConfig}.
+     */
+    enum PolicyConfigValue implements KnownConfigValue {
+
+        /**
+         * Determines whether the policy persistence actors maintain the index of policy IDs by subject IDs.
+         */
+        SUBJECT_INDEX_ENABLED("subject-index-enabled", false);
+
+        private final String path;
+        private final Object defaultValue;
+
+        PolicyConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
 }
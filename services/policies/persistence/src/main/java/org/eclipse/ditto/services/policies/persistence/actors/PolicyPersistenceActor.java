@@ -12,11 +12,21 @@
  */
 package org.eclipse.ditto.services.policies.persistence.actors;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeExceptionBuilder;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
 import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyEntry;
 import org.eclipse.ditto.model.policies.PolicyId;
 import org.eclipse.ditto.model.policies.PolicyLifecycle;
+import org.eclipse.ditto.model.policies.Subject;
 import org.eclipse.ditto.services.models.policies.PoliciesMessagingConstants;
 import org.eclipse.ditto.services.policies.common.config.DittoPoliciesConfig;
 import org.eclipse.ditto.services.policies.common.config.PolicyConfig;
@@ -40,6 +50,8 @@ import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
 import akka.actor.Props;
 import akka.cluster.sharding.ClusterSharding;
+import akka.event.LoggingAdapter;
+import akka.persistence.RecoveryCompleted;
 
 /**
  * PersistentActor which "knows" the state of a single {@link Policy}.
@@ -64,6 +76,11 @@ public final class PolicyPersistenceActor
 
     private final ActorRef pubSubMediator;
     private final PolicyConfig policyConfig;
+    private final PolicySubjectIndex subjectIndex;
+
+    @Nullable
+    private Set<String> indexedSubjectIds;
+    private CompletionStage<Void> subjectIndexUpdate;
 
     PolicyPersistenceActor(final PolicyId policyId,
             final SnapshotAdapter<Policy> snapshotAdapter,
@@ -74,6 +91,9 @@ public final class PolicyPersistenceActor
                 DefaultScopedConfig.dittoScoped(getContext().getSystem().settings().config())
         );
         this.policyConfig = policiesConfig.getPolicyConfig();
+        subjectIndex = PolicySubjectIndex.get(getContext().getSystem());
+        indexedSubjectIds = null;
+        subjectIndexUpdate = CompletableFuture.completedFuture(null);
     }
 
     /**
@@ -162,13 +182,61 @@ public final class PolicyPersistenceActor
         return PolicyNotAccessibleException.newBuilder(entityId);
     }
 
+    @Override
+    protected void recoveryCompleted(final RecoveryCompleted event) {
+        super.recoveryCompleted(event);
+        // checking the index of every existing policy completes it for policies written before the index was
+        // enabled and repairs writes lost before the last passivation; up-to-date policies are not written again
+        if (null != entity) {
+            updateSubjectIndex(true);
+        }
+    }
+
     @Override
     protected void publishEvent(final PolicyEvent event) {
         pubSubMediator.tell(DistPubSubAccess.publishViaGroup(PolicyEvent.TYPE_PREFIX, event), getSender());
+        updateSubjectIndex(false);
     }
 
     @Override
     protected JsonSchemaVersion getEntitySchemaVersion(final Policy entity) {
         return entity.getImplementedSchemaVersion();
     }
+
+    private void updateSubjectIndex(final boolean onlyIfChanged) {
+        if (!subjectIndex.isEnabled()) {
+            return;
+        }
+        final Set<String> subjectIds = getSubjectIds();
+        if (!subjectIds.equals(indexedSubjectIds)) {
+            indexedSubjectIds = subjectIds;
+            final PolicyId policyId = entityId;
+            final long revision = getRevisionNumber();
+            final LoggingAdapter systemLog = getContext().getSystem().log();
+            // chain the writes of this policy so that they are applied in the order of its revisions
+            subjectIndexUpdate = subjectIndexUpdate
+                    .thenCompose(previous -> onlyIfChanged
+                            ? subjectIndex.updateIfChanged(policyId, revision, subjectIds)
+                            : subjectIndex.update(policyId, revision, subjectIds))
+                    .exceptionally(error -> {
+                        systemLog.error(error, "Failed to update subject index of policy <{}> at revision <{}>.",
+                                policyId, revision);
+                        return null;
+                    });
+        }
+    }
+
+    private Set<String> getSubjectIds() {
+        if (null == entity || entityExistsAsDeleted()) {
+            return Collections.emptySet();
+        }
+        final Set<String> subjectIds = new HashSet<>();
+        for (final PolicyEntry policyEntry : entity) {
+            for (final Subject subject : policyEntry.getSubjects()) {
+                subjectIds.add(subject.getId().toString());
+            }
+        }
+        return subjectIds;
+    }
+
 }
@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.policies.persistence.actors;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.eclipse.ditto.model.base.entity.id.EntityId;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.services.models.policies.PolicyTag;
+import org.eclipse.ditto.services.policies.common.config.DittoPoliciesConfig;
+import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
+import org.eclipse.ditto.services.utils.persistence.mongo.indices.Index;
+import org.eclipse.ditto.services.utils.persistence.mongo.indices.IndexFactory;
+import org.eclipse.ditto.services.utils.persistence.mongo.indices.IndexInitializer;
+
+import com.mongodb.ErrorCategory;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.MongoWriteException;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.DeleteManyModel;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import com.mongodb.reactivestreams.client.MongoCollection;
+
+import akka.NotUsed;
+import akka.actor.AbstractExtensionId;
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+import akka.actor.Extension;
+import akka.stream.ActorMaterializer;
+import akka.stream.Materializer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+
+/**
+ * Index of policy IDs by the IDs of the subjects of their entries, stored in the collection
+ * {@value #COLLECTION_NAME}.
+ * <p>
+ * Each document of the collection relates one subject to one policy together with the revision of the policy at which
+ * the subjects of the policy were last written. Writes never replace or remove documents of a newer revision. In
+ * addition, one document per policy without subject ID holds the latest revision of the policy written to the index;
+ * it is kept after the policy is deleted, so that writes of older revisions arriving late are discarded and subjects
+ * they inserted concurrently with a newer write are removed again. The
+ * index is written by the policy persistence actors after each event and after each recovery unless it is up to date;
+ * it is thus eventually consistent with the journal and is completed for policies written before it was enabled as
+ * soon as they are recovered. The index is only maintained if {@code ditto.policies.policy.subject-index-enabled} is
+ * set.
+ * </p>
+ */
+@ThreadSafe
+public final class PolicySubjectIndex implements Extension {
+
+    /**
+     * Name of the collection of the subject index.
+     */
+    static final String COLLECTION_NAME = "policiesSubjectIndex";
+
+    static final String FIELD_SUBJECT_ID = "subjectId";
+    static final String FIELD_POLICY_ID = "policyId";
+    static final String FIELD_REVISION = "revision";
+
+    /**
+     * Indices of the subject index; the unique index prevents older revisions from being written and contains one
+     * revision document per policy.
+     */
+    static final List<Index> INDICES = Arrays.asList(
+            IndexFactory.newInstance("subjectId_policyId", Arrays.asList(FIELD_SUBJECT_ID, FIELD_POLICY_ID), true),
+            IndexFactory.newInstance(FIELD_POLICY_ID, Collections.singletonList(FIELD_POLICY_ID), false));
+
+    @Nullable
+    private final MongoCollection<Document> collection;
+
+    @Nullable
+    private final Materializer materializer;
+
+    private PolicySubjectIndex(@Nullable final MongoCollection<Document> collection,
+            @Nullable final Materializer materializer) {
+
+        this.collection = collection;
+        this.materializer = materializer;
+    }
+
+    /**
+     * Create a subject index stored in a collection.
+     *
+     * @param collection the collection of the index.
+     * @param materializer the materializer to run the queries of the index with.
+     * @return the subject index.
+     */
+    static PolicySubjectIndex of(final MongoCollection<Document> collection, final Materializer materializer) {
+        return new PolicySubjectIndex(collection, materializer);
+    }
+
+    /**
+     * Get the subject index of an actor system according to the config at {@code ditto.policies}.
+     *
+     * @param actorSystem the actor system.
+     * @return the subject index of the actor system.
+     */
+    public static PolicySubjectIndex get(final ActorSystem actorSystem) {
+        return ExtensionId.INSTANCE.get(actorSystem);
+    }
+
+    /**
+     * @return whether the subject index is maintained at all.
+     */
+    public boolean isEnabled() {
+        return null != collection;
+    }
+
+    /**
+     * Replace the subjects of a policy in the index. Subjects no longer contained in the policy are removed; an
+     * empty set of subjects removes the policy from the index. Documents written for a newer revision of the policy
+     * are neither replaced nor removed, and nothing is written if the index contains a newer revision of the policy.
+     *
+     * @param policyId the ID of the policy.
+     * @param revision the revision of the policy.
+     * @param subjectIds the IDs of all subjects of the policy.
+     * @return a future which completes when the index is written.
+     */
+    CompletionStage<Void> update(final PolicyId policyId, final long revision, final Set<String> subjectIds) {
+        if (null == collection || null == materializer) {
+            return CompletableFuture.completedFuture(null);
+        }
+        final String policyIdString = policyId.toString();
+        return updatePolicyRevision(collection, materializer, policyIdString, revision)
+                .thenCompose(isLatestRevision -> isLatestRevision
+                        ? updateSubjects(collection, materializer, policyIdString, revision, subjectIds)
+                        : CompletableFuture.completedFuture(null))
+                .thenCompose(unused -> removeSubjectsOfOlderRevisions(collection, materializer, policyIdString));
+    }
+
+    /**
+     * Replace the subjects of a policy in the index unless the index contains exactly these subjects already.
+     *
+     * @param policyId the ID of the policy.
+     * @param revision the revision of the policy.
+     * @param subjectIds the IDs of all subjects of the policy.
+     * @return a future which completes when the index is checked and written if necessary.
+     */
+    CompletionStage<Void> updateIfChanged(final PolicyId policyId, final long revision, final Set<String> subjectIds) {
+        return getSubjectIds(policyId).thenCompose(indexedSubjectIds -> indexedSubjectIds.equals(subjectIds)
+                ? CompletableFuture.completedFuture(null)
+                : update(policyId, revision, subjectIds));
+    }
+
+    /**
+     * Read the IDs of the subjects of a policy from the index.
+     *
+     * @param policyId the ID of the policy.
+     * @return a future of the IDs of the subjects of the policy in the index.
+     */
+    CompletionStage<Set<String>> getSubjectIds(final PolicyId policyId) {
+        if (null == collection || null == materializer) {
+            return CompletableFuture.completedFuture(Collections.emptySet());
+        }
+        return Source.fromPublisher(collection.find(
+                Filters.and(Filters.exists(FIELD_SUBJECT_ID), Filters.eq(FIELD_POLICY_ID, policyId.toString())))
+                .projection(Projections.include(FIELD_SUBJECT_ID)))
+                .map(document -> document.getString(FIELD_SUBJECT_ID))
+                .runWith(Sink.seq(), materializer)
+                .thenApply(HashSet::new);
+    }
+
+    /**
+     * Stream the tags of the policies containing a subject ordered by policy ID.
+     *
+     * @param subjectId the ID of the subject.
+     * @param lowerBound the exclusive lower-bound policy ID, or a dummy entity ID to start from the beginning.
+     * @param batchSize how many tags to read from the index at once.
+     * @return source of policy tags.
+     */
+    Source<PolicyTag, NotUsed> streamPolicies(final String subjectId, final EntityId lowerBound, final int batchSize) {
+        if (null == collection) {
+            return Source.empty();
+        }
+        final Bson filter = lowerBound.isDummy()
+                ? Filters.eq(FIELD_SUBJECT_ID, subjectId)
+                : Filters.and(Filters.eq(FIELD_SUBJECT_ID, subjectId),
+                Filters.gt(FIELD_POLICY_ID, lowerBound.toString()));
+        return Source.fromPublisher(collection.find(filter)
+                .sort(Sorts.ascending(FIELD_POLICY_ID))
+                .batchSize(batchSize))
+                .map(document -> PolicyTag.of(PolicyId.of(document.getString(FIELD_POLICY_ID)),
+                        document.get(FIELD_REVISION, Number.class).longValue()));
+    }
+
+    /*
+     * Raise the revision of the policy document unless the index contains a newer revision of the policy already.
+     * The policy document is written before the subjects and completes with whether the revision is the latest one.
+     */
+    private static CompletionStage<Boolean> updatePolicyRevision(final MongoCollection<Document> collection,
+            final Materializer materializer, final String policyIdString, final long revision) {
+
+        final Bson filter = Filters.and(Filters.exists(FIELD_SUBJECT_ID, false),
+                Filters.eq(FIELD_POLICY_ID, policyIdString),
+                Filters.lte(FIELD_REVISION, revision));
+        final Bson update = Updates.set(FIELD_REVISION, revision);
+        // the upsert fails with a duplicate key error if the policy document is of a newer revision or was inserted
+        // concurrently, in which case it is updated without upsert
+        return Source.fromPublisher(collection.updateOne(filter, update, new UpdateOptions().upsert(true)))
+                .runWith(Sink.head(), materializer)
+                .<CompletionStage<Boolean>>handle((result, error) -> {
+                    final Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                    if (null == cause) {
+                        return CompletableFuture.completedFuture(true);
+                    } else if (isDuplicateKeyError(cause)) {
+                        return Source.fromPublisher(collection.updateOne(filter, update))
+                                .runWith(Sink.head(), materializer)
+                                .thenApply(retryResult -> retryResult.getMatchedCount() > 0);
+                    }
+                    throw new CompletionException(cause);
+                })
+                .thenCompose(Function.identity());
+    }
+
+    private static CompletionStage<Void> updateSubjects(final MongoCollection<Document> collection,
+            final Materializer materializer, final String policyIdString, final long revision,
+            final Set<String> subjectIds) {
+
+        final List<WriteModel<Document>> writeModels = new ArrayList<>(subjectIds.size() + 1);
+        writeModels.add(new DeleteManyModel<>(Filters.and(Filters.exists(FIELD_SUBJECT_ID),
+                Filters.eq(FIELD_POLICY_ID, policyIdString),
+                Filters.nin(FIELD_SUBJECT_ID, subjectIds),
+                Filters.lt(FIELD_REVISION, revision))));
+        final UpdateOptions upsert = new UpdateOptions().upsert(true);
+        for (final String subjectId : subjectIds) {
+            // the upsert of a subject with a document of a newer revision fails with a duplicate key error
+            writeModels.add(new UpdateOneModel<>(
+                    Filters.and(Filters.eq(FIELD_SUBJECT_ID, subjectId), Filters.eq(FIELD_POLICY_ID, policyIdString),
+                            Filters.lt(FIELD_REVISION, revision)),
+                    Updates.set(FIELD_REVISION, revision),
+                    upsert));
+        }
+        return Source.fromPublisher(collection.bulkWrite(writeModels, new BulkWriteOptions().ordered(false)))
+                .runWith(Sink.ignore(), materializer)
+                .handle(PolicySubjectIndex::ignoreDuplicateKeyErrors);
+    }
+
+    /*
+     * Remove the subjects older than the revision of the policy document. Subjects which a write of an older revision
+     * inserted while a newer revision was written are thereby removed by the write which inserted them, as it reads
+     * the policy document only after writing its subjects.
+     */
+    private static CompletionStage<Void> removeSubjectsOfOlderRevisions(final MongoCollection<Document> collection,
+            final Materializer materializer, final String policyIdString) {
+
+        return Source.fromPublisher(collection.find(
+                Filters.and(Filters.exists(FIELD_SUBJECT_ID, false), Filters.eq(FIELD_POLICY_ID, policyIdString)))
+                .projection(Projections.include(FIELD_REVISION))
+                .limit(1))
+                .map(document -> document.get(FIELD_REVISION, Number.class).longValue())
+                .flatMapConcat(latestRevision -> Source.fromPublisher(collection.deleteMany(
+                        Filters.and(Filters.exists(FIELD_SUBJECT_ID), Filters.eq(FIELD_POLICY_ID, policyIdString),
+                                Filters.lt(FIELD_REVISION, latestRevision)))))
+                .runWith(Sink.ignore(), materializer)
+                .thenApply(done -> null);
+    }
+
+    @Nullable
+    private static Void ignoreDuplicateKeyErrors(@Nullable final Object result, @Nullable final Throwable error) {
+        final Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+        if (null == cause || isDuplicateKeyErrorsOnly(cause)) {
+            return null;
+        }
+        throw new CompletionException(cause);
+    }
+
+    private static boolean isDuplicateKeyError(final Throwable error) {
+        return error instanceof MongoWriteException &&
+                ErrorCategory.fromErrorCode(((MongoWriteException) error).getError().getCode()) ==
+                        ErrorCategory.DUPLICATE_KEY;
+    }
+
+    private static boolean isDuplicateKeyErrorsOnly(final Throwable error) {
+        return error instanceof MongoBulkWriteException &&
+                ((MongoBulkWriteException) error).getWriteErrors()
+                        .stream()
+                        .allMatch(writeError -> ErrorCategory.fromErrorCode(writeError.getCode()) ==
+                                ErrorCategory.DUPLICATE_KEY);
+    }
+
+    private static PolicySubjectIndex create(final ActorSystem actorSystem) {
+        final DittoPoliciesConfig policiesConfig =
+                DittoPoliciesConfig.of(DefaultScopedConfig.dittoScoped(actorSystem.settings().config()));
+        if (!policiesConfig.getPolicyConfig().isSubjectIndexEnabled()) {
+            return new PolicySubjectIndex(null, null);
+        }
+        final MongoClientWrapper mongoClient = MongoClientWrapper.newInstance(policiesConfig.getMongoDbConfig());
+        actorSystem.registerOnTermination(mongoClient::close);
+        final Materializer materializer = ActorMaterializer.create(actorSystem);
+        IndexInitializer.of(mongoClient.getDefaultDatabase(), materializer)
+                .initialize(COLLECTION_NAME, INDICES)
+                .exceptionally(error -> {
+                    actorSystem.log().error(error, "Failed to initialize indices of <{}>.", COLLECTION_NAME);
+                    return null;
+                });
+        return new PolicySubjectIndex(mongoClient.getDefaultDatabase().getCollection(COLLECTION_NAME), materializer);
+    }
+
+    /**
+     * ID of the actor system extension to maintain the subject index.
+     */
+    private static final class ExtensionId extends AbstractExtensionId<PolicySubjectIndex> {
+
+        private static final ExtensionId INSTANCE = new ExtensionId();
+
+        @Override
+        public PolicySubjectIndex createExtension(final ExtendedActorSystem system) {
+            return create(system);
+        }
+
+    }
+
+}
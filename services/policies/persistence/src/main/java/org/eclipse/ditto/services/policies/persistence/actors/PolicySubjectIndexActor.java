@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.policies.persistence.actors;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionStage;
+
+import org.eclipse.ditto.services.models.policies.PolicyTag;
+import org.eclipse.ditto.services.models.policies.commands.sudo.SudoStreamPoliciesBySubject;
+import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.utils.jsr305.annotations.AllValuesAreNonnullByDefault;
+
+import akka.actor.AbstractActor;
+import akka.actor.Props;
+import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
+import akka.stream.ActorMaterializer;
+import akka.stream.SourceRef;
+import akka.stream.javadsl.StreamRefs;
+
+/**
+ * Actor which answers {@link SudoStreamPoliciesBySubject} with a {@code SourceRef} of the tags of the policies which
+ * contain the requested subject according to the {@link PolicySubjectIndex}.
+ */
+@AllValuesAreNonnullByDefault
+public final class PolicySubjectIndexActor extends AbstractActor {
+
+    /**
+     * The name of this Actor in the ActorSystem.
+     */
+    public static final String ACTOR_NAME = "policySubjectIndex";
+
+    private final DittoDiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+    private final ActorMaterializer materializer = ActorMaterializer.create(getContext());
+    private final PolicySubjectIndex subjectIndex = PolicySubjectIndex.get(getContext().getSystem());
+
+    @SuppressWarnings("unused") // called by reflection
+    private PolicySubjectIndexActor() {
+        // no-op
+    }
+
+    /**
+     * Create Akka Props object for this actor.
+     *
+     * @return Props for this actor.
+     */
+    public static Props props() {
+        return Props.create(PolicySubjectIndexActor.class);
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(SudoStreamPoliciesBySubject.class, this::startStreaming)
+                .matchAny(message -> log.warning("Unexpected message: <{}>", message))
+                .build();
+    }
+
+    private void startStreaming(final SudoStreamPoliciesBySubject command) {
+        log.withCorrelationId(command).info("Starting stream for <{}>", command);
+        final Duration timeout = Duration.ofMillis(command.getTimeoutMillis());
+        final CompletionStage<SourceRef<PolicyTag>> sourceRef =
+                subjectIndex.streamPolicies(command.getSubjectId(), command.getLowerBound(), command.getBurst())
+                        .initialTimeout(timeout)
+                        .idleTimeout(timeout)
+                        .runWith(StreamRefs.sourceRef(), materializer);
+        Patterns.pipe(sourceRef, getContext().getDispatcher()).to(getSender());
+    }
+
+}
@@ -18,6 +18,7 @@ import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.policies.PoliciesModelFactory;
 import org.eclipse.ditto.model.policies.Policy;
 import org.eclipse.ditto.services.utils.persistence.mongo.AbstractMongoSnapshotAdapter;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotEncodingConfig;
 import org.slf4j.LoggerFactory;
 
 /**
@@ -34,6 +35,15 @@ public final class PolicyMongoSnapshotAdapter extends AbstractMongoSnapshotAdapt
         super(LoggerFactory.getLogger(PolicyMongoSnapshotAdapter.class));
     }
 
+    /**
+     * Constructs a new {@code PolicyMongoSnapshotAdapter} which writes snapshots in the configured encoding.
+     *
+     * @param snapshotEncodingConfig the config of the encoding of written snapshots.
+     */
+    public PolicyMongoSnapshotAdapter(final SnapshotEncodingConfig snapshotEncodingConfig) {
+        super(LoggerFactory.getLogger(PolicyMongoSnapshotAdapter.class), snapshotEncodingConfig);
+    }
+
     @Override
     protected Policy createJsonifiableFrom(final JsonObject jsonObject) {
         return PoliciesModelFactory.newPolicy(jsonObject);
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.policies.persistence.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.model.base.entity.id.DefaultEntityId;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.policies.EffectedPermissions;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.PoliciesResourceType;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.Resource;
+import org.eclipse.ditto.services.models.policies.PolicyTag;
+import org.eclipse.ditto.services.models.policies.commands.sudo.SudoStreamPoliciesBySubject;
+import org.eclipse.ditto.services.policies.persistence.TestConstants;
+import org.eclipse.ditto.services.policies.persistence.serializer.PolicyMongoSnapshotAdapter;
+import org.eclipse.ditto.services.utils.test.mongo.MongoDbResource;
+import org.eclipse.ditto.signals.commands.policies.modify.CreatePolicy;
+import org.eclipse.ditto.signals.commands.policies.modify.CreatePolicyResponse;
+import org.eclipse.ditto.signals.commands.policies.modify.DeletePolicy;
+import org.eclipse.ditto.signals.commands.policies.modify.DeletePolicyResponse;
+import org.eclipse.ditto.signals.commands.policies.modify.ModifyResource;
+import org.eclipse.ditto.signals.commands.policies.modify.ModifyResourceResponse;
+import org.eclipse.ditto.signals.commands.policies.query.RetrievePolicy;
+import org.eclipse.ditto.signals.commands.policies.query.RetrievePolicyResponse;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.PoisonPill;
+import akka.stream.ActorMaterializer;
+import akka.stream.SourceRef;
+import akka.stream.javadsl.Sink;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests that {@link PolicyPersistenceActor} maintains the {@link PolicySubjectIndex} and that
+ * {@link PolicySubjectIndexActor} streams it.
+ */
+public final class PolicyPersistenceActorSubjectIndexIT extends PersistenceActorTestBase {
+
+    private static final String SUBJECT_ID = POLICY_SUBJECT_ID.toString();
+    private static final Duration TIMEOUT = Duration.ofSeconds(10L);
+
+    private static MongoDbResource mongoResource;
+
+    private PolicySubjectIndex subjectIndex;
+
+    @BeforeClass
+    public static void startMongoResource() {
+        mongoResource = new MongoDbResource("localhost");
+        mongoResource.start();
+    }
+
+    @AfterClass
+    public static void stopMongoResource() {
+        try {
+            if (null != mongoResource) {
+                mongoResource.stop();
+            }
+        } catch (final IllegalStateException e) {
+            System.err.println("IllegalStateException during shutdown of MongoDB: " + e.getMessage());
+        }
+    }
+
+    @Before
+    public void setUp() {
+        setup(ConfigFactory.parseString("ditto.mongodb.uri = \"mongodb://" + mongoResource.getBindIp() + ":" +
+                mongoResource.getPort() + "/policySubjectIndexActorIT\"\n" +
+                "ditto.policies.policy.subject-index-enabled = true"));
+        subjectIndex = PolicySubjectIndex.get(actorSystem);
+    }
+
+    @Test
+    public void subjectsOfCreatedPolicyAreIndexedAndStreamed() {
+        new TestKit(actorSystem) {
+            {
+                final Policy policy = createPolicyWithRandomId();
+                final PolicyId policyId = policy.getEntityId().orElseThrow(NoSuchElementException::new);
+                final ActorRef underTest = createPersistenceActorFor(policyId);
+
+                underTest.tell(CreatePolicy.of(policy, dittoHeadersV2), getRef());
+                expectMsgClass(CreatePolicyResponse.class);
+                awaitAssert(TIMEOUT, () -> assertThat(await(subjectIndex.getSubjectIds(policyId)))
+                        .containsExactly(SUBJECT_ID));
+
+                final ActorRef indexActor = actorSystem.actorOf(PolicySubjectIndexActor.props());
+                indexActor.tell(SudoStreamPoliciesBySubject.of(SUBJECT_ID, 10, TIMEOUT.toMillis(), dittoHeadersV2),
+                        getRef());
+                @SuppressWarnings("unchecked")
+                final SourceRef<PolicyTag> sourceRef = expectMsgClass(SourceRef.class);
+                final List<PolicyTag> policyTags = await(sourceRef.getSource()
+                        .runWith(Sink.seq(), ActorMaterializer.create(actorSystem)));
+                assertThat(policyTags).contains(PolicyTag.of(policyId, 1L));
+            }
+        };
+    }
+
+    @Test
+    public void deletedPolicyIsRemovedFromIndex() {
+        new TestKit(actorSystem) {
+            {
+                final Policy policy = createPolicyWithRandomId();
+                final PolicyId policyId = policy.getEntityId().orElseThrow(NoSuchElementException::new);
+                final ActorRef underTest = createPersistenceActorFor(policyId);
+
+                underTest.tell(CreatePolicy.of(policy, dittoHeadersV2), getRef());
+                expectMsgClass(CreatePolicyResponse.class);
+                underTest.tell(DeletePolicy.of(policyId, dittoHeadersV2), getRef());
+                expectMsgClass(DeletePolicyResponse.class);
+
+                awaitAssert(TIMEOUT, () -> assertThat(await(subjectIndex.getSubjectIds(policyId))).isEmpty());
+            }
+        };
+    }
+
+    @Test
+    public void upToDateIndexIsNotWrittenOnRecovery() {
+        new TestKit(actorSystem) {
+            {
+                final Policy policy = createPolicyWithRandomId();
+                final PolicyId policyId = policy.getEntityId().orElseThrow(NoSuchElementException::new);
+                final ActorRef underTest = watch(createPersistenceActorFor(policyId));
+
+                underTest.tell(CreatePolicy.of(policy, dittoHeadersV2), getRef());
+                expectMsgClass(CreatePolicyResponse.class);
+                awaitAssert(TIMEOUT, () -> assertThat(streamPolicies()).contains(PolicyTag.of(policyId, 1L)));
+
+                // revision 2 does not change the subjects and is thus not written to the index
+                final Resource resource = Resource.newInstance(PoliciesResourceType.policyResource("/attributes"),
+                        EffectedPermissions.newInstance(PoliciesModelFactory.noPermissions(),
+                                TestConstants.Policy.PERMISSIONS_ALL));
+                underTest.tell(ModifyResource.of(policyId, POLICY_LABEL, resource,
+                        createDittoHeaders(JsonSchemaVersion.LATEST, AUTH_SUBJECT)), getRef());
+                expectMsgClass(ModifyResourceResponse.class);
+
+                underTest.tell(PoisonPill.getInstance(), getRef());
+                expectTerminated(underTest);
+
+                final ActorRef recovered = createPersistenceActorFor(policyId);
+                recovered.tell(RetrievePolicy.of(policyId, dittoHeadersV2), getRef());
+                expectMsgClass(RetrievePolicyResponse.class);
+
+                // give a write of the recovered actor the time to complete
+                expectNoMessage(Duration.ofSeconds(2L));
+                assertThat(streamPolicies()).contains(PolicyTag.of(policyId, 1L));
+            }
+        };
+    }
+
+    private ActorRef createPersistenceActorFor(final PolicyId policyId) {
+        return actorSystem.actorOf(
+                PolicyPersistenceActor.props(policyId, new PolicyMongoSnapshotAdapter(), pubSubMediator));
+    }
+
+    private List<PolicyTag> streamPolicies() {
+        return await(subjectIndex.streamPolicies(SUBJECT_ID, DefaultEntityId.dummy(), 10)
+                .runWith(Sink.seq(), ActorMaterializer.create(actorSystem)));
+    }
+
+    private static <T> T await(final CompletionStage<T> stage) {
+        return stage.toCompletableFuture().orTimeout(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS).join();
+    }
+
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.policies.persistence.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.Document;
+import org.eclipse.ditto.model.base.entity.id.DefaultEntityId;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.services.models.policies.PolicyTag;
+import org.eclipse.ditto.services.utils.persistence.mongo.DittoMongoClient;
+import org.eclipse.ditto.services.utils.persistence.mongo.MongoClientWrapper;
+import org.eclipse.ditto.services.utils.persistence.mongo.indices.IndexInitializer;
+import org.eclipse.ditto.services.utils.test.mongo.MongoDbResource;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.mongodb.reactivestreams.client.MongoCollection;
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorSystem;
+import akka.stream.ActorMaterializer;
+import akka.stream.javadsl.Sink;
+import akka.stream.javadsl.Source;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link PolicySubjectIndex}.
+ */
+public final class PolicySubjectIndexIT {
+
+    private static final PolicyId POLICY_ID = PolicyId.of("test.ns", "policy1");
+    private static final PolicyId OTHER_POLICY_ID = PolicyId.of("test.ns", "policy2");
+    private static final String SUBJECT_1 = "google:subject1";
+    private static final String SUBJECT_2 = "google:subject2";
+    private static final Duration TIMEOUT = Duration.ofSeconds(10L);
+
+    private static MongoDbResource mongoResource;
+    private static DittoMongoClient mongoClient;
+
+    private ActorSystem actorSystem;
+    private ActorMaterializer materializer;
+    private MongoCollection<Document> collection;
+    private PolicySubjectIndex underTest;
+
+    @BeforeClass
+    public static void startMongoResource() {
+        mongoResource = new MongoDbResource("localhost");
+        mongoResource.start();
+        mongoClient = MongoClientWrapper.getBuilder()
+                .hostnameAndPort(mongoResource.getBindIp(), mongoResource.getPort())
+                .defaultDatabaseName("policySubjectIndexIT")
+                .connectionPoolMaxSize(100)
+                .connectionPoolMaxWaitQueueSize(500_000)
+                .connectionPoolMaxWaitTime(Duration.ofSeconds(30))
+                .build();
+    }
+
+    @AfterClass
+    public static void stopMongoResource() {
+        try {
+            if (null != mongoClient) {
+                mongoClient.close();
+            }
+            if (null != mongoResource) {
+                mongoResource.stop();
+            }
+        } catch (final IllegalStateException e) {
+            System.err.println("IllegalStateException during shutdown of MongoDB: " + e.getMessage());
+        }
+    }
+
+    @Before
+    public void setUp() {
+        actorSystem = ActorSystem.create("AkkaTestSystem", ConfigFactory.load("test"));
+        materializer = ActorMaterializer.create(actorSystem);
+        await(IndexInitializer.of(mongoClient.getDefaultDatabase(), materializer)
+                .initialize(PolicySubjectIndex.COLLECTION_NAME, PolicySubjectIndex.INDICES));
+        collection = mongoClient.getDefaultDatabase().getCollection(PolicySubjectIndex.COLLECTION_NAME);
+        underTest = PolicySubjectIndex.of(collection, materializer);
+    }
+
+    @After
+    public void tearDown() {
+        if (null != collection) {
+            runBlocking(Source.fromPublisher(collection.drop()));
+        }
+        if (null != actorSystem) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void updateWritesAllSubjects() {
+        await(underTest.update(POLICY_ID, 1L, subjects(SUBJECT_1, SUBJECT_2)));
+
+        assertThat(await(underTest.getSubjectIds(POLICY_ID))).containsExactlyInAnyOrder(SUBJECT_1, SUBJECT_2);
+        assertThat(streamPolicies(SUBJECT_2)).containsExactly(PolicyTag.of(POLICY_ID, 1L));
+    }
+
+    @Test
+    public void updateRemovesSubjectsNoLongerInPolicy() {
+        await(underTest.update(POLICY_ID, 1L, subjects(SUBJECT_1, SUBJECT_2)));
+        await(underTest.update(POLICY_ID, 2L, subjects(SUBJECT_1)));
+
+        assertThat(await(underTest.getSubjectIds(POLICY_ID))).containsExactly(SUBJECT_1);
+        assertThat(streamPolicies(SUBJECT_1)).containsExactly(PolicyTag.of(POLICY_ID, 2L));
+        assertThat(streamPolicies(SUBJECT_2)).isEmpty();
+    }
+
+    @Test
+    public void updateWithEmptySubjectsRemovesDeletedPolicy() {
+        await(underTest.update(POLICY_ID, 1L, subjects(SUBJECT_1)));
+        await(underTest.update(OTHER_POLICY_ID, 1L, subjects(SUBJECT_1)));
+        await(underTest.update(POLICY_ID, 2L, Collections.emptySet()));
+
+        assertThat(await(underTest.getSubjectIds(POLICY_ID))).isEmpty();
+        assertThat(streamPolicies(SUBJECT_1)).containsExactly(PolicyTag.of(OTHER_POLICY_ID, 1L));
+    }
+
+    @Test
+    public void updateOfOlderRevisionNeitherReplacesNorRemovesSubjects() {
+        await(underTest.update(POLICY_ID, 5L, subjects(SUBJECT_1)));
+        await(underTest.update(POLICY_ID, 4L, subjects(SUBJECT_1, SUBJECT_2)));
+        await(underTest.update(POLICY_ID, 3L, Collections.emptySet()));
+
+        assertThat(await(underTest.getSubjectIds(POLICY_ID))).containsExactly(SUBJECT_1);
+        assertThat(streamPolicies(SUBJECT_1)).containsExactly(PolicyTag.of(POLICY_ID, 5L));
+    }
+
+    @Test
+    public void updateOfOlderRevisionAfterDeletionDoesNotReinsertSubjects() {
+        await(underTest.update(POLICY_ID, 1L, subjects(SUBJECT_1)));
+        await(underTest.update(POLICY_ID, 2L, Collections.emptySet()));
+        await(underTest.update(POLICY_ID, 1L, subjects(SUBJECT_1, SUBJECT_2)));
+
+        assertThat(await(underTest.getSubjectIds(POLICY_ID))).isEmpty();
+        assertThat(streamPolicies(SUBJECT_1)).isEmpty();
+        assertThat(streamPolicies(SUBJECT_2)).isEmpty();
+    }
+
+    @Test
+    public void updateRemovesSubjectsOfOlderRevisionInsertedConcurrently() {
+        await(underTest.update(POLICY_ID, 2L, subjects(SUBJECT_1)));
+        // the subject inserted by a write of revision 1 after the write of revision 2 removed it
+        runBlocking(Source.fromPublisher(collection.insertOne(new Document()
+                .append(PolicySubjectIndex.FIELD_SUBJECT_ID, SUBJECT_2)
+                .append(PolicySubjectIndex.FIELD_POLICY_ID, POLICY_ID.toString())
+                .append(PolicySubjectIndex.FIELD_REVISION, 1L))));
+        await(underTest.update(POLICY_ID, 1L, subjects(SUBJECT_1, SUBJECT_2)));
+
+        assertThat(await(underTest.getSubjectIds(POLICY_ID))).containsExactly(SUBJECT_1);
+        assertThat(streamPolicies(SUBJECT_1)).containsExactly(PolicyTag.of(POLICY_ID, 2L));
+        assertThat(streamPolicies(SUBJECT_2)).isEmpty();
+    }
+
+    @Test
+    public void updateIfChangedSkipsUpToDateIndex() {
+        await(underTest.update(POLICY_ID, 1L, subjects(SUBJECT_1)));
+        await(underTest.updateIfChanged(POLICY_ID, 2L, subjects(SUBJECT_1)));
+
+        assertThat(streamPolicies(SUBJECT_1)).containsExactly(PolicyTag.of(POLICY_ID, 1L));
+
+        await(underTest.updateIfChanged(POLICY_ID, 3L, subjects(SUBJECT_1, SUBJECT_2)));
+
+        assertThat(streamPolicies(SUBJECT_1)).containsExactly(PolicyTag.of(POLICY_ID, 3L));
+        assertThat(streamPolicies(SUBJECT_2)).containsExactly(PolicyTag.of(POLICY_ID, 3L));
+    }
+
+    @Test
+    public void streamPoliciesIsOrderedByPolicyIdAndStartsAfterLowerBound() {
+        await(underTest.update(OTHER_POLICY_ID, 2L, subjects(SUBJECT_1)));
+        await(underTest.update(POLICY_ID, 1L, subjects(SUBJECT_1)));
+
+        assertThat(streamPolicies(SUBJECT_1))
+                .containsExactly(PolicyTag.of(POLICY_ID, 1L), PolicyTag.of(OTHER_POLICY_ID, 2L));
+        assertThat(runBlocking(underTest.streamPolicies(SUBJECT_1, POLICY_ID, 1)))
+                .containsExactly(PolicyTag.of(OTHER_POLICY_ID, 2L));
+    }
+
+    private List<PolicyTag> streamPolicies(final String subjectId) {
+        return runBlocking(underTest.streamPolicies(subjectId, DefaultEntityId.dummy(), 1));
+    }
+
+    private static Set<String> subjects(final String... subjectIds) {
+        return new HashSet<>(Arrays.asList(subjectIds));
+    }
+
+    private <T> List<T> runBlocking(final Source<T, ?> source) {
+        return await(source.runWith(Sink.seq(), materializer));
+    }
+
+    private static <T> T await(final CompletionStage<T> stage) {
+        return stage.toCompletableFuture().orTimeout(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS).join();
+    }
+
+}
@@ -27,6 +27,7 @@ import org.eclipse.ditto.services.models.policies.PoliciesMessagingConstants;
 import org.eclipse.ditto.services.policies.common.config.PoliciesConfig;
 import org.eclipse.ditto.services.policies.persistence.actors.PoliciesPersistenceStreamingActorCreator;
 import org.eclipse.ditto.services.policies.persistence.actors.PolicyPersistenceOperationsActor;
+import org.eclipse.ditto.services.policies.persistence.actors.PolicySubjectIndexActor;
 import org.eclipse.ditto.services.policies.persistence.actors.PolicySupervisorActor;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
 import org.eclipse.ditto.services.utils.cluster.ClusterStatusSupplier;
@@ -96,6 +97,12 @@ public final class PoliciesRootActor extends DittoRootActor {
         pubSubMediator.tell(DistPubSubAccess.put(getSelf()), getSelf());
         pubSubMediator.tell(DistPubSubAccess.put(persistenceStreamingActor), getSelf());
 
+        if (policiesConfig.getPolicyConfig().isSubjectIndexEnabled()) {
+            final ActorRef subjectIndexActor =
+                    startChildActor(PolicySubjectIndexActor.ACTOR_NAME, PolicySubjectIndexActor.props());
+            pubSubMediator.tell(DistPubSubAccess.put(subjectIndexActor), getSelf());
+        }
+
         final ClusterConfig clusterConfig = policiesConfig.getClusterConfig();
         final ActorRef policiesShardRegion = ClusterSharding.get(actorSystem)
                 .start(PoliciesMessagingConstants.SHARD_REGION, policySupervisorProps, shardingSettings,
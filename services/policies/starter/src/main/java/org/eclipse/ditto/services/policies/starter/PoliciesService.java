@@ -59,7 +59,9 @@ public final class PoliciesService extends DittoService<PoliciesConfig> {
     protected Props getMainRootActorProps(final PoliciesConfig policiesConfig, final ActorRef pubSubMediator,
             final ActorMaterializer materializer) {
 
-        return PoliciesRootActor.props(policiesConfig, new PolicyMongoSnapshotAdapter(), pubSubMediator, materializer);
+        final PolicyMongoSnapshotAdapter snapshotAdapter = new PolicyMongoSnapshotAdapter(
+                policiesConfig.getPolicyConfig().getSnapshotConfig().getEncodingConfig());
+        return PoliciesRootActor.props(policiesConfig, snapshotAdapter, pubSubMediator, materializer);
     }
 
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.common.config;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link LocalReadEnforcementConfig}.
+ */
+@Immutable
+public final class DefaultLocalReadEnforcementConfig implements LocalReadEnforcementConfig {
+
+    private static final String CONFIG_PATH = "local-read-enforcement";
+    private static final String POLICY_ENFORCER_CACHE_CONFIG_PATH = "policy-enforcer-cache";
+
+    private final boolean enabled;
+    private final Duration askTimeout;
+    private final CacheConfig policyEnforcerCacheConfig;
+
+    private DefaultLocalReadEnforcementConfig(final ScopedConfig scopedConfig) {
+        enabled = scopedConfig.getBoolean(LocalReadEnforcementConfigValue.ENABLED.getConfigPath());
+        askTimeout = scopedConfig.getDuration(LocalReadEnforcementConfigValue.ASK_TIMEOUT.getConfigPath());
+        policyEnforcerCacheConfig = DefaultCacheConfig.of(scopedConfig, POLICY_ENFORCER_CACHE_CONFIG_PATH);
+    }
+
+    /**
+     * Returns an instance of the local read enforcement config based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the local read enforcement config at
+     * {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultLocalReadEnforcementConfig of(final Config config) {
+        return new DefaultLocalReadEnforcementConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, LocalReadEnforcementConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public Duration getAskTimeout() {
+        return askTimeout;
+    }
+
+    @Override
+    public CacheConfig getPolicyEnforcerCacheConfig() {
+        return policyEnforcerCacheConfig;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultLocalReadEnforcementConfig that = (DefaultLocalReadEnforcementConfig) o;
+        return enabled == that.enabled &&
+                Objects.equals(askTimeout, that.askTimeout) &&
+                Objects.equals(policyEnforcerCacheConfig, that.policyEnforcerCacheConfig);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, askTimeout, policyEnforcerCacheConfig);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", askTimeout=" + askTimeout +
+                ", policyEnforcerCacheConfig=" + policyEnforcerCacheConfig +
+                "]";
+    }
+
+}
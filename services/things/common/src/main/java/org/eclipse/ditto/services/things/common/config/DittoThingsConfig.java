@@ -47,6 +47,7 @@ public final class DittoThingsConfig implements ThingsConfig {
     private final HealthCheckConfig healthCheckConfig;
     private final TagsConfig tagsConfig;
     private final ThingConfig thingConfig;
+    private final LocalReadEnforcementConfig localReadEnforcementConfig;
 
     private DittoThingsConfig(final ScopedConfig dittoScopedConfig) {
         serviceSpecificConfig = DittoServiceConfig.of(dittoScopedConfig, CONFIG_PATH);
@@ -56,6 +57,7 @@ public final class DittoThingsConfig implements ThingsConfig {
         healthCheckConfig = DefaultHealthCheckConfig.of(dittoScopedConfig);
         tagsConfig = DefaultTagsConfig.of(serviceSpecificConfig);
         thingConfig = DefaultThingConfig.of(serviceSpecificConfig);
+        localReadEnforcementConfig = DefaultLocalReadEnforcementConfig.of(serviceSpecificConfig);
     }
 
     /**
@@ -120,6 +122,11 @@ public final class DittoThingsConfig implements ThingsConfig {
         return thingConfig;
     }
 
+    @Override
+    public LocalReadEnforcementConfig getLocalReadEnforcementConfig() {
+        return localReadEnforcementConfig;
+    }
+
     @Override
     public boolean equals(@Nullable final Object o) {
         if (this == o) {
@@ -135,13 +142,14 @@ public final class DittoThingsConfig implements ThingsConfig {
                 Objects.equals(mongoDbConfig, that.mongoDbConfig) &&
                 Objects.equals(healthCheckConfig, that.healthCheckConfig) &&
                 Objects.equals(tagsConfig, that.tagsConfig) &&
-                Objects.equals(thingConfig, that.thingConfig);
+                Objects.equals(thingConfig, that.thingConfig) &&
+                Objects.equals(localReadEnforcementConfig, that.localReadEnforcementConfig);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(serviceSpecificConfig, logIncomingMessages, persistenceOperationsConfig, mongoDbConfig,
-                healthCheckConfig, tagsConfig, thingConfig);
+                healthCheckConfig, tagsConfig, thingConfig, localReadEnforcementConfig);
     }
 
     @Override
@@ -154,6 +162,7 @@ public final class DittoThingsConfig implements ThingsConfig {
                 ", healthCheckConfig=" + healthCheckConfig +
                 ", tagsConfig=" + tagsConfig +
                 ", thingConfig=" + thingConfig +
+                ", localReadEnforcementConfig=" + localReadEnforcementConfig +
                 "]";
     }
 
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.common.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for the enforcement of thing query commands inside the things service, which
+ * spares query commands routed directly from the gateway the hop via concierge.
+ */
+@Immutable
+public interface LocalReadEnforcementConfig {
+
+    /**
+     * Indicates whether the things service enforces thing query commands which were not enforced by concierge.
+     *
+     * @return {@code true} if local read enforcement is enabled, {@code false} else.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the timeout of asking the policies shard region for policies and the thing persistence actors for the
+     * policy ID of their things.
+     *
+     * @return the ask timeout.
+     */
+    Duration getAskTimeout();
+
+    /**
+     * Returns the config of the policy enforcer cache of the things service.
+     *
+     * @return the cache config.
+     */
+    CacheConfig getPolicyEnforcerCacheConfig();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code LocalReadEnforcementConfig}.
+     */
+    enum LocalReadEnforcementConfigValue implements KnownConfigValue {
+
+        /**
+         * Determines whether local read enforcement is enabled.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The timeout of asking for policies and policy IDs.
+         */
+        ASK_TIMEOUT("ask-timeout", "10s");
+
+        private final String path;
+        private final Object defaultValue;
+
+        LocalReadEnforcementConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
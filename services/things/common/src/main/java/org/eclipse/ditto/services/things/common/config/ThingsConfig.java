@@ -43,6 +43,13 @@ public interface ThingsConfig extends ServiceSpecificConfig, WithHealthCheckConf
      */
     ThingConfig getThingConfig();
 
+    /**
+     * Returns the configuration settings for the enforcement of thing query commands inside the things service.
+     *
+     * @return the config.
+     */
+    LocalReadEnforcementConfig getLocalReadEnforcementConfig();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for {@code ThingsConfig}.
      */
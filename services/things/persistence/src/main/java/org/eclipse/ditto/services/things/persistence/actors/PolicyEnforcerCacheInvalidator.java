@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
+import org.eclipse.ditto.signals.events.policies.PolicyEvent;
+
+import akka.actor.AbstractActor;
+import akka.actor.ActorRef;
+import akka.actor.Props;
+import akka.cluster.Cluster;
+import akka.cluster.pubsub.DistributedPubSubMediator;
+import akka.event.DiagnosticLoggingAdapter;
+import akka.japi.pf.ReceiveBuilder;
+
+/**
+ * Actor that invalidates the entries of the policy enforcer cache of the things service whenever the cached policies
+ * are modified. It subscribes for policy events with a group of its own so that each instance of the things service
+ * receives every policy event.
+ */
+public final class PolicyEnforcerCacheInvalidator extends AbstractActor {
+
+    /**
+     * Name of this actor.
+     */
+    public static final String ACTOR_NAME = "policyEnforcerCacheInvalidator";
+
+    private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
+
+    private final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache;
+
+    @SuppressWarnings("unused")
+    private PolicyEnforcerCacheInvalidator(final ActorRef pubSubMediator,
+            final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache) {
+
+        this.policyEnforcerCache = policyEnforcerCache;
+        final String group = ACTOR_NAME + ":" + Cluster.get(getContext().getSystem()).selfAddress();
+        pubSubMediator.tell(DistPubSubAccess.subscribeViaGroup(PolicyEvent.TYPE_PREFIX, group, getSelf()),
+                getSelf());
+    }
+
+    /**
+     * Create Props of an actor to invalidate the entries of a policy enforcer cache.
+     *
+     * @param pubSubMediator the pub-sub mediator to subscribe for policy events.
+     * @param policyEnforcerCache the cache to invalidate.
+     * @return the Props object.
+     */
+    public static Props props(final ActorRef pubSubMediator,
+            final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache) {
+
+        return Props.create(PolicyEnforcerCacheInvalidator.class, pubSubMediator, policyEnforcerCache);
+    }
+
+    @Override
+    public Receive createReceive() {
+        return ReceiveBuilder.create()
+                .match(PolicyEvent.class, this::invalidate)
+                .match(DistributedPubSubMediator.SubscribeAck.class, this::subscribeAck)
+                .matchAny(message -> log.warning("Unhandled: <{}>", message))
+                .build();
+    }
+
+    private void invalidate(final PolicyEvent<?> policyEvent) {
+        log.debug("Invalidating enforcer of policy <{}> at revision <{}>.", policyEvent.getPolicyEntityId(),
+                policyEvent.getRevision());
+        policyEnforcerCache.invalidate(
+                EntityIdWithResourceType.of(PolicyCommand.RESOURCE_TYPE, policyEvent.getPolicyEntityId()));
+    }
+
+    private void subscribeAck(final DistributedPubSubMediator.SubscribeAck subscribeAck) {
+        log.info("Subscribed for policy events: <{}>", subscribeAck);
+    }
+
+}
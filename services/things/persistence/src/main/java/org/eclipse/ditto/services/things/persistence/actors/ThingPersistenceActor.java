@@ -28,6 +28,7 @@ import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WriteBatchConfig;
 import org.eclipse.ditto.services.utils.persistentactors.AbstractShardedPersistenceActor;
 import org.eclipse.ditto.services.utils.persistentactors.commands.CommandStrategy;
 import org.eclipse.ditto.services.utils.persistentactors.commands.DefaultContext;
@@ -153,6 +154,11 @@ public final class ThingPersistenceActor
         return thingConfig.getSnapshotConfig();
     }
 
+    @Override
+    protected WriteBatchConfig getWriteBatchConfig() {
+        return thingConfig.getWriteBatchConfig();
+    }
+
     @Override
     protected boolean entityExistsAsDeleted() {
         return null != entity && entity.hasLifecycle(ThingLifecycle.DELETED);
@@ -169,12 +175,15 @@ public final class ThingPersistenceActor
             entity = enhanceThingWithLifecycle(entity);
             log.info("Thing <{}> was recovered.", entityId);
             becomeCreatedOrDeletedHandler();
+            publishReadView();
         }
     }
 
     @Override
     protected void publishEvent(final ThingEvent event) {
         distributedPub.publish(event, getSender());
+        // the event is applied to the thing already
+        publishReadView();
     }
 
     @Override
@@ -182,6 +191,17 @@ public final class ThingPersistenceActor
         return entity.getImplementedSchemaVersion();
     }
 
+    /**
+     * Publish the committed state of the thing to the supervisor before any response to the command which changed
+     * it, so that a query sent after the response is answered with the changed thing.
+     */
+    private void publishReadView() {
+        final ThingReadView readView = null != entity && !entityExistsAsDeleted()
+                ? ThingReadView.of(entityId, entity, getRevisionNumber())
+                : ThingReadView.empty();
+        getContext().getParent().tell(readView, getSelf());
+    }
+
     private static Thing enhanceThingWithLifecycle(final Thing thing) {
         final ThingBuilder.FromCopy thingBuilder = ThingsModelFactory.newThingBuilder(thing);
         if (!thing.getLifecycle().isPresent()) {
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldSelector;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.namespaces.NamespaceBlockedException;
+import org.eclipse.ditto.model.policies.Permissions;
+import org.eclipse.ditto.model.policies.PoliciesResourceType;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.ResourceKey;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingConstants;
+import org.eclipse.ditto.services.models.policies.Permission;
+import org.eclipse.ditto.services.models.things.commands.sudo.EnforcedThingQuery;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.eclipse.ditto.services.utils.namespaces.BlockNamespaceBehavior;
+import org.eclipse.ditto.signals.commands.policies.PolicyCommand;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingCommandToAccessExceptionRegistry;
+import org.eclipse.ditto.signals.commands.things.query.ThingQueryCommand;
+import org.eclipse.ditto.signals.commands.things.query.ThingQueryCommandResponse;
+
+import akka.actor.ActorRef;
+import akka.pattern.Patterns;
+
+/**
+ * Enforces the thing query commands of {@link EnforcedThingQuery} commands inside the things service by the policy of
+ * the queried thing, in the same way as concierge enforces thing query commands: the command is executed only if the
+ * requester has partial READ permission on the resource of the command, and the view on the response is restricted to
+ * the readable fields.
+ * <p>
+ * Queries which cannot be enforced locally, e.g. of things which are unknown or not controlled by an existing policy,
+ * are answered with the {@code EnforcedThingQuery} itself, so that the sender routes them via concierge.
+ * </p>
+ * <p>
+ * Like the pre-enforcer of concierge, queries of things in blocked namespaces are rejected with a
+ * {@link NamespaceBlockedException} before they reach the persistence actor.
+ * </p>
+ */
+@Immutable
+public final class ThingQueryEnforcement {
+
+    /**
+     * JSON fields that are always shown regardless of authorization.
+     */
+    private static final JsonFieldSelector THING_QUERY_COMMAND_RESPONSE_WHITELIST =
+            JsonFactory.newFieldSelector(Thing.JsonFields.ID);
+
+    private static final JsonFieldSelector POLICY_ID_SELECTOR =
+            JsonFactory.newFieldSelector(Thing.JsonFields.POLICY_ID);
+
+    private final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache;
+    private final BlockNamespaceBehavior blockNamespaceBehavior;
+    private final Duration askTimeout;
+
+    private ThingQueryEnforcement(final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
+            final BlockNamespaceBehavior blockNamespaceBehavior, final Duration askTimeout) {
+
+        this.policyEnforcerCache = requireNonNull(policyEnforcerCache);
+        this.blockNamespaceBehavior = requireNonNull(blockNamespaceBehavior);
+        this.askTimeout = requireNonNull(askTimeout);
+    }
+
+    /**
+     * Creates a {@code ThingQueryEnforcement}.
+     *
+     * @param policyEnforcerCache the cache of policy enforcers of the things service.
+     * @param blockNamespaceBehavior the behavior rejecting queries of things in blocked namespaces.
+     * @param askTimeout the timeout of asking the thing persistence actor.
+     * @return the enforcement.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public static ThingQueryEnforcement of(final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache,
+            final BlockNamespaceBehavior blockNamespaceBehavior, final Duration askTimeout) {
+
+        return new ThingQueryEnforcement(policyEnforcerCache, blockNamespaceBehavior, askTimeout);
+    }
+
+    /**
+     * Enforces the query command of an {@code EnforcedThingQuery} and executes it if it is authorized.
+     *
+     * @param enforcedThingQuery the command carrying the query command to enforce.
+     * @param persistenceActor the persistence actor of the queried thing.
+     * @return a future of the response with a view restricted by the policy of the thing, of an error if the query
+     * command is not authorized or its namespace is blocked, or of {@code enforcedThingQuery} if the query command
+     * cannot be enforced locally.
+     */
+    public CompletionStage<Object> enforce(final EnforcedThingQuery enforcedThingQuery,
+            final ActorRef persistenceActor) {
+
+        final ThingQueryCommand<?> query = enforcedThingQuery.getThingQueryCommand();
+        final SudoRetrieveThing retrievePolicyId =
+                SudoRetrieveThing.of(query.getThingEntityId(), POLICY_ID_SELECTOR, query.getDittoHeaders());
+
+        return blockNamespaceBehavior.block(query)
+                .thenCompose(unblockedQuery -> Patterns.ask(persistenceActor, retrievePolicyId, askTimeout))
+                .thenCompose(response -> getPolicyId(response)
+                        .map(policyId -> lookUpEnforcer(policyId).thenCompose(enforcer -> enforcer
+                                .map(theEnforcer -> enforceWith(query, theEnforcer, persistenceActor))
+                                .orElseGet(() -> CompletableFuture.completedFuture(enforcedThingQuery))))
+                        .orElseGet(() -> CompletableFuture.completedFuture(enforcedThingQuery)))
+                .exceptionally(error -> {
+                    final Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                    return cause instanceof NamespaceBlockedException ? cause : enforcedThingQuery;
+                });
+    }
+
+    private CompletionStage<Object> enforceWith(final ThingQueryCommand<?> query, final Enforcer enforcer,
+            final ActorRef persistenceActor) {
+
+        if (!isAuthorized(query, enforcer)) {
+            return CompletableFuture.completedFuture(
+                    ThingCommandToAccessExceptionRegistry.getInstance().exceptionFrom(query));
+        }
+        return Patterns.ask(persistenceActor, query, askTimeout)
+                .thenApply(response -> {
+                    if (response instanceof ThingQueryCommandResponse) {
+                        return buildJsonView((ThingQueryCommandResponse<?>) response, enforcer);
+                    }
+                    return response;
+                });
+    }
+
+    private CompletableFuture<Optional<Enforcer>> lookUpEnforcer(final PolicyId policyId) {
+        return policyEnforcerCache.get(EntityIdWithResourceType.of(PolicyCommand.RESOURCE_TYPE, policyId))
+                .thenApply(entry -> entry.filter(Entry::exists).map(Entry::getValueOrThrow));
+    }
+
+    private static Optional<PolicyId> getPolicyId(final Object sudoRetrieveThingResponse) {
+        if (sudoRetrieveThingResponse instanceof SudoRetrieveThingResponse) {
+            return ((SudoRetrieveThingResponse) sudoRetrieveThingResponse).getThing().getPolicyEntityId();
+        }
+        return Optional.empty();
+    }
+
+    private static boolean isAuthorized(final ThingQueryCommand<?> query, final Enforcer enforcer) {
+        final ResourceKey thingResourceKey = PoliciesResourceType.thingResource(query.getResourcePath());
+        final AuthorizationContext authorizationContext = query.getDittoHeaders().getAuthorizationContext();
+        return enforcer.hasPartialPermissions(thingResourceKey, authorizationContext, Permission.READ);
+    }
+
+    private static Object buildJsonView(final ThingQueryCommandResponse<?> response, final Enforcer enforcer) {
+        final JsonValue entity = response.getEntity();
+        if (entity.isObject()) {
+            final ResourceKey resourceKey =
+                    ResourceKey.newInstance(ThingConstants.ENTITY_TYPE, response.getResourcePath());
+            final AuthorizationContext authorizationContext = response.getDittoHeaders().getAuthorizationContext();
+            final JsonObject filteredView = enforcer.buildJsonView(resourceKey, entity.asObject(),
+                    authorizationContext, THING_QUERY_COMMAND_RESPONSE_WHITELIST,
+                    Permissions.newInstance(Permission.READ));
+            return response.setEntity(filteredView);
+        }
+        return response;
+    }
+
+}
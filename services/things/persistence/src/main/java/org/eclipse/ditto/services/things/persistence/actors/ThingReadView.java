@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+
+/**
+ * The latest committed state of a thing which {@link ThingPersistenceActor} publishes to its
+ * {@link ThingSupervisorActor}, so that the supervisor answers queries without waiting behind the writes in the
+ * mailbox of the persistence actor. The view is empty if the thing does not exist, is deleted or is not recovered.
+ */
+@Immutable
+final class ThingReadView {
+
+    private static final ThingReadView EMPTY = new ThingReadView(null, null, 0L);
+
+    @Nullable private final ThingId thingId;
+    @Nullable private final Thing thing;
+    private final long revision;
+
+    private ThingReadView(@Nullable final ThingId thingId, @Nullable final Thing thing, final long revision) {
+        this.thingId = thingId;
+        this.thing = thing;
+        this.revision = revision;
+    }
+
+    /**
+     * Create a read view of a committed thing.
+     *
+     * @param thingId the ID of the thing.
+     * @param thing the thing.
+     * @param revision the revision of the thing, i.e. the sequence number of the last persisted event.
+     * @return the read view.
+     */
+    static ThingReadView of(final ThingId thingId, final Thing thing, final long revision) {
+        return new ThingReadView(thingId, thing, revision);
+    }
+
+    /**
+     * @return the read view of a thing which is not available for queries.
+     */
+    static ThingReadView empty() {
+        return EMPTY;
+    }
+
+    /**
+     * @return the ID of the thing if the view is not empty.
+     */
+    Optional<ThingId> getThingId() {
+        return Optional.ofNullable(thingId);
+    }
+
+    /**
+     * @return the thing if the view is not empty.
+     */
+    Optional<Thing> getThing() {
+        return Optional.ofNullable(thing);
+    }
+
+    /**
+     * @return the revision of the thing.
+     */
+    long getRevision() {
+        return revision;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "thingId=" + thingId +
+                ", revision=" + revision +
+                "]";
+    }
+
+}
@@ -19,20 +19,33 @@ import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.model.base.entity.id.DefaultNamespacedEntityId;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeExceptionBuilder;
+import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
+import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingId;
 import org.eclipse.ditto.services.base.actors.ShutdownBehaviour;
 import org.eclipse.ditto.services.base.config.supervision.ExponentialBackOffConfig;
+import org.eclipse.ditto.services.models.things.commands.sudo.EnforcedThingQuery;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
 import org.eclipse.ditto.services.things.common.config.DittoThingsConfig;
+import org.eclipse.ditto.services.things.persistence.actors.strategies.commands.ThingCommandStrategies;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.persistentactors.AbstractPersistenceSupervisor;
+import org.eclipse.ditto.services.utils.persistentactors.commands.DefaultContext;
+import org.eclipse.ditto.services.utils.persistentactors.results.Result;
+import org.eclipse.ditto.services.utils.persistentactors.results.ResultVisitor;
 import org.eclipse.ditto.services.utils.pubsub.DistributedPub;
+import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.things.exceptions.ThingUnavailableException;
+import org.eclipse.ditto.signals.commands.things.query.ThingQueryCommand;
 import org.eclipse.ditto.signals.events.things.ThingEvent;
 
 import akka.actor.ActorKilledException;
 import akka.actor.ActorRef;
 import akka.actor.Props;
+import akka.japi.pf.ReceiveBuilder;
+import akka.pattern.Patterns;
 
 /**
  * Supervisor for {@link ThingPersistenceActor} which means it will create, start and watch it as child actor.
@@ -41,21 +54,32 @@ import akka.actor.Props;
  * Between the termination of the child and the restart, this actor answers to all requests with a
  * {@link ThingUnavailableException} as fail fast strategy.
  * </p>
+ * <p>
+ * Queries are answered from the latest committed thing which the child publishes as {@link ThingReadView}, so that
+ * they do not wait behind writes in the mailbox of the child. Queries are forwarded to the child if the view is
+ * empty.
+ * </p>
  */
-public final class ThingSupervisorActor extends AbstractPersistenceSupervisor<ThingId> {
+public final class ThingSupervisorActor extends AbstractPersistenceSupervisor<ThingId>
+        implements ResultVisitor<ThingEvent> {
 
     private final ActorRef pubSubMediator;
     private final DistributedPub<ThingEvent> distributedPub;
     private final ThingPersistenceActorPropsFactory thingPersistenceActorPropsFactory;
+    @Nullable private final ThingQueryEnforcement thingQueryEnforcement;
+    private ThingReadView readView;
 
     @SuppressWarnings("unused")
     private ThingSupervisorActor(final ActorRef pubSubMediator,
             final DistributedPub<ThingEvent> distributedPub,
-            final ThingPersistenceActorPropsFactory thingPersistenceActorPropsFactory) {
+            final ThingPersistenceActorPropsFactory thingPersistenceActorPropsFactory,
+            @Nullable final ThingQueryEnforcement thingQueryEnforcement) {
 
         this.pubSubMediator = pubSubMediator;
         this.distributedPub = distributedPub;
         this.thingPersistenceActorPropsFactory = thingPersistenceActorPropsFactory;
+        this.thingQueryEnforcement = thingQueryEnforcement;
+        readView = ThingReadView.empty();
     }
 
     /**
@@ -75,7 +99,60 @@ public final class ThingSupervisorActor extends AbstractPersistenceSupervisor<Th
             final DistributedPub<ThingEvent> distributedPub,
             final ThingPersistenceActorPropsFactory propsFactory) {
 
-        return Props.create(ThingSupervisorActor.class, pubSubMediator, distributedPub, propsFactory);
+        return props(pubSubMediator, distributedPub, propsFactory, null);
+    }
+
+    /**
+     * Props for creating a {@code ThingSupervisorActor} which enforces thing query commands which were not enforced
+     * by concierge.
+     *
+     * @param distributedPub distributed-pub access for publishing thing events.
+     * @param propsFactory factory for creating Props to be used for creating
+     * {@link ThingPersistenceActor}s.
+     * @param thingQueryEnforcement the enforcement of {@link EnforcedThingQuery} commands, or {@code null} if local
+     * read enforcement is disabled.
+     * @return the {@link Props} to create this actor.
+     */
+    public static Props props(
+            final ActorRef pubSubMediator,
+            final DistributedPub<ThingEvent> distributedPub,
+            final ThingPersistenceActorPropsFactory propsFactory,
+            @Nullable final ThingQueryEnforcement thingQueryEnforcement) {
+
+        return Props.create(ThingSupervisorActor.class, pubSubMediator, distributedPub, propsFactory,
+                thingQueryEnforcement);
+    }
+
+    @Override
+    protected void addActiveBehaviour(final ReceiveBuilder activeBehaviour) {
+        activeBehaviour.match(EnforcedThingQuery.class, this::enforceThingQuery)
+                .match(ThingReadView.class, this::updateReadView)
+                .match(ThingQueryCommand.class, this::queryReadView)
+                .match(SudoRetrieveThing.class, this::queryReadView);
+    }
+
+    @Override
+    protected void onChildTerminated() {
+        // the view of a terminated child is outdated as soon as its successor writes
+        readView = ThingReadView.empty();
+    }
+
+    @Override
+    public void onMutation(final Command command, final ThingEvent event, final WithDittoHeaders response,
+            final boolean becomeCreated, final boolean becomeDeleted) {
+
+        // queries do not mutate the thing; leave anything else to the child
+        forwardToChildIfAvailable(command);
+    }
+
+    @Override
+    public void onQuery(final Command command, final WithDittoHeaders response) {
+        getSender().tell(response, getSelf());
+    }
+
+    @Override
+    public void onError(final DittoRuntimeException error) {
+        getSender().tell(error, getSelf());
     }
 
     @Override
@@ -114,4 +191,45 @@ public final class ThingSupervisorActor extends AbstractPersistenceSupervisor<Th
                 .getExponentialBackOffConfig();
     }
 
+    private void enforceThingQuery(final EnforcedThingQuery enforcedThingQuery) {
+        final ActorRef child = getChild().orElse(null);
+        if (null == thingQueryEnforcement) {
+            // local read enforcement is disabled: let the sender route the query via concierge
+            getSender().tell(enforcedThingQuery, getSelf());
+        } else if (null == child) {
+            replyUnavailableException(enforcedThingQuery);
+        } else {
+            // ask self so that the enforced queries are answered from the read view as well
+            Patterns.pipe(thingQueryEnforcement.enforce(enforcedThingQuery, getSelf()), getContext().dispatcher())
+                    .to(getSender());
+        }
+    }
+
+    private void updateReadView(final ThingReadView newReadView) {
+        if (getChild().filter(getSender()::equals).isPresent()) {
+            readView = newReadView;
+        }
+    }
+
+    private void queryReadView(final Command<?> query) {
+        final ThingId thingId = readView.getThingId().orElse(null);
+        final Thing thing = readView.getThing().orElse(null);
+        final ThingCommandStrategies strategies = ThingCommandStrategies.getInstance();
+        if (null == thingId || null == thing || !strategies.isDefined(query)) {
+            forwardToChildIfAvailable(query);
+            return;
+        }
+        // the child does not see queries answered from the read view; keep it from passivating due to inactivity
+        recordAnsweredWithoutChild();
+        final Result<ThingEvent> result;
+        try {
+            result = strategies.apply(DefaultContext.getInstance(thingId, log), thing, readView.getRevision() + 1,
+                    query);
+        } catch (final DittoRuntimeException e) {
+            onError(e);
+            return;
+        }
+        result.accept(this);
+    }
+
 }
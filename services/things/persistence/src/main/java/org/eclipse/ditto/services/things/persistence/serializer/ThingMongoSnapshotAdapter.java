@@ -18,6 +18,7 @@ import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.model.things.Thing;
 import org.eclipse.ditto.model.things.ThingsModelFactory;
 import org.eclipse.ditto.services.utils.persistence.mongo.AbstractMongoSnapshotAdapter;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotEncodingConfig;
 import org.slf4j.LoggerFactory;
 
 /**
@@ -34,6 +35,15 @@ public final class ThingMongoSnapshotAdapter extends AbstractMongoSnapshotAdapte
         super(LoggerFactory.getLogger(ThingMongoSnapshotAdapter.class));
     }
 
+    /**
+     * Constructs a new {@code ThingMongoSnapshotAdapter} which writes snapshots in the configured encoding.
+     *
+     * @param snapshotEncodingConfig the config of the encoding of written snapshots.
+     */
+    public ThingMongoSnapshotAdapter(final SnapshotEncodingConfig snapshotEncodingConfig) {
+        super(LoggerFactory.getLogger(ThingMongoSnapshotAdapter.class), snapshotEncodingConfig);
+    }
+
     @Override
     protected Thing createJsonifiableFrom(final JsonObject jsonObject) {
         return ThingsModelFactory.newThing(jsonObject);
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import akka.persistence.AtomicWrite;
+import akka.persistence.PersistentRepr;
+import akka.persistence.journal.japi.AsyncWriteJournal;
+import scala.collection.Iterator;
+import scala.compat.java8.FutureConverters;
+import scala.concurrent.Future;
+
+/**
+ * In-memory journal which holds back all writes while writes are blocked, so that tests can send messages to a
+ * persistence actor while its write is in flight.
+ */
+final class BlockingWriteJournal extends AsyncWriteJournal {
+
+    private static final Map<String, List<PersistentRepr>> EVENTS = new ConcurrentHashMap<>();
+    private static volatile CompletableFuture<Void> writesUnblocked = CompletableFuture.completedFuture(null);
+
+    private CompletionStage<?> lastWrite = CompletableFuture.completedFuture(null);
+
+    /**
+     * Hold back all writes until {@link #unblockWrites()} is called.
+     */
+    static void blockWrites() {
+        writesUnblocked = new CompletableFuture<>();
+    }
+
+    /**
+     * Complete the writes held back and all writes after them.
+     */
+    static void unblockWrites() {
+        writesUnblocked.complete(null);
+    }
+
+    @Override
+    public Future<Void> doAsyncReplayMessages(final String persistenceId, final long fromSequenceNr,
+            final long toSequenceNr, final long max, final Consumer<PersistentRepr> replayCallback) {
+
+        getEvents(persistenceId).stream()
+                .filter(event -> fromSequenceNr <= event.sequenceNr() && event.sequenceNr() <= toSequenceNr)
+                .limit(max)
+                .forEach(replayCallback);
+        return Future.successful(null);
+    }
+
+    @Override
+    public Future<Long> doAsyncReadHighestSequenceNr(final String persistenceId, final long fromSequenceNr) {
+        final List<PersistentRepr> events = getEvents(persistenceId);
+        return Future.successful(events.isEmpty() ? 0L : events.get(events.size() - 1).sequenceNr());
+    }
+
+    @Override
+    public Future<Iterable<Optional<Exception>>> doAsyncWriteMessages(final Iterable<AtomicWrite> messages) {
+        // writes complete in the order in which they were issued
+        final CompletionStage<Iterable<Optional<Exception>>> write = lastWrite
+                .thenCompose(previousWrite -> writesUnblocked)
+                .thenApply(unblocked -> append(messages));
+        lastWrite = write;
+        return FutureConverters.toScala(write);
+    }
+
+    @Override
+    public Future<Void> doAsyncDeleteMessagesTo(final String persistenceId, final long toSequenceNr) {
+        getEvents(persistenceId).removeIf(event -> event.sequenceNr() <= toSequenceNr);
+        return Future.successful(null);
+    }
+
+    private static Iterable<Optional<Exception>> append(final Iterable<AtomicWrite> messages) {
+        final List<Optional<Exception>> results = new ArrayList<>();
+        for (final AtomicWrite atomicWrite : messages) {
+            final Iterator<PersistentRepr> events = atomicWrite.payload().iterator();
+            while (events.hasNext()) {
+                final PersistentRepr event = events.next();
+                getEvents(event.persistenceId()).add(event);
+            }
+            results.add(Optional.empty());
+        }
+        return results;
+    }
+
+    private static List<PersistentRepr> getEvents(final String persistenceId) {
+        return EVENTS.computeIfAbsent(persistenceId, id -> new CopyOnWriteArrayList<>());
+    }
+
+}
@@ -183,16 +183,17 @@ public abstract class PersistenceActorTestBase {
         return actorSystem.actorOf(getPropsOfThingPersistenceActor(thingId, getDistributedPub()));
     }
 
-    private Props getPropsOfThingPersistenceActor(final ThingId thingId, final DistributedPub<ThingEvent> pub) {
+    protected Props getPropsOfThingPersistenceActor(final ThingId thingId, final DistributedPub<ThingEvent> pub) {
 
         return ThingPersistenceActor.props(thingId, pub);
     }
 
     protected ActorRef createSupervisorActorFor(final ThingId thingId) {
-        final Props props =
-                ThingSupervisorActor.props(pubSubMediator, getDistributedPub(), this::getPropsOfThingPersistenceActor);
+        return actorSystem.actorOf(getPropsOfSupervisorActor(), thingId.toString());
+    }
 
-        return actorSystem.actorOf(props, thingId.toString());
+    protected Props getPropsOfSupervisorActor() {
+        return ThingSupervisorActor.props(pubSubMediator, getDistributedPub(), this::getPropsOfThingPersistenceActor);
     }
 
     /**
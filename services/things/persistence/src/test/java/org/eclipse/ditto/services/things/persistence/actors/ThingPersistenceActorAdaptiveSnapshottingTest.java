@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThingResponse;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttribute;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttributeResponse;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigValueFactory;
+
+import akka.actor.ActorRef;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Unit test for the snapshotting of {@link ThingPersistenceActor} based on the estimated recovery duration.
+ */
+public final class ThingPersistenceActorAdaptiveSnapshottingTest extends PersistenceActorTestBaseWithSnapshotting {
+
+    private static final String RECOVERY_BUDGET = "ditto.things.thing.snapshot.recovery-budget";
+    private static final String REPLAY_COST_PER_EVENT = "ditto.things.thing.snapshot.replay-cost-per-event";
+    private static final String REPLAY_COST_PER_KIB = "ditto.things.thing.snapshot.replay-cost-per-kib";
+
+    private static final JsonPointer ATTRIBUTE_POINTER = JsonPointer.of("/foo");
+
+    @Before
+    public void setUp() {
+        // the recovery budget is exceeded by 100 KiB of events, but not by a few small events
+        setup(createNewDefaultTestConfig()
+                .withValue(RECOVERY_BUDGET, ConfigValueFactory.fromAnyRef(Duration.ofSeconds(1L)))
+                .withValue(REPLAY_COST_PER_EVENT, ConfigValueFactory.fromAnyRef(Duration.ofMillis(1L)))
+                .withValue(REPLAY_COST_PER_KIB, ConfigValueFactory.fromAnyRef(Duration.ofMillis(10L))));
+    }
+
+    @Test
+    public void smallEventsDoNotExceedRecoveryBudget() {
+        new TestKit(actorSystem) {
+            {
+                final Thing thing = createThingV2WithRandomId();
+                final ThingId thingId = thing.getEntityId().orElseThrow(IllegalStateException::new);
+                final ActorRef underTest = createPersistenceActorFor(thingId);
+
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(CreateThingResponse.class);
+                for (int i = 0; i < 5; i++) {
+                    underTest.tell(ModifyAttribute.of(thingId, ATTRIBUTE_POINTER, JsonValue.of(i), dittoHeadersV2),
+                            getRef());
+                    expectMsgClass(ModifyAttributeResponse.class);
+                }
+
+                assertSnapshotsEmpty(thingId);
+            }
+        };
+    }
+
+    @Test
+    public void largeEventExceedsRecoveryBudget() {
+        new TestKit(actorSystem) {
+            {
+                final Thing thing = createThingV2WithRandomId();
+                final ThingId thingId = thing.getEntityId().orElseThrow(IllegalStateException::new);
+                final ActorRef underTest = createPersistenceActorFor(thingId);
+                final JsonValue largeValue = JsonValue.of(createString(100 * 1024));
+
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(CreateThingResponse.class);
+                underTest.tell(ModifyAttribute.of(thingId, ATTRIBUTE_POINTER, largeValue, dittoHeadersV2), getRef());
+                expectMsgClass(ModifyAttributeResponse.class);
+
+                final Thing expectedSnapshot = thing.toBuilder()
+                        .setAttribute(ATTRIBUTE_POINTER, largeValue)
+                        .setRevision(2L)
+                        .build();
+                assertSnapshots(thingId, Collections.singletonList(expectedSnapshot));
+            }
+        };
+    }
+
+    private static String createString(final int length) {
+        final char[] chars = new char[length];
+        Arrays.fill(chars, 'x');
+        return new String(chars);
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.things.ThingRevision;
+import org.eclipse.ditto.services.utils.persistentactors.AbstractPersistenceSupervisor;
+import org.eclipse.ditto.services.utils.persistentactors.AbstractShardedPersistenceActor;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThingResponse;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttribute;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttributeResponse;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.PoisonPill;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests the recovery of {@link ThingPersistenceActor} from the warm state cache.
+ */
+public final class ThingPersistenceActorWarmStateTest extends PersistenceActorTestBase {
+
+    private static final JsonPointer ATTRIBUTE = JsonPointer.of("counter");
+
+    @Before
+    public void setUp() {
+        setup(ConfigFactory.parseString("ditto.persistence.warm-state-cache.maximum-weight = 1MiB"));
+    }
+
+    @Test
+    public void cachedStateOfPassivatedThingIsRecovered() {
+        new TestKit(actorSystem) {
+            {
+                final Thing thing = createThingV2WithRandomId();
+                final ThingId thingId = thing.getEntityId().orElseThrow(IllegalStateException::new);
+
+                final TestKit parent = new TestKit(actorSystem);
+                final ActorRef persistenceActor =
+                        parent.childActorOf(getPropsOfThingPersistenceActor(thingId, getDistributedPub()));
+                persistenceActor.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(CreateThingResponse.class);
+                passivateAndStop(parent, persistenceActor);
+
+                final ActorRef underTest = createSupervisorActorFor(thingId);
+                underTest.tell(RetrieveThing.of(thingId, dittoHeadersV2), getRef());
+                final Thing recoveredThing = expectMsgClass(RetrieveThingResponse.class).getThing();
+                assertThat(recoveredThing.getAttributes()).contains(THING_ATTRIBUTES);
+                assertThat(getRevision(recoveredThing)).isEqualTo(1L);
+
+                underTest.tell(ModifyAttribute.of(thingId, ATTRIBUTE, JsonValue.of(1), dittoHeadersV2), getRef());
+                expectMsgClass(ModifyAttributeResponse.class);
+            }
+        };
+    }
+
+    @Test
+    public void staleCachedStateCausesImmediateRestartWithoutLosingMessages() {
+        new TestKit(actorSystem) {
+            {
+                final Thing thing = createThingV2WithRandomId();
+                final ThingId thingId = thing.getEntityId().orElseThrow(IllegalStateException::new);
+
+                final TestKit parent = new TestKit(actorSystem);
+                final ActorRef persistenceActor =
+                        parent.childActorOf(getPropsOfThingPersistenceActor(thingId, getDistributedPub()));
+                persistenceActor.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(CreateThingResponse.class);
+
+                // a second actor of the same thing, e.g. on another node, which writes after the state was cached
+                final ActorRef otherPersistenceActor = watch(createPersistenceActorFor(thingId));
+                otherPersistenceActor.tell(RetrieveThing.of(thingId, dittoHeadersV2), getRef());
+                expectMsgClass(RetrieveThingResponse.class);
+
+                passivateAndStop(parent, persistenceActor);
+
+                otherPersistenceActor.tell(ModifyAttribute.of(thingId, ATTRIBUTE, JsonValue.of(1), dittoHeadersV2),
+                        getRef());
+                expectMsgClass(ModifyAttributeResponse.class);
+                otherPersistenceActor.tell(PoisonPill.getInstance(), getRef());
+                expectTerminated(otherPersistenceActor);
+
+                // the messages are sent while the child of the supervisor recovers from the stale cached state
+                final ActorRef underTest = createSupervisorActorFor(thingId);
+                underTest.tell(RetrieveThing.of(thingId, dittoHeadersV2), getRef());
+                underTest.tell(ModifyAttribute.of(thingId, ATTRIBUTE, JsonValue.of(2), dittoHeadersV2), getRef());
+                underTest.tell(RetrieveThing.of(thingId, dittoHeadersV2), getRef());
+
+                final Thing recoveredThing = expectMsgClass(RetrieveThingResponse.class).getThing();
+                assertThat(recoveredThing.getAttributes().flatMap(attributes -> attributes.getValue(ATTRIBUTE)))
+                        .contains(JsonValue.of(1));
+                assertThat(getRevision(recoveredThing)).isEqualTo(2L);
+                expectMsgClass(ModifyAttributeResponse.class);
+
+                // the messages keep their order, no matter whether the child handed them back or not
+                final Thing modifiedThing = expectMsgClass(RetrieveThingResponse.class).getThing();
+                assertThat(modifiedThing.getAttributes().flatMap(attributes -> attributes.getValue(ATTRIBUTE)))
+                        .contains(JsonValue.of(2));
+                assertThat(getRevision(modifiedThing)).isEqualTo(3L);
+            }
+        };
+    }
+
+    private static void passivateAndStop(final TestKit parent, final ActorRef persistenceActor) {
+        parent.watch(persistenceActor);
+        persistenceActor.tell(AbstractShardedPersistenceActor.checkForActivity(Long.MAX_VALUE), parent.getRef());
+        parent.expectMsg(AbstractPersistenceSupervisor.Control.PASSIVATE);
+        persistenceActor.tell(PoisonPill.getInstance(), parent.getRef());
+        parent.expectTerminated(persistenceActor);
+    }
+
+    private static long getRevision(final Thing thing) {
+        return thing.getRevision().map(ThingRevision::toLong).orElse(0L);
+    }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.things.ThingRevision;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThingResponse;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttribute;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttributeResponse;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorRef;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link ThingPersistenceActor} with write batching enabled.
+ */
+public final class ThingPersistenceActorWriteBatchTest extends PersistenceActorTestBase {
+
+    private static final int COMMANDS = 50;
+    private static final JsonPointer ATTRIBUTE = JsonPointer.of("counter");
+
+    @Before
+    public void setUp() {
+        setup(ConfigFactory.parseString("ditto.things.thing.write-batch.enabled = true"));
+    }
+
+    @Test
+    public void commandsReceivedDuringWriteAreRepliedInOrderAfterTheirBatchIsPersisted() {
+        new TestKit(actorSystem) {
+            {
+                final Thing thing = createThingV2WithRandomId();
+                final ThingId thingId = thing.getEntityId().orElseThrow(IllegalStateException::new);
+                final ActorRef underTest = createPersistenceActorFor(thingId);
+
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(CreateThingResponse.class);
+
+                for (int i = 0; i < COMMANDS; i++) {
+                    underTest.tell(ModifyAttribute.of(thingId, ATTRIBUTE, JsonValue.of(i),
+                            dittoHeadersV2.toBuilder().correlationId("modify-" + i).build()), getRef());
+                }
+                underTest.tell(RetrieveThing.of(thingId, dittoHeadersV2), getRef());
+
+                for (int i = 0; i < COMMANDS; i++) {
+                    final ModifyAttributeResponse response = expectMsgClass(ModifyAttributeResponse.class);
+                    assertThat(response.getDittoHeaders().getCorrelationId()).contains("modify-" + i);
+                }
+                final Thing retrievedThing = expectMsgClass(RetrieveThingResponse.class).getThing();
+                assertThat(retrievedThing.getAttributes().flatMap(attributes -> attributes.getValue(ATTRIBUTE)))
+                        .contains(JsonValue.of(COMMANDS - 1));
+            }
+        };
+    }
+
+    @Test
+    public void thingIsRecoveredWithAllEventsOfTheBatches() {
+        new TestKit(actorSystem) {
+            {
+                final Thing thing = createThingV2WithRandomId();
+                final ThingId thingId = thing.getEntityId().orElseThrow(IllegalStateException::new);
+                final ActorRef underTest = createPersistenceActorFor(thingId);
+
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(CreateThingResponse.class);
+                for (int i = 0; i < COMMANDS; i++) {
+                    underTest.tell(ModifyAttribute.of(thingId, ATTRIBUTE, JsonValue.of(i), dittoHeadersV2), getRef());
+                }
+                receiveN(COMMANDS);
+
+                watch(underTest);
+                getSystem().stop(underTest);
+                expectTerminated(underTest);
+
+                final ActorRef recovered = createPersistenceActorFor(thingId);
+                recovered.tell(RetrieveThing.getBuilder(thingId, dittoHeadersV2)
+                        .withSelectedFields(ALL_FIELDS_SELECTOR)
+                        .build(), getRef());
+                final Thing retrievedThing = expectMsgClass(RetrieveThingResponse.class).getThing();
+                assertThat(retrievedThing.getRevision()).contains(ThingRevision.newInstance(COMMANDS + 1L));
+                assertThat(retrievedThing.getAttributes().flatMap(attributes -> attributes.getValue(ATTRIBUTE)))
+                        .contains(JsonValue.of(COMMANDS - 1));
+            }
+        };
+    }
+
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.ditto.model.policies.SubjectIssuer.GOOGLE;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.enforcers.Enforcer;
+import org.eclipse.ditto.model.enforcers.PolicyEnforcers;
+import org.eclipse.ditto.model.namespaces.NamespaceBlockedException;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.PoliciesResourceType;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.services.models.things.commands.sudo.EnforcedThingQuery;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
+import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThingResponse;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.CacheFactory;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.eclipse.ditto.services.utils.ddata.DistributedData;
+import org.eclipse.ditto.services.utils.namespaces.BlockNamespaceBehavior;
+import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveAttribute;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveAttributeResponse;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorSystem;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Unit test for {@link ThingQueryEnforcement}.
+ */
+public final class ThingQueryEnforcementTest {
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto.test", "thing");
+    private static final PolicyId POLICY_ID = PolicyId.of("org.eclipse.ditto.test", "policy");
+    private static final JsonPointer ATTRIBUTE_POINTER = JsonPointer.of("location");
+    private static final String SUBJECT_ID = "subject";
+    private static final Duration TIMEOUT = Duration.ofSeconds(5L);
+
+    private static final Config CONFIG = ConfigFactory.parseString("akka.actor.provider = cluster\n" +
+            "akka.remote.artery.canonical.hostname = \"127.0.0.1\"\n" +
+            "akka.remote.artery.canonical.port = 0\n" +
+            "blocked-namespaces-dispatcher.type = Dispatcher")
+            .withFallback(ConfigFactory.load("test"));
+
+    private ActorSystem system;
+    private BlockedNamespaces blockedNamespaces;
+
+    @Before
+    public void setUp() {
+        system = ActorSystem.create("AkkaTestSystem", CONFIG);
+        // create blocked namespaces cache without role and with the default replicator name
+        blockedNamespaces = BlockedNamespaces.create(DistributedData.createConfig(system, "replicator", ""), system);
+    }
+
+    @After
+    public void tearDown() {
+        if (null != system) {
+            TestKit.shutdownActorSystem(system);
+        }
+    }
+
+    @Test
+    public void authorizedQueryIsExecuted() throws Exception {
+        new TestKit(system) {{
+            final ThingQueryEnforcement underTest = newThingQueryEnforcement(Entry.of(1L, newEnforcer()));
+            final RetrieveAttribute query = retrieveAttribute(GOOGLE + ":" + SUBJECT_ID);
+
+            final CompletionStage<Object> result = underTest.enforce(EnforcedThingQuery.of(query), getRef());
+
+            expectMsgClass(SudoRetrieveThing.class);
+            reply(SudoRetrieveThingResponse.of(thingWithPolicyId(), DittoHeaders.empty()));
+            expectMsg(query);
+            final RetrieveAttributeResponse response =
+                    RetrieveAttributeResponse.of(THING_ID, ATTRIBUTE_POINTER, JsonValue.of("kitchen"),
+                            query.getDittoHeaders());
+            reply(response);
+
+            assertThat(result.toCompletableFuture().get(TIMEOUT.getSeconds(), TimeUnit.SECONDS))
+                    .isEqualTo(response);
+        }};
+    }
+
+    @Test
+    public void unauthorizedQueryIsRejected() throws Exception {
+        new TestKit(system) {{
+            final ThingQueryEnforcement underTest = newThingQueryEnforcement(Entry.of(1L, newEnforcer()));
+            final RetrieveAttribute query = retrieveAttribute(GOOGLE + ":someone-else");
+
+            final CompletionStage<Object> result = underTest.enforce(EnforcedThingQuery.of(query), getRef());
+
+            expectMsgClass(SudoRetrieveThing.class);
+            reply(SudoRetrieveThingResponse.of(thingWithPolicyId(), DittoHeaders.empty()));
+
+            assertThat(result.toCompletableFuture().get(TIMEOUT.getSeconds(), TimeUnit.SECONDS))
+                    .isInstanceOf(DittoRuntimeException.class);
+            expectNoMessage();
+        }};
+    }
+
+    @Test
+    public void queryOfThingWithoutPolicyIsHandedBack() throws Exception {
+        new TestKit(system) {{
+            final ThingQueryEnforcement underTest = newThingQueryEnforcement(Entry.of(1L, newEnforcer()));
+            final EnforcedThingQuery enforcedThingQuery =
+                    EnforcedThingQuery.of(retrieveAttribute(GOOGLE + ":" + SUBJECT_ID));
+
+            final CompletionStage<Object> result = underTest.enforce(enforcedThingQuery, getRef());
+
+            expectMsgClass(SudoRetrieveThing.class);
+            reply(SudoRetrieveThingResponse.of(JsonObject.newBuilder()
+                    .set(Thing.JsonFields.ID, THING_ID.toString())
+                    .build(), DittoHeaders.empty()));
+
+            assertThat(result.toCompletableFuture().get(TIMEOUT.getSeconds(), TimeUnit.SECONDS))
+                    .isEqualTo(enforcedThingQuery);
+        }};
+    }
+
+    @Test
+    public void queryOfThingWithDeletedPolicyIsHandedBack() throws Exception {
+        new TestKit(system) {{
+            final ThingQueryEnforcement underTest = newThingQueryEnforcement(Entry.nonexistent());
+            final EnforcedThingQuery enforcedThingQuery =
+                    EnforcedThingQuery.of(retrieveAttribute(GOOGLE + ":" + SUBJECT_ID));
+
+            final CompletionStage<Object> result = underTest.enforce(enforcedThingQuery, getRef());
+
+            expectMsgClass(SudoRetrieveThing.class);
+            reply(SudoRetrieveThingResponse.of(thingWithPolicyId(), DittoHeaders.empty()));
+
+            assertThat(result.toCompletableFuture().get(TIMEOUT.getSeconds(), TimeUnit.SECONDS))
+                    .isEqualTo(enforcedThingQuery);
+        }};
+    }
+
+    @Test
+    public void queryOfBlockedNamespaceIsRejected() throws Exception {
+        blockedNamespaces.add(THING_ID.getNamespace()).toCompletableFuture().get();
+        new TestKit(system) {{
+            final ThingQueryEnforcement underTest = newThingQueryEnforcement(Entry.of(1L, newEnforcer()));
+            final RetrieveAttribute query = retrieveAttribute(GOOGLE + ":" + SUBJECT_ID);
+
+            final CompletionStage<Object> result = underTest.enforce(EnforcedThingQuery.of(query), getRef());
+
+            assertThat(result.toCompletableFuture().get(TIMEOUT.getSeconds(), TimeUnit.SECONDS))
+                    .isInstanceOf(NamespaceBlockedException.class);
+            expectNoMessage();
+        }};
+    }
+
+    private ThingQueryEnforcement newThingQueryEnforcement(final Entry<Enforcer> enforcerEntry) {
+        final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache =
+                CacheFactory.createCache((key, executor) -> CompletableFuture.completedFuture(enforcerEntry),
+                        DefaultCacheConfig.of(ConfigFactory.empty(), "cache"), null, Runnable::run);
+        return ThingQueryEnforcement.of(policyEnforcerCache, BlockNamespaceBehavior.of(blockedNamespaces), TIMEOUT);
+    }
+
+    private static Enforcer newEnforcer() {
+        return PolicyEnforcers.defaultEvaluator(PoliciesModelFactory.newPolicyBuilder(POLICY_ID)
+                .setRevision(1L)
+                .forLabel("authorize-self")
+                .setSubject(GOOGLE, SUBJECT_ID)
+                .setGrantedPermissions(PoliciesResourceType.thingResource(JsonPointer.empty()), "READ")
+                .build());
+    }
+
+    private static RetrieveAttribute retrieveAttribute(final String subjectId) {
+        return RetrieveAttribute.of(THING_ID, ATTRIBUTE_POINTER, DittoHeaders.newBuilder()
+                .authorizationContext(AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                        AuthorizationSubject.newInstance(subjectId)))
+                .build());
+    }
+
+    private static JsonObject thingWithPolicyId() {
+        return JsonObject.newBuilder()
+                .set(Thing.JsonFields.ID, THING_ID.toString())
+                .set(Thing.JsonFields.POLICY_ID, POLICY_ID.toString())
+                .build();
+    }
+
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.things.ThingRevision;
+import org.eclipse.ditto.services.utils.persistentactors.AbstractShardedPersistenceActor;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingNotAccessibleException;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingPreconditionNotModifiedException;
+import org.eclipse.ditto.signals.commands.things.exceptions.ThingUnavailableException;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThingResponse;
+import org.eclipse.ditto.signals.commands.things.modify.DeleteThing;
+import org.eclipse.ditto.signals.commands.things.modify.DeleteThingResponse;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttribute;
+import org.eclipse.ditto.signals.commands.things.modify.ModifyAttributeResponse;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveAttribute;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveAttributeResponse;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThing;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ActorIdentity;
+import akka.actor.ActorRef;
+import akka.actor.Identify;
+import akka.actor.PoisonPill;
+import akka.cluster.sharding.ShardRegion;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests that {@link ThingSupervisorActor} answers queries from the {@link ThingReadView} published by
+ * {@link ThingPersistenceActor}.
+ */
+public final class ThingSupervisorActorReadViewTest extends PersistenceActorTestBase {
+
+    private static final JsonPointer ATTRIBUTE = JsonPointer.of("counter");
+
+    @Before
+    public void setUp() {
+        setup(ConfigFactory.parseString("akka-contrib-mongodb-persistence-things-journal.class = \"" +
+                BlockingWriteJournal.class.getName() + "\""));
+    }
+
+    @Test
+    public void queryAfterResponseOfModificationSeesModification() {
+        new TestKit(actorSystem) {
+            {
+                final Thing thing = createThingV2WithRandomId();
+                final ThingId thingId = thing.getEntityId().orElseThrow(IllegalStateException::new);
+                final ActorRef underTest = createSupervisorActorFor(thingId);
+
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(CreateThingResponse.class);
+
+                for (int i = 0; i < 10; i++) {
+                    underTest.tell(ModifyAttribute.of(thingId, ATTRIBUTE, JsonValue.of(i), dittoHeadersV2), getRef());
+                    expectMsgClass(ModifyAttributeResponse.class);
+
+                    underTest.tell(RetrieveAttribute.of(thingId, ATTRIBUTE, dittoHeadersV2), getRef());
+                    assertThat(expectMsgClass(RetrieveAttributeResponse.class).getAttributeValue())
+                            .isEqualTo(JsonValue.of(i));
+                }
+            }
+        };
+    }
+
+    @Test
+    public void queryIsAnsweredWhileWriteIsInFlight() {
+        new TestKit(actorSystem) {
+            {
+                final Thing thing = createThingV2WithRandomId();
+                final ThingId thingId = thing.getEntityId().orElseThrow(IllegalStateException::new);
+                final ActorRef underTest = createSupervisorActorFor(thingId);
+
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(CreateThingResponse.class);
+
+                BlockingWriteJournal.blockWrites();
+                try {
+                    underTest.tell(ModifyAttribute.of(thingId, ATTRIBUTE, JsonValue.of(1), dittoHeadersV2), getRef());
+                    underTest.tell(RetrieveThing.of(thingId, dittoHeadersV2), getRef());
+                    final Thing retrievedThing = expectMsgClass(RetrieveThingResponse.class).getThing();
+                    assertThat(retrievedThing.getRevision()).contains(ThingRevision.newInstance(1L));
+                } finally {
+                    BlockingWriteJournal.unblockWrites();
+                }
+                expectMsgClass(ModifyAttributeResponse.class);
+
+                underTest.tell(RetrieveAttribute.of(thingId, ATTRIBUTE, dittoHeadersV2), getRef());
+                assertThat(expectMsgClass(RetrieveAttributeResponse.class).getAttributeValue())
+                        .isEqualTo(JsonValue.of(1));
+            }
+        };
+    }
+
+    @Test
+    public void queryIsNotAnsweredFromReadViewOfTerminatedChild() {
+        new TestKit(actorSystem) {
+            {
+                final Thing thing = createThingV2WithRandomId();
+                final ThingId thingId = thing.getEntityId().orElseThrow(IllegalStateException::new);
+                final ActorRef underTest = createSupervisorActorFor(thingId);
+
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(CreateThingResponse.class);
+
+                getSystem().actorSelection(underTest.path().child("pa")).tell(new Identify(thingId), getRef());
+                final ActorRef child = expectMsgClass(ActorIdentity.class).getActorRef()
+                        .orElseThrow(IllegalStateException::new);
+                watch(child);
+                child.tell(PoisonPill.getInstance(), getRef());
+                expectTerminated(child);
+
+                // the supervisor restarts the child after the minimum backoff of 1s
+                awaitAssert(Duration.ofMillis(500L), () -> {
+                    underTest.tell(RetrieveThing.of(thingId, dittoHeadersV2), getRef());
+                    return expectMsgClass(ThingUnavailableException.class);
+                });
+            }
+        };
+    }
+
+    @Test
+    public void queriesAnsweredFromReadViewPreventPassivation() {
+        new TestKit(actorSystem) {
+            {
+                final Thing thing = createThingV2WithRandomId();
+                final ThingId thingId = thing.getEntityId().orElseThrow(IllegalStateException::new);
+                final ActorRef underTest = childActorOf(getPropsOfSupervisorActor(), thingId.toString());
+
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(CreateThingResponse.class);
+                underTest.tell(RetrieveThing.of(thingId, dittoHeadersV2), getRef());
+                expectMsgClass(RetrieveThingResponse.class);
+
+                getSystem().actorSelection(underTest.path().child("pa")).tell(new Identify(thingId), getRef());
+                final ActorRef child = expectMsgClass(ActorIdentity.class).getActorRef()
+                        .orElseThrow(IllegalStateException::new);
+
+                // the child saw no access since the query, but the supervisor answered the query
+                child.tell(AbstractShardedPersistenceActor.checkForActivity(Long.MAX_VALUE), getRef());
+                expectNoMessage(Duration.ofMillis(500L));
+
+                // without further queries the thing is passivated
+                child.tell(AbstractShardedPersistenceActor.checkForActivity(Long.MAX_VALUE), getRef());
+                expectMsgClass(ShardRegion.Passivate.class);
+            }
+        };
+    }
+
+    @Test
+    public void queryHonorsConditionalHeaders() {
+        new TestKit(actorSystem) {
+            {
+                final Thing thing = createThingV2WithRandomId();
+                final ThingId thingId = thing.getEntityId().orElseThrow(IllegalStateException::new);
+                final ActorRef underTest = createSupervisorActorFor(thingId);
+
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(CreateThingResponse.class);
+
+                final DittoHeaders ifNoneMatchCurrentRevision = dittoHeadersV2.toBuilder()
+                        .putHeader("if-none-match", "\"rev:1\"")
+                        .build();
+                underTest.tell(RetrieveThing.of(thingId, ifNoneMatchCurrentRevision), getRef());
+                expectMsgClass(ThingPreconditionNotModifiedException.class);
+            }
+        };
+    }
+
+    @Test
+    public void queryOfDeletedThingIsAnsweredByPersistenceActor() {
+        new TestKit(actorSystem) {
+            {
+                final Thing thing = createThingV2WithRandomId();
+                final ThingId thingId = thing.getEntityId().orElseThrow(IllegalStateException::new);
+                final ActorRef underTest = createSupervisorActorFor(thingId);
+
+                underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), getRef());
+                expectMsgClass(CreateThingResponse.class);
+
+                underTest.tell(DeleteThing.of(thingId, dittoHeadersV2), getRef());
+                expectMsgClass(DeleteThingResponse.class);
+
+                underTest.tell(RetrieveThing.of(thingId, dittoHeadersV2), getRef());
+                expectMsgClass(ThingNotAccessibleException.class);
+            }
+        };
+    }
+
+}
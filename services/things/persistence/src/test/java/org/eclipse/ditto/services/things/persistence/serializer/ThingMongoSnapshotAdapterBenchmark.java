@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.things.persistence.serializer;
+
+import java.util.concurrent.TimeUnit;
+
+import org.bson.BsonDocument;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.BsonDocumentCodec;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.things.Feature;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingBuilder;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.things.ThingsModelFactory;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultSnapshotEncodingConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.persistence.SnapshotMetadata;
+import akka.persistence.SnapshotOffer;
+
+/**
+ * Throughput benchmark of writing and reading thing snapshots with {@link ThingMongoSnapshotAdapter} in the BSON
+ * encoding and in the binary encoding with and without compression, for a thing with a deep property tree.
+ * The size of the snapshot document of each encoding is logged during setup, as it determines the time MongoDB
+ * spends on transferring and storing the snapshot.
+ * Run {@link #main(String[])} to report the snapshots written and read per second.
+ */
+@State(Scope.Benchmark)
+public class ThingMongoSnapshotAdapterBenchmark {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ThingMongoSnapshotAdapterBenchmark.class);
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final int NUMBER_OF_FEATURES = 20;
+    private static final int PROPERTY_TREE_DEPTH = 4;
+    private static final int PROPERTY_TREE_WIDTH = 5;
+    private static final SnapshotMetadata SNAPSHOT_METADATA =
+            new SnapshotMetadata("thing:org.eclipse.ditto.benchmark:thing", 1L, 0L);
+
+    @Param({"BSON", "CBOR", "CBOR_GZIP"})
+    public String encoding;
+
+    private ThingMongoSnapshotAdapter underTest;
+    private Thing thing;
+    private Object snapshot;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        underTest = createAdapter(encoding);
+        thing = createThing();
+        snapshot = underTest.toSnapshotStore(thing);
+        final int size = new RawBsonDocument((BsonDocument) snapshot, new BsonDocumentCodec())
+                .getByteBuffer()
+                .remaining();
+        LOGGER.info("Snapshot size with encoding <{}>: {} bytes", encoding, size);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Object writeSnapshot() {
+        return underTest.toSnapshotStore(thing);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Thing readSnapshot() {
+        return underTest.fromSnapshotStore(new SnapshotOffer(SNAPSHOT_METADATA, snapshot));
+    }
+
+    public static void main(final String... args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ThingMongoSnapshotAdapterBenchmark.class.getSimpleName())
+                .forks(1)
+                .build())
+                .run();
+    }
+
+    private static ThingMongoSnapshotAdapter createAdapter(final String encoding) {
+        switch (encoding) {
+            case "CBOR":
+                return new ThingMongoSnapshotAdapter(DefaultSnapshotEncodingConfig.of(
+                        ConfigFactory.parseString("encoding { binary = true, compression-enabled = false }")));
+            case "CBOR_GZIP":
+                return new ThingMongoSnapshotAdapter(DefaultSnapshotEncodingConfig.of(
+                        ConfigFactory.parseString("encoding { binary = true, compression-threshold = 0 }")));
+            default:
+                return new ThingMongoSnapshotAdapter();
+        }
+    }
+
+    private static Thing createThing() {
+        final ThingBuilder.FromScratch builder = ThingsModelFactory.newThingBuilder()
+                .setId(ThingId.of("org.eclipse.ditto.benchmark", "thing"))
+                .setPolicyId(PolicyId.of("org.eclipse.ditto.benchmark", "thing"))
+                .setRevision(1L);
+        for (int i = 0; i < NUMBER_OF_FEATURES; i++) {
+            builder.setFeature(Feature.newBuilder()
+                    .properties(createPropertyTree(PROPERTY_TREE_DEPTH))
+                    .withId("feature-" + i)
+                    .build());
+        }
+        return builder.build();
+    }
+
+    private static JsonObject createPropertyTree(final int depth) {
+        final JsonObjectBuilder builder = JsonObject.newBuilder();
+        for (int i = 0; i < PROPERTY_TREE_WIDTH; i++) {
+            if (depth > 1) {
+                builder.set("node-" + i, createPropertyTree(depth - 1));
+            } else {
+                builder.set("temperature.sensor-" + i, 20.5 + i)
+                        .set("$unit-" + i, "celsius");
+            }
+        }
+        return builder.build();
+    }
+
+}
@@ -17,9 +17,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 import org.bson.BsonDocument;
 import org.eclipse.ditto.model.things.TestConstants;
 import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultSnapshotEncodingConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotEncodingConfig;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.typesafe.config.ConfigFactory;
+
 import akka.persistence.SnapshotMetadata;
 import akka.persistence.SnapshotOffer;
 
@@ -48,4 +52,35 @@ public final class ThingMongoSnapshotAdapterTest {
         assertThat(restoredThing).isEqualTo(thing);
     }
 
+    @Test
+    public void binarySnapshotRoundtripReturnsExpected() {
+        final ThingMongoSnapshotAdapter binaryAdapter = new ThingMongoSnapshotAdapter(binaryEncodingConfig());
+        final Thing thing = TestConstants.Thing.THING_V2;
+        final BsonDocument binarySnapshot = (BsonDocument) binaryAdapter.toSnapshotStore(thing);
+
+        assertThat(binarySnapshot.getString("thingId").getValue())
+                .isEqualTo(thing.getEntityId().orElseThrow().toString());
+        assertThat(binarySnapshot.containsKey("attributes")).isFalse();
+        assertThat(binaryAdapter.fromSnapshotStore(new SnapshotOffer(SNAPSHOT_METADATA, binarySnapshot)))
+                .isEqualTo(thing);
+    }
+
+    @Test
+    public void snapshotsOfBothEncodingsAreReadSideBySide() {
+        final ThingMongoSnapshotAdapter binaryAdapter = new ThingMongoSnapshotAdapter(binaryEncodingConfig());
+        final Thing thing = TestConstants.Thing.THING_V2;
+        final Object bsonSnapshot = underTest.toSnapshotStore(thing);
+        final Object binarySnapshot = binaryAdapter.toSnapshotStore(thing);
+
+        assertThat(binaryAdapter.fromSnapshotStore(new SnapshotOffer(SNAPSHOT_METADATA, bsonSnapshot)))
+                .isEqualTo(thing);
+        assertThat(underTest.fromSnapshotStore(new SnapshotOffer(SNAPSHOT_METADATA, binarySnapshot)))
+                .isEqualTo(thing);
+    }
+
+    private static SnapshotEncodingConfig binaryEncodingConfig() {
+        return DefaultSnapshotEncodingConfig.of(
+                ConfigFactory.parseString("encoding { binary = true, compression-threshold = 0 }"));
+    }
+
 }
\ No newline at end of file
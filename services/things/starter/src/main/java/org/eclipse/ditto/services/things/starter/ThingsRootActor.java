@@ -17,18 +17,31 @@ import static akka.http.javadsl.server.Directives.logResult;
 import static org.eclipse.ditto.services.models.things.ThingsMessagingConstants.CLUSTER_ROLE;
 
 import java.time.Duration;
+import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.services.base.actors.DittoRootActor;
+import org.eclipse.ditto.model.enforcers.Enforcer;
 import org.eclipse.ditto.services.base.config.http.HttpConfig;
+import org.eclipse.ditto.services.models.policies.PoliciesMessagingConstants;
 import org.eclipse.ditto.services.models.things.ThingEventPubSubFactory;
 import org.eclipse.ditto.services.models.things.ThingsMessagingConstants;
+import org.eclipse.ditto.services.things.common.config.LocalReadEnforcementConfig;
 import org.eclipse.ditto.services.things.common.config.ThingsConfig;
+import org.eclipse.ditto.services.things.persistence.actors.PolicyEnforcerCacheInvalidator;
 import org.eclipse.ditto.services.things.persistence.actors.ThingPersistenceActorPropsFactory;
 import org.eclipse.ditto.services.things.persistence.actors.ThingPersistenceOperationsActor;
+import org.eclipse.ditto.services.things.persistence.actors.ThingQueryEnforcement;
 import org.eclipse.ditto.services.things.persistence.actors.ThingSupervisorActor;
 import org.eclipse.ditto.services.things.persistence.actors.ThingsPersistenceStreamingActorCreator;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.cache.Cache;
+import org.eclipse.ditto.services.utils.cache.CacheFactory;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.eclipse.ditto.services.utils.cacheloaders.PolicyEnforcerCacheLoader;
 import org.eclipse.ditto.services.utils.cluster.ClusterStatusSupplier;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.cluster.RetrieveStatisticsDetailsResponseSupplier;
@@ -40,6 +53,8 @@ import org.eclipse.ditto.services.utils.health.HealthCheckingActorOptions;
 import org.eclipse.ditto.services.utils.health.config.HealthCheckConfig;
 import org.eclipse.ditto.services.utils.health.config.MetricsReporterConfig;
 import org.eclipse.ditto.services.utils.health.routes.StatusRoute;
+import org.eclipse.ditto.services.utils.namespaces.BlockNamespaceBehavior;
+import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoHealthChecker;
 import org.eclipse.ditto.services.utils.persistence.mongo.MongoMetricsReporter;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.TagsConfig;
@@ -92,9 +107,14 @@ public final class ThingsRootActor extends DittoRootActor {
         final ThingEventPubSubFactory pubSubFactory = ThingEventPubSubFactory.of(getContext(), shardRegionExtractor);
         final DistributedPub<ThingEvent> distributedPub = pubSubFactory.startDistributedPub();
 
+        @Nullable final ThingQueryEnforcement thingQueryEnforcement =
+                startThingQueryEnforcementIfEnabled(thingsConfig.getLocalReadEnforcementConfig(), pubSubMediator,
+                        shardRegionExtractor);
+
         final ActorRef thingsShardRegion = ClusterSharding.get(actorSystem)
                 .start(ThingsMessagingConstants.SHARD_REGION,
-                        getThingSupervisorActorProps(pubSubMediator, distributedPub, propsFactory),
+                        getThingSupervisorActorProps(pubSubMediator, distributedPub, propsFactory,
+                                thingQueryEnforcement),
                         ClusterShardingSettings.create(actorSystem).withRole(CLUSTER_ROLE),
                         shardRegionExtractor);
 
@@ -206,12 +226,42 @@ public final class ThingsRootActor extends DittoRootActor {
                 serverBinding.localAddress().getPort());
     }
 
+    @Nullable
+    private ThingQueryEnforcement startThingQueryEnforcementIfEnabled(
+            final LocalReadEnforcementConfig localReadEnforcementConfig,
+            final ActorRef pubSubMediator,
+            final ShardRegionExtractor shardRegionExtractor) {
+
+        if (!localReadEnforcementConfig.isEnabled()) {
+            return null;
+        }
+        log.info("Enforcing thing query commands routed directly from the gateway.");
+        final ActorSystem actorSystem = getContext().getSystem();
+        final ActorRef policiesShardRegionProxy = ClusterSharding.get(actorSystem)
+                .startProxy(PoliciesMessagingConstants.SHARD_REGION,
+                        Optional.of(PoliciesMessagingConstants.CLUSTER_ROLE), shardRegionExtractor);
+        final Duration askTimeout = localReadEnforcementConfig.getAskTimeout();
+        final Cache<EntityIdWithResourceType, Entry<Enforcer>> policyEnforcerCache =
+                CacheFactory.createCache(new PolicyEnforcerCacheLoader(askTimeout, policiesShardRegionProxy),
+                        localReadEnforcementConfig.getPolicyEnforcerCacheConfig(),
+                        "ditto_things_policy_enforcer_cache",
+                        actorSystem.dispatcher());
+        startChildActor(PolicyEnforcerCacheInvalidator.ACTOR_NAME,
+                PolicyEnforcerCacheInvalidator.props(pubSubMediator, policyEnforcerCache));
+
+        final BlockNamespaceBehavior blockNamespaceBehavior =
+                BlockNamespaceBehavior.of(BlockedNamespaces.of(actorSystem));
+
+        return ThingQueryEnforcement.of(policyEnforcerCache, blockNamespaceBehavior, askTimeout);
+    }
+
     private static Props getThingSupervisorActorProps(
             final ActorRef pubSubMediator,
             final DistributedPub<ThingEvent> distributedPub,
-            final ThingPersistenceActorPropsFactory propsFactory) {
+            final ThingPersistenceActorPropsFactory propsFactory,
+            @Nullable final ThingQueryEnforcement thingQueryEnforcement) {
 
-        return ThingSupervisorActor.props(pubSubMediator, distributedPub, propsFactory);
+        return ThingSupervisorActor.props(pubSubMediator, distributedPub, propsFactory, thingQueryEnforcement);
     }
 
 }
@@ -12,14 +12,23 @@
  */
 package org.eclipse.ditto.services.things.starter;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.ditto.services.base.DittoService;
 import org.eclipse.ditto.services.things.common.config.DittoThingsConfig;
 import org.eclipse.ditto.services.things.common.config.ThingsConfig;
+import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
 import org.eclipse.ditto.services.utils.config.ScopedConfig;
+import org.eclipse.ditto.services.utils.namespaces.BlockedNamespaces;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigValueFactory;
+
 import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
 import akka.actor.Props;
 import akka.stream.ActorMaterializer;
 
@@ -40,6 +49,8 @@ public final class ThingsService extends DittoService<ThingsConfig> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ThingsService.class);
 
+    private static final String CLUSTER_ROLES_PATH = "akka.cluster.roles";
+
     private ThingsService() {
         super(LOGGER, SERVICE_NAME, ThingsRootActor.ACTOR_NAME);
     }
@@ -59,12 +70,33 @@ public final class ThingsService extends DittoService<ThingsConfig> {
         return DittoThingsConfig.of(dittoConfig);
     }
 
+    @Override
+    protected ActorSystem createActorSystem(final Config config) {
+        return super.createActorSystem(withBlockedNamespacesRoleIfRequired(config));
+    }
+
     @Override
     protected Props getMainRootActorProps(final ThingsConfig thingsConfig, final ActorRef pubSubMediator,
             final ActorMaterializer materializer) {
 
         return ThingsRootActor.props(thingsConfig, pubSubMediator, materializer,
-                DefaultThingPersistenceActorPropsFactory.getInstance());
+                DefaultThingPersistenceActorPropsFactory.getInstance(
+                        thingsConfig.getThingConfig().getSnapshotConfig().getEncodingConfig()));
+    }
+
+    /*
+     * Things instances enforcing thing queries locally must reject queries of blocked namespaces like concierge,
+     * for which they need the replicated blocked namespaces.
+     */
+    private static Config withBlockedNamespacesRoleIfRequired(final Config config) {
+        final ThingsConfig thingsConfig = DittoThingsConfig.of(DefaultScopedConfig.dittoScoped(config));
+        final List<String> roles = new ArrayList<>(config.getStringList(CLUSTER_ROLES_PATH));
+        if (!thingsConfig.getLocalReadEnforcementConfig().isEnabled() ||
+                roles.contains(BlockedNamespaces.CLUSTER_ROLE)) {
+            return config;
+        }
+        roles.add(BlockedNamespaces.CLUSTER_ROLE);
+        return config.withValue(CLUSTER_ROLES_PATH, ConfigValueFactory.fromIterable(roles));
     }
 
 }
@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.things.starter;
 
+import org.eclipse.ditto.services.models.policies.commands.sudo.SudoRetrievePolicy;
 import org.eclipse.ditto.services.models.streaming.SudoStreamPids;
 import org.eclipse.ditto.services.models.things.commands.sudo.SudoRetrieveThing;
 import org.eclipse.ditto.services.utils.health.RetrieveHealth;
@@ -32,6 +33,7 @@ public final class ThingsServiceGlobalCommandRegistryTest extends GlobalCommandR
     public ThingsServiceGlobalCommandRegistryTest() {
         super(SudoStreamPids.class,
                 SudoRetrieveThing.class,
+                SudoRetrievePolicy.class,
                 RetrieveFeature.class,
                 ModifyFeatureProperty.class,
                 ExecutePiggybackCommand.class,
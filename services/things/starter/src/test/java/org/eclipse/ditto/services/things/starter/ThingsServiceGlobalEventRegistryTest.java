@@ -13,12 +13,13 @@
 package org.eclipse.ditto.services.things.starter;
 
 import org.eclipse.ditto.services.utils.test.GlobalEventRegistryTestCases;
+import org.eclipse.ditto.signals.events.policies.PolicyCreated;
 import org.eclipse.ditto.signals.events.things.FeatureDeleted;
 
 public final class ThingsServiceGlobalEventRegistryTest extends GlobalEventRegistryTestCases {
 
     public ThingsServiceGlobalEventRegistryTest() {
-        super(FeatureDeleted.class);
+        super(FeatureDeleted.class, PolicyCreated.class);
     }
 
 }
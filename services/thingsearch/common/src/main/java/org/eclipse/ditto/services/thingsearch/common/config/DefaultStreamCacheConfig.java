@@ -72,6 +72,11 @@ public final class DefaultStreamCacheConfig implements StreamCacheConfig {
         return genericCacheConfig.getMaximumSize();
     }
 
+    @Override
+    public long getMaximumWeight() {
+        return genericCacheConfig.getMaximumWeight();
+    }
+
     @Override
     public Duration getExpireAfterWrite() {
         return genericCacheConfig.getExpireAfterWrite();
@@ -87,6 +92,11 @@ public final class DefaultStreamCacheConfig implements StreamCacheConfig {
         return genericCacheConfig.getExpireAfterCreate();
     }
 
+    @Override
+    public Duration getRefreshAfterWrite() {
+        return genericCacheConfig.getRefreshAfterWrite();
+    }
+
     @Override
     public Config render() {
             return ConfigFactory.empty()
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.thingsearch.common.config;
+
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.eclipse.ditto.services.thingsearch.common.config.StreamCacheConfig.StreamCacheConfigValue;
+import org.eclipse.ditto.services.utils.cache.config.CacheConfig.CacheConfigValue;
+import org.eclipse.ditto.services.utils.cache.config.DefaultCacheConfig;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link DefaultStreamCacheConfig}.
+ */
+public final class DefaultStreamCacheConfigTest {
+
+    private static Config streamCacheTestConfig;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        streamCacheTestConfig = ConfigFactory.load("stream-cache-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultStreamCacheConfig.class, areImmutable(),
+                provided(DefaultCacheConfig.class).isAlsoImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultStreamCacheConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void gettersReturnDefaultValuesIfNotConfigured() {
+        final DefaultStreamCacheConfig underTest = DefaultStreamCacheConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.getDispatcherName())
+                .as(StreamCacheConfigValue.DISPATCHER_NAME.getConfigPath())
+                .isEqualTo(StreamCacheConfigValue.DISPATCHER_NAME.getDefaultValue());
+        softly.assertThat(underTest.getRetryDelay())
+                .as(StreamCacheConfigValue.RETRY_DELAY.getConfigPath())
+                .isEqualTo(StreamCacheConfigValue.RETRY_DELAY.getDefaultValue());
+        softly.assertThat(underTest.getMaximumWeight())
+                .as(CacheConfigValue.MAXIMUM_WEIGHT.getConfigPath())
+                .isEqualTo(CacheConfigValue.MAXIMUM_WEIGHT.getDefaultValue());
+        softly.assertThat(underTest.getRefreshAfterWrite())
+                .as(CacheConfigValue.REFRESH_AFTER_WRITE.getConfigPath())
+                .isEqualTo(CacheConfigValue.REFRESH_AFTER_WRITE.getDefaultValue());
+    }
+
+    @Test
+    public void gettersReturnConfiguredValues() {
+        final DefaultStreamCacheConfig underTest = DefaultStreamCacheConfig.of(streamCacheTestConfig);
+
+        softly.assertThat(underTest.getDispatcherName())
+                .as(StreamCacheConfigValue.DISPATCHER_NAME.getConfigPath())
+                .isEqualTo("stream-cache-test-dispatcher");
+        softly.assertThat(underTest.getRetryDelay())
+                .as(StreamCacheConfigValue.RETRY_DELAY.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(2L));
+        softly.assertThat(underTest.getMaximumSize())
+                .as(CacheConfigValue.MAXIMUM_SIZE.getConfigPath())
+                .isEqualTo(1234L);
+        softly.assertThat(underTest.getMaximumWeight())
+                .as(CacheConfigValue.MAXIMUM_WEIGHT.getConfigPath())
+                .isEqualTo(32L * 1024 * 1024);
+        softly.assertThat(underTest.getExpireAfterWrite())
+                .as(CacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath())
+                .isEqualTo(Duration.ofMinutes(3L));
+        softly.assertThat(underTest.getExpireAfterAccess())
+                .as(CacheConfigValue.EXPIRE_AFTER_ACCESS.getConfigPath())
+                .isEqualTo(Duration.ofMinutes(4L));
+        softly.assertThat(underTest.getRefreshAfterWrite())
+                .as(CacheConfigValue.REFRESH_AFTER_WRITE.getConfigPath())
+                .isEqualTo(Duration.ofMinutes(2L));
+    }
+
+}
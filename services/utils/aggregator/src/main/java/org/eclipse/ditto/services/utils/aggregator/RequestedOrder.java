@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.aggregator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.TreeMap;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.model.things.ThingId;
+
+/**
+ * Restores the requested order of things which are retrieved in arbitrary order. A thing is released as soon as all
+ * things requested before it were either retrieved or failed, so that one slow thing only delays the things requested
+ * after it.
+ */
+@NotThreadSafe
+final class RequestedOrder {
+
+    private final Map<ThingId, Queue<Integer>> positionsById;
+    private final TreeMap<Integer, String> pending;
+    private int nextPosition;
+
+    private RequestedOrder(final List<ThingId> thingIds) {
+        positionsById = new HashMap<>();
+        for (int i = 0; i < thingIds.size(); i++) {
+            positionsById.computeIfAbsent(thingIds.get(i), thingId -> new ArrayDeque<>()).add(i);
+        }
+        pending = new TreeMap<>();
+        nextPosition = 0;
+    }
+
+    /**
+     * Creates a {@code RequestedOrder} for the passed thing IDs.
+     *
+     * @param thingIds the requested thing IDs in the requested order, may contain duplicates.
+     * @return the new instance.
+     */
+    static RequestedOrder of(final List<ThingId> thingIds) {
+        return new RequestedOrder(thingIds);
+    }
+
+    /**
+     * Records the result of retrieving a thing.
+     *
+     * @param thingId the ID of the retrieved thing.
+     * @param json the JSON string of the thing or {@code null} if the thing could not be retrieved.
+     * @return the JSON strings which can be released in the requested order now; empty if the thing was not requested
+     * or things requested before it are still missing.
+     */
+    List<String> add(final ThingId thingId, @Nullable final String json) {
+        final Queue<Integer> positions = positionsById.get(thingId);
+        if (null == positions || positions.isEmpty()) {
+            return Collections.emptyList();
+        }
+        pending.put(positions.remove(), json);
+        final List<String> released = new ArrayList<>();
+        while (pending.containsKey(nextPosition)) {
+            @Nullable final String releasedJson = pending.remove(nextPosition);
+            if (null != releasedJson) {
+                released.add(releasedJson);
+            }
+            nextPosition++;
+        }
+        return released;
+    }
+
+    /**
+     * Releases all pending things in the requested order regardless of missing things, e. g. when no further things
+     * are going to be retrieved.
+     *
+     * @return the pending JSON strings in the requested order.
+     */
+    List<String> flush() {
+        final List<String> released = new ArrayList<>();
+        pending.values().stream().filter(Objects::nonNull).forEach(released::add);
+        pending.clear();
+        return released;
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.aggregator;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Objects;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
+
+/**
+ * Asks the {@link ThingsAggregatorProxyActor} to answer a {@link RetrieveThings} command with an
+ * {@code akka.stream.javadsl.Source} emitting the JSON strings of the retrieved things as soon as they are available
+ * instead of with one {@code RetrieveThingsResponse} containing all things.
+ * <p>
+ * This message is not serializable and must only be sent to a {@code ThingsAggregatorProxyActor} of the same
+ * actor system.
+ * </p>
+ */
+@Immutable
+public final class StreamRetrieveThings {
+
+    private final RetrieveThings retrieveThings;
+    private final boolean preserveOrder;
+
+    private StreamRetrieveThings(final RetrieveThings retrieveThings, final boolean preserveOrder) {
+        this.retrieveThings = checkNotNull(retrieveThings, "retrieveThings");
+        this.preserveOrder = preserveOrder;
+    }
+
+    /**
+     * Creates a new {@code StreamRetrieveThings} message.
+     *
+     * @param retrieveThings the command whose things are streamed.
+     * @param preserveOrder whether the things are emitted in the order of the thing IDs of the command; otherwise
+     * they are emitted in the order they are retrieved.
+     * @return the message.
+     * @throws NullPointerException if {@code retrieveThings} is {@code null}.
+     */
+    public static StreamRetrieveThings of(final RetrieveThings retrieveThings, final boolean preserveOrder) {
+        return new StreamRetrieveThings(retrieveThings, preserveOrder);
+    }
+
+    /**
+     * Returns the command whose things are streamed.
+     *
+     * @return the command.
+     */
+    public RetrieveThings getRetrieveThings() {
+        return retrieveThings;
+    }
+
+    /**
+     * Indicates whether the things are emitted in the order of the thing IDs of the command.
+     *
+     * @return {@code true} if the requested order is preserved, {@code false} else.
+     */
+    public boolean isPreserveOrder() {
+        return preserveOrder;
+    }
+
+    @Override
+    public boolean equals(@Nullable final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final StreamRetrieveThings that = (StreamRetrieveThings) o;
+        return preserveOrder == that.preserveOrder && Objects.equals(retrieveThings, that.retrieveThings);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(retrieveThings, preserveOrder);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "retrieveThings=" + retrieveThings +
+                ", preserveOrder=" + preserveOrder +
+                "]";
+    }
+
+}
@@ -21,13 +21,16 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaderDefinition;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.json.Jsonifiable;
 import org.eclipse.ditto.model.things.Thing;
@@ -46,6 +49,7 @@ import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThings;
 import org.eclipse.ditto.signals.commands.things.query.RetrieveThingsResponse;
 
+import akka.NotUsed;
 import akka.actor.AbstractActor;
 import akka.actor.ActorRef;
 import akka.actor.Props;
@@ -64,6 +68,10 @@ import akka.stream.javadsl.Source;
  * to a {@link RetrieveThings} command via a {@link SourceRef} which is a pointer in the cluster emitting the retrieved
  * {@link Thing}s one after one in a stream. That ensures that the cluster messages size must not be increased when
  * streaming a larger amount of Things in the cluster.
+ * <p>
+ * A {@link StreamRetrieveThings} message is answered with a {@link Source} of the JSON strings of the retrieved things
+ * which emits each thing as soon as it arrives instead of waiting for the slowest thing.
+ * </p>
  */
 public final class ThingsAggregatorProxyActor extends AbstractActor {
 
@@ -76,6 +84,8 @@ public final class ThingsAggregatorProxyActor extends AbstractActor {
 
     private static final int ASK_TIMEOUT = 60;
 
+    private static final Object END_OF_STREAM = new Object();
+
     private final DiagnosticLoggingAdapter log = LogUtil.obtain(this);
 
     private final ActorRef targetActor;
@@ -107,6 +117,7 @@ public final class ThingsAggregatorProxyActor extends AbstractActor {
         return ReceiveBuilder.create()
                 .match(RetrieveThings.class, rt -> handleRetrieveThings(rt, rt))
                 .match(SudoRetrieveThings.class, srt -> handleSudoRetrieveThings(srt, srt))
+                .match(StreamRetrieveThings.class, this::handleStreamRetrieveThings)
                 .match(DistributedPubSubMediator.Send.class, send -> {
                     final Object msg = send.msg();
                     if (msg instanceof RetrieveThings) {
@@ -132,7 +143,7 @@ public final class ThingsAggregatorProxyActor extends AbstractActor {
                 RetrieveThings.class.getSimpleName(), thingIds.size());
 
         final ActorRef sender = getSender();
-        askTargetActor(rt, thingIds, msgToAsk, sender);
+        askTargetActor(rt, msgToAsk, sender, sourceRef -> handleSourceRef(sourceRef, thingIds, rt, sender));
     }
 
     private void handleSudoRetrieveThings(final SudoRetrieveThings srt, final Object msgToAsk) {
@@ -142,15 +153,28 @@ public final class ThingsAggregatorProxyActor extends AbstractActor {
                 SudoRetrieveThings.class.getSimpleName(), thingIds.size());
 
         final ActorRef sender = getSender();
-        askTargetActor(srt, thingIds, msgToAsk, sender);
+        askTargetActor(srt, msgToAsk, sender, sourceRef -> handleSourceRef(sourceRef, thingIds, srt, sender));
     }
 
-    private void askTargetActor(final Command<?> command, final List<ThingId> thingIds,
-            final Object msgToAsk, final ActorRef sender) {
+    private void handleStreamRetrieveThings(final StreamRetrieveThings streamRetrieveThings) {
+        final RetrieveThings rt = streamRetrieveThings.getRetrieveThings();
+        LogUtil.enhanceLogWithCorrelationId(log, rt.getDittoHeaders().getCorrelationId());
+        final List<ThingId> thingIds = rt.getThingEntityIds();
+        log.info("Got '{}' message. Streaming requested '{}' Things..",
+                StreamRetrieveThings.class.getSimpleName(), thingIds.size());
+
+        final ActorRef sender = getSender();
+        final boolean preserveOrder = streamRetrieveThings.isPreserveOrder();
+        askTargetActor(rt, rt, sender,
+                sourceRef -> sender.tell(streamThings(sourceRef, thingIds, preserveOrder), getSelf()));
+    }
+
+    private void askTargetActor(final Command<?> command, final Object msgToAsk, final ActorRef sender,
+            final Consumer<SourceRef<?>> sourceRefHandler) {
         PatternsCS.ask(targetActor, msgToAsk, Duration.ofSeconds(ASK_TIMEOUT))
                 .thenAccept(response -> {
                     if (response instanceof SourceRef){
-                        handleSourceRef((SourceRef) response, thingIds, command, sender);
+                        sourceRefHandler.accept((SourceRef<?>) response);
                     } else if (response instanceof DittoRuntimeException) {
                         sender.tell(response, getSelf());
                     } else {
@@ -210,6 +234,56 @@ public final class ThingsAggregatorProxyActor extends AbstractActor {
         PatternsCS.pipe(commandResponseCompletionStage, getContext().dispatcher()).to(originatingSender);
     }
 
+    private Source<String, NotUsed> streamThings(final SourceRef<?> sourceRef, final List<ThingId> thingIds,
+            final boolean preserveOrder) {
+
+        final Source<String, NotUsed> things;
+        if (preserveOrder) {
+            // the end marker releases the things still waiting for a thing the stream did not deliver
+            things = sourceRef.getSource()
+                    .map(element -> (Object) element)
+                    .concat(Source.single(END_OF_STREAM))
+                    .statefulMapConcat(() -> {
+                        final RequestedOrder requestedOrder = RequestedOrder.of(thingIds);
+                        return element -> {
+                            if (END_OF_STREAM == element) {
+                                return requestedOrder.flush();
+                            }
+                            return getThingId(element)
+                                    .map(thingId -> requestedOrder.add(thingId, getThingJson(element)))
+                                    .orElse(Collections.emptyList());
+                        };
+                    });
+        } else {
+            things = sourceRef.getSource()
+                    .filter(element -> element instanceof RetrieveThingResponse)
+                    .map(ThingsAggregatorProxyActor::getThingJson);
+        }
+
+        return things.log("stream-thing", log);
+    }
+
+    private static Optional<ThingId> getThingId(final Object element) {
+        if (element instanceof RetrieveThingResponse) {
+            return Optional.of(((RetrieveThingResponse) element).getThingEntityId());
+        } else if (element instanceof DittoRuntimeException) {
+            return Optional.ofNullable(((DittoRuntimeException) element).getDittoHeaders()
+                    .get(DittoHeaderDefinition.ENTITY_ID.getKey()))
+                    .map(ThingId::of);
+        }
+        return Optional.empty();
+    }
+
+    @Nullable
+    private static String getThingJson(final Object element) {
+        if (element instanceof RetrieveThingResponse) {
+            final RetrieveThingResponse response = (RetrieveThingResponse) element;
+            return response.getEntityPlainString().orElseGet(() ->
+                    response.getEntity(response.getImplementedSchemaVersion()).toString());
+        }
+        return null;
+    }
+
     private Function<Jsonifiable<?>, PlainJson> supplyPlainJsonFromRetrieveThingResponse() {
         return jsonifiable -> {
             if (jsonifiable instanceof RetrieveThingResponse) {
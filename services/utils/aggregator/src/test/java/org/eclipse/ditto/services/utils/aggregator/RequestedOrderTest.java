@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.aggregator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+
+import org.eclipse.ditto.model.things.ThingId;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link RequestedOrder}.
+ */
+public final class RequestedOrderTest {
+
+    private static final ThingId THING_1 = ThingId.of("ditto", "thing1");
+    private static final ThingId THING_2 = ThingId.of("ditto", "thing2");
+    private static final ThingId THING_3 = ThingId.of("ditto", "thing3");
+
+    @Test
+    public void thingsAreReleasedInRequestedOrder() {
+        final RequestedOrder underTest = RequestedOrder.of(Arrays.asList(THING_1, THING_2, THING_3));
+
+        assertThat(underTest.add(THING_3, "3")).isEmpty();
+        assertThat(underTest.add(THING_1, "1")).containsExactly("1");
+        assertThat(underTest.add(THING_2, "2")).containsExactly("2", "3");
+    }
+
+    @Test
+    public void failedThingsDoNotBlockLaterThings() {
+        final RequestedOrder underTest = RequestedOrder.of(Arrays.asList(THING_1, THING_2, THING_3));
+
+        assertThat(underTest.add(THING_2, "2")).isEmpty();
+        assertThat(underTest.add(THING_1, null)).containsExactly("2");
+    }
+
+    @Test
+    public void duplicateIdsAreReleasedAtEachRequestedPosition() {
+        final RequestedOrder underTest = RequestedOrder.of(Arrays.asList(THING_1, THING_2, THING_1));
+
+        assertThat(underTest.add(THING_1, "1")).containsExactly("1");
+        assertThat(underTest.add(THING_1, "1")).isEmpty();
+        assertThat(underTest.add(THING_2, "2")).containsExactly("2", "1");
+    }
+
+    @Test
+    public void unrequestedThingsAreIgnored() {
+        final RequestedOrder underTest = RequestedOrder.of(Arrays.asList(THING_1));
+
+        assertThat(underTest.add(THING_2, "2")).isEmpty();
+        assertThat(underTest.flush()).isEmpty();
+    }
+
+    @Test
+    public void flushReleasesPendingThingsInRequestedOrder() {
+        final RequestedOrder underTest = RequestedOrder.of(Arrays.asList(THING_1, THING_2, THING_3));
+
+        underTest.add(THING_3, "3");
+        underTest.add(THING_2, "2");
+
+        assertThat(underTest.flush()).containsExactly("2", "3");
+    }
+
+}
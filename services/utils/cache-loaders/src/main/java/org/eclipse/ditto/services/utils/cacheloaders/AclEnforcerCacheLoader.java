@@ -88,7 +88,8 @@ public final class AclEnforcerCacheLoader
                 final long revision = thing.getRevision().map(ThingRevision::toLong)
                         .orElseThrow(badThingResponse("no revision"));
 
-                return Entry.of(revision, AclEnforcer.of(accessControlList));
+                return Entry.of(revision, AclEnforcer.of(accessControlList),
+                        EnforcerSizeEstimator.estimateAclEnforcer(accessControlList));
             } else {
                 // The thing exists, but it has a policy. Remove entry from cache.
                 return null;
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cacheloaders;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.policies.EffectedPermissions;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyEntry;
+import org.eclipse.ditto.model.policies.Resource;
+import org.eclipse.ditto.model.policies.Subject;
+import org.eclipse.ditto.model.things.AccessControlList;
+import org.eclipse.ditto.model.things.AclEntry;
+
+/**
+ * Estimates the memory retained by enforcers in bytes so that enforcer caches can be bounded by a memory budget.
+ * <p>
+ * The throughput optimized policy enforcer builds a tree of resource nodes for each subject, hence the estimation of a
+ * policy is dominated by the number of subjects times the number of resource path levels of each policy entry.
+ * The estimations are rough upper bounds of the object headers, references and strings involved; they are meant to
+ * weigh enforcers relative to each other rather than to measure them exactly.
+ * </p>
+ */
+@Immutable
+final class EnforcerSizeEstimator {
+
+    private static final long ENFORCER_OVERHEAD = 256L;
+    private static final long SUBJECT_OVERHEAD = 96L;
+    private static final long RESOURCE_NODE_OVERHEAD = 160L;
+    private static final long PERMISSION_OVERHEAD = 48L;
+    private static final long BYTES_PER_CHAR = 2L;
+
+    private EnforcerSizeEstimator() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Estimate the retained size of the default enforcer of a policy.
+     *
+     * @param policy the policy.
+     * @return the estimated size in bytes.
+     */
+    static long estimatePolicyEnforcer(final Policy policy) {
+        long size = ENFORCER_OVERHEAD;
+        for (final PolicyEntry policyEntry : policy) {
+            long resourcesSize = 0L;
+            for (final Resource resource : policyEntry.getResources()) {
+                final EffectedPermissions permissions = resource.getEffectedPermissions();
+                resourcesSize += RESOURCE_NODE_OVERHEAD * Math.max(1, resource.getPath().getLevelCount()) +
+                        BYTES_PER_CHAR * resource.getFullQualifiedPath().length() +
+                        PERMISSION_OVERHEAD * (permissions.getGrantedPermissions().size() +
+                                permissions.getRevokedPermissions().size());
+            }
+            for (final Subject subject : policyEntry.getSubjects()) {
+                size += SUBJECT_OVERHEAD + BYTES_PER_CHAR * subject.getId().toString().length() + resourcesSize;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Estimate the retained size of the enforcer of an access control list.
+     *
+     * @param accessControlList the access control list.
+     * @return the estimated size in bytes.
+     */
+    static long estimateAclEnforcer(final AccessControlList accessControlList) {
+        long size = ENFORCER_OVERHEAD;
+        for (final AclEntry aclEntry : accessControlList) {
+            size += SUBJECT_OVERHEAD + BYTES_PER_CHAR * aclEntry.getAuthorizationSubject().getId().length() +
+                    PERMISSION_OVERHEAD * aclEntry.getPermissions().size();
+        }
+        return size;
+    }
+
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cacheloaders;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.model.things.ThingId;
+
+/**
+ * Thread-safe filter of the IDs of existing things with one scalable Bloom filter per namespace.
+ * <p>
+ * The filter answers {@link #mightContain(ThingId)} with {@code true} for every thing ID put into it and with a
+ * configurable probability for unknown thing IDs. Thing IDs cannot be removed; deleted things remain false positives.
+ * Until the filter is {@link #markReady() marked ready}, i. e. until it contains the IDs of all persisted things, it
+ * considers every thing ID as possibly existent.
+ * </p>
+ * <p>
+ * Because creation events may get lost and deleted things are never removed, the filter can be rebuilt: after
+ * {@link #startRebuild()}, thing IDs are put into both the current and a new set of Bloom filters. The next
+ * {@link #markReady()} replaces the current Bloom filters by the new ones.
+ * </p>
+ */
+@ThreadSafe
+public final class ThingExistenceFilter {
+
+    private static final double LN_2 = Math.log(2.0);
+
+    private final int expectedInsertionsPerNamespace;
+    private final double falsePositiveProbability;
+    private volatile ConcurrentMap<String, ScalableBloomFilter> namespaceFilters;
+    @Nullable private volatile ConcurrentMap<String, ScalableBloomFilter> rebuiltNamespaceFilters;
+    private volatile boolean ready;
+
+    private ThingExistenceFilter(final int expectedInsertionsPerNamespace, final double falsePositiveProbability) {
+        this.expectedInsertionsPerNamespace = expectedInsertionsPerNamespace;
+        this.falsePositiveProbability = falsePositiveProbability;
+        namespaceFilters = new ConcurrentHashMap<>();
+        rebuiltNamespaceFilters = null;
+        ready = false;
+    }
+
+    /**
+     * Create an empty existence filter which is not ready.
+     *
+     * @param expectedInsertionsPerNamespace number of thing IDs the first Bloom filter of each namespace is
+     * dimensioned for.
+     * @param falsePositiveProbability the false positive probability of each Bloom filter.
+     * @return the existence filter.
+     * @throws IllegalArgumentException if {@code expectedInsertionsPerNamespace} is not positive or if
+     * {@code falsePositiveProbability} is not between 0 and 1 exclusively.
+     */
+    public static ThingExistenceFilter of(final int expectedInsertionsPerNamespace,
+            final double falsePositiveProbability) {
+
+        if (expectedInsertionsPerNamespace <= 0) {
+            throw new IllegalArgumentException("expectedInsertionsPerNamespace must be positive, got: " +
+                    expectedInsertionsPerNamespace);
+        }
+        if (!(falsePositiveProbability > 0.0 && falsePositiveProbability < 1.0)) {
+            throw new IllegalArgumentException("falsePositiveProbability must be between 0 and 1, got: " +
+                    falsePositiveProbability);
+        }
+        return new ThingExistenceFilter(expectedInsertionsPerNamespace, falsePositiveProbability);
+    }
+
+    /**
+     * Add the ID of an existing thing.
+     *
+     * @param thingId the thing ID.
+     */
+    public void put(final ThingId thingId) {
+        // read the rebuilt filters first: after they replaced the current ones, namespaceFilters is up to date
+        final ConcurrentMap<String, ScalableBloomFilter> rebuilt = rebuiltNamespaceFilters;
+        put(namespaceFilters, thingId);
+        if (null != rebuilt) {
+            put(rebuilt, thingId);
+        }
+    }
+
+    /**
+     * Test whether a thing might exist.
+     *
+     * @param thingId the thing ID.
+     * @return {@code false} if this filter is ready and the thing ID was never added; {@code true} otherwise.
+     */
+    public boolean mightContain(final ThingId thingId) {
+        if (!ready) {
+            return true;
+        }
+        final ScalableBloomFilter filter = namespaceFilters.get(thingId.getNamespace());
+        return null != filter && filter.mightContain(thingId.getName());
+    }
+
+    /**
+     * Start to rebuild this filter. Until the next {@link #markReady()}, thing IDs are also put into new Bloom filters
+     * which then replace the current ones. Lookups are answered by the current Bloom filters in the meantime.
+     * Calling this method while a rebuild is in progress starts the rebuild over.
+     */
+    public void startRebuild() {
+        rebuiltNamespaceFilters = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Mark this filter as containing the IDs of all persisted things. Afterwards unknown thing IDs are filtered.
+     * If a rebuild was started, the rebuilt Bloom filters replace the current ones.
+     */
+    public void markReady() {
+        final ConcurrentMap<String, ScalableBloomFilter> rebuilt = rebuiltNamespaceFilters;
+        if (null != rebuilt) {
+            namespaceFilters = rebuilt;
+            rebuiltNamespaceFilters = null;
+        }
+        ready = true;
+    }
+
+    /**
+     * @return whether this filter contains the IDs of all persisted things.
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    private void put(final ConcurrentMap<String, ScalableBloomFilter> filters, final ThingId thingId) {
+        filters.computeIfAbsent(thingId.getNamespace(),
+                namespace -> new ScalableBloomFilter(expectedInsertionsPerNamespace, falsePositiveProbability))
+                .put(thingId.getName());
+    }
+
+    /**
+     * Bloom filter which adds a twice as large Bloom filter whenever the current one reached its expected insertions.
+     */
+    private static final class ScalableBloomFilter {
+
+        private final double falsePositiveProbability;
+        private final List<BloomFilter> segments;
+
+        private ScalableBloomFilter(final int expectedInsertions, final double falsePositiveProbability) {
+            this.falsePositiveProbability = falsePositiveProbability;
+            segments = new CopyOnWriteArrayList<>();
+            segments.add(new BloomFilter(expectedInsertions, falsePositiveProbability));
+        }
+
+        private void put(final String element) {
+            final long hash = hash(element);
+            if (!mightContain(hash)) {
+                getSegmentForInsertion().put(hash);
+            }
+        }
+
+        private boolean mightContain(final String element) {
+            return mightContain(hash(element));
+        }
+
+        private boolean mightContain(final long hash) {
+            for (final BloomFilter segment : segments) {
+                if (segment.mightContain(hash)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private BloomFilter getSegmentForInsertion() {
+            final BloomFilter last = segments.get(segments.size() - 1);
+            if (!last.isFull()) {
+                return last;
+            }
+            synchronized (segments) {
+                final BloomFilter current = segments.get(segments.size() - 1);
+                if (current.isFull()) {
+                    final long expectedInsertions = Math.min(Integer.MAX_VALUE, 2L * current.expectedInsertions);
+                    final BloomFilter next = new BloomFilter((int) expectedInsertions, falsePositiveProbability);
+                    segments.add(next);
+                    return next;
+                }
+                return current;
+            }
+        }
+
+        private static long hash(final String element) {
+            // 64-bit FNV-1a followed by the finalizer of MurmurHash3 to spread the bits
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0; i < element.length(); i++) {
+                hash ^= element.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            hash ^= hash >>> 33;
+            hash *= 0xff51afd7ed558ccdL;
+            hash ^= hash >>> 33;
+            hash *= 0xc4ceb9fe1a85ec53L;
+            hash ^= hash >>> 33;
+            return hash;
+        }
+    }
+
+    private static final class BloomFilter {
+
+        private final int expectedInsertions;
+        private final long numberOfBits;
+        private final int numberOfHashFunctions;
+        private final AtomicLongArray bits;
+        private final AtomicInteger insertions;
+
+        private BloomFilter(final int expectedInsertions, final double falsePositiveProbability) {
+            this.expectedInsertions = expectedInsertions;
+            final long optimalNumberOfBits =
+                    (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveProbability) / (LN_2 * LN_2));
+            final int numberOfWords = (int) Math.min(Integer.MAX_VALUE, Math.max(1L, (optimalNumberOfBits + 63) / 64));
+            numberOfBits = 64L * numberOfWords;
+            numberOfHashFunctions =
+                    Math.max(1, (int) Math.round((double) numberOfBits / expectedInsertions * LN_2));
+            bits = new AtomicLongArray(numberOfWords);
+            insertions = new AtomicInteger();
+        }
+
+        private boolean isFull() {
+            return insertions.get() >= expectedInsertions;
+        }
+
+        private void put(final long hash) {
+            final int hash1 = (int) hash;
+            final int hash2 = (int) (hash >>> 32);
+            for (int i = 1; i <= numberOfHashFunctions; i++) {
+                final long bitIndex = bitIndex(hash1, hash2, i);
+                final int wordIndex = (int) (bitIndex >>> 6);
+                final long mask = 1L << bitIndex;
+                long word;
+                do {
+                    word = bits.get(wordIndex);
+                } while ((word & mask) == 0 && !bits.compareAndSet(wordIndex, word, word | mask));
+            }
+            insertions.incrementAndGet();
+        }
+
+        private boolean mightContain(final long hash) {
+            final int hash1 = (int) hash;
+            final int hash2 = (int) (hash >>> 32);
+            for (int i = 1; i <= numberOfHashFunctions; i++) {
+                final long bitIndex = bitIndex(hash1, hash2, i);
+                if ((bits.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private long bitIndex(final int hash1, final int hash2, final int i) {
+            // double hashing as described by Kirsch and Mitzenmacher
+            final long combinedHash = hash1 + (long) i * hash2;
+            return (combinedHash & Long.MAX_VALUE) % numberOfBits;
+        }
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cacheloaders;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.things.ThingIdInvalidException;
+import org.eclipse.ditto.services.utils.cache.EntityIdWithResourceType;
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.signals.commands.things.ThingCommand;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+
+/**
+ * Cache loader of thing resources which loads thing IDs not contained in a {@link ThingExistenceFilter} as
+ * nonexistent without asking the delegate loader, i. e. without starting a persistence actor for the thing.
+ *
+ * @param <V> type of the cached values.
+ */
+@Immutable
+public final class ThingExistenceFilterCacheLoader<V>
+        implements AsyncCacheLoader<EntityIdWithResourceType, Entry<V>> {
+
+    private final AsyncCacheLoader<EntityIdWithResourceType, Entry<V>> delegate;
+    private final ThingExistenceFilter existenceFilter;
+    private final Counter rejectedLookups;
+
+    /**
+     * Constructor.
+     *
+     * @param delegate the loader of the things which might exist.
+     * @param existenceFilter the filter of the IDs of existing things.
+     * @param metricName name of the counter of lookups rejected by the filter.
+     */
+    public ThingExistenceFilterCacheLoader(final AsyncCacheLoader<EntityIdWithResourceType, Entry<V>> delegate,
+            final ThingExistenceFilter existenceFilter, final String metricName) {
+
+        this.delegate = requireNonNull(delegate);
+        this.existenceFilter = requireNonNull(existenceFilter);
+        rejectedLookups = DittoMetrics.counter(metricName);
+    }
+
+    @Override
+    public CompletableFuture<Entry<V>> asyncLoad(final EntityIdWithResourceType key, final Executor executor) {
+        if (ThingCommand.RESOURCE_TYPE.equals(key.getResourceType()) && !mightExist(key)) {
+            rejectedLookups.increment();
+            return CompletableFuture.completedFuture(Entry.nonexistent());
+        }
+        return delegate.asyncLoad(key, executor);
+    }
+
+    private boolean mightExist(final EntityIdWithResourceType key) {
+        try {
+            return existenceFilter.mightContain(ThingId.of(key.getId()));
+        } catch (final ThingIdInvalidException e) {
+            // let the delegate handle IDs which are no valid thing IDs
+            return true;
+        }
+    }
+
+}
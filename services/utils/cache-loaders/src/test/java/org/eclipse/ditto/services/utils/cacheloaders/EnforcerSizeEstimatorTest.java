@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cacheloaders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.model.policies.PoliciesModelFactory;
+import org.eclipse.ditto.model.policies.PoliciesResourceType;
+import org.eclipse.ditto.model.policies.Policy;
+import org.eclipse.ditto.model.policies.PolicyBuilder;
+import org.eclipse.ditto.model.policies.PolicyId;
+import org.eclipse.ditto.model.policies.SubjectIssuer;
+import org.junit.Test;
+
+/**
+ * Tests {@link EnforcerSizeEstimator}.
+ */
+public final class EnforcerSizeEstimatorTest {
+
+    private static final PolicyId POLICY_ID = PolicyId.of("org.eclipse.ditto.test", "policy");
+
+    @Test
+    public void policyEnforcerGrowsWithSubjectsAndResources() {
+        final long small = EnforcerSizeEstimator.estimatePolicyEnforcer(policy(1, 1));
+        final long moreSubjects = EnforcerSizeEstimator.estimatePolicyEnforcer(policy(10, 1));
+        final long moreResources = EnforcerSizeEstimator.estimatePolicyEnforcer(policy(1, 10));
+        final long large = EnforcerSizeEstimator.estimatePolicyEnforcer(policy(10, 10));
+
+        assertThat(small).isPositive();
+        assertThat(moreSubjects).isGreaterThan(small);
+        assertThat(moreResources).isGreaterThan(small);
+        assertThat(large).isGreaterThan(moreSubjects).isGreaterThan(moreResources);
+    }
+
+    private static Policy policy(final int subjects, final int resources) {
+        final PolicyBuilder.LabelScoped builder = PoliciesModelFactory.newPolicyBuilder(POLICY_ID)
+                .setRevision(1L)
+                .forLabel("test");
+        for (int i = 0; i < subjects; i++) {
+            builder.setSubject(SubjectIssuer.GOOGLE, "subject-" + i);
+        }
+        for (int i = 0; i < resources; i++) {
+            builder.setGrantedPermissions(
+                    PoliciesResourceType.thingResource(JsonPointer.of("/features/feature-" + i + "/properties")),
+                    "READ", "WRITE");
+        }
+        return builder.build();
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cacheloaders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.stream.IntStream;
+
+import org.eclipse.ditto.model.things.ThingId;
+import org.junit.Test;
+
+/**
+ * Tests {@link ThingExistenceFilter}.
+ */
+public final class ThingExistenceFilterTest {
+
+    private static final String NAMESPACE = "org.eclipse.ditto.test";
+
+    @Test
+    public void everyThingMightExistBeforeReady() {
+        final ThingExistenceFilter underTest = ThingExistenceFilter.of(100, 0.01);
+
+        assertThat(underTest.isReady()).isFalse();
+        assertThat(underTest.mightContain(ThingId.of(NAMESPACE, "unknown"))).isTrue();
+    }
+
+    @Test
+    public void unknownNamespaceDoesNotExistAfterReady() {
+        final ThingExistenceFilter underTest = ThingExistenceFilter.of(100, 0.01);
+        underTest.put(ThingId.of(NAMESPACE, "known"));
+        underTest.markReady();
+
+        assertThat(underTest.mightContain(ThingId.of(NAMESPACE, "known"))).isTrue();
+        assertThat(underTest.mightContain(ThingId.of("org.eclipse.ditto.unknown", "known"))).isFalse();
+    }
+
+    @Test
+    public void containsAllThingIdsBeyondExpectedInsertions() {
+        final int expectedInsertions = 100;
+        final int insertions = 10 * expectedInsertions;
+        final ThingExistenceFilter underTest = ThingExistenceFilter.of(expectedInsertions, 0.01);
+        IntStream.range(0, insertions).forEach(i -> underTest.put(ThingId.of(NAMESPACE, "thing-" + i)));
+        underTest.markReady();
+
+        assertThat(IntStream.range(0, insertions)
+                .allMatch(i -> underTest.mightContain(ThingId.of(NAMESPACE, "thing-" + i))))
+                .isTrue();
+    }
+
+    @Test
+    public void rejectsMostUnknownThingIds() {
+        final int insertions = 10_000;
+        final ThingExistenceFilter underTest = ThingExistenceFilter.of(1_000, 0.01);
+        IntStream.range(0, insertions).forEach(i -> underTest.put(ThingId.of(NAMESPACE, "thing-" + i)));
+        underTest.markReady();
+
+        final long falsePositives = IntStream.range(0, insertions)
+                .filter(i -> underTest.mightContain(ThingId.of(NAMESPACE, "unknown-" + i)))
+                .count();
+
+        // the false positive probabilities of the 4 Bloom filters add up to at most 4%
+        assertThat(falsePositives).isLessThan(insertions / 20);
+    }
+
+    @Test
+    public void rebuildReplacesFilterWhenReady() {
+        final ThingId deletedThing = ThingId.of(NAMESPACE, "deleted");
+        final ThingId existingThing = ThingId.of(NAMESPACE, "existing");
+        final ThingId missedThing = ThingId.of(NAMESPACE, "missed");
+        final ThingExistenceFilter underTest = ThingExistenceFilter.of(100, 0.01);
+        underTest.put(deletedThing);
+        underTest.put(existingThing);
+        underTest.markReady();
+
+        underTest.startRebuild();
+        underTest.put(existingThing);
+        underTest.put(missedThing);
+
+        // lookups are answered by the current filter until the rebuild completed
+        assertThat(underTest.mightContain(deletedThing)).isTrue();
+        assertThat(underTest.mightContain(missedThing)).isTrue();
+
+        underTest.markReady();
+
+        assertThat(underTest.mightContain(deletedThing)).isFalse();
+        assertThat(underTest.mightContain(existingThing)).isTrue();
+        assertThat(underTest.mightContain(missedThing)).isTrue();
+    }
+
+    @Test
+    public void rejectsInvalidParameters() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> ThingExistenceFilter.of(0, 0.01));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> ThingExistenceFilter.of(100, 1.0));
+    }
+
+}
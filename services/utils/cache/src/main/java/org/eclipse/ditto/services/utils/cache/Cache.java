@@ -13,6 +13,8 @@
 package org.eclipse.ditto.services.utils.cache;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentMap;
@@ -91,4 +93,15 @@ public interface Cache<K, V> {
     default void invalidateAll(final Collection<K> keys) {
         keys.forEach(this::invalidate);
     }
+
+    /**
+     * Returns the keys of the entries which are most likely to be retained, i. e. which are accessed most
+     * frequently, in descending order of their likelihood to be retained.
+     *
+     * @param limit the maximum number of keys to return.
+     * @return the hottest keys, or an empty list if this cache does not track the frequency of accesses.
+     */
+    default List<K> getHottestKeys(final int limit) {
+        return Collections.emptyList();
+    }
 }
@@ -27,6 +27,7 @@ import org.eclipse.ditto.services.utils.cache.config.CacheConfig;
 import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Weigher;
 
 /**
  * Creates a cache configured by a {@link org.eclipse.ditto.services.utils.cache.config.CacheConfig}.
@@ -99,7 +100,7 @@ public final class CacheFactory {
     public static <K, V> Cache<K, V> createCache(final CacheConfig cacheConfig, @Nullable final String cacheName,
             final Executor executor) {
 
-        return CaffeineCache.of(caffeine(cacheConfig, executor), cacheName);
+        return CaffeineCache.of(caffeine(cacheConfig, executor, false), cacheName);
     }
 
     /**
@@ -119,17 +120,57 @@ public final class CacheFactory {
             @Nullable final String cacheName,
             final Executor executor) {
 
+        return createCache(cacheLoader, cacheConfig, cacheName, executor, null);
+    }
+
+    /**
+     * Creates a cache which is bounded by the maximum weight of the cache config if it is positive and a weigher is
+     * given, and by the maximum size otherwise.
+     *
+     * @param cacheLoader the cache loader.
+     * @param cacheConfig the the cache's configuration.
+     * @param cacheName the name of the cache or {@code null} if metrics should be disabled. Used as metric label.
+     * @param executor the executor to use in the cache.
+     * @param weigher estimates the retained size of cache entries in bytes, or {@code null} to bound the cache by
+     * the number of entries.
+     * @param <K> the type of the cache keys.
+     * @param <V> the type of the cache values.
+     * @return the created cache.
+     * @throws NullPointerException if any argument but {@code cacheName} or {@code weigher} is {@code null}.
+     */
+    public static <K, V> Cache<K, V> createCache(final AsyncCacheLoader<K, V> cacheLoader,
+            final CacheConfig cacheConfig,
+            @Nullable final String cacheName,
+            final Executor executor,
+            @Nullable final Weigher<? super K, ? super V> weigher) {
+
         checkNotNull(cacheLoader, "AsyncCacheLoader");
 
-        return CaffeineCache.of(caffeine(cacheConfig, executor), cacheLoader, cacheName);
+        final boolean weighted = null != weigher && cacheConfig.getMaximumWeight() > 0L;
+        final Caffeine<Object, Object> caffeine = caffeine(cacheConfig, executor, weighted);
+        if (!cacheConfig.getRefreshAfterWrite().isZero()) {
+            // refresh-ahead: entries older than this are served while being reloaded asynchronously
+            caffeine.refreshAfterWrite(cacheConfig.getRefreshAfterWrite());
+        }
+        if (weighted) {
+            // Caffeine does not allow to combine a maximum weight with a maximum size
+            final Caffeine<K, V> weightedCaffeine =
+                    caffeine.maximumWeight(cacheConfig.getMaximumWeight()).weigher(weigher);
+            return CaffeineCache.of(weightedCaffeine, cacheLoader, cacheName);
+        }
+        return CaffeineCache.of(caffeine, cacheLoader, cacheName);
     }
 
-    private static Caffeine<Object, Object> caffeine(final CacheConfig cacheConfig, final Executor executor) {
+    private static Caffeine<Object, Object> caffeine(final CacheConfig cacheConfig, final Executor executor,
+            final boolean weighted) {
+
         checkNotNull(cacheConfig, "CacheConfig");
         checkNotNull(executor, "Executor");
 
         final Caffeine<Object, Object> caffeine = Caffeine.newBuilder();
-        caffeine.maximumSize(cacheConfig.getMaximumSize());
+        if (!weighted) {
+            caffeine.maximumSize(cacheConfig.getMaximumSize());
+        }
 
         if (!cacheConfig.getExpireAfterCreate().isZero()) {
             // special case "expire-after-create" needs the following API invocation of Caffeine:
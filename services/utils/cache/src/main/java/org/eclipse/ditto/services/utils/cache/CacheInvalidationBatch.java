@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cache;
+
+import static java.util.Objects.requireNonNull;
+import static org.eclipse.ditto.model.base.json.JsonSchemaVersion.V_1;
+import static org.eclipse.ditto.model.base.json.JsonSchemaVersion.V_2;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.model.base.json.Jsonifiable;
+
+/**
+ * A batch of cache invalidations of one origin, tagged with a revision which increases with each batch of the origin.
+ * Replaces many {@link InvalidateCacheEntry} messages when cache invalidations are replicated between cluster members
+ * in bulk.
+ */
+@Immutable
+public final class CacheInvalidationBatch implements Jsonifiable<JsonObject> {
+
+    private static final JsonFieldDefinition<Long> JSON_REVISION =
+            JsonFactory.newLongFieldDefinition("revision", V_1, V_2);
+
+    private static final JsonFieldDefinition<String> JSON_TIMESTAMP =
+            JsonFactory.newStringFieldDefinition("timestamp", V_1, V_2);
+
+    private static final JsonFieldDefinition<JsonArray> JSON_ENTITY_IDS =
+            JsonFactory.newJsonArrayFieldDefinition("entityIds", V_1, V_2);
+
+    private final long revision;
+    private final Instant timestamp;
+    private final List<EntityIdWithResourceType> entityIds;
+
+    private CacheInvalidationBatch(final long revision, final Instant timestamp,
+            final Collection<EntityIdWithResourceType> entityIds) {
+
+        this.revision = revision;
+        this.timestamp = requireNonNull(timestamp);
+        this.entityIds = Collections.unmodifiableList(new ArrayList<>(requireNonNull(entityIds)));
+    }
+
+    /**
+     * Creates a new {@code CacheInvalidationBatch}.
+     *
+     * @param revision the revision of the batch within its origin.
+     * @param timestamp when the batch was created.
+     * @param entityIds the IDs of the cache entries to invalidate.
+     * @return the batch.
+     * @throws NullPointerException if {@code timestamp} or {@code entityIds} is {@code null}.
+     */
+    public static CacheInvalidationBatch of(final long revision, final Instant timestamp,
+            final Collection<EntityIdWithResourceType> entityIds) {
+
+        return new CacheInvalidationBatch(revision, timestamp, entityIds);
+    }
+
+    /**
+     * Creates a new {@code CacheInvalidationBatch} from a JSON object.
+     *
+     * @param jsonObject the JSON object.
+     * @return the batch.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if a required field is missing.
+     * @throws IllegalArgumentException if an entity ID does not have the expected format.
+     */
+    public static CacheInvalidationBatch fromJson(final JsonObject jsonObject) {
+        final long revision = jsonObject.getValueOrThrow(JSON_REVISION);
+        final Instant timestamp = Instant.parse(jsonObject.getValueOrThrow(JSON_TIMESTAMP));
+        final List<EntityIdWithResourceType> entityIds = jsonObject.getValueOrThrow(JSON_ENTITY_IDS)
+                .stream()
+                .filter(JsonValue::isString)
+                .map(JsonValue::asString)
+                .map(EntityIdWithResourceType::readFrom)
+                .collect(Collectors.toList());
+        return new CacheInvalidationBatch(revision, timestamp, entityIds);
+    }
+
+    /**
+     * @return the revision of this batch within its origin.
+     */
+    public long getRevision() {
+        return revision;
+    }
+
+    /**
+     * @return when this batch was created.
+     */
+    public Instant getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * @return the IDs of the cache entries to invalidate.
+     */
+    public List<EntityIdWithResourceType> getEntityIds() {
+        return entityIds;
+    }
+
+    @Override
+    public JsonObject toJson() {
+        return JsonFactory.newObjectBuilder()
+                .set(JSON_REVISION, revision)
+                .set(JSON_TIMESTAMP, timestamp.toString())
+                .set(JSON_ENTITY_IDS, entityIds.stream()
+                        .map(EntityIdWithResourceType::toString)
+                        .map(JsonValue::of)
+                        .collect(JsonCollectors.valuesToArray()))
+                .build();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final CacheInvalidationBatch that = (CacheInvalidationBatch) o;
+        return revision == that.revision &&
+                Objects.equals(timestamp, that.timestamp) &&
+                Objects.equals(entityIds, that.entityIds);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(revision, timestamp, entityIds);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "revision=" + revision +
+                ", timestamp=" + timestamp +
+                ", entityIds=" + entityIds +
+                "]";
+    }
+
+}
@@ -14,7 +14,10 @@ package org.eclipse.ditto.services.utils.cache;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentMap;
@@ -44,6 +47,8 @@ public class CaffeineCache<K, V> implements Cache<K, V> {
     private final MetricsStatsCounter metricStatsCounter;
     private final AsyncLoadingCache<K, V> asyncLoadingCache;
     private final LoadingCache<K, V> synchronousCacheView;
+    @Nullable
+    private final CoalescingCacheLoader<K, V> coalescingCacheLoader;
 
 
     private CaffeineCache(final Caffeine<? super K, ? super V> caffeine,
@@ -52,15 +57,21 @@ public class CaffeineCache<K, V> implements Cache<K, V> {
 
         if (cacheName != null) {
             this.metricStatsCounter =
-                    MetricsStatsCounter.of(cacheName, this::getMaxCacheSize, this::getCurrentCacheSize);
+                    MetricsStatsCounter.of(cacheName, this::getMaxCacheSize, this::getCurrentCacheSize,
+                            this::getMaxCacheWeight, this::getCurrentCacheWeight);
             caffeine.recordStats(() -> metricStatsCounter);
-            this.asyncLoadingCache = caffeine.buildAsync(loader);
-            this.synchronousCacheView = asyncLoadingCache.synchronous();
         } else {
-            this.asyncLoadingCache = caffeine.buildAsync(loader);
-            this.synchronousCacheView = asyncLoadingCache.synchronous();
             this.metricStatsCounter = null;
         }
+        if (loader != NULL_CACHE_LOADER) {
+            // single-flight loads and revision-aware refreshes for caches which actually load values
+            this.coalescingCacheLoader = CoalescingCacheLoader.of(loader, metricStatsCounter);
+            this.asyncLoadingCache = caffeine.buildAsync(coalescingCacheLoader);
+        } else {
+            this.coalescingCacheLoader = null;
+            this.asyncLoadingCache = caffeine.buildAsync(loader);
+        }
+        this.synchronousCacheView = asyncLoadingCache.synchronous();
     }
 
     @SuppressWarnings({"squid:S2583", "ConstantConditions"})
@@ -80,7 +91,38 @@ public class CaffeineCache<K, V> implements Cache<K, V> {
             return 0L;
         }
 
-        return synchronousCacheView.policy().eviction().map(Policy.Eviction::getMaximum).orElse(0L);
+        return synchronousCacheView.policy()
+                .eviction()
+                .filter(eviction -> !eviction.isWeighted())
+                .map(Policy.Eviction::getMaximum)
+                .orElse(0L);
+    }
+
+    @SuppressWarnings({"squid:S2583", "ConstantConditions"})
+    private Long getCurrentCacheWeight() {
+        if (synchronousCacheView == null) {
+            // This can occur if this method is called by metricStatsCounter before the cache has been initialized.
+            return 0L;
+        }
+
+        return synchronousCacheView.policy()
+                .eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L);
+    }
+
+    @SuppressWarnings({"squid:S2583", "ConstantConditions"})
+    private Long getMaxCacheWeight() {
+        if (synchronousCacheView == null) {
+            // This can occur if this method is called by metricStatsCounter before the cache has been initialized.
+            return 0L;
+        }
+
+        return synchronousCacheView.policy()
+                .eviction()
+                .filter(Policy.Eviction::isWeighted)
+                .map(Policy.Eviction::getMaximum)
+                .orElse(0L);
     }
 
     /**
@@ -196,6 +238,9 @@ public class CaffeineCache<K, V> implements Cache<K, V> {
         requireNonNull(key);
 
         final boolean currentlyExisting = asyncLoadingCache.getIfPresent(key) != null;
+        if (coalescingCacheLoader != null) {
+            coalescingCacheLoader.invalidate(key);
+        }
         synchronousCacheView.invalidate(key);
 
         if (metricStatsCounter != null) {
@@ -211,6 +256,9 @@ public class CaffeineCache<K, V> implements Cache<K, V> {
     // optimized batch invalidation method for caffeine
     @Override
     public void invalidateAll(final Collection<K> keys) {
+        if (coalescingCacheLoader != null) {
+            coalescingCacheLoader.invalidateAll(keys);
+        }
         synchronousCacheView.invalidateAll(keys);
     }
 
@@ -229,6 +277,14 @@ public class CaffeineCache<K, V> implements Cache<K, V> {
         return synchronousCacheView.asMap();
     }
 
+    @Override
+    public List<K> getHottestKeys(final int limit) {
+        return synchronousCacheView.policy()
+                .eviction()
+                .map(eviction -> (List<K>) new ArrayList<>(eviction.hottest(limit).keySet()))
+                .orElseGet(Collections::emptyList);
+    }
+
     // TODO: replace uses of this method by caffeine.buildAsync()
     // TODO: split this into 2 classes for the loading cache case and non-loading-cache case
     private static <K, V> AsyncCacheLoader<K, V> getTypedNullCacheLoader() {
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cache;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+
+/**
+ * Wraps an {@link AsyncCacheLoader} such that there is at most one running load per key (single-flight):
+ * loads and refreshes of a key which is already being loaded join the running load instead of asking the delegate
+ * again.
+ * <p>
+ * Refreshes of {@link Entry} values are revision-aware: if a refresh yields an existing entry with a lower revision
+ * than the cached one, e.g. because it was answered by a lagging replica, the cached entry is kept.
+ * </p>
+ * <p>
+ * Refreshes which complete after their key was invalidated are dropped: Caffeine would otherwise re-insert the
+ * refreshed value although the invalidation was meant to remove it. For this every refresh remembers the generation
+ * of its key, which is forgotten on invalidation.
+ * </p>
+ *
+ * @param <K> the type of the key.
+ * @param <V> the type of the value.
+ */
+@ThreadSafe
+final class CoalescingCacheLoader<K, V> implements AsyncCacheLoader<K, V> {
+
+    private final AsyncCacheLoader<K, V> delegate;
+    @Nullable private final MetricsStatsCounter metricsStatsCounter;
+    private final Map<K, CompletableFuture<V>> runningLoads;
+    private final Map<K, Object> refreshGenerations;
+
+    private CoalescingCacheLoader(final AsyncCacheLoader<K, V> delegate,
+            @Nullable final MetricsStatsCounter metricsStatsCounter) {
+
+        this.delegate = delegate;
+        this.metricsStatsCounter = metricsStatsCounter;
+        runningLoads = new ConcurrentHashMap<>();
+        refreshGenerations = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Wraps the passed cache loader.
+     *
+     * @param delegate the cache loader to wrap.
+     * @param metricsStatsCounter the counter to report refreshes and coalesced loads to or {@code null}.
+     * @param <K> the type of the key.
+     * @param <V> the type of the value.
+     * @return the wrapped cache loader.
+     */
+    static <K, V> CoalescingCacheLoader<K, V> of(final AsyncCacheLoader<K, V> delegate,
+            @Nullable final MetricsStatsCounter metricsStatsCounter) {
+
+        return new CoalescingCacheLoader<>(requireNonNull(delegate), metricsStatsCounter);
+    }
+
+    @Override
+    public CompletableFuture<V> asyncLoad(final K key, final Executor executor) {
+        final CompletableFuture<V> newLoad = new CompletableFuture<>();
+        final CompletableFuture<V> runningLoad = runningLoads.putIfAbsent(key, newLoad);
+        if (null != runningLoad) {
+            if (null != metricsStatsCounter) {
+                metricsStatsCounter.recordCoalescedLoad();
+            }
+            return runningLoad;
+        }
+        try {
+            delegate.asyncLoad(key, executor).whenComplete((value, error) -> {
+                runningLoads.remove(key, newLoad);
+                if (null != error) {
+                    newLoad.completeExceptionally(error);
+                } else {
+                    newLoad.complete(value);
+                }
+            });
+        } catch (final Exception e) {
+            runningLoads.remove(key, newLoad);
+            newLoad.completeExceptionally(e);
+        }
+        return newLoad;
+    }
+
+    @Override
+    public CompletableFuture<V> asyncReload(final K key, final V oldValue, final Executor executor) {
+        if (null != metricsStatsCounter) {
+            metricsStatsCounter.recordRefresh();
+        }
+        final Object generation = new Object();
+        refreshGenerations.put(key, generation);
+        return asyncLoad(key, executor).handle((newValue, error) -> {
+            if (!refreshGenerations.remove(key, generation)) {
+                // invalidated while refreshing: completing with null makes Caffeine drop the refreshed value
+                recordDiscardedRefresh();
+                return null;
+            }
+            if (null != error) {
+                throw error instanceof CompletionException
+                        ? (CompletionException) error
+                        : new CompletionException(error);
+            }
+            if (isOutdated(newValue, oldValue)) {
+                recordDiscardedRefresh();
+                return oldValue;
+            }
+            return newValue;
+        });
+    }
+
+    /**
+     * Forgets the running load of a key, so that the next load of the key is not joined with a load which started
+     * before the key was invalidated, and discards the result of a running refresh of the key.
+     *
+     * @param key the invalidated key.
+     */
+    void invalidate(final K key) {
+        runningLoads.remove(key);
+        refreshGenerations.remove(key);
+    }
+
+    /**
+     * Forgets the running loads and discards the running refreshes of the passed keys.
+     *
+     * @param keys the invalidated keys.
+     */
+    void invalidateAll(final Collection<K> keys) {
+        keys.forEach(key -> {
+            runningLoads.remove(key);
+            refreshGenerations.remove(key);
+        });
+    }
+
+    private void recordDiscardedRefresh() {
+        if (null != metricsStatsCounter) {
+            metricsStatsCounter.recordDiscardedRefresh();
+        }
+    }
+
+    private static boolean isOutdated(@Nullable final Object newValue, @Nullable final Object oldValue) {
+        if (newValue instanceof Entry && oldValue instanceof Entry) {
+            final Entry<?> newEntry = (Entry<?>) newValue;
+            final Entry<?> oldEntry = (Entry<?>) oldValue;
+            return newEntry.exists() && newEntry.getRevision() < oldEntry.getRevision();
+        }
+        return false;
+    }
+
+}
@@ -81,6 +81,14 @@ public final class MetricsStatsCounter implements StatsCounter {
          * The maximum size of the cache.
          */
         MAX_SIZE(CACHE_PREFIX + "_max-size"),
+        /**
+         * The estimated retained size of all entries of a weighted cache in bytes.
+         */
+        WEIGHTED_SIZE(CACHE_PREFIX + "_weighted-size"),
+        /**
+         * The maximum weight of a weighted cache in bytes.
+         */
+        MAX_WEIGHT(CACHE_PREFIX + "_max-weight"),
         /**
          * Estimated cache invalidations (manual, in contrast to {@link #EVICTIONS}). The value is estimated, it may
          * be not completely correct in case of parallel loads or evictions.
@@ -90,7 +98,19 @@ public final class MetricsStatsCounter implements StatsCounter {
          * Estimated cache invalidations (manual, in contrast to {@link #EVICTIONS}) that did not invalidate an item
          * because it didn't exist in cache.
          */
-        ESTIMATED_INVALIDATIONS_WITHOUT_ITEM(CACHE_PREFIX + "_estimated-invalidations-without-item");
+        ESTIMATED_INVALIDATIONS_WITHOUT_ITEM(CACHE_PREFIX + "_estimated-invalidations-without-item"),
+        /**
+         * Number of asynchronous refreshes of entries which were served stale while being reloaded.
+         */
+        REFRESHES(CACHE_PREFIX + "_refreshes"),
+        /**
+         * Number of refreshes whose result was discarded because it had a lower revision than the cached entry.
+         */
+        REFRESHES_DISCARDED(CACHE_PREFIX + "_refreshes-discarded"),
+        /**
+         * Number of loads which joined an already running load of the same key instead of starting a new one.
+         */
+        COALESCED_LOADS(CACHE_PREFIX + "_coalesced-loads");
 
         private final String name;
 
@@ -125,13 +145,21 @@ public final class MetricsStatsCounter implements StatsCounter {
     private final Counter evictionWeight;
     private final Gauge estimatedSize;
     private final Gauge maxSize;
+    private final Gauge weightedSize;
+    private final Gauge maxWeight;
     private final Counter estimatedInvalidations;
     private final Counter estimatedInvalidationsWithoutItem;
+    private final Counter refreshCount;
+    private final Counter discardedRefreshCount;
+    private final Counter coalescedLoadCount;
     private final Supplier<Long> maxSizeSupplier;
     private final Supplier<Long> estimatedSizeSupplier;
+    private final Supplier<Long> maxWeightSupplier;
+    private final Supplier<Long> weightedSizeSupplier;
 
     private MetricsStatsCounter(final String cacheName, final Supplier<Long> maxSizeSupplier,
-            final Supplier<Long> estimatedSizeSupplier) {
+            final Supplier<Long> estimatedSizeSupplier, final Supplier<Long> maxWeightSupplier,
+            final Supplier<Long> weightedSizeSupplier) {
         hitCount = DittoMetrics.counter(MetricName.HITS.getValue()).tag(CACHE_NAME_TAG, cacheName);
         missCount = DittoMetrics.counter(MetricName.MISSES.getValue()).tag(CACHE_NAME_TAG, cacheName);
         totalLoadTime = DittoMetrics.timer(MetricName.TOTAL_LOAD_TIME.getValue()).tag(CACHE_NAME_TAG, cacheName);
@@ -141,12 +169,20 @@ public final class MetricsStatsCounter implements StatsCounter {
         evictionWeight = DittoMetrics.counter(MetricName.EVICTIONS_WEIGHT.getValue()).tag(CACHE_NAME_TAG, cacheName);
         estimatedSize = DittoMetrics.gauge(MetricName.ESTIMATED_SIZE.getValue()).tag(CACHE_NAME_TAG, cacheName);
         maxSize = DittoMetrics.gauge(MetricName.MAX_SIZE.getValue()).tag(CACHE_NAME_TAG, cacheName);
+        weightedSize = DittoMetrics.gauge(MetricName.WEIGHTED_SIZE.getValue()).tag(CACHE_NAME_TAG, cacheName);
+        maxWeight = DittoMetrics.gauge(MetricName.MAX_WEIGHT.getValue()).tag(CACHE_NAME_TAG, cacheName);
         estimatedInvalidations =
                 DittoMetrics.counter(MetricName.ESTIMATED_INVALIDATIONS.getValue()).tag(CACHE_NAME_TAG, cacheName);
         estimatedInvalidationsWithoutItem =
                 DittoMetrics.counter(MetricName.ESTIMATED_INVALIDATIONS_WITHOUT_ITEM.getValue()).tag(CACHE_NAME_TAG, cacheName);
+        refreshCount = DittoMetrics.counter(MetricName.REFRESHES.getValue()).tag(CACHE_NAME_TAG, cacheName);
+        discardedRefreshCount =
+                DittoMetrics.counter(MetricName.REFRESHES_DISCARDED.getValue()).tag(CACHE_NAME_TAG, cacheName);
+        coalescedLoadCount = DittoMetrics.counter(MetricName.COALESCED_LOADS.getValue()).tag(CACHE_NAME_TAG, cacheName);
         this.maxSizeSupplier = maxSizeSupplier;
         this.estimatedSizeSupplier = estimatedSizeSupplier;
+        this.maxWeightSupplier = maxWeightSupplier;
+        this.weightedSizeSupplier = weightedSizeSupplier;
     }
 
     /**
@@ -155,11 +191,15 @@ public final class MetricsStatsCounter implements StatsCounter {
      * @param cacheName The name of the cache.
      * @param maxSizeSupplier supplier for the maximum size of the cache
      * @param estimatedSizeSupplier supplier for the estimated size of the cache.
+     * @param maxWeightSupplier supplier for the maximum weight of the cache, 0 if the cache is not weighted.
+     * @param weightedSizeSupplier supplier for the weighted size of the cache, 0 if the cache is not weighted.
      * @return the instance.
      */
     static MetricsStatsCounter of(final String cacheName, final Supplier<Long> maxSizeSupplier,
-            final Supplier<Long> estimatedSizeSupplier) {
-        return new MetricsStatsCounter(cacheName, maxSizeSupplier, estimatedSizeSupplier);
+            final Supplier<Long> estimatedSizeSupplier, final Supplier<Long> maxWeightSupplier,
+            final Supplier<Long> weightedSizeSupplier) {
+        return new MetricsStatsCounter(cacheName, maxSizeSupplier, estimatedSizeSupplier, maxWeightSupplier,
+                weightedSizeSupplier);
     }
 
     @Override
@@ -210,6 +250,27 @@ public final class MetricsStatsCounter implements StatsCounter {
         estimatedInvalidationsWithoutItem.increment();
     }
 
+    /**
+     * Records the start of an asynchronous refresh of an entry.
+     */
+    void recordRefresh() {
+        refreshCount.increment();
+    }
+
+    /**
+     * Records that the result of a refresh was discarded because it was older than the cached entry.
+     */
+    void recordDiscardedRefresh() {
+        discardedRefreshCount.increment();
+    }
+
+    /**
+     * Records a load which joined an already running load of the same key.
+     */
+    void recordCoalescedLoad() {
+        coalescedLoadCount.increment();
+    }
+
     @Override
     public CacheStats snapshot() {
         return new CacheStats(
@@ -232,6 +293,8 @@ public final class MetricsStatsCounter implements StatsCounter {
     private void updateCacheSizeMetrics() {
         maxSize.set(maxSizeSupplier.get());
         estimatedSize.set(estimatedSizeSupplier.get());
+        maxWeight.set(maxWeightSupplier.get());
+        weightedSize.set(weightedSizeSupplier.get());
     }
 
 }
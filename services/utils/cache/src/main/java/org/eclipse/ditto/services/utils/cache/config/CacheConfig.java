@@ -33,6 +33,15 @@ public interface CacheConfig {
      */
     long getMaximumSize();
 
+    /**
+     * Returns the maximum estimated retained size of all entries of a cache in bytes. If positive and the cache is
+     * created with a weigher, the cache is bounded by this byte budget instead of by {@link #getMaximumSize()}.
+     * Deactivated when {@code 0} is configured.
+     *
+     * @return the maximum weight in bytes.
+     */
+    long getMaximumWeight();
+
     /**
      * Returns duration after which a written cache entry expires.
      *
@@ -55,6 +64,14 @@ public interface CacheConfig {
      */
     Duration getExpireAfterCreate();
 
+    /**
+     * Returns the duration after which a written cache entry is reloaded asynchronously on its next access while the
+     * current value is still served. Deactivated when {@link Duration#ZERO} is configured.
+     *
+     * @return the duration between write and refresh.
+     */
+    Duration getRefreshAfterWrite();
+
     /**
      * Render this object into a Config object from which a copy of this object can be constructed.
      *
@@ -72,6 +89,11 @@ public interface CacheConfig {
          */
         MAXIMUM_SIZE("maximum-size", 50_000L),
 
+        /**
+         * The maximum estimated retained size of all cache entries in bytes.
+         */
+        MAXIMUM_WEIGHT("maximum-weight", 0L),
+
         /**
          * Duration after which a written cache entry expires.
          */
@@ -85,7 +107,12 @@ public interface CacheConfig {
         /**
          * Duration after which an accessed cache entry expires.
          */
-        EXPIRE_AFTER_CREATE("expire-after-create", Duration.ZERO);
+        EXPIRE_AFTER_CREATE("expire-after-create", Duration.ZERO),
+
+        /**
+         * Duration after which a written cache entry is refreshed asynchronously on access.
+         */
+        REFRESH_AFTER_WRITE("refresh-after-write", Duration.ZERO);
 
         private final String path;
         private final Object defaultValue;
@@ -30,15 +30,19 @@ import com.typesafe.config.ConfigValueFactory;
 public final class DefaultCacheConfig implements CacheConfig {
 
     private final long maximumSize;
+    private final long maximumWeight;
     private final Duration expireAfterWrite;
     private final Duration expireAfterAccess;
     private final Duration expireAfterCreate;
+    private final Duration refreshAfterWrite;
 
     private DefaultCacheConfig(final ConfigWithFallback configWithFallback) {
         maximumSize = configWithFallback.getLong(CacheConfigValue.MAXIMUM_SIZE.getConfigPath());
+        maximumWeight = configWithFallback.getBytes(CacheConfigValue.MAXIMUM_WEIGHT.getConfigPath());
         expireAfterWrite = configWithFallback.getDuration(CacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath());
         expireAfterAccess = configWithFallback.getDuration(CacheConfigValue.EXPIRE_AFTER_ACCESS.getConfigPath());
         expireAfterCreate = configWithFallback.getDuration(CacheConfigValue.EXPIRE_AFTER_CREATE.getConfigPath());
+        refreshAfterWrite = configWithFallback.getDuration(CacheConfigValue.REFRESH_AFTER_WRITE.getConfigPath());
     }
 
     /**
@@ -58,6 +62,11 @@ public final class DefaultCacheConfig implements CacheConfig {
         return maximumSize;
     }
 
+    @Override
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
     @Override
     public Duration getExpireAfterWrite() {
         return expireAfterWrite;
@@ -73,13 +82,20 @@ public final class DefaultCacheConfig implements CacheConfig {
         return expireAfterCreate;
     }
 
+    @Override
+    public Duration getRefreshAfterWrite() {
+        return refreshAfterWrite;
+    }
+
     @Override
     public Config render() {
         return ConfigFactory.empty()
                 .withValue(CacheConfigValue.MAXIMUM_SIZE.getConfigPath(), ConfigValueFactory.fromAnyRef(maximumSize))
+                .withValue(CacheConfigValue.MAXIMUM_WEIGHT.getConfigPath(), ConfigValueFactory.fromAnyRef(maximumWeight))
                 .withValue(CacheConfigValue.EXPIRE_AFTER_CREATE.getConfigPath(), ConfigValueFactory.fromAnyRef(expireAfterCreate))
                 .withValue(CacheConfigValue.EXPIRE_AFTER_ACCESS.getConfigPath(), ConfigValueFactory.fromAnyRef(expireAfterAccess))
-                .withValue(CacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath(), ConfigValueFactory.fromAnyRef(expireAfterWrite));
+                .withValue(CacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath(), ConfigValueFactory.fromAnyRef(expireAfterWrite))
+                .withValue(CacheConfigValue.REFRESH_AFTER_WRITE.getConfigPath(), ConfigValueFactory.fromAnyRef(refreshAfterWrite));
     }
 
     @Override
@@ -92,23 +108,27 @@ public final class DefaultCacheConfig implements CacheConfig {
         }
         final DefaultCacheConfig that = (DefaultCacheConfig) o;
         return maximumSize == that.maximumSize &&
+                maximumWeight == that.maximumWeight &&
                 Objects.equals(expireAfterWrite, that.expireAfterWrite) &&
                 Objects.equals(expireAfterAccess, that.expireAfterAccess)&&
-                Objects.equals(expireAfterCreate, that.expireAfterCreate);
+                Objects.equals(expireAfterCreate, that.expireAfterCreate) &&
+                Objects.equals(refreshAfterWrite, that.refreshAfterWrite);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(maximumSize, expireAfterWrite, expireAfterAccess, expireAfterCreate);
+        return Objects.hash(maximumSize, maximumWeight, expireAfterWrite, expireAfterAccess, expireAfterCreate, refreshAfterWrite);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "maximumSize=" + maximumSize +
+                ", maximumWeight=" + maximumWeight +
                 ", expireAfterWrite=" + expireAfterWrite +
                 ", expireAfterAccess=" + expireAfterAccess +
                 ", expireAfterCreate=" + expireAfterCreate +
+                ", refreshAfterWrite=" + refreshAfterWrite +
                 "]";
     }
 
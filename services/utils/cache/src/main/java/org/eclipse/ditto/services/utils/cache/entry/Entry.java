@@ -17,12 +17,30 @@ package org.eclipse.ditto.services.utils.cache.entry;
  */
 public interface Entry<T> {
 
+    /**
+     * Estimated retained size in bytes of entries whose size was not estimated when they were created.
+     */
+    long DEFAULT_ESTIMATED_SIZE = 256L;
+
     static <T> Entry<T> permanent(final T value) {
-        return new ExistentEntry<>(Long.MAX_VALUE, value);
+        return new ExistentEntry<>(Long.MAX_VALUE, value, DEFAULT_ESTIMATED_SIZE);
     }
 
     static <T> Entry<T> of(final long revision, final T value) {
-        return new ExistentEntry<>(revision, value);
+        return new ExistentEntry<>(revision, value, DEFAULT_ESTIMATED_SIZE);
+    }
+
+    /**
+     * Create an entry with an estimation of the memory retained by its value.
+     *
+     * @param revision the revision of the value.
+     * @param value the value.
+     * @param estimatedSize the estimated retained size of the value in bytes.
+     * @param <T> the type of the value.
+     * @return the entry.
+     */
+    static <T> Entry<T> of(final long revision, final T value, final long estimatedSize) {
+        return new ExistentEntry<>(revision, value, estimatedSize);
     }
 
     static <T> Entry<T> nonexistent() {
@@ -48,4 +66,12 @@ public interface Entry<T> {
      */
     T getValueOrThrow();
 
+    /**
+     * Returns the estimated retained size of this entry in bytes, which is used to weigh the entry in caches with a
+     * memory budget.
+     *
+     * @return the estimated size in bytes.
+     */
+    long getEstimatedSize();
+
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cache.entry;
+
+import javax.annotation.concurrent.Immutable;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+
+/**
+ * Weighs cache {@link Entry}s by their estimated retained size in bytes plus the overhead of the cache node and key.
+ */
+@Immutable
+public final class EntryWeigher implements Weigher<Object, Entry<?>> {
+
+    /**
+     * Estimated size in bytes of a cache node including its key.
+     */
+    static final int NODE_OVERHEAD = 128;
+
+    private static final EntryWeigher INSTANCE = new EntryWeigher();
+
+    private EntryWeigher() {}
+
+    /**
+     * Returns the weigher instance.
+     *
+     * @param <K> the type of the cache keys.
+     * @param <V> the type of the cache values.
+     * @return the weigher.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V extends Entry<?>> Weigher<K, V> getInstance() {
+        return (Weigher<K, V>) (Weigher<?, ?>) INSTANCE;
+    }
+
+    @Override
+    public int weigh(final Object key, final Entry<?> entry) {
+        return (int) Math.min(Integer.MAX_VALUE, NODE_OVERHEAD + Math.max(0L, entry.getEstimatedSize()));
+    }
+
+}
@@ -24,10 +24,12 @@ final class ExistentEntry<T> implements Entry<T> {
 
     private final long revision;
     private final T value;
+    private final long estimatedSize;
 
-    ExistentEntry(final long revision, final T value) {
+    ExistentEntry(final long revision, final T value, final long estimatedSize) {
         this.revision = revision;
         this.value = value;
+        this.estimatedSize = estimatedSize;
     }
 
     @Override
@@ -40,6 +42,11 @@ final class ExistentEntry<T> implements Entry<T> {
         return value;
     }
 
+    @Override
+    public long getEstimatedSize() {
+        return estimatedSize;
+    }
+
     @Override
     public boolean exists() {
         return true;
@@ -67,6 +74,7 @@ final class ExistentEntry<T> implements Entry<T> {
         return getClass().getSimpleName() + " [" +
                 "revision=" + revision +
                 ", value=" + value +
+                ", estimatedSize=" + estimatedSize +
                 "]";
     }
 
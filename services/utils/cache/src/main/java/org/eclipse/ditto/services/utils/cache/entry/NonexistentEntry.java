@@ -34,6 +34,12 @@ final class NonexistentEntry<T> implements Entry<T> {
         throw new NoSuchElementException();
     }
 
+    @Override
+    public long getEstimatedSize() {
+        // the shared instance itself is not retained per entry
+        return 0L;
+    }
+
     @Override
     public boolean exists() {
         return false;
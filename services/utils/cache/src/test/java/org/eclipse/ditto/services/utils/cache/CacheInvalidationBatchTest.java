@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mutabilitydetector.unittesting.AllowedReason.assumingFields;
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.model.base.entity.id.DefaultEntityId;
+import org.junit.Test;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link CacheInvalidationBatch}.
+ */
+public final class CacheInvalidationBatchTest {
+
+    private static final CacheInvalidationBatch BATCH = CacheInvalidationBatch.of(42L,
+            Instant.parse("2020-04-01T12:00:00Z"),
+            Arrays.asList(EntityIdWithResourceType.of("policy", DefaultEntityId.of("ns:policy")),
+                    EntityIdWithResourceType.of("thing", DefaultEntityId.of("ns:thing"))));
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(CacheInvalidationBatch.class,
+                areImmutable(),
+                provided(EntityIdWithResourceType.class).isAlsoImmutable(),
+                assumingFields("entityIds").areSafelyCopiedUnmodifiableCollectionsWithImmutableElements());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(CacheInvalidationBatch.class)
+                .usingGetClass()
+                .withNonnullFields("timestamp", "entityIds")
+                .verify();
+    }
+
+    @Test
+    public void serializeAndDeserialize() {
+        final JsonObject json = BATCH.toJson();
+
+        assertThat(CacheInvalidationBatch.fromJson(json)).isEqualTo(BATCH);
+    }
+
+    @Test
+    public void serializeAndDeserializeEmptyBatch() {
+        final CacheInvalidationBatch emptyBatch =
+                CacheInvalidationBatch.of(1L, Instant.parse("2020-04-01T12:00:00Z"), Collections.emptyList());
+
+        assertThat(CacheInvalidationBatch.fromJson(emptyBatch.toJson())).isEqualTo(emptyBatch);
+    }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.eclipse.ditto.services.utils.cache.entry.Entry;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+
+/**
+ * Unit test for {@link CoalescingCacheLoader}.
+ */
+public final class CoalescingCacheLoaderTest {
+
+    private static final String KEY = "key";
+    private static final Executor EXECUTOR = Runnable::run;
+
+    private List<CompletableFuture<Entry<String>>> delegateLoads;
+    private CoalescingCacheLoader<String, Entry<String>> underTest;
+
+    @Before
+    public void setUp() {
+        delegateLoads = new ArrayList<>();
+        final AsyncCacheLoader<String, Entry<String>> delegate = (key, executor) -> {
+            final CompletableFuture<Entry<String>> load = new CompletableFuture<>();
+            delegateLoads.add(load);
+            return load;
+        };
+        underTest = CoalescingCacheLoader.of(delegate, null);
+    }
+
+    @Test
+    public void concurrentLoadsOfSameKeyAreCoalesced() {
+        final CompletableFuture<Entry<String>> first = underTest.asyncLoad(KEY, EXECUTOR);
+        final CompletableFuture<Entry<String>> second = underTest.asyncLoad(KEY, EXECUTOR);
+
+        assertThat(delegateLoads).hasSize(1);
+        delegateLoads.get(0).complete(Entry.of(1L, "value"));
+        assertThat(first.join()).isEqualTo(second.join());
+    }
+
+    @Test
+    public void completedLoadIsNotReused() {
+        underTest.asyncLoad(KEY, EXECUTOR);
+        delegateLoads.get(0).complete(Entry.of(1L, "value"));
+
+        underTest.asyncLoad(KEY, EXECUTOR);
+
+        assertThat(delegateLoads).hasSize(2);
+    }
+
+    @Test
+    public void invalidatedKeyIsLoadedAgain() {
+        underTest.asyncLoad(KEY, EXECUTOR);
+        underTest.invalidate(KEY);
+
+        underTest.asyncLoad(KEY, EXECUTOR);
+
+        assertThat(delegateLoads).hasSize(2);
+    }
+
+    @Test
+    public void refreshWithLowerRevisionKeepsCachedEntry() {
+        final Entry<String> cachedEntry = Entry.of(5L, "new");
+
+        final CompletableFuture<Entry<String>> refresh = underTest.asyncReload(KEY, cachedEntry, EXECUTOR);
+        delegateLoads.get(0).complete(Entry.of(4L, "old"));
+
+        assertThat(refresh.join()).isSameAs(cachedEntry);
+    }
+
+    @Test
+    public void refreshWithHigherRevisionReplacesCachedEntry() {
+        final Entry<String> refreshedEntry = Entry.of(6L, "newer");
+
+        final CompletableFuture<Entry<String>> refresh =
+                underTest.asyncReload(KEY, Entry.of(5L, "new"), EXECUTOR);
+        delegateLoads.get(0).complete(refreshedEntry);
+
+        assertThat(refresh.join()).isSameAs(refreshedEntry);
+    }
+
+    @Test
+    public void refreshOfDeletedEntityReplacesCachedEntry() {
+        final CompletableFuture<Entry<String>> refresh =
+                underTest.asyncReload(KEY, Entry.of(5L, "new"), EXECUTOR);
+        delegateLoads.get(0).complete(Entry.nonexistent());
+
+        assertThat(refresh.join().exists()).isFalse();
+    }
+
+    @Test
+    public void refreshCompletingAfterInvalidationIsDropped() {
+        final CompletableFuture<Entry<String>> refresh =
+                underTest.asyncReload(KEY, Entry.of(5L, "new"), EXECUTOR);
+        underTest.invalidate(KEY);
+        delegateLoads.get(0).complete(Entry.of(6L, "newer"));
+
+        assertThat(refresh.join()).isNull();
+    }
+
+    @Test
+    public void refreshCompletingAfterInvalidationOfOtherKeyIsKept() {
+        final Entry<String> refreshedEntry = Entry.of(6L, "newer");
+
+        final CompletableFuture<Entry<String>> refresh =
+                underTest.asyncReload(KEY, Entry.of(5L, "new"), EXECUTOR);
+        underTest.invalidateAll(Collections.singletonList("otherKey"));
+        delegateLoads.get(0).complete(refreshedEntry);
+
+        assertThat(refresh.join()).isSameAs(refreshedEntry);
+    }
+
+}
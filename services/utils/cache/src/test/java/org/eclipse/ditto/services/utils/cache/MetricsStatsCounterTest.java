@@ -64,6 +64,12 @@ public final class MetricsStatsCounterTest {
     private final Gauge maxSize = DittoMetrics
             .gauge(MetricsStatsCounter.MetricName.MAX_SIZE.getValue())
             .tag("cache_name", TEST_CACHE_NAME);
+    private final Gauge weightedSize = DittoMetrics
+            .gauge(MetricsStatsCounter.MetricName.WEIGHTED_SIZE.getValue())
+            .tag("cache_name", TEST_CACHE_NAME);
+    private final Gauge maxWeight = DittoMetrics
+            .gauge(MetricsStatsCounter.MetricName.MAX_WEIGHT.getValue())
+            .tag("cache_name", TEST_CACHE_NAME);
     private final Counter estimatedInvalidations = DittoMetrics
             .counter(MetricsStatsCounter.MetricName.ESTIMATED_INVALIDATIONS.getValue())
             .tag("cache_name", TEST_CACHE_NAME);
@@ -79,6 +85,8 @@ public final class MetricsStatsCounterTest {
         evictionWeight.reset();
         estimatedSize.reset();
         maxSize.reset();
+        weightedSize.reset();
+        maxWeight.reset();
         estimatedInvalidations.reset();
     }
 
@@ -141,6 +149,27 @@ public final class MetricsStatsCounterTest {
         });
     }
 
+    @Test
+    public void weightedSize() {
+        // GIVEN
+        final long maximumWeight = 1000L;
+        final Caffeine<Object, Object> caffeine = Caffeine.newBuilder().maximumWeight(maximumWeight);
+        final AsyncCacheLoader<Integer, Integer> loader = (key, executor) -> CompletableFuture.completedFuture(key);
+        final CaffeineCache<Integer, Integer> cache =
+                CaffeineCache.of(caffeine.weigher((Integer key, Integer value) -> value), loader, TEST_CACHE_NAME);
+
+        // WHEN
+        cache.get(10);
+        cache.get(20);
+
+        // THEN
+        waitUntilAsserted(() -> {
+            assertThat(maxWeight.get()).isEqualTo(maximumWeight);
+            assertThat(weightedSize.get()).isEqualTo(30L);
+            assertThat(maxSize.get()).isEqualTo(0L);
+        });
+    }
+
     private static void waitUntilAsserted(final ThrowingRunnable throwingRunnable) {
         Awaitility.await().atMost(5, TimeUnit.SECONDS).untilAsserted(throwingRunnable);
     }
@@ -16,12 +16,15 @@ import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
 
 import java.io.IOException;
 import java.io.NotSerializableException;
+import java.io.UncheckedIOException;
 import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import javax.annotation.Nullable;
@@ -83,6 +86,16 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
             .withValue(CONFIG_DIRECT_BUFFER_SIZE, ConfigValueFactory.fromAnyRef("64 KiB"))
             .withValue(CONFIG_DIRECT_BUFFER_POOL_LIMIT, ConfigValueFactory.fromAnyRef("500"));
 
+    /**
+     * Maximum size of heap buffers used for messages which do not fit into a pooled direct buffer.
+     */
+    private static final long MAX_BUFFER_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * Heap buffers allocated by the size hint of a manifest get additional 1/4 of the hint as headroom.
+     */
+    private static final int SIZE_HINT_HEADROOM_DIVISOR = 4;
+
     private static final String METRIC_NAME_SUFFIX = "_serializer_messages";
     private static final String METRIC_DIRECTION = "direction";
 
@@ -91,6 +104,9 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
     private final Function<Object, String> manifestProvider;
     private final BufferPool byteBufferPool;
     private final Long defaultBufferSize;
+    private final Map<String, Integer> serializedSizeHints;
+    private final SerializerCompression compression;
+    private final SerializerInstrumentation instrumentation;
     private final Counter inCounter;
     private final Counter outCounter;
     private final String serializerName;
@@ -118,6 +134,9 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
         defaultBufferSize = config.withFallback(FALLBACK_CONF).getBytes(CONFIG_DIRECT_BUFFER_SIZE);
         final int maxPoolEntries = config.withFallback(FALLBACK_CONF).getInt(CONFIG_DIRECT_BUFFER_POOL_LIMIT);
         byteBufferPool = new DirectByteBufferPool(defaultBufferSize.intValue(), maxPoolEntries);
+        serializedSizeHints = new ConcurrentHashMap<>();
+        compression = SerializerCompression.of(config, serializerName);
+        instrumentation = SerializerInstrumentation.of(config, serializerName);
 
         inCounter = DittoMetrics.counter(serializerName.toLowerCase() + METRIC_NAME_SUFFIX)
                 .tag(METRIC_DIRECTION, "in");
@@ -138,38 +157,25 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
     @Override
     public void toBinary(final Object object, final ByteBuffer buf) {
         if (object instanceof Jsonifiable) {
-            final JsonObjectBuilder jsonObjectBuilder = JsonObject.newBuilder();
-            final DittoHeaders dittoHeaders = getDittoHeadersOrEmpty(object);
-            jsonObjectBuilder.set(JSON_DITTO_HEADERS, dittoHeaders.toJson());
-
-            final JsonValue jsonValue;
-
-            if (object instanceof Jsonifiable.WithPredicate) {
-                final JsonSchemaVersion schemaVersion =
-                        dittoHeaders.getSchemaVersion().orElse(JsonSchemaVersion.LATEST);
-
-                jsonValue = ((Jsonifiable.WithPredicate) object).toJson(schemaVersion, FieldType.regularOrSpecial());
-            } else {
-                jsonValue = ((Jsonifiable<?>) object).toJson();
-            }
-
-            jsonObjectBuilder.set(JSON_PAYLOAD, jsonValue);
-            final JsonObject jsonObject = jsonObjectBuilder.build();
+            final String manifest = manifest(object);
+            final long sampleStartNanos = instrumentation.startSample();
+            final JsonObject jsonObject = toJsonObject(object);
+            final int startPosition = buf.position();
             try {
                 serializeIntoByteBuffer(jsonObject, buf);
+                compression.compressInPlaceIfApplicable(manifest, buf, startPosition);
+                instrumentation.serialized(manifest, buf.position() - startPosition, sampleStartNanos);
                 LOG.trace("toBinary jsonStr about to send 'out': {}", jsonObject);
                 outCounter.increment();
             } catch (final BufferOverflowException e) {
+                instrumentation.serializationFailed(manifest);
                 final String errorMessage = MessageFormat.format(
                         "Could not put bytes of JSON string <{0}> into ByteBuffer due to BufferOverflow", jsonObject);
                 LOG.error(errorMessage, e);
                 throw new IllegalArgumentException(errorMessage, e);
             } catch (final IOException e) {
-                final String errorMessage = MessageFormat.format(
-                        "Serialization failed with {} on Jsonifiable with string representation <{}>",
-                        e.getClass().getName(), jsonObject);
-                LOG.warn(errorMessage, e);
-                throw new RuntimeException(errorMessage, e);
+                instrumentation.serializationFailed(manifest);
+                throw serializationFailed(jsonObject, e);
             }
         } else {
             LOG.error("Could not serialize class <{}> as it does not implement <{}>!", object.getClass(),
@@ -179,36 +185,129 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
         }
     }
 
+    private static JsonObject toJsonObject(final Object object) {
+        final JsonObjectBuilder jsonObjectBuilder = JsonObject.newBuilder();
+        final DittoHeaders dittoHeaders = getDittoHeadersOrEmpty(object);
+        jsonObjectBuilder.set(JSON_DITTO_HEADERS, dittoHeaders.toJson());
+
+        final JsonValue jsonValue;
+
+        if (object instanceof Jsonifiable.WithPredicate) {
+            final JsonSchemaVersion schemaVersion =
+                    dittoHeaders.getSchemaVersion().orElse(JsonSchemaVersion.LATEST);
+
+            jsonValue = ((Jsonifiable.WithPredicate) object).toJson(schemaVersion, FieldType.regularOrSpecial());
+        } else {
+            jsonValue = ((Jsonifiable<?>) object).toJson();
+        }
+
+        jsonObjectBuilder.set(JSON_PAYLOAD, jsonValue);
+        return jsonObjectBuilder.build();
+    }
+
+    private static RuntimeException serializationFailed(final JsonObject jsonObject, final IOException e) {
+        final String errorMessage = MessageFormat.format(
+                "Serialization failed with {0} on Jsonifiable with string representation <{1}>",
+                e.getClass().getName(), jsonObject);
+        LOG.warn(errorMessage, e);
+        return new RuntimeException(errorMessage, e);
+    }
+
     /**
      * Serializes the passed {@code jsonObject} into the passed {@code byteBuffer}.
      *
      * @param jsonObject the JsonObject to serialize.
      * @param byteBuffer the ByteBuffer to serialize into.
      * @throws IOException in case writing to the ByteBuffer fails.
+     * @throws BufferOverflowException if the serialized {@code jsonObject} does not fit into {@code byteBuffer}.
      */
     protected abstract void serializeIntoByteBuffer(JsonObject jsonObject, ByteBuffer byteBuffer) throws IOException;
 
     @Override
     public byte[] toBinary(final Object object) {
+        if (object instanceof Jsonifiable) {
+            return jsonifiableToBinary(object);
+        }
         final ByteBuffer buf = byteBufferPool.acquire();
-
         try {
             toBinary(object, buf);
-            buf.flip();
-            final byte[] bytes = new byte[buf.remaining()];
-            buf.get(bytes);
-            return bytes;
+            return toByteArray(buf);
+        } finally {
+            byteBufferPool.release(buf);
+        }
+    }
+
+    private byte[] jsonifiableToBinary(final Object object) {
+        final String manifest = manifest(object);
+        final long sampleStartNanos = instrumentation.startSample();
+        final JsonObject jsonObject = toJsonObject(object);
+        final long sizeHint = serializedSizeHints.getOrDefault(manifest, 0);
+
+        final byte[] bytes;
+        try {
+            if (sizeHint <= defaultBufferSize) {
+                bytes = serializeWithPooledBuffer(jsonObject)
+                        .orElseGet(() -> serializeWithHeapBuffer(jsonObject, 2 * defaultBufferSize));
+            } else {
+                // the last message of this type did not fit into a pooled buffer; skip the attempt which would overflow
+                bytes = serializeWithHeapBuffer(jsonObject, sizeHint + sizeHint / SIZE_HINT_HEADROOM_DIVISOR);
+            }
+        } catch (final RuntimeException e) {
+            instrumentation.serializationFailed(manifest);
+            throw e;
+        }
+        serializedSizeHints.put(manifest, bytes.length);
+        final byte[] result = compression.compressIfApplicable(manifest, bytes);
+        instrumentation.serialized(manifest, result.length, sampleStartNanos);
+        LOG.trace("toBinary jsonStr about to send 'out': {}", jsonObject);
+        outCounter.increment();
+
+        return result;
+    }
+
+    private Optional<byte[]> serializeWithPooledBuffer(final JsonObject jsonObject) {
+        final ByteBuffer buf = byteBufferPool.acquire();
+        try {
+            serializeIntoByteBuffer(jsonObject, buf);
+            return Optional.of(toByteArray(buf));
         } catch (final BufferOverflowException e) {
-            final String errorMessage =
-                    MessageFormat.format("BufferOverflow when serializing object <{0}>, max buffer size was: <{1}>",
-                            object, defaultBufferSize);
-            LOG.error(errorMessage, e);
-            throw new IllegalArgumentException(errorMessage, e);
+            LOG.debug("Serialized JSON object did not fit into pooled buffer of size <{}>.", defaultBufferSize);
+            return Optional.empty();
+        } catch (final IOException e) {
+            throw serializationFailed(jsonObject, e);
         } finally {
             byteBufferPool.release(buf);
         }
     }
 
+    private byte[] serializeWithHeapBuffer(final JsonObject jsonObject, final long initialCapacity) {
+        long capacity = Math.min(initialCapacity, MAX_BUFFER_SIZE);
+        while (true) {
+            final ByteBuffer buf = ByteBuffer.allocate((int) capacity);
+            try {
+                serializeIntoByteBuffer(jsonObject, buf);
+                return toByteArray(buf);
+            } catch (final BufferOverflowException e) {
+                if (capacity >= MAX_BUFFER_SIZE) {
+                    final String errorMessage = MessageFormat.format(
+                            "BufferOverflow when serializing JSON object, max buffer size was: <{0}>", capacity);
+                    LOG.error(errorMessage, e);
+                    throw new IllegalArgumentException(errorMessage, e);
+                }
+                capacity = Math.min(2 * capacity, MAX_BUFFER_SIZE);
+            } catch (final IOException e) {
+                throw serializationFailed(jsonObject, e);
+            }
+        }
+    }
+
+    private static byte[] toByteArray(final ByteBuffer buf) {
+        buf.flip();
+        final byte[] bytes = new byte[buf.remaining()];
+        buf.get(bytes);
+        return bytes;
+    }
+
     private static DittoHeaders getDittoHeadersOrEmpty(final Object object) {
         if (object instanceof WithDittoHeaders) {
             @Nullable final DittoHeaders dittoHeaders = ((WithDittoHeaders<?>) object).getDittoHeaders();
@@ -223,8 +322,12 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
 
     @Override
     public Object fromBinary(final ByteBuffer buf, final String manifest) {
+        final long sampleStartNanos = instrumentation.startSample();
+        final int serializedSize = buf.remaining();
         try {
-            final Jsonifiable<?> jsonifiable = tryToCreateKnownJsonifiableFrom(manifest, buf);
+            final Jsonifiable<?> jsonifiable =
+                    tryToCreateKnownJsonifiableFrom(manifest, compression.decompressIfCompressed(buf));
+            instrumentation.deserialized(manifest, serializedSize, sampleStartNanos);
             if (LOG.isTraceEnabled()) {
                 LOG.trace("fromBinary {} which got 'in': {}", serializerName,
                         BinaryToHexConverter.createDebugMessageByTryingToConvertToHexString(buf));
@@ -232,7 +335,13 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
             inCounter.increment();
             return jsonifiable;
         } catch (final NotSerializableException e) {
+            instrumentation.deserializationFailed(manifest);
             return e;
+        } catch (final UncheckedIOException e) {
+            LOG.error("Could not decompress message with manifest <{}> via serializer {}.", manifest,
+                    serializerName, e);
+            instrumentation.deserializationFailed(manifest);
+            return new NotSerializableException(manifest);
         }
     }
 
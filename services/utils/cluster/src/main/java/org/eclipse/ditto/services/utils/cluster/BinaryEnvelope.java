@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import static org.eclipse.ditto.model.base.common.ConditionChecker.checkNotNull;
+
+import java.util.Optional;
+import java.util.function.BiFunction;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
+import org.eclipse.ditto.signals.base.WithId;
+
+/**
+ * Envelope for cluster messages which are serialized by {@link BinaryEnvelopeSerializer}.
+ * The envelope exposes the manifest, the entity ID, the correlation ID and a hash of the authorization context of the
+ * wrapped message without deserializing it. The wrapped message is decoded lazily on the first call to
+ * {@link #getPayload()}, so that routing actors like shard regions do not need to parse the payload at all.
+ * <p>
+ * Envelopes which were deserialized and are sent on without accessing their payload are re-serialized from their
+ * original payload bytes.
+ * </p>
+ */
+@ThreadSafe
+public final class BinaryEnvelope {
+
+    private final String manifest;
+    @Nullable private final String entityId;
+    @Nullable private final String correlationId;
+    private final int authorizationContextHash;
+    @Nullable private final byte[] serializedPayload;
+    @Nullable private final BiFunction<byte[], String, Object> payloadDecoder;
+    @Nullable private volatile Object payload;
+
+    private BinaryEnvelope(final String manifest,
+            @Nullable final String entityId,
+            @Nullable final String correlationId,
+            final int authorizationContextHash,
+            @Nullable final byte[] serializedPayload,
+            @Nullable final BiFunction<byte[], String, Object> payloadDecoder,
+            @Nullable final Object payload) {
+
+        this.manifest = manifest;
+        this.entityId = entityId;
+        this.correlationId = correlationId;
+        this.authorizationContextHash = authorizationContextHash;
+        this.serializedPayload = serializedPayload;
+        this.payloadDecoder = payloadDecoder;
+        this.payload = payload;
+    }
+
+    /**
+     * Wraps the passed message in a {@code BinaryEnvelope}. The header fields are extracted from the message once.
+     *
+     * @param message the message to wrap.
+     * @return the envelope.
+     * @throws NullPointerException if {@code message} is {@code null}.
+     */
+    public static BinaryEnvelope of(final Object message) {
+        checkNotNull(message, "message");
+        final String manifest = ManifestProvider.getInstance().apply(message);
+        @Nullable final String entityId =
+                message instanceof WithId ? String.valueOf(((WithId) message).getEntityId()) : null;
+        final DittoHeaders dittoHeaders = message instanceof WithDittoHeaders
+                ? ((WithDittoHeaders<?>) message).getDittoHeaders()
+                : DittoHeaders.empty();
+
+        return new BinaryEnvelope(manifest, entityId, dittoHeaders.getCorrelationId().orElse(null),
+                dittoHeaders.getAuthorizationContext().hashCode(), null, null, message);
+    }
+
+    /**
+     * Creates a {@code BinaryEnvelope} from its deserialized header fields and the still serialized payload.
+     *
+     * @param manifest the manifest of the payload.
+     * @param entityId the entity ID of the payload or {@code null}.
+     * @param correlationId the correlation ID of the payload or {@code null}.
+     * @param authorizationContextHash hash code of the authorization context of the payload.
+     * @param serializedPayload the serialized payload.
+     * @param payloadDecoder function to decode the serialized payload with its manifest.
+     * @return the envelope.
+     */
+    static BinaryEnvelope serialized(final String manifest,
+            @Nullable final String entityId,
+            @Nullable final String correlationId,
+            final int authorizationContextHash,
+            final byte[] serializedPayload,
+            final BiFunction<byte[], String, Object> payloadDecoder) {
+
+        return new BinaryEnvelope(manifest, entityId, correlationId, authorizationContextHash,
+                checkNotNull(serializedPayload, "serializedPayload"), checkNotNull(payloadDecoder, "payloadDecoder"),
+                null);
+    }
+
+    /**
+     * @return the manifest of the wrapped message.
+     */
+    public String getManifest() {
+        return manifest;
+    }
+
+    /**
+     * @return the entity ID of the wrapped message if it has one.
+     */
+    public Optional<String> getEntityId() {
+        return Optional.ofNullable(entityId);
+    }
+
+    /**
+     * @return the correlation ID of the wrapped message if it has one.
+     */
+    public Optional<String> getCorrelationId() {
+        return Optional.ofNullable(correlationId);
+    }
+
+    /**
+     * @return the hash code of the authorization context of the wrapped message.
+     */
+    public int getAuthorizationContextHash() {
+        return authorizationContextHash;
+    }
+
+    /**
+     * @return whether the wrapped message is already available in deserialized form.
+     */
+    public boolean isPayloadDecoded() {
+        return null != payload;
+    }
+
+    /**
+     * Returns the wrapped message. The message is deserialized on the first call of this method if the envelope was
+     * received from another cluster member.
+     *
+     * @return the wrapped message.
+     */
+    public Object getPayload() {
+        Object result = payload;
+        if (null == result) {
+            synchronized (this) {
+                result = payload;
+                if (null == result) {
+                    result = checkNotNull(payloadDecoder, "payloadDecoder")
+                            .apply(checkNotNull(serializedPayload, "serializedPayload"), manifest);
+                    payload = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return the payload bytes this envelope was deserialized from, if any.
+     */
+    Optional<byte[]> getSerializedPayload() {
+        return Optional.ofNullable(serializedPayload);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "manifest=" + manifest +
+                ", entityId=" + entityId +
+                ", correlationId=" + correlationId +
+                ", authorizationContextHash=" + authorizationContextHash +
+                ", payloadDecoded=" + isPayloadDecoded() +
+                "]";
+    }
+
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import java.io.NotSerializableException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+
+import javax.annotation.Nullable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import akka.actor.ExtendedActorSystem;
+import akka.serialization.SerializerWithStringManifest;
+
+/**
+ * Serializer for {@link BinaryEnvelope}s.
+ * <p>
+ * The binary format consists of a compact header followed by the payload serialized by
+ * {@link CborJsonifiableSerializer}:
+ * </p>
+ * <ol>
+ * <li>format version (1 byte),</li>
+ * <li>manifest of the payload (length-prefixed UTF-8),</li>
+ * <li>entity ID (length-prefixed UTF-8, length {@code -1} if absent),</li>
+ * <li>correlation ID (length-prefixed UTF-8, length {@code -1} if absent),</li>
+ * <li>hash code of the authorization context (4 bytes),</li>
+ * <li>payload bytes (remaining bytes).</li>
+ * </ol>
+ * Deserialization only reads the header; the payload is decoded on demand by {@link BinaryEnvelope#getPayload()}.
+ */
+public final class BinaryEnvelopeSerializer extends SerializerWithStringManifest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BinaryEnvelopeSerializer.class);
+
+    private static final int UNIQUE_IDENTIFIER = 447381602;
+
+    private static final String MANIFEST = BinaryEnvelope.class.getSimpleName();
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private static final int ABSENT = -1;
+
+    private static final Charset CHARSET = StandardCharsets.UTF_8;
+
+    private final CborJsonifiableSerializer payloadSerializer;
+
+    /**
+     * Constructs a new {@code BinaryEnvelopeSerializer} object.
+     *
+     * @param actorSystem the ExtendedActorSystem to use in order to dynamically load mapping strategies for the
+     * payload serializer.
+     */
+    public BinaryEnvelopeSerializer(final ExtendedActorSystem actorSystem) {
+        payloadSerializer = new CborJsonifiableSerializer(actorSystem);
+    }
+
+    @Override
+    public int identifier() {
+        return UNIQUE_IDENTIFIER;
+    }
+
+    @Override
+    public String manifest(final Object o) {
+        return MANIFEST;
+    }
+
+    @Override
+    public byte[] toBinary(final Object object) {
+        if (!(object instanceof BinaryEnvelope)) {
+            LOG.error("Could not serialize class <{}> as it is no <{}>!", object.getClass(), BinaryEnvelope.class);
+            throw new IllegalArgumentException(new NotSerializableException(object.getClass().getName()));
+        }
+        final BinaryEnvelope envelope = (BinaryEnvelope) object;
+        final byte[] payloadBytes = envelope.getSerializedPayload()
+                .orElseGet(() -> payloadSerializer.toBinary(envelope.getPayload()));
+        final byte[] manifestBytes = envelope.getManifest().getBytes(CHARSET);
+        @Nullable final byte[] entityIdBytes = envelope.getEntityId().map(id -> id.getBytes(CHARSET)).orElse(null);
+        @Nullable final byte[] correlationIdBytes =
+                envelope.getCorrelationId().map(id -> id.getBytes(CHARSET)).orElse(null);
+
+        final int size = 1 + sizeOf(manifestBytes) + sizeOf(entityIdBytes) + sizeOf(correlationIdBytes) +
+                Integer.BYTES + payloadBytes.length;
+        final ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.put(FORMAT_VERSION);
+        putString(buffer, manifestBytes);
+        putString(buffer, entityIdBytes);
+        putString(buffer, correlationIdBytes);
+        buffer.putInt(envelope.getAuthorizationContextHash());
+        buffer.put(payloadBytes);
+
+        return buffer.array();
+    }
+
+    @Override
+    public Object fromBinary(final byte[] bytes, final String manifest) {
+        try {
+            final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            final byte version = buffer.get();
+            if (FORMAT_VERSION != version) {
+                LOG.error("Got unknown format version <{}> for manifest <{}>.", version, manifest);
+                return new NotSerializableException(manifest);
+            }
+            final String payloadManifest = getString(buffer);
+            @Nullable final String entityId = getString(buffer);
+            @Nullable final String correlationId = getString(buffer);
+            final int authorizationContextHash = buffer.getInt();
+            final byte[] payloadBytes = new byte[buffer.remaining()];
+            buffer.get(payloadBytes);
+
+            if (null == payloadManifest) {
+                throw new IllegalArgumentException("Payload manifest is missing.");
+            }
+            return BinaryEnvelope.serialized(payloadManifest, entityId, correlationId, authorizationContextHash,
+                    payloadBytes, payloadSerializer::fromBinary);
+        } catch (final BufferUnderflowException | IllegalArgumentException e) {
+            final String message = MessageFormat.format("Could not read header of <{0}> with length <{1}>.",
+                    manifest, bytes.length);
+            LOG.error(message, e);
+            return new NotSerializableException(message);
+        }
+    }
+
+    private static int sizeOf(@Nullable final byte[] stringBytes) {
+        return Integer.BYTES + (null != stringBytes ? stringBytes.length : 0);
+    }
+
+    private static void putString(final ByteBuffer buffer, @Nullable final byte[] stringBytes) {
+        if (null != stringBytes) {
+            buffer.putInt(stringBytes.length);
+            buffer.put(stringBytes);
+        } else {
+            buffer.putInt(ABSENT);
+        }
+    }
+
+    @Nullable
+    private static String getString(final ByteBuffer buffer) {
+        final int length = buffer.getInt();
+        if (ABSENT == length) {
+            return null;
+        } else if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException(MessageFormat.format("Invalid string length <{0}>.", length));
+        }
+        final String result = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, CHARSET);
+        buffer.position(buffer.position() + length);
+        return result;
+    }
+
+}
@@ -12,7 +12,13 @@
  */
 package org.eclipse.ditto.services.utils.cluster;
 
+import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
 
 import javax.annotation.concurrent.NotThreadSafe;
 
@@ -40,9 +46,21 @@ public final class JsonJsonifiableSerializer extends AbstractJsonifiableWithDitt
     }
 
     @Override
-    protected void serializeIntoByteBuffer(final JsonObject jsonObject, final ByteBuffer byteBuffer) {
-        final String jsonStr = jsonObject.toString();
-        byteBuffer.put(CHARSET.encode(jsonStr));
+    protected void serializeIntoByteBuffer(final JsonObject jsonObject, final ByteBuffer byteBuffer)
+            throws CharacterCodingException {
+
+        // encode directly into the target buffer instead of allocating an intermediate encoded ByteBuffer
+        final CharsetEncoder encoder = CHARSET.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        final CharBuffer chars = CharBuffer.wrap(jsonObject.toString());
+        final CoderResult encodeResult = encoder.encode(chars, byteBuffer, true);
+        final CoderResult flushResult = encodeResult.isUnderflow() ? encoder.flush(byteBuffer) : encodeResult;
+        if (flushResult.isOverflow()) {
+            throw new BufferOverflowException();
+        } else if (flushResult.isError()) {
+            flushResult.throwException();
+        }
     }
 
     @Override
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+
+/**
+ * JVM-wide totals of the messages serialized and deserialized by the serializers of this module per manifest.
+ * The totals are not sampled, they are maintained with a few {@link LongAdder} increments per message.
+ */
+@ThreadSafe
+public final class SerializationStatistics {
+
+    /**
+     * Definition of the manifest field of the JSON representation of the statistics of one manifest.
+     */
+    public static final JsonFieldDefinition<String> JSON_MANIFEST = JsonFactory.newStringFieldDefinition("manifest");
+
+    /**
+     * Definition of the field containing the total number of serialized and deserialized bytes.
+     */
+    public static final JsonFieldDefinition<Long> JSON_TOTAL_BYTES = JsonFactory.newLongFieldDefinition("totalBytes");
+
+    private static final JsonFieldDefinition<Long> JSON_SERIALIZED_MESSAGES =
+            JsonFactory.newLongFieldDefinition("serializedMessages");
+    private static final JsonFieldDefinition<Long> JSON_SERIALIZED_BYTES =
+            JsonFactory.newLongFieldDefinition("serializedBytes");
+    private static final JsonFieldDefinition<Long> JSON_DESERIALIZED_MESSAGES =
+            JsonFactory.newLongFieldDefinition("deserializedMessages");
+    private static final JsonFieldDefinition<Long> JSON_DESERIALIZED_BYTES =
+            JsonFactory.newLongFieldDefinition("deserializedBytes");
+    private static final JsonFieldDefinition<Long> JSON_ERRORS = JsonFactory.newLongFieldDefinition("errors");
+
+    private static final SerializationStatistics INSTANCE = new SerializationStatistics();
+
+    private final Map<String, ManifestStatistics> statisticsByManifest;
+
+    private SerializationStatistics() {
+        statisticsByManifest = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the statistics of this JVM.
+     *
+     * @return the instance.
+     */
+    public static SerializationStatistics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the statistics of the manifests with the most serialized and deserialized bytes.
+     *
+     * @param limit the maximum number of manifests to return.
+     * @return JSON objects containing the statistics per manifest ordered by descending total bytes.
+     */
+    public JsonArray getTopManifestsByBytes(final int limit) {
+        return statisticsByManifest.entrySet()
+                .stream()
+                .map(entry -> entry.getValue().toJson(entry.getKey()))
+                .sorted(Comparator.comparing((JsonObject json) -> json.getValueOrThrow(JSON_TOTAL_BYTES)).reversed())
+                .limit(limit)
+                .collect(JsonCollectors.valuesToArray());
+    }
+
+    void recordSerialized(final String manifest, final long bytes) {
+        final ManifestStatistics statistics = getStatistics(manifest);
+        statistics.serializedMessages.increment();
+        statistics.serializedBytes.add(bytes);
+    }
+
+    void recordDeserialized(final String manifest, final long bytes) {
+        final ManifestStatistics statistics = getStatistics(manifest);
+        statistics.deserializedMessages.increment();
+        statistics.deserializedBytes.add(bytes);
+    }
+
+    void recordError(final String manifest) {
+        getStatistics(manifest).errors.increment();
+    }
+
+    private ManifestStatistics getStatistics(final String manifest) {
+        return statisticsByManifest.computeIfAbsent(manifest, m -> new ManifestStatistics());
+    }
+
+    private static final class ManifestStatistics {
+
+        private final LongAdder serializedMessages = new LongAdder();
+        private final LongAdder serializedBytes = new LongAdder();
+        private final LongAdder deserializedMessages = new LongAdder();
+        private final LongAdder deserializedBytes = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+
+        private JsonObject toJson(final String manifest) {
+            final long serialized = serializedBytes.sum();
+            final long deserialized = deserializedBytes.sum();
+            return JsonObject.newBuilder()
+                    .set(JSON_MANIFEST, manifest)
+                    .set(JSON_TOTAL_BYTES, serialized + deserialized)
+                    .set(JSON_SERIALIZED_MESSAGES, serializedMessages.sum())
+                    .set(JSON_SERIALIZED_BYTES, serialized)
+                    .set(JSON_DESERIALIZED_MESSAGES, deserializedMessages.sum())
+                    .set(JSON_DESERIALIZED_BYTES, deserialized)
+                    .set(JSON_ERRORS, errors.sum())
+                    .build();
+        }
+
+    }
+
+}
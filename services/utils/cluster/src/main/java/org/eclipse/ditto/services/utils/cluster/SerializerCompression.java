@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreparedTimer;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
+
+/**
+ * Optional GZIP compression of serialized messages in {@link AbstractJsonifiableWithDittoHeadersSerializer}.
+ * <p>
+ * Messages are only compressed if compression is enabled, their manifest is in the configured allow-list and their
+ * serialized size reaches the configured threshold. Compressed messages are recognized by the GZIP magic number which
+ * can neither start a serialized JSON nor a serialized CBOR object. Therefore compressed messages are always
+ * decompressed, regardless of the configuration of the receiving node.
+ * </p>
+ */
+@Immutable
+final class SerializerCompression {
+
+    private static final String CONFIG_ENABLED = "akka.actor.serializers-json.compression.enabled";
+    private static final String CONFIG_THRESHOLD = "akka.actor.serializers-json.compression.threshold";
+    private static final String CONFIG_MANIFESTS = "akka.actor.serializers-json.compression.manifests";
+
+    private static final Config FALLBACK_CONF = ConfigFactory.empty()
+            .withValue(CONFIG_ENABLED, ConfigValueFactory.fromAnyRef(false))
+            .withValue(CONFIG_THRESHOLD, ConfigValueFactory.fromAnyRef("64 KiB"))
+            .withValue(CONFIG_MANIFESTS, ConfigValueFactory.fromIterable(Set.of()));
+
+    private static final byte GZIP_MAGIC_FIRST_BYTE = (byte) GZIPInputStream.GZIP_MAGIC;
+    private static final byte GZIP_MAGIC_SECOND_BYTE = (byte) (GZIPInputStream.GZIP_MAGIC >> 8);
+
+    private static final String METRIC_COMPRESSION_RATIO = "_serializer_compression_ratio";
+    private static final String METRIC_COMPRESSION_TIME = "_serializer_compression_time";
+    private static final String METRIC_DIRECTION = "direction";
+
+    private final boolean enabled;
+    private final long threshold;
+    private final Set<String> manifests;
+    private final Histogram compressionRatio;
+    private final PreparedTimer compressionTime;
+    private final PreparedTimer decompressionTime;
+
+    private SerializerCompression(final boolean enabled, final long threshold, final Set<String> manifests,
+            final String serializerName) {
+
+        this.enabled = enabled;
+        this.threshold = threshold;
+        this.manifests = manifests;
+        final String metricPrefix = serializerName.toLowerCase();
+        compressionRatio = DittoMetrics.histogram(metricPrefix + METRIC_COMPRESSION_RATIO);
+        compressionTime = DittoMetrics.timer(metricPrefix + METRIC_COMPRESSION_TIME)
+                .tag(METRIC_DIRECTION, "compress");
+        decompressionTime = DittoMetrics.timer(metricPrefix + METRIC_COMPRESSION_TIME)
+                .tag(METRIC_DIRECTION, "decompress");
+    }
+
+    /**
+     * Creates a {@code SerializerCompression} from the {@code akka.actor.serializers-json.compression} section of the
+     * passed config.
+     *
+     * @param config the config of the actor system.
+     * @param serializerName the name of the serializer used as prefix of the reported metrics.
+     * @return the compression.
+     */
+    static SerializerCompression of(final Config config, final String serializerName) {
+        final Config configWithFallback = config.withFallback(FALLBACK_CONF);
+        return new SerializerCompression(configWithFallback.getBoolean(CONFIG_ENABLED),
+                configWithFallback.getBytes(CONFIG_THRESHOLD),
+                new HashSet<>(configWithFallback.getStringList(CONFIG_MANIFESTS)),
+                serializerName);
+    }
+
+    /**
+     * Checks whether a serialized message should be compressed.
+     *
+     * @param manifest the manifest of the message.
+     * @param serializedSize the size of the uncompressed serialized message.
+     * @return whether the message should be compressed.
+     */
+    boolean shouldCompress(final String manifest, final long serializedSize) {
+        return enabled && serializedSize >= threshold && manifests.contains(manifest);
+    }
+
+    /**
+     * Compresses the passed serialized message if {@link #shouldCompress(String, long)} applies and compression
+     * actually reduces its size.
+     *
+     * @param manifest the manifest of the message.
+     * @param serialized the uncompressed serialized message.
+     * @return the compressed or the passed bytes.
+     */
+    byte[] compressIfApplicable(final String manifest, final byte[] serialized) {
+        if (shouldCompress(manifest, serialized.length)) {
+            final byte[] compressed = compress(serialized, 0, serialized.length);
+            if (compressed.length < serialized.length) {
+                return compressed;
+            }
+        }
+        return serialized;
+    }
+
+    /**
+     * Replaces the serialized message written into {@code buffer} from {@code startPosition} up to the current
+     * position by its compressed form if {@link #shouldCompress(String, long)} applies and compression actually
+     * reduces its size.
+     *
+     * @param manifest the manifest of the message.
+     * @param buffer the buffer the message was serialized into.
+     * @param startPosition the position of the buffer before the message was serialized into it.
+     */
+    void compressInPlaceIfApplicable(final String manifest, final ByteBuffer buffer, final int startPosition) {
+        final int length = buffer.position() - startPosition;
+        if (shouldCompress(manifest, length)) {
+            final byte[] serialized = new byte[length];
+            final ByteBuffer written = buffer.duplicate();
+            written.position(startPosition);
+            written.get(serialized);
+            final byte[] compressed = compress(serialized, 0, length);
+            if (compressed.length < length) {
+                buffer.position(startPosition);
+                buffer.put(compressed);
+            }
+        }
+    }
+
+    /**
+     * Decompresses the remaining bytes of the passed buffer if they are compressed.
+     *
+     * @param buffer the buffer containing a serialized message.
+     * @return a buffer with the uncompressed serialized message.
+     * @throws UncheckedIOException if the compressed message is corrupted.
+     */
+    ByteBuffer decompressIfCompressed(final ByteBuffer buffer) {
+        if (!isCompressed(buffer)) {
+            return buffer;
+        }
+        final byte[] compressed = new byte[buffer.remaining()];
+        buffer.get(compressed);
+        final long startTime = System.nanoTime();
+        try (final InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            final ByteBuffer result = ByteBuffer.wrap(inputStream.readAllBytes());
+            decompressionTime.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to decompress serialized message", e);
+        }
+    }
+
+    private byte[] compress(final byte[] serialized, final int offset, final int length) {
+        final long startTime = System.nanoTime();
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(length / 4);
+        try (final OutputStream outputStream = new GZIPOutputStream(byteArrayOutputStream)) {
+            outputStream.write(serialized, offset, length);
+        } catch (final IOException e) {
+            // cannot happen when writing to a ByteArrayOutputStream
+            throw new UncheckedIOException(e);
+        }
+        final byte[] compressed = byteArrayOutputStream.toByteArray();
+        compressionTime.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        compressionRatio.record(100L * compressed.length / length);
+        return compressed;
+    }
+
+    private static boolean isCompressed(final ByteBuffer buffer) {
+        final int position = buffer.position();
+        return buffer.remaining() >= 2 &&
+                buffer.get(position) == GZIP_MAGIC_FIRST_BYTE &&
+                buffer.get(position + 1) == GZIP_MAGIC_SECOND_BYTE;
+    }
+
+}
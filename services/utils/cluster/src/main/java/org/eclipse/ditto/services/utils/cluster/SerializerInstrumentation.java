@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
+import org.eclipse.ditto.services.utils.metrics.instruments.timer.PreparedTimer;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
+
+/**
+ * Per-manifest instrumentation of {@link AbstractJsonifiableWithDittoHeadersSerializer}.
+ * <p>
+ * Message and byte totals as well as errors are recorded for every message in {@link SerializationStatistics} and as
+ * error counter. Size histograms and encode/decode timers are only recorded for one out of
+ * {@code akka.actor.serializers-json.instrumentation.sampling-interval} messages in order to keep the overhead
+ * negligible.
+ * </p>
+ */
+@ThreadSafe
+final class SerializerInstrumentation {
+
+    /**
+     * Start time returned by {@link #startSample()} if the current message is not sampled.
+     */
+    static final long NOT_SAMPLED = -1L;
+
+    private static final String CONFIG_SAMPLING_INTERVAL =
+            "akka.actor.serializers-json.instrumentation.sampling-interval";
+
+    private static final Config FALLBACK_CONF = ConfigFactory.empty()
+            .withValue(CONFIG_SAMPLING_INTERVAL, ConfigValueFactory.fromAnyRef(100));
+
+    private static final String METRIC_SIZE = "_serializer_message_size";
+    private static final String METRIC_DURATION = "_serializer_duration";
+    private static final String METRIC_ERRORS = "_serializer_errors";
+    private static final String TAG_MANIFEST = "manifest";
+    private static final String TAG_DIRECTION = "direction";
+    private static final String DIRECTION_IN = "in";
+    private static final String DIRECTION_OUT = "out";
+
+    private final String metricPrefix;
+    private final int samplingInterval;
+    private final Map<String, ManifestInstruments> instrumentsByManifest;
+    private final SerializationStatistics statistics;
+
+    private SerializerInstrumentation(final String serializerName, final int samplingInterval) {
+        metricPrefix = serializerName.toLowerCase();
+        this.samplingInterval = samplingInterval;
+        instrumentsByManifest = new ConcurrentHashMap<>();
+        statistics = SerializationStatistics.getInstance();
+    }
+
+    /**
+     * Creates a {@code SerializerInstrumentation} from the {@code akka.actor.serializers-json.instrumentation}
+     * section of the passed config.
+     *
+     * @param config the config of the actor system.
+     * @param serializerName the name of the serializer used as prefix of the reported metrics.
+     * @return the instrumentation.
+     */
+    static SerializerInstrumentation of(final Config config, final String serializerName) {
+        final int samplingInterval = config.withFallback(FALLBACK_CONF).getInt(CONFIG_SAMPLING_INTERVAL);
+        return new SerializerInstrumentation(serializerName, samplingInterval);
+    }
+
+    /**
+     * Decides whether the next message is sampled.
+     *
+     * @return the current nano time if the message is sampled, {@link #NOT_SAMPLED} otherwise.
+     */
+    long startSample() {
+        if (samplingInterval > 0 && ThreadLocalRandom.current().nextInt(samplingInterval) == 0) {
+            return System.nanoTime();
+        }
+        return NOT_SAMPLED;
+    }
+
+    void serialized(final String manifest, final long bytes, final long sampleStartNanos) {
+        statistics.recordSerialized(manifest, bytes);
+        if (NOT_SAMPLED != sampleStartNanos) {
+            getInstruments(manifest).recordOut(bytes, System.nanoTime() - sampleStartNanos);
+        }
+    }
+
+    void deserialized(final String manifest, final long bytes, final long sampleStartNanos) {
+        statistics.recordDeserialized(manifest, bytes);
+        if (NOT_SAMPLED != sampleStartNanos) {
+            getInstruments(manifest).recordIn(bytes, System.nanoTime() - sampleStartNanos);
+        }
+    }
+
+    void serializationFailed(final String manifest) {
+        statistics.recordError(manifest);
+        getInstruments(manifest).outErrors.increment();
+    }
+
+    void deserializationFailed(final String manifest) {
+        statistics.recordError(manifest);
+        getInstruments(manifest).inErrors.increment();
+    }
+
+    private ManifestInstruments getInstruments(final String manifest) {
+        return instrumentsByManifest.computeIfAbsent(manifest, m -> new ManifestInstruments(metricPrefix, m));
+    }
+
+    private static final class ManifestInstruments {
+
+        private final Histogram inSize;
+        private final Histogram outSize;
+        private final PreparedTimer inDuration;
+        private final PreparedTimer outDuration;
+        private final Counter inErrors;
+        private final Counter outErrors;
+
+        private ManifestInstruments(final String metricPrefix, final String manifest) {
+            inSize = DittoMetrics.histogram(metricPrefix + METRIC_SIZE)
+                    .tag(TAG_MANIFEST, manifest)
+                    .tag(TAG_DIRECTION, DIRECTION_IN);
+            outSize = DittoMetrics.histogram(metricPrefix + METRIC_SIZE)
+                    .tag(TAG_MANIFEST, manifest)
+                    .tag(TAG_DIRECTION, DIRECTION_OUT);
+            inDuration = DittoMetrics.timer(metricPrefix + METRIC_DURATION)
+                    .tag(TAG_MANIFEST, manifest)
+                    .tag(TAG_DIRECTION, DIRECTION_IN);
+            outDuration = DittoMetrics.timer(metricPrefix + METRIC_DURATION)
+                    .tag(TAG_MANIFEST, manifest)
+                    .tag(TAG_DIRECTION, DIRECTION_OUT);
+            inErrors = DittoMetrics.counter(metricPrefix + METRIC_ERRORS)
+                    .tag(TAG_MANIFEST, manifest)
+                    .tag(TAG_DIRECTION, DIRECTION_IN);
+            outErrors = DittoMetrics.counter(metricPrefix + METRIC_ERRORS)
+                    .tag(TAG_MANIFEST, manifest)
+                    .tag(TAG_DIRECTION, DIRECTION_OUT);
+        }
+
+        private void recordIn(final long bytes, final long durationNanos) {
+            inSize.record(bytes);
+            inDuration.record(durationNanos, TimeUnit.NANOSECONDS);
+        }
+
+        private void recordOut(final long bytes, final long durationNanos) {
+            outSize.record(bytes);
+            outDuration.record(durationNanos, TimeUnit.NANOSECONDS);
+        }
+
+    }
+
+}
@@ -74,6 +74,9 @@ public final class ShardRegionExtractor implements ShardRegion.MessageExtractor
             return ((ShardedMessageEnvelope) message).getEntityId().toString();
         } else if (message instanceof WithId) {
             return ((WithId) message).getEntityId().toString();
+        } else if (message instanceof BinaryEnvelope) {
+            // routing information is read from the envelope header without deserializing the payload
+            return ((BinaryEnvelope) message).getEntityId().orElse(null);
         } else if (message instanceof ShardRegion.StartEntity) {
             return ((ShardRegion.StartEntity) message).entityId();
         }
@@ -91,6 +94,9 @@ public final class ShardRegionExtractor implements ShardRegion.MessageExtractor
         } else if (message instanceof ShardedMessageEnvelope) {
             // message was sent from the same cluster node
             entity = createJsonifiableFrom((ShardedMessageEnvelope) message);
+        } else if (message instanceof BinaryEnvelope) {
+            // the payload is only deserialized when it is delivered to the entity
+            entity = ((BinaryEnvelope) message).getPayload();
         } else {
             entity = message;
         }
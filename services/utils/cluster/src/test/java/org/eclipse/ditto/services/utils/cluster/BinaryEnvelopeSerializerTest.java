@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.eclipse.ditto.model.base.auth.AuthorizationContext;
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.signals.commands.things.modify.CreateThing;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ExtendedActorSystem;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Unit test for {@link BinaryEnvelopeSerializer}.
+ */
+public final class BinaryEnvelopeSerializerTest {
+
+    private static final ThingId THING_ID = ThingId.of("org.eclipse.ditto.test", "thingId");
+
+    private static final DittoHeaders DITTO_HEADERS = DittoHeaders.newBuilder()
+            .authorizationContext(AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                    AuthorizationSubject.newInstance("authSubject")))
+            .correlationId("correlationId")
+            .schemaVersion(JsonSchemaVersion.LATEST)
+            .build();
+
+    private static ExtendedActorSystem actorSystem;
+
+    private BinaryEnvelopeSerializer underTest;
+
+    @BeforeClass
+    public static void setUpClass() {
+        actorSystem = (ExtendedActorSystem) ExtendedActorSystem.create("test", ConfigFactory.parseMap(
+                Map.of("ditto.mapping-strategy.implementation", GlobalMappingStrategies.class.getName())));
+    }
+
+    @AfterClass
+    public static void tearDownClass() {
+        TestKit.shutdownActorSystem(actorSystem);
+    }
+
+    @Before
+    public void setUp() {
+        underTest = new BinaryEnvelopeSerializer(actorSystem);
+    }
+
+    @Test
+    public void headerIsReadWithoutDecodingPayload() {
+        final CreateThing createThing = CreateThing.of(Thing.newBuilder().setId(THING_ID).build(), null, DITTO_HEADERS);
+        final BinaryEnvelope envelope = BinaryEnvelope.of(createThing);
+
+        final byte[] serialized = underTest.toBinary(envelope);
+        final Object deserialized = underTest.fromBinary(serialized, underTest.manifest(envelope));
+
+        assertThat(deserialized).isInstanceOf(BinaryEnvelope.class);
+        final BinaryEnvelope actual = (BinaryEnvelope) deserialized;
+        assertThat(actual.isPayloadDecoded()).isFalse();
+        assertThat(actual.getManifest()).isEqualTo(createThing.getManifest());
+        assertThat(actual.getEntityId()).contains(THING_ID.toString());
+        assertThat(actual.getCorrelationId()).contains("correlationId");
+        assertThat(actual.getAuthorizationContextHash())
+                .isEqualTo(DITTO_HEADERS.getAuthorizationContext().hashCode());
+
+        assertThat(actual.getPayload()).isEqualTo(createThing);
+        assertThat(actual.isPayloadDecoded()).isTrue();
+    }
+
+    @Test
+    public void undecodedEnvelopeIsSerializedFromOriginalBytes() {
+        final CreateThing createThing = CreateThing.of(Thing.newBuilder().setId(THING_ID).build(), null, DITTO_HEADERS);
+        final byte[] serialized = underTest.toBinary(BinaryEnvelope.of(createThing));
+        final Object deserialized = underTest.fromBinary(serialized, BinaryEnvelope.class.getSimpleName());
+
+        final byte[] reserialized = underTest.toBinary(deserialized);
+
+        assertThat(((BinaryEnvelope) deserialized).isPayloadDecoded()).isFalse();
+        assertThat(reserialized).isEqualTo(serialized);
+    }
+
+    @Test
+    public void shardRegionExtractorRoutesByEnvelopeHeader() {
+        final CreateThing createThing = CreateThing.of(Thing.newBuilder().setId(THING_ID).build(), null, DITTO_HEADERS);
+        final BinaryEnvelope envelope = (BinaryEnvelope) underTest.fromBinary(
+                underTest.toBinary(BinaryEnvelope.of(createThing)), BinaryEnvelope.class.getSimpleName());
+        final ShardRegionExtractor extractor = ShardRegionExtractor.of(10, GlobalMappingStrategies.getInstance());
+
+        assertThat(extractor.entityId(envelope)).isEqualTo(THING_ID.toString());
+        assertThat(extractor.shardId(envelope)).isEqualTo(extractor.shardId(createThing));
+        assertThat(envelope.isPayloadDecoded()).isFalse();
+        assertThat(extractor.entityMessage(envelope)).isEqualTo(createThing);
+    }
+
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.FieldType;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.things.Thing;
+import org.eclipse.ditto.model.things.ThingBuilder;
+import org.eclipse.ditto.model.things.ThingId;
+import org.eclipse.ditto.model.thingsearch.SearchModelFactory;
+import org.eclipse.ditto.signals.commands.things.query.RetrieveThingResponse;
+import org.eclipse.ditto.signals.commands.thingsearch.query.QueryThingsResponse;
+import org.eclipse.ditto.signals.events.things.ThingModified;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.ExtendedActorSystem;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Throughput and allocation benchmark of {@link JsonJsonifiableSerializer} and {@link CborJsonifiableSerializer} for
+ * thing events, thing retrieval responses and search results.
+ * Run {@link #main(String[])} to report the allocation rate per operation via the JMH GC profiler.
+ */
+@State(Scope.Benchmark)
+public class JsonifiableSerializerBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final int NUMBER_OF_FEATURES = 50;
+    private static final int SEARCH_RESULT_PAGE_SIZE = 200;
+
+    @Param({"JSON", "CBOR"})
+    public String serializerName;
+
+    private ExtendedActorSystem actorSystem;
+    private AbstractJsonifiableWithDittoHeadersSerializer serializer;
+    private ByteBuffer arteryBuffer;
+
+    private ThingModified thingModified;
+    private RetrieveThingResponse retrieveThingResponse;
+    private QueryThingsResponse queryThingsResponse;
+    private byte[] serializedThingModified;
+    private byte[] serializedRetrieveThingResponse;
+    private byte[] serializedQueryThingsResponse;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        actorSystem = (ExtendedActorSystem) ExtendedActorSystem.create("benchmark", ConfigFactory.parseMap(
+                Map.of("ditto.mapping-strategy.implementation", GlobalMappingStrategies.class.getName())));
+        serializer = "JSON".equals(serializerName)
+                ? new JsonJsonifiableSerializer(actorSystem)
+                : new CborJsonifiableSerializer(actorSystem);
+        arteryBuffer = ByteBuffer.allocateDirect(256 * 1024);
+
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                .correlationId("benchmark")
+                .schemaVersion(JsonSchemaVersion.V_2)
+                .build();
+        final Thing thing = createThing("org.eclipse.ditto.benchmark:thing");
+        thingModified = ThingModified.of(thing, 42L, dittoHeaders);
+        retrieveThingResponse = RetrieveThingResponse.of(thing.getEntityId().orElseThrow(), thing, dittoHeaders);
+        final JsonArray items = IntStream.range(0, SEARCH_RESULT_PAGE_SIZE)
+                .mapToObj(i -> createThing("org.eclipse.ditto.benchmark:thing-" + i)
+                        .toJson(JsonSchemaVersion.V_2, FieldType.regularOrSpecial()))
+                .collect(JsonCollectors.valuesToArray());
+        queryThingsResponse =
+                QueryThingsResponse.of(SearchModelFactory.newSearchResult(items, SEARCH_RESULT_PAGE_SIZE),
+                        dittoHeaders);
+
+        serializedThingModified = serializer.toBinary(thingModified);
+        serializedRetrieveThingResponse = serializer.toBinary(retrieveThingResponse);
+        serializedQueryThingsResponse = serializer.toBinary(queryThingsResponse);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        TestKit.shutdownActorSystem(actorSystem);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public byte[] toBinaryThingModified() {
+        return serializer.toBinary(thingModified);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public ByteBuffer toByteBufferThingModified() {
+        arteryBuffer.clear();
+        serializer.toBinary(thingModified, arteryBuffer);
+        return arteryBuffer;
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Object fromBinaryThingModified() {
+        return serializer.fromBinary(serializedThingModified, ThingModified.TYPE);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public byte[] toBinaryRetrieveThingResponse() {
+        return serializer.toBinary(retrieveThingResponse);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Object fromBinaryRetrieveThingResponse() {
+        return serializer.fromBinary(serializedRetrieveThingResponse, RetrieveThingResponse.TYPE);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public byte[] toBinaryQueryThingsResponse() {
+        return serializer.toBinary(queryThingsResponse);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Object fromBinaryQueryThingsResponse() {
+        return serializer.fromBinary(serializedQueryThingsResponse, QueryThingsResponse.TYPE);
+    }
+
+    private static Thing createThing(final String thingId) {
+        final ThingBuilder.FromScratch builder = Thing.newBuilder().setId(ThingId.of(thingId));
+        IntStream.range(0, NUMBER_OF_FEATURES).forEach(i ->
+                builder.setFeatureProperty("feature-" + i, JsonFactory.newPointer("value"),
+                        JsonFactory.newValue(i))
+                        .setFeatureProperty("feature-" + i, JsonFactory.newPointer("status/lastUpdate"),
+                                JsonFactory.newValue("2020-01-01T00:00:00Z")));
+        return builder.build();
+    }
+
+    public static void main(final String... args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JsonifiableSerializerBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .forks(1)
+                .build())
+                .run();
+    }
+
+}
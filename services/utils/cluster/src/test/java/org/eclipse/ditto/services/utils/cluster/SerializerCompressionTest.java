@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Unit test for {@link SerializerCompression}.
+ */
+public final class SerializerCompressionTest {
+
+    private static final String ALLOWED_MANIFEST = "things.responses:retrieveThings";
+    private static final byte[] LARGE_MESSAGE =
+            ("{\"payload\":\"" + "abc".repeat(1000) + "\"}").getBytes(StandardCharsets.UTF_8);
+
+    private SerializerCompression underTest;
+
+    @Before
+    public void setUp() {
+        underTest = SerializerCompression.of(ConfigFactory.parseString("akka.actor.serializers-json.compression {\n" +
+                "  enabled = true\n" +
+                "  threshold = 1 KiB\n" +
+                "  manifests = [\"" + ALLOWED_MANIFEST + "\"]\n" +
+                "}"), "TEST");
+    }
+
+    @Test
+    public void compressionIsDisabledByDefault() {
+        final SerializerCompression disabled = SerializerCompression.of(ConfigFactory.empty(), "TEST");
+
+        assertThat(disabled.compressIfApplicable(ALLOWED_MANIFEST, LARGE_MESSAGE)).isSameAs(LARGE_MESSAGE);
+    }
+
+    @Test
+    public void largeMessageWithAllowedManifestIsCompressed() {
+        final byte[] compressed = underTest.compressIfApplicable(ALLOWED_MANIFEST, LARGE_MESSAGE);
+
+        assertThat(compressed.length).isLessThan(LARGE_MESSAGE.length);
+        assertThat(toArray(underTest.decompressIfCompressed(ByteBuffer.wrap(compressed)))).isEqualTo(LARGE_MESSAGE);
+    }
+
+    @Test
+    public void messageWithOtherManifestIsNotCompressed() {
+        assertThat(underTest.compressIfApplicable("things.commands:retrieveThing", LARGE_MESSAGE))
+                .isSameAs(LARGE_MESSAGE);
+    }
+
+    @Test
+    public void messageBelowThresholdIsNotCompressed() {
+        final byte[] smallMessage = "{\"payload\":42}".getBytes(StandardCharsets.UTF_8);
+
+        assertThat(underTest.compressIfApplicable(ALLOWED_MANIFEST, smallMessage)).isSameAs(smallMessage);
+    }
+
+    @Test
+    public void uncompressedMessageIsNotDecompressed() {
+        final ByteBuffer buffer = ByteBuffer.wrap(LARGE_MESSAGE);
+
+        assertThat(underTest.decompressIfCompressed(buffer)).isSameAs(buffer);
+    }
+
+    @Test
+    public void messageInBufferIsCompressedInPlace() {
+        final ByteBuffer buffer = ByteBuffer.allocate(2 * LARGE_MESSAGE.length);
+        buffer.put((byte) 42);
+        buffer.put(LARGE_MESSAGE);
+
+        underTest.compressInPlaceIfApplicable(ALLOWED_MANIFEST, buffer, 1);
+        buffer.flip();
+        buffer.position(1);
+
+        assertThat(buffer.remaining()).isLessThan(LARGE_MESSAGE.length);
+        assertThat(toArray(underTest.decompressIfCompressed(buffer))).isEqualTo(LARGE_MESSAGE);
+    }
+
+    private static byte[] toArray(final ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+}
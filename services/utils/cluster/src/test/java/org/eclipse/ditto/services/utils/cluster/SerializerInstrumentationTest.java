@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonValue;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Unit test for {@link SerializerInstrumentation} and {@link SerializationStatistics}.
+ */
+public final class SerializerInstrumentationTest {
+
+    @Test
+    public void samplingCanBeDisabled() {
+        final SerializerInstrumentation underTest = SerializerInstrumentation.of(
+                ConfigFactory.parseString("akka.actor.serializers-json.instrumentation.sampling-interval = 0"),
+                "TEST");
+
+        assertThat(underTest.startSample()).isEqualTo(SerializerInstrumentation.NOT_SAMPLED);
+    }
+
+    @Test
+    public void everyMessageIsSampledWithIntervalOne() {
+        final SerializerInstrumentation underTest = SerializerInstrumentation.of(
+                ConfigFactory.parseString("akka.actor.serializers-json.instrumentation.sampling-interval = 1"),
+                "TEST");
+
+        assertThat(underTest.startSample()).isNotEqualTo(SerializerInstrumentation.NOT_SAMPLED);
+    }
+
+    @Test
+    public void totalsAreRecordedForUnsampledMessages() {
+        final SerializerInstrumentation underTest = SerializerInstrumentation.of(
+                ConfigFactory.parseString("akka.actor.serializers-json.instrumentation.sampling-interval = 0"),
+                "TEST");
+        final String smallManifest = "small:" + UUID.randomUUID();
+        final String largeManifest = "large:" + UUID.randomUUID();
+
+        underTest.serialized(smallManifest, 10, SerializerInstrumentation.NOT_SAMPLED);
+        underTest.deserialized(largeManifest, 1000, SerializerInstrumentation.NOT_SAMPLED);
+        underTest.serialized(largeManifest, 500, SerializerInstrumentation.NOT_SAMPLED);
+        underTest.deserializationFailed(largeManifest);
+
+        final List<JsonObject> statistics = SerializationStatistics.getInstance()
+                .getTopManifestsByBytes(Integer.MAX_VALUE)
+                .stream()
+                .map(JsonValue::asObject)
+                .filter(json -> json.getValueOrThrow(SerializationStatistics.JSON_MANIFEST).equals(smallManifest) ||
+                        json.getValueOrThrow(SerializationStatistics.JSON_MANIFEST).equals(largeManifest))
+                .collect(Collectors.toList());
+
+        assertThat(statistics).hasSize(2);
+        assertThat(statistics.get(0)).isEqualTo(JsonObject.newBuilder()
+                .set(SerializationStatistics.JSON_MANIFEST, largeManifest)
+                .set(SerializationStatistics.JSON_TOTAL_BYTES, 1500L)
+                .set("serializedMessages", 1L)
+                .set("serializedBytes", 500L)
+                .set("deserializedMessages", 1L)
+                .set("deserializedBytes", 1000L)
+                .set("errors", 1L)
+                .build());
+        assertThat(statistics.get(1).getValueOrThrow(SerializationStatistics.JSON_MANIFEST)).isEqualTo(smallManifest);
+    }
+
+}
@@ -18,6 +18,8 @@ import java.util.Map;
 
 import org.assertj.core.api.AutoCloseableSoftAssertions;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.auth.AuthorizationContext;
 import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
 import org.eclipse.ditto.model.base.auth.DittoAuthorizationContextType;
@@ -141,6 +143,22 @@ public final class SharedJsonifiableSerializerTest {
             assertThat(deserialized).isEqualTo(createThingResponse);
         }
 
+        @Test
+        public void messageLargerThanPooledBufferIsSerialized() {
+            final String largeValue = "x".repeat(100 * 1024);
+            final Thing largeThing = thing.toBuilder()
+                    .setAttribute(JsonPointer.of("large"), JsonValue.of(largeValue))
+                    .build();
+            final CreateThingResponse createThingResponse = CreateThingResponse.of(largeThing, DITTO_HEADERS);
+
+            final byte[] serialized = underTest.toBinary(createThingResponse);
+            final byte[] serializedAgain = underTest.toBinary(createThingResponse);
+            final Object deserialized = underTest.fromBinary(serialized, underTest.manifest(createThingResponse));
+
+            assertThat(serializedAgain).isEqualTo(serialized);
+            assertThat(deserialized).isEqualTo(createThingResponse);
+        }
+
         @Test
         public void shardedMessageEnvelopeSerializationWorksAsExpected() {
             final EntityId id = DefaultEntityId.generateRandom();
@@ -41,10 +41,13 @@ import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.services.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.services.utils.cluster.MappingStrategies;
 import org.eclipse.ditto.services.utils.cluster.MappingStrategy;
+import org.eclipse.ditto.services.utils.cluster.SerializationStatistics;
 import org.eclipse.ditto.signals.base.JsonTypeNotParsableException;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.commands.base.CommandResponse;
 import org.eclipse.ditto.signals.commands.base.exceptions.GatewayInternalErrorException;
+import org.eclipse.ditto.signals.commands.common.RetrieveSerializationStatistics;
+import org.eclipse.ditto.signals.commands.common.RetrieveSerializationStatisticsResponse;
 import org.eclipse.ditto.signals.commands.devops.AggregatedDevOpsCommandResponse;
 import org.eclipse.ditto.signals.commands.devops.ChangeLogLevel;
 import org.eclipse.ditto.signals.commands.devops.ChangeLogLevelResponse;
@@ -83,6 +86,7 @@ public final class DevOpsCommandsActor extends AbstractActor implements Retrieve
     private static final String UNKNOWN_MESSAGE_TEMPLATE = "Unknown message: {}";
     private static final String TOPIC_HEADER = "topic";
     private static final String IS_GROUP_TOPIC_HEADER = "is-group-topic";
+    private static final int DEFAULT_SERIALIZATION_STATISTICS_LIMIT = 10;
 
     private final DittoDiagnosticLoggingAdapter logger = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
 
@@ -128,6 +132,7 @@ public final class DevOpsCommandsActor extends AbstractActor implements Retrieve
         return ReceiveBuilder.create()
                 .match(DevOpsCommand.class, this::handleInitialDevOpsCommand)
                 .match(DevOpsCommandViaPubSub.class, this::handleDevOpsCommandViaPubSub)
+                .match(RetrieveSerializationStatistics.class, this::handleRetrieveSerializationStatistics)
                 .build()
                 .orElse(retrieveConfigBehavior())
                 .orElse(matchAnyUnhandled());
@@ -282,6 +287,13 @@ public final class DevOpsCommandsActor extends AbstractActor implements Retrieve
         getSender().tell(retrieveLoggerConfigResponse, getSelf());
     }
 
+    private void handleRetrieveSerializationStatistics(final RetrieveSerializationStatistics command) {
+        final int limit = command.getLimit().orElse(DEFAULT_SERIALIZATION_STATISTICS_LIMIT);
+        final RetrieveSerializationStatisticsResponse response = RetrieveSerializationStatisticsResponse.of(
+                SerializationStatistics.getInstance().getTopManifestsByBytes(limit), command.getDittoHeaders());
+        getSender().tell(response, getSelf());
+    }
+
     private void handleExecutePiggyBack(final ExecutePiggybackCommand command) {
         deserializePiggybackCommand(command,
                 jsonifiable -> {
@@ -28,6 +28,7 @@ import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.json.FieldType;
 import org.eclipse.ditto.model.base.json.Jsonifiable;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotEncodingConfig;
 import org.slf4j.Logger;
 
 import akka.persistence.SelectedSnapshot;
@@ -35,6 +36,11 @@ import akka.persistence.SnapshotOffer;
 
 /**
  * Abstract implementation of a MongoDB specific {@link SnapshotAdapter} for a {@link Jsonifiable}.
+ * <p>
+ * Snapshots are written either as BSON documents converted from the JSON of the entity or, if configured, in the
+ * binary encoding of {@link BinarySnapshotEncoding}. Snapshots of both encodings are read side by side, so that the
+ * encoding can be switched without migrating the snapshot store.
+ * </p>
  *
  * @param <T> the jsonifiable type to snapshot.
  */
@@ -43,9 +49,24 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
         implements SnapshotAdapter<T> {
 
     private final Logger logger;
+    @Nullable
+    private final BinarySnapshotEncoding binarySnapshotEncoding;
 
     protected AbstractMongoSnapshotAdapter(final Logger logger) {
         this.logger = logger;
+        binarySnapshotEncoding = null;
+    }
+
+    /**
+     * Constructs an adapter which writes snapshots in the encoding of the given config.
+     *
+     * @param logger the logger.
+     * @param snapshotEncodingConfig the config of the encoding of written snapshots.
+     */
+    protected AbstractMongoSnapshotAdapter(final Logger logger, final SnapshotEncodingConfig snapshotEncodingConfig) {
+        this.logger = logger;
+        binarySnapshotEncoding =
+                snapshotEncodingConfig.isBinary() ? BinarySnapshotEncoding.of(snapshotEncodingConfig) : null;
     }
 
     @Override
@@ -54,6 +75,9 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
 
         onSnapshotStoreConversion(snapshotEntity, json);
 
+        if (null != binarySnapshotEncoding) {
+            return binarySnapshotEncoding.encode(json);
+        }
         final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
         return dittoBsonJson.parse(json);
     }
@@ -107,7 +131,11 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
     private static JsonObject convertSnapshotEntityToJson(final Object rawSnapshotEntity) {
         checkNotNull(rawSnapshotEntity, "raw snapshot entity");
         if (rawSnapshotEntity instanceof BsonValue) {
-            return convertToJson((BsonValue) rawSnapshotEntity);
+            final BsonValue bsonValue = (BsonValue) rawSnapshotEntity;
+            if (BinarySnapshotEncoding.isBinary(bsonValue)) {
+                return DittoJsonException.wrapJsonRuntimeException(() -> BinarySnapshotEncoding.decode(bsonValue));
+            }
+            return convertToJson(bsonValue);
         }
         final String pattern = "Unable to create a Jsonifiable from <{0}>! Expected was a BsonDocument instance.";
         throw new IllegalArgumentException(MessageFormat.format(pattern, rawSnapshotEntity.getClass()));
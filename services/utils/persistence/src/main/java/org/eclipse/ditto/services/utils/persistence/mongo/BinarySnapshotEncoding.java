@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.BsonBinary;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.eclipse.ditto.json.CborFactory;
+import org.eclipse.ditto.json.JsonCollectors;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotEncodingConfig;
+
+/**
+ * Binary encoding of snapshots as CBOR blobs, optionally compressed with GZIP.
+ * <p>
+ * A binary snapshot is a BSON document with the CBOR blob of the whole snapshot JSON in the field
+ * {@value #BINARY_FIELD} and copies of the scalar top-level fields of the snapshot JSON, e.g. the revision, the
+ * lifecycle and the policy ID. The copies are not read back but keep the snapshot store queryable by the fields
+ * snapshot streaming and indexes rely on. Nested objects and arrays are only stored within the blob, so that neither
+ * their conversion to BSON nor the escaping of their keys are necessary.
+ * Compressed blobs are recognized by the GZIP magic number which can not start a CBOR encoded object.
+ * </p>
+ */
+@Immutable
+final class BinarySnapshotEncoding {
+
+    /**
+     * Name of the field of binary snapshots containing the CBOR blob.
+     */
+    static final String BINARY_FIELD = "__cbor";
+
+    private static final byte GZIP_MAGIC_FIRST_BYTE = (byte) GZIPInputStream.GZIP_MAGIC;
+    private static final byte GZIP_MAGIC_SECOND_BYTE = (byte) (GZIPInputStream.GZIP_MAGIC >> 8);
+
+    private final boolean compressionEnabled;
+    private final long compressionThreshold;
+
+    private BinarySnapshotEncoding(final boolean compressionEnabled, final long compressionThreshold) {
+        this.compressionEnabled = compressionEnabled;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    /**
+     * Returns the binary snapshot encoding for the given config.
+     *
+     * @param config the snapshot encoding config.
+     * @return the encoding.
+     */
+    static BinarySnapshotEncoding of(final SnapshotEncodingConfig config) {
+        return new BinarySnapshotEncoding(config.isCompressionEnabled(), config.getCompressionThreshold());
+    }
+
+    /**
+     * Encodes the JSON of a snapshot as binary snapshot.
+     *
+     * @param json the snapshot JSON.
+     * @return the binary snapshot.
+     */
+    BsonDocument encode(final JsonObject json) {
+        final JsonObject scalarFields = json.stream()
+                .filter(field -> !field.getValue().isObject() && !field.getValue().isArray())
+                .collect(JsonCollectors.fieldsToObject());
+        final BsonDocument result = DittoBsonJson.getInstance().parse(scalarFields);
+        result.append(BINARY_FIELD, new BsonBinary(toBytes(json)));
+        return result;
+    }
+
+    /**
+     * Checks whether a snapshot read from the snapshot store is a binary snapshot.
+     *
+     * @param snapshot the snapshot.
+     * @return whether the snapshot is binary.
+     */
+    static boolean isBinary(final BsonValue snapshot) {
+        return snapshot.isDocument() && snapshot.asDocument().isBinary(BINARY_FIELD);
+    }
+
+    /**
+     * Decodes the JSON of a binary snapshot.
+     *
+     * @param snapshot the binary snapshot.
+     * @return the snapshot JSON.
+     * @throws org.eclipse.ditto.json.JsonParseException if the CBOR blob is not a valid JSON object.
+     * @throws UncheckedIOException if the compressed CBOR blob is corrupted.
+     */
+    static JsonObject decode(final BsonValue snapshot) {
+        final byte[] blob = snapshot.asDocument().getBinary(BINARY_FIELD).getData();
+        return CborFactory.readFrom(decompressIfCompressed(blob)).asObject();
+    }
+
+    private byte[] toBytes(final JsonObject json) {
+        final byte[] cbor;
+        try {
+            cbor = CborFactory.toByteArray(json);
+        } catch (final IOException e) {
+            // cannot happen when writing to a ByteArrayOutputStream
+            throw new UncheckedIOException(e);
+        }
+        if (compressionEnabled && cbor.length >= compressionThreshold) {
+            final byte[] compressed = compress(cbor);
+            if (compressed.length < cbor.length) {
+                return compressed;
+            }
+        }
+        return cbor;
+    }
+
+    private static byte[] compress(final byte[] bytes) {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(bytes.length / 4);
+        try (final OutputStream outputStream = new GZIPOutputStream(byteArrayOutputStream)) {
+            outputStream.write(bytes);
+        } catch (final IOException e) {
+            // cannot happen when writing to a ByteArrayOutputStream
+            throw new UncheckedIOException(e);
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    private static byte[] decompressIfCompressed(final byte[] bytes) {
+        if (bytes.length < 2 || bytes[0] != GZIP_MAGIC_FIRST_BYTE || bytes[1] != GZIP_MAGIC_SECOND_BYTE) {
+            return bytes;
+        }
+        try (final InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return inputStream.readAllBytes();
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to decompress binary snapshot", e);
+        }
+    }
+
+}
@@ -14,8 +14,11 @@ package org.eclipse.ditto.services.utils.persistence.mongo;
 
 import java.time.Duration;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
+import javax.annotation.Nullable;
+
 import org.bson.Document;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
@@ -25,6 +28,8 @@ import org.eclipse.ditto.services.models.streaming.SudoStreamSnapshots;
 import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
 import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
 import org.eclipse.ditto.services.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultMongoDbConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.MongoDbConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.streaming.MongoReadJournal;
@@ -44,10 +49,20 @@ import akka.stream.javadsl.StreamRefs;
 
 /**
  * An actor that streams from the snapshot store of a service with Mongo persistence plugin on request.
+ * <p>
+ * Each request may restrict the stream to the partition of entity IDs between its lower bound (exclusive) and its
+ * upper bound (inclusive), so that consumers can stream disjoint partitions of the snapshot store in parallel.
+ * The progress of each partition is logged with its upper bound and counted by the metric
+ * {@value #STREAMED_SNAPSHOTS_METRIC}, which is only tagged with whether the stream was bounded so that the number of
+ * metric series does not grow with the number of partitions.
+ * </p>
  */
 @AllValuesAreNonnullByDefault
 public final class SnapshotStreamingActor extends AbstractActor {
 
+    private static final String STREAMED_SNAPSHOTS_METRIC = "snapshot_streaming_snapshots";
+    private static final long PROGRESS_LOG_INTERVAL = 10_000L;
+
     private final DittoDiagnosticLoggingAdapter log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
     private final ActorMaterializer materializer = ActorMaterializer.create(getContext());
 
@@ -129,13 +144,45 @@ public final class SnapshotStreamingActor extends AbstractActor {
         log.info("Starting stream for <{}>", command);
         final int batchSize = command.getBurst();
         final String start = command.hasNonEmptyLowerBound() ? entityId2Pid.apply(command.getLowerBound()) : "";
-        final Source<Document, NotUsed> snapshotSource = readJournal.getNewestSnapshotsAbove(
+        final String end = command.hasNonEmptyUpperBound() ? entityId2Pid.apply(command.getUpperBound()) : "";
+        final Source<Document, NotUsed> snapshotSource = readJournal.getNewestSnapshotsInRange(
                 start,
+                end,
                 batchSize,
                 materializer,
                 command.getSnapshotFields().stream().map(JsonValue::asString).toArray(String[]::new)
         );
-        return snapshotSource.map(this::mapSnapshot).log("snapshot-streaming", log);
+        return trackProgress(command, snapshotSource.map(this::mapSnapshot).log("snapshot-streaming", log));
+    }
+
+    private Source<StreamedSnapshot, NotUsed> trackProgress(final SudoStreamSnapshots command,
+            final Source<StreamedSnapshot, NotUsed> source) {
+
+        final boolean bounded = command.hasNonEmptyUpperBound();
+        final String partition = bounded ? command.getUpperBound().toString() : "none";
+        final Counter streamedSnapshots = DittoMetrics.counter(STREAMED_SNAPSHOTS_METRIC)
+                .tag("partition", bounded ? "bounded" : "unbounded");
+        final AtomicLong count = new AtomicLong();
+        final long startNanos = System.nanoTime();
+        return source.map(snapshot -> {
+            streamedSnapshots.increment();
+            final long currentCount = count.incrementAndGet();
+            if (currentCount % PROGRESS_LOG_INTERVAL == 0) {
+                logProgress("Streaming", partition, currentCount, startNanos, snapshot.getEntityId());
+            }
+            return snapshot;
+        }).watchTermination((notUsed, done) -> {
+            done.thenAccept(d -> logProgress("Finished", partition, count.get(), startNanos, null));
+            return notUsed;
+        });
+    }
+
+    private void logProgress(final String state, final String partition, final long count, final long startNanos,
+            @Nullable final EntityId lastEntityId) {
+
+        final double seconds = Math.max(1L, System.nanoTime() - startNanos) / 1e9;
+        log.info("{} snapshots up to <{}>: <{}> snapshots in <{}>s (<{}>/s), last entity <{}>", state, partition,
+                count, Math.round(seconds), Math.round(count / seconds), lastEntityId);
     }
 
     private StreamedSnapshot mapSnapshot(final Document snapshot) {
@@ -34,10 +34,18 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
 
     private final Duration interval;
     private final long threshold;
+    private final Duration recoveryBudget;
+    private final Duration replayCostPerEvent;
+    private final Duration replayCostPerKib;
+    private final SnapshotEncodingConfig encodingConfig;
 
     private DefaultSnapshotConfig(final ScopedConfig config) {
         interval = config.getDuration(SnapshotConfigValue.INTERVAL.getConfigPath());
         threshold = getThreshold(config);
+        recoveryBudget = getNonNegativeDuration(config, SnapshotConfigValue.RECOVERY_BUDGET);
+        replayCostPerEvent = getNonNegativeDuration(config, SnapshotConfigValue.REPLAY_COST_PER_EVENT);
+        replayCostPerKib = getNonNegativeDuration(config, SnapshotConfigValue.REPLAY_COST_PER_KIB);
+        encodingConfig = DefaultSnapshotEncodingConfig.of(config);
     }
 
     private static long getThreshold(final ScopedConfig config) {
@@ -49,6 +57,15 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
         return result;
     }
 
+    private static Duration getNonNegativeDuration(final ScopedConfig config, final SnapshotConfigValue configValue) {
+        final Duration result = config.getDuration(configValue.getConfigPath());
+        if (result.isNegative()) {
+            final String msgPattern = "The snapshot config value <{0}> must not be negative but it was <{1}>!";
+            throw new DittoConfigError(MessageFormat.format(msgPattern, configValue.getConfigPath(), result));
+        }
+        return result;
+    }
+
     /**
      * Returns an instance of the default snapshot config based on the settings of the specified Config.
      *
@@ -71,6 +88,26 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
         return threshold;
     }
 
+    @Override
+    public Duration getRecoveryBudget() {
+        return recoveryBudget;
+    }
+
+    @Override
+    public Duration getReplayCostPerEvent() {
+        return replayCostPerEvent;
+    }
+
+    @Override
+    public Duration getReplayCostPerKib() {
+        return replayCostPerKib;
+    }
+
+    @Override
+    public SnapshotEncodingConfig getEncodingConfig() {
+        return encodingConfig;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -80,12 +117,18 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
             return false;
         }
         final DefaultSnapshotConfig that = (DefaultSnapshotConfig) o;
-        return threshold == that.threshold && Objects.equals(interval, that.interval);
+        return threshold == that.threshold &&
+                Objects.equals(interval, that.interval) &&
+                Objects.equals(recoveryBudget, that.recoveryBudget) &&
+                Objects.equals(replayCostPerEvent, that.replayCostPerEvent) &&
+                Objects.equals(replayCostPerKib, that.replayCostPerKib) &&
+                Objects.equals(encodingConfig, that.encodingConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(interval, threshold);
+        return Objects.hash(interval, threshold, recoveryBudget, replayCostPerEvent, replayCostPerKib,
+                encodingConfig);
     }
 
     @Override
@@ -93,6 +136,10 @@ public final class DefaultSnapshotConfig implements SnapshotConfig {
         return getClass().getSimpleName() + " [" +
                 "interval=" + interval +
                 ", threshold=" + threshold +
+                ", recoveryBudget=" + recoveryBudget +
+                ", replayCostPerEvent=" + replayCostPerEvent +
+                ", replayCostPerKib=" + replayCostPerKib +
+                ", encodingConfig=" + encodingConfig +
                 "]";
     }
 
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import java.text.MessageFormat;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.DittoConfigError;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class implements the config for the encoding of snapshots written to the snapshot store.
+ */
+@Immutable
+public final class DefaultSnapshotEncodingConfig implements SnapshotEncodingConfig {
+
+    private static final String CONFIG_PATH = "encoding";
+
+    private final boolean binary;
+    private final boolean compressionEnabled;
+    private final long compressionThreshold;
+
+    private DefaultSnapshotEncodingConfig(final ScopedConfig config) {
+        binary = config.getBoolean(SnapshotEncodingConfigValue.BINARY.getConfigPath());
+        compressionEnabled = config.getBoolean(SnapshotEncodingConfigValue.COMPRESSION_ENABLED.getConfigPath());
+        compressionThreshold = getCompressionThreshold(config);
+    }
+
+    private static long getCompressionThreshold(final ScopedConfig config) {
+        final long result = config.getBytes(SnapshotEncodingConfigValue.COMPRESSION_THRESHOLD.getConfigPath());
+        if (0 > result) {
+            final String msgPattern = "The snapshot compression threshold must not be negative but it was <{0}>!";
+            throw new DittoConfigError(MessageFormat.format(msgPattern, result));
+        }
+        return result;
+    }
+
+    /**
+     * Returns an instance of the default snapshot encoding config based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the snapshot encoding config at {@value #CONFIG_PATH}.
+     * @return instance
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultSnapshotEncodingConfig of(final Config config) {
+        return new DefaultSnapshotEncodingConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, SnapshotEncodingConfigValue.values()));
+    }
+
+    @Override
+    public boolean isBinary() {
+        return binary;
+    }
+
+    @Override
+    public boolean isCompressionEnabled() {
+        return compressionEnabled;
+    }
+
+    @Override
+    public long getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultSnapshotEncodingConfig that = (DefaultSnapshotEncodingConfig) o;
+        return binary == that.binary &&
+                compressionEnabled == that.compressionEnabled &&
+                compressionThreshold == that.compressionThreshold;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(binary, compressionEnabled, compressionThreshold);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "binary=" + binary +
+                ", compressionEnabled=" + compressionEnabled +
+                ", compressionThreshold=" + compressionThreshold +
+                "]";
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import java.text.MessageFormat;
+import java.time.Duration;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.DittoConfigError;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class implements the config for the node-local cache of the states of passivated entities.
+ */
+@Immutable
+public final class DefaultWarmStateCacheConfig implements WarmStateCacheConfig {
+
+    private static final String CONFIG_PATH = "warm-state-cache";
+
+    private final long maximumWeight;
+    private final Duration expireAfterWrite;
+
+    private DefaultWarmStateCacheConfig(final ScopedConfig config) {
+        maximumWeight = getMaximumWeight(config);
+        expireAfterWrite = config.getDuration(WarmStateCacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath());
+    }
+
+    private static long getMaximumWeight(final ScopedConfig config) {
+        final long result = config.getBytes(WarmStateCacheConfigValue.MAXIMUM_WEIGHT.getConfigPath());
+        if (0 > result) {
+            final String msgPattern = "The maximum weight of the warm state cache must not be negative but it was <{0}>!";
+            throw new DittoConfigError(MessageFormat.format(msgPattern, result));
+        }
+        return result;
+    }
+
+    /**
+     * Returns an instance of the default warm state cache config based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the warm state cache config at {@value #CONFIG_PATH}.
+     * @return instance
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultWarmStateCacheConfig of(final Config config) {
+        return new DefaultWarmStateCacheConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, WarmStateCacheConfigValue.values()));
+    }
+
+    @Override
+    public long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    @Override
+    public Duration getExpireAfterWrite() {
+        return expireAfterWrite;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultWarmStateCacheConfig that = (DefaultWarmStateCacheConfig) o;
+        return maximumWeight == that.maximumWeight && Objects.equals(expireAfterWrite, that.expireAfterWrite);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maximumWeight, expireAfterWrite);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "maximumWeight=" + maximumWeight +
+                ", expireAfterWrite=" + expireAfterWrite +
+                "]";
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import java.text.MessageFormat;
+import java.util.Objects;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.services.utils.config.DittoConfigError;
+import org.eclipse.ditto.services.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class implements the config for batching the writes of an entity.
+ */
+@Immutable
+public final class DefaultWriteBatchConfig implements WriteBatchConfig {
+
+    private static final String CONFIG_PATH = "write-batch";
+
+    private final boolean enabled;
+    private final int maxBatchSize;
+
+    private DefaultWriteBatchConfig(final ScopedConfig config) {
+        enabled = config.getBoolean(WriteBatchConfigValue.ENABLED.getConfigPath());
+        maxBatchSize = getMaxBatchSize(config);
+    }
+
+    private static int getMaxBatchSize(final ScopedConfig config) {
+        final int result = config.getInt(WriteBatchConfigValue.MAX_BATCH_SIZE.getConfigPath());
+        if (1 > result) {
+            final String msgPattern = "The maximum write batch size must be positive but it was <{0}>!";
+            throw new DittoConfigError(MessageFormat.format(msgPattern, result));
+        }
+        return result;
+    }
+
+    /**
+     * Returns an instance of the default write batch config based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the write batch config at {@value #CONFIG_PATH}.
+     * @return instance
+     * @throws org.eclipse.ditto.services.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultWriteBatchConfig of(final Config config) {
+        return new DefaultWriteBatchConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, WriteBatchConfigValue.values()));
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final DefaultWriteBatchConfig that = (DefaultWriteBatchConfig) o;
+        return enabled == that.enabled && maxBatchSize == that.maxBatchSize;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, maxBatchSize);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", maxBatchSize=" + maxBatchSize +
+                "]";
+    }
+
+}
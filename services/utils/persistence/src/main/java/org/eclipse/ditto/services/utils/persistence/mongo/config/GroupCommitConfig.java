@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for coalescing the journal writes of all persistence actors of a node into bulk
+ * writes.
+ */
+@Immutable
+public interface GroupCommitConfig {
+
+    /**
+     * Indicates whether journal writes are coalesced into bulk writes.
+     *
+     * @return whether group commit is enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns how long to wait for further journal writes before a bulk is written.
+     *
+     * @return the window.
+     */
+    Duration getWindow();
+
+    /**
+     * Returns the maximum number of atomic writes in one bulk.
+     *
+     * @return the maximum bulk size.
+     */
+    int getMaxBulkSize();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code GroupCommitConfig}.
+     */
+    enum GroupCommitConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether journal writes are coalesced into bulk writes.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * How long to wait for further journal writes before a bulk is written.
+         */
+        WINDOW("window", Duration.ofMillis(5L)),
+
+        /**
+         * The maximum number of atomic writes in one bulk.
+         */
+        MAX_BULK_SIZE("max-bulk-size", 500);
+
+        private final String path;
+        private final Object defaultValue;
+
+        GroupCommitConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -38,6 +38,36 @@ public interface SnapshotConfig {
      */
     long getThreshold();
 
+    /**
+     * Returns the budget of the estimated duration to recover an entity from its latest snapshot and the events after
+     * it. If positive, a snapshot is taken as soon as the estimated recovery duration of an entity exceeds the budget,
+     * and the interval and the threshold do not apply to active entities.
+     *
+     * @return the recovery budget, or zero if snapshots are taken by interval and threshold.
+     */
+    Duration getRecoveryBudget();
+
+    /**
+     * Returns the estimated duration to replay one event during recovery regardless of its size.
+     *
+     * @return the replay cost per event.
+     */
+    Duration getReplayCostPerEvent();
+
+    /**
+     * Returns the estimated duration to replay one kibibyte of serialized events during recovery.
+     *
+     * @return the replay cost per kibibyte.
+     */
+    Duration getReplayCostPerKib();
+
+    /**
+     * Returns the config of the encoding of written snapshots.
+     *
+     * @return the snapshot encoding config.
+     */
+    SnapshotEncodingConfig getEncodingConfig();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code SnapshotConfig}.
@@ -52,7 +82,22 @@ public interface SnapshotConfig {
         /**
          * The threshold after how many changes to an entity to do a snapshot.
          */
-        THRESHOLD("threshold", 500L);
+        THRESHOLD("threshold", 500L),
+
+        /**
+         * The budget of the estimated recovery duration of an entity; zero to snapshot by interval and threshold.
+         */
+        RECOVERY_BUDGET("recovery-budget", Duration.ZERO),
+
+        /**
+         * The estimated duration to replay one event regardless of its size.
+         */
+        REPLAY_COST_PER_EVENT("replay-cost-per-event", Duration.ofNanos(100_000L)),
+
+        /**
+         * The estimated duration to replay one kibibyte of serialized events.
+         */
+        REPLAY_COST_PER_KIB("replay-cost-per-kib", Duration.ofNanos(20_000L));
 
         private final String path;
         private final Object defaultValue;
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for the encoding of snapshots written to the snapshot store.
+ */
+@Immutable
+public interface SnapshotEncodingConfig {
+
+    /**
+     * Indicates whether snapshots are written as CBOR blobs instead of BSON documents.
+     * Snapshots of both encodings are read regardless of this setting.
+     *
+     * @return {@code true} if snapshots are written in the binary encoding.
+     */
+    boolean isBinary();
+
+    /**
+     * Indicates whether binary snapshots are compressed.
+     *
+     * @return {@code true} if binary snapshots reaching the compression threshold are compressed.
+     */
+    boolean isCompressionEnabled();
+
+    /**
+     * Returns the minimum size of a binary snapshot in bytes for it to be compressed.
+     *
+     * @return the compression threshold.
+     */
+    long getCompressionThreshold();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code SnapshotEncodingConfig}.
+     */
+    enum SnapshotEncodingConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether snapshots are written as CBOR blobs instead of BSON documents.
+         */
+        BINARY("binary", false),
+
+        /**
+         * Whether binary snapshots are compressed.
+         */
+        COMPRESSION_ENABLED("compression-enabled", true),
+
+        /**
+         * The minimum size of a binary snapshot in bytes for it to be compressed.
+         */
+        COMPRESSION_THRESHOLD("compression-threshold", 4096L);
+
+        private final String path;
+        private final Object defaultValue;
+
+        SnapshotEncodingConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import java.time.Duration;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for the node-local cache of the states of passivated entities.
+ */
+@Immutable
+public interface WarmStateCacheConfig {
+
+    /**
+     * Returns the maximum estimated memory of all cached states in bytes.
+     *
+     * @return the maximum weight, or zero if the cache is disabled.
+     */
+    long getMaximumWeight();
+
+    /**
+     * Returns how long the state of a passivated entity is kept at most.
+     *
+     * @return the duration after which cached states expire.
+     */
+    Duration getExpireAfterWrite();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code WarmStateCacheConfig}.
+     */
+    enum WarmStateCacheConfigValue implements KnownConfigValue {
+
+        /**
+         * The maximum estimated memory of all cached states in bytes; zero disables the cache.
+         */
+        MAXIMUM_WEIGHT("maximum-weight", 0L),
+
+        /**
+         * How long the state of a passivated entity is kept at most.
+         */
+        EXPIRE_AFTER_WRITE("expire-after-write", Duration.ofHours(1L));
+
+        private final String path;
+        private final Object defaultValue;
+
+        WarmStateCacheConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.services.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for batching the writes of an entity.
+ */
+@Immutable
+public interface WriteBatchConfig {
+
+    /**
+     * Indicates whether the commands received while a write of an entity is in flight are validated against the
+     * speculative state of the entity and their events are written in one batch.
+     *
+     * @return whether write batching is enabled.
+     */
+    boolean isEnabled();
+
+    /**
+     * Returns the maximum number of events written in one batch.
+     *
+     * @return the maximum batch size.
+     */
+    int getMaxBatchSize();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code WriteBatchConfig}.
+     */
+    enum WriteBatchConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether write batching is enabled.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * The maximum number of events written in one batch.
+         */
+        MAX_BATCH_SIZE("max-batch-size", 100);
+
+        private final String path;
+        private final Object defaultValue;
+
+        WriteBatchConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.journal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.services.utils.akka.logging.DittoDiagnosticLoggingAdapter;
+import org.eclipse.ditto.services.utils.akka.logging.DittoLoggerFactory;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultGroupCommitConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.GroupCommitConfig;
+
+import com.typesafe.config.Config;
+
+import akka.actor.ActorRef;
+import akka.contrib.persistence.mongodb.MongoJournal;
+import akka.dispatch.Futures;
+import akka.japi.pf.ReceiveBuilder;
+import akka.persistence.AtomicWrite;
+import scala.PartialFunction;
+import scala.collection.JavaConverters;
+import scala.collection.immutable.Seq;
+import scala.compat.java8.FutureConverters;
+import scala.concurrent.Future;
+import scala.concurrent.Promise;
+import scala.concurrent.duration.FiniteDuration;
+import scala.runtime.BoxedUnit;
+import scala.util.Try;
+
+/**
+ * Journal plugin which wraps the MongoDB journal and coalesces the writes of all persistence actors of a node into
+ * bulk writes ("group commit").
+ * <p>
+ * Writes arriving within the configured window, or while the previous bulk is in flight, are passed to the wrapped
+ * journal in one call, which inserts them with one {@code insertMany} per journal collection. At most one bulk is in
+ * flight at any time and writes are never reordered, hence the events of each persistence ID are written in order.
+ * If a bulk fails as a whole, the writes of each persistence actor are retried on their own one after another, so that
+ * a failing write fails only the persistence actor which requested it.
+ * </p>
+ * <p>
+ * Group commit is configured at {@code group-commit} of the plugin config; if it is disabled, all writes are passed
+ * through to the wrapped journal immediately.
+ * </p>
+ */
+public final class GroupCommitMongoJournal extends MongoJournal {
+
+    private final DittoDiagnosticLoggingAdapter log;
+    private final GroupCommitConfig groupCommitConfig;
+    private final Histogram bulkSizes;
+    private final Counter isolatedWrites;
+    private final Deque<PendingWrite> pendingWrites;
+    private int pendingAtomicWrites;
+    private boolean flushScheduled;
+    private boolean bulkInFlight;
+
+    /**
+     * Constructs the journal plugin; called by Akka persistence.
+     *
+     * @param config the plugin config.
+     * @param configPath the path of the plugin config, i.e., the plugin ID.
+     */
+    public GroupCommitMongoJournal(final Config config, final String configPath) {
+        super(config);
+        log = DittoLoggerFactory.getDiagnosticLoggingAdapter(this);
+        groupCommitConfig = DefaultGroupCommitConfig.of(config);
+        bulkSizes = DittoMetrics.histogram("journal_group_commit_size").tag("plugin", configPath);
+        isolatedWrites = DittoMetrics.counter("journal_group_commit_isolated_writes").tag("plugin", configPath);
+        pendingWrites = new ArrayDeque<>();
+        pendingAtomicWrites = 0;
+        flushScheduled = false;
+        bulkInFlight = false;
+    }
+
+    @Override
+    public Future<Seq<Try<BoxedUnit>>> asyncWriteMessages(final Seq<AtomicWrite> messages) {
+        if (!groupCommitConfig.isEnabled()) {
+            return super.asyncWriteMessages(messages);
+        }
+        final PendingWrite pendingWrite = new PendingWrite(JavaConverters.seqAsJavaList(messages));
+        pendingWrites.add(pendingWrite);
+        pendingAtomicWrites += pendingWrite.atomicWrites.size();
+        if (!bulkInFlight) {
+            if (pendingAtomicWrites >= groupCommitConfig.getMaxBulkSize()) {
+                writeBulk();
+            } else if (!flushScheduled) {
+                scheduleFlush();
+            }
+        }
+        return pendingWrite.promise.future();
+    }
+
+    @Override
+    public PartialFunction<Object, BoxedUnit> receivePluginInternal() {
+        return ReceiveBuilder.create()
+                .matchEquals(Control.FLUSH, this::flush)
+                .match(BulkWritten.class, this::bulkWritten)
+                .match(IsolatedWriteCompleted.class, completed -> writeIsolated(completed.remaining))
+                .build()
+                .onMessage()
+                .orElse(super.receivePluginInternal());
+    }
+
+    private void scheduleFlush() {
+        flushScheduled = true;
+        final FiniteDuration window =
+                FiniteDuration.create(groupCommitConfig.getWindow().toNanos(), TimeUnit.NANOSECONDS);
+        context().system().scheduler()
+                .scheduleOnce(window, self(), Control.FLUSH, context().dispatcher(), ActorRef.noSender());
+    }
+
+    private void flush(final Control flush) {
+        flushScheduled = false;
+        if (!bulkInFlight) {
+            writeBulk();
+        }
+    }
+
+    private void writeBulk() {
+        final int maxBulkSize = groupCommitConfig.getMaxBulkSize();
+        final List<PendingWrite> bulk = new ArrayList<>();
+        final List<AtomicWrite> atomicWrites = new ArrayList<>();
+        // never split the writes of one persistence actor; a single large write may exceed the maximum bulk size
+        while (!pendingWrites.isEmpty() &&
+                (bulk.isEmpty() || atomicWrites.size() + pendingWrites.peek().atomicWrites.size() <= maxBulkSize)) {
+            final PendingWrite pendingWrite = pendingWrites.poll();
+            bulk.add(pendingWrite);
+            atomicWrites.addAll(pendingWrite.atomicWrites);
+        }
+        if (!bulk.isEmpty()) {
+            pendingAtomicWrites -= atomicWrites.size();
+            bulkInFlight = true;
+            bulkSizes.record((long) atomicWrites.size());
+            final ActorRef self = self();
+            FutureConverters.toJava(super.asyncWriteMessages(toScalaSeq(atomicWrites)))
+                    .whenComplete((results, error) -> self.tell(new BulkWritten(bulk, results, error),
+                            ActorRef.noSender()));
+        }
+    }
+
+    private void bulkWritten(final BulkWritten bulkWritten) {
+        if (null != bulkWritten.error) {
+            log.warning("Writing bulk of <{}> persistence actors failed, retrying them one by one: {}",
+                    bulkWritten.bulk.size(), bulkWritten.error.toString());
+            writeIsolated(new ArrayDeque<>(bulkWritten.bulk));
+        } else {
+            final List<Try<BoxedUnit>> results = JavaConverters.seqAsJavaList(bulkWritten.results);
+            int offset = 0;
+            for (final PendingWrite pendingWrite : bulkWritten.bulk) {
+                final int size = pendingWrite.atomicWrites.size();
+                // an empty result means that all writes succeeded
+                final List<Try<BoxedUnit>> resultsOfPendingWrite =
+                        results.isEmpty() ? results : results.subList(offset, offset + size);
+                pendingWrite.promise.success(toScalaSeq(resultsOfPendingWrite));
+                offset += size;
+            }
+            bulkCompleted();
+        }
+    }
+
+    private void writeIsolated(final Deque<PendingWrite> remaining) {
+        final PendingWrite pendingWrite = remaining.poll();
+        if (null != pendingWrite) {
+            isolatedWrites.increment();
+            final Future<Seq<Try<BoxedUnit>>> result =
+                    super.asyncWriteMessages(toScalaSeq(pendingWrite.atomicWrites));
+            pendingWrite.promise.completeWith(result);
+            final ActorRef self = self();
+            FutureConverters.toJava(result)
+                    .whenComplete((results, error) -> self.tell(new IsolatedWriteCompleted(remaining),
+                            ActorRef.noSender()));
+        } else {
+            bulkCompleted();
+        }
+    }
+
+    private void bulkCompleted() {
+        bulkInFlight = false;
+        // writes which arrived while the bulk was in flight waited long enough already
+        if (!pendingWrites.isEmpty()) {
+            writeBulk();
+        }
+    }
+
+    private static <T> Seq<T> toScalaSeq(final List<T> list) {
+        return JavaConverters.asScalaBuffer(list).toList();
+    }
+
+    private enum Control {
+        FLUSH
+    }
+
+    /**
+     * The atomic writes of one persistence actor with the promise of their results.
+     */
+    private static final class PendingWrite {
+
+        private final List<AtomicWrite> atomicWrites;
+        private final Promise<Seq<Try<BoxedUnit>>> promise;
+
+        private PendingWrite(final List<AtomicWrite> atomicWrites) {
+            this.atomicWrites = atomicWrites;
+            promise = Futures.promise();
+        }
+    }
+
+    private static final class BulkWritten {
+
+        private final List<PendingWrite> bulk;
+        @Nullable
+        private final Seq<Try<BoxedUnit>> results;
+        @Nullable
+        private final Throwable error;
+
+        private BulkWritten(final List<PendingWrite> bulk, @Nullable final Seq<Try<BoxedUnit>> results,
+                @Nullable final Throwable error) {
+            this.bulk = bulk;
+            this.results = results;
+            this.error = error;
+        }
+    }
+
+    private static final class IsolatedWriteCompleted {
+
+        private final Deque<PendingWrite> remaining;
+
+        private IsolatedWriteCompleted(final Deque<PendingWrite> remaining) {
+            this.remaining = remaining;
+        }
+    }
+
+}
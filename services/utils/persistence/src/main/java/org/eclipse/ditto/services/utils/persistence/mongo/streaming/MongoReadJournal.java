@@ -208,10 +208,31 @@ public class MongoReadJournal {
             final ActorMaterializer mat,
             final String... snapshotFields) {
 
+        return getNewestSnapshotsInRange(lowerBoundPid, "", batchSize, mat, snapshotFields);
+    }
+
+    /**
+     * Retrieve all latest snapshots with unique PIDs in snapshot store above a lower bound and up to an upper bound.
+     * Snapshots of consecutive ranges can be retrieved in parallel as the ranges are disjoint.
+     * Does not limit database access in any way.
+     *
+     * @param lowerBoundPid the exclusive lower-bound PID, or the empty string for no lower bound.
+     * @param upperBoundPid the inclusive upper-bound PID, or the empty string for no upper bound.
+     * @param batchSize how many snapshots to read in 1 query.
+     * @param mat the materializer.
+     * @param snapshotFields snapshot fields to project out.
+     * @return source of newest snapshots with unique PIDs.
+     */
+    public Source<Document, NotUsed> getNewestSnapshotsInRange(final String lowerBoundPid,
+            final String upperBoundPid,
+            final int batchSize,
+            final ActorMaterializer mat,
+            final String... snapshotFields) {
+
         return getSnapshotStore()
                 .withAttributes(Attributes.inputBuffer(1, 1))
                 .flatMapConcat(snapshotStore ->
-                        listNewestSnapshots(snapshotStore, lowerBoundPid, batchSize, mat,
+                        listNewestSnapshots(snapshotStore, lowerBoundPid, upperBoundPid, batchSize, mat,
                                 snapshotFields)
                 )
                 .mapConcat(pids -> pids);
@@ -228,6 +249,7 @@ public class MongoReadJournal {
 
     private Source<List<Document>, NotUsed> listNewestSnapshots(final MongoCollection<Document> snapshotStore,
             final String lowerBound,
+            final String upperBound,
             final int batchSize,
             final ActorMaterializer mat,
             final String... snapshotFields) {
@@ -235,7 +257,8 @@ public class MongoReadJournal {
         return this.unfoldBatchedSource(lowerBound,
                 mat,
                 SnapshotBatch::getMaxPid,
-                actualStart -> listNewestActiveSnapshotsByBatch(snapshotStore, actualStart, batchSize, snapshotFields))
+                actualStart -> listNewestActiveSnapshotsByBatch(snapshotStore, actualStart, upperBound, batchSize,
+                        snapshotFields))
                 .mapConcat(x -> x)
                 .map(SnapshotBatch::getItems);
     }
@@ -306,13 +329,19 @@ public class MongoReadJournal {
     private Source<SnapshotBatch, NotUsed> listNewestActiveSnapshotsByBatch(
             final MongoCollection<Document> snapshotStore,
             final String start,
+            final String end,
             final int batchSize,
             final String... snapshotFields) {
 
         final List<Bson> pipeline = new ArrayList<>(5);
         // optional match stage
-        if (!start.isEmpty()) {
+        if (!start.isEmpty() && !end.isEmpty()) {
+            pipeline.add(Aggregates.match(
+                    Filters.and(Filters.gt(PROCESSOR_ID, start), Filters.lte(PROCESSOR_ID, end))));
+        } else if (!start.isEmpty()) {
             pipeline.add(Aggregates.match(Filters.gt(PROCESSOR_ID, start)));
+        } else if (!end.isEmpty()) {
+            pipeline.add(Aggregates.match(Filters.lte(PROCESSOR_ID, end)));
         }
 
         // sort stage
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultSnapshotEncodingConfig;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests {@link BinarySnapshotEncoding}.
+ */
+public final class BinarySnapshotEncodingTest {
+
+    private static final JsonObject SNAPSHOT_JSON = JsonObject.newBuilder()
+            .set("thingId", "org.eclipse.ditto:thing")
+            .set("policyId", "org.eclipse.ditto:policy")
+            .set("_revision", 42L)
+            .set("__lifecycle", "ACTIVE")
+            .set("attributes", JsonObject.newBuilder()
+                    .set("$key.with.reserved.characters", "value")
+                    .set("nested", JsonObject.newBuilder().set("a", 1).build())
+                    .build())
+            .build();
+
+    @Test
+    public void encodeKeepsScalarTopLevelFieldsAndOmitsNestedObjects() {
+        final BsonDocument snapshot = underTest(false).encode(SNAPSHOT_JSON);
+
+        assertThat(snapshot.get("thingId")).isEqualTo(new BsonString("org.eclipse.ditto:thing"));
+        assertThat(snapshot.getNumber("_revision").longValue()).isEqualTo(42L);
+        assertThat(snapshot.get("__lifecycle")).isEqualTo(new BsonString("ACTIVE"));
+        assertThat(snapshot.containsKey("attributes")).isFalse();
+        assertThat(BinarySnapshotEncoding.isBinary(snapshot)).isTrue();
+    }
+
+    @Test
+    public void uncompressedRoundTrip() {
+        final BsonDocument snapshot = underTest(false).encode(SNAPSHOT_JSON);
+
+        assertThat(BinarySnapshotEncoding.decode(snapshot)).isEqualTo(SNAPSHOT_JSON);
+    }
+
+    @Test
+    public void compressedRoundTrip() {
+        final JsonObject largeJson = SNAPSHOT_JSON.setValue("description", "x".repeat(10_000));
+        final BsonDocument uncompressed = underTest(false).encode(largeJson);
+        final BsonDocument compressed = underTest(true).encode(largeJson);
+
+        assertThat(compressed.getBinary(BinarySnapshotEncoding.BINARY_FIELD).getData().length)
+                .isLessThan(uncompressed.getBinary(BinarySnapshotEncoding.BINARY_FIELD).getData().length);
+        assertThat(BinarySnapshotEncoding.decode(compressed)).isEqualTo(largeJson);
+    }
+
+    @Test
+    public void bsonSnapshotIsNotBinary() {
+        final BsonDocument snapshot = DittoBsonJson.getInstance().parse(SNAPSHOT_JSON);
+
+        assertThat(BinarySnapshotEncoding.isBinary(snapshot)).isFalse();
+    }
+
+    private static BinarySnapshotEncoding underTest(final boolean compressionEnabled) {
+        return BinarySnapshotEncoding.of(DefaultSnapshotEncodingConfig.of(ConfigFactory.parseString(
+                "encoding { binary = true, compression-enabled = " + compressionEnabled +
+                        ", compression-threshold = 0 }")));
+    }
+
+}
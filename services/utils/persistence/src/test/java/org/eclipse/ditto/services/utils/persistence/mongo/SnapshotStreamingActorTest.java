@@ -15,6 +15,7 @@ package org.eclipse.ditto.services.utils.persistence.mongo;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 
 import java.util.List;
 
@@ -131,8 +132,37 @@ public final class SnapshotStreamingActorTest {
 
     }
 
+    @Test
+    public void streamPartitionOfSnapshotCollection() {
+        new TestKit(actorSystem) {{
+            final ActorRef underTest = createSnapshotStreamingActor();
+
+            // WHEN
+            final SudoStreamSnapshots sudoStreamSnapshots =
+                    SudoStreamSnapshots.of(100, 10_000L, List.of(), DittoHeaders.empty())
+                            .withLowerBound(DefaultEntityId.of("snap:1"))
+                            .withUpperBound(DefaultEntityId.of("snap:3"));
+            setSnapshotStore(Source.single(new Document().append("_id", "thing:snap:2").append("_revision", 2)));
+            underTest.tell(sudoStreamSnapshots, getRef());
+
+            // THEN
+            final SourceRef<?> sourceRef = expectMsgClass(SourceRef.class);
+            final List<Object> results = sourceRef.getSource()
+                    .<Object>map(x -> x)
+                    .runWith(Sink.seq(), materializer)
+                    .toCompletableFuture()
+                    .join();
+
+            assertThat(results).containsExactly(
+                    StreamedSnapshot.of(DefaultEntityId.of("snap:2"), JsonObject.of("{\"_revision\":2}")));
+            Mockito.verify(mockReadJournal)
+                    .getNewestSnapshotsInRange(eq("thing:snap:1"), eq("thing:snap:3"), eq(100), any(), any());
+        }};
+    }
+
     private void setSnapshotStore(final Source<Document, NotUsed> mockSource) {
-        Mockito.when(mockReadJournal.getNewestSnapshotsAbove(any(), anyInt(), any(), any())).thenReturn(mockSource);
+        Mockito.when(mockReadJournal.getNewestSnapshotsInRange(any(), any(), anyInt(), any(), any()))
+                .thenReturn(mockSource);
     }
 
     private ActorRef createSnapshotStreamingActor() {
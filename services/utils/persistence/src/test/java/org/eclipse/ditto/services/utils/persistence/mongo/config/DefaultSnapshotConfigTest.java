@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.services.utils.persistence.mongo.config;
 
+import static org.mutabilitydetector.unittesting.AllowedReason.provided;
 import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
 import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
 
@@ -45,7 +46,8 @@ public final class DefaultSnapshotConfigTest {
     @Test
     public void assertImmutability() {
         assertInstancesOf(DefaultSnapshotConfig.class,
-                areImmutable());
+                areImmutable(),
+                provided(SnapshotEncodingConfig.class).isAlsoImmutable());
     }
 
     @Test
@@ -65,6 +67,18 @@ public final class DefaultSnapshotConfigTest {
         softly.assertThat(underTest.getThreshold())
                 .as(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getConfigPath())
                 .isEqualTo(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getDefaultValue());
+        softly.assertThat(underTest.getRecoveryBudget())
+                .as(SnapshotConfig.SnapshotConfigValue.RECOVERY_BUDGET.getConfigPath())
+                .isEqualTo(SnapshotConfig.SnapshotConfigValue.RECOVERY_BUDGET.getDefaultValue());
+        softly.assertThat(underTest.getReplayCostPerEvent())
+                .as(SnapshotConfig.SnapshotConfigValue.REPLAY_COST_PER_EVENT.getConfigPath())
+                .isEqualTo(SnapshotConfig.SnapshotConfigValue.REPLAY_COST_PER_EVENT.getDefaultValue());
+        softly.assertThat(underTest.getReplayCostPerKib())
+                .as(SnapshotConfig.SnapshotConfigValue.REPLAY_COST_PER_KIB.getConfigPath())
+                .isEqualTo(SnapshotConfig.SnapshotConfigValue.REPLAY_COST_PER_KIB.getDefaultValue());
+        softly.assertThat(underTest.getEncodingConfig())
+                .as("encoding")
+                .isEqualTo(DefaultSnapshotEncodingConfig.of(ConfigFactory.empty()));
     }
 
     @Test
@@ -77,5 +91,17 @@ public final class DefaultSnapshotConfigTest {
         softly.assertThat(underTest.getThreshold())
                 .as(SnapshotConfig.SnapshotConfigValue.THRESHOLD.getConfigPath())
                 .isEqualTo(2);
+        softly.assertThat(underTest.getRecoveryBudget())
+                .as(SnapshotConfig.SnapshotConfigValue.RECOVERY_BUDGET.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(1L));
+        softly.assertThat(underTest.getReplayCostPerEvent())
+                .as(SnapshotConfig.SnapshotConfigValue.REPLAY_COST_PER_EVENT.getConfigPath())
+                .isEqualTo(Duration.ofMillis(1L));
+        softly.assertThat(underTest.getReplayCostPerKib())
+                .as(SnapshotConfig.SnapshotConfigValue.REPLAY_COST_PER_KIB.getConfigPath())
+                .isEqualTo(Duration.ofMillis(2L));
+        softly.assertThat(underTest.getEncodingConfig().isBinary())
+                .as(SnapshotEncodingConfig.SnapshotEncodingConfigValue.BINARY.getConfigPath())
+                .isTrue();
     }
 }
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultSnapshotEncodingConfig}.
+ */
+public final class DefaultSnapshotEncodingConfigTest {
+
+    private static Config snapshotEncodingTestConf;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        snapshotEncodingTestConf = ConfigFactory.load("snapshot-encoding-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultSnapshotEncodingConfig.class,
+                areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultSnapshotEncodingConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final DefaultSnapshotEncodingConfig underTest = DefaultSnapshotEncodingConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isBinary())
+                .as(SnapshotEncodingConfig.SnapshotEncodingConfigValue.BINARY.getConfigPath())
+                .isEqualTo(SnapshotEncodingConfig.SnapshotEncodingConfigValue.BINARY.getDefaultValue());
+        softly.assertThat(underTest.isCompressionEnabled())
+                .as(SnapshotEncodingConfig.SnapshotEncodingConfigValue.COMPRESSION_ENABLED.getConfigPath())
+                .isEqualTo(SnapshotEncodingConfig.SnapshotEncodingConfigValue.COMPRESSION_ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getCompressionThreshold())
+                .as(SnapshotEncodingConfig.SnapshotEncodingConfigValue.COMPRESSION_THRESHOLD.getConfigPath())
+                .isEqualTo(SnapshotEncodingConfig.SnapshotEncodingConfigValue.COMPRESSION_THRESHOLD.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final DefaultSnapshotEncodingConfig underTest = DefaultSnapshotEncodingConfig.of(snapshotEncodingTestConf);
+
+        softly.assertThat(underTest.isBinary())
+                .as(SnapshotEncodingConfig.SnapshotEncodingConfigValue.BINARY.getConfigPath())
+                .isTrue();
+        softly.assertThat(underTest.isCompressionEnabled())
+                .as(SnapshotEncodingConfig.SnapshotEncodingConfigValue.COMPRESSION_ENABLED.getConfigPath())
+                .isFalse();
+        softly.assertThat(underTest.getCompressionThreshold())
+                .as(SnapshotEncodingConfig.SnapshotEncodingConfigValue.COMPRESSION_THRESHOLD.getConfigPath())
+                .isEqualTo(64L * 1024L);
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import java.time.Duration;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultWarmStateCacheConfig}.
+ */
+public final class DefaultWarmStateCacheConfigTest {
+
+    private static Config warmStateCacheTestConf;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        warmStateCacheTestConf = ConfigFactory.load("warm-state-cache-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultWarmStateCacheConfig.class,
+                areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultWarmStateCacheConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final DefaultWarmStateCacheConfig underTest = DefaultWarmStateCacheConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.getMaximumWeight())
+                .as(WarmStateCacheConfig.WarmStateCacheConfigValue.MAXIMUM_WEIGHT.getConfigPath())
+                .isEqualTo(WarmStateCacheConfig.WarmStateCacheConfigValue.MAXIMUM_WEIGHT.getDefaultValue());
+        softly.assertThat(underTest.getExpireAfterWrite())
+                .as(WarmStateCacheConfig.WarmStateCacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath())
+                .isEqualTo(WarmStateCacheConfig.WarmStateCacheConfigValue.EXPIRE_AFTER_WRITE.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final DefaultWarmStateCacheConfig underTest = DefaultWarmStateCacheConfig.of(warmStateCacheTestConf);
+
+        softly.assertThat(underTest.getMaximumWeight())
+                .as(WarmStateCacheConfig.WarmStateCacheConfigValue.MAXIMUM_WEIGHT.getConfigPath())
+                .isEqualTo(16L * 1024L * 1024L);
+        softly.assertThat(underTest.getExpireAfterWrite())
+                .as(WarmStateCacheConfig.WarmStateCacheConfigValue.EXPIRE_AFTER_WRITE.getConfigPath())
+                .isEqualTo(Duration.ofMinutes(10L));
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.config;
+
+import static org.mutabilitydetector.unittesting.MutabilityAssert.assertInstancesOf;
+import static org.mutabilitydetector.unittesting.MutabilityMatchers.areImmutable;
+
+import org.assertj.core.api.JUnitSoftAssertions;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+
+/**
+ * Unit test for {@link org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultWriteBatchConfig}.
+ */
+public final class DefaultWriteBatchConfigTest {
+
+    private static Config writeBatchTestConf;
+
+    @Rule
+    public final JUnitSoftAssertions softly = new JUnitSoftAssertions();
+
+    @BeforeClass
+    public static void initTestFixture() {
+        writeBatchTestConf = ConfigFactory.load("write-batch-test");
+    }
+
+    @Test
+    public void assertImmutability() {
+        assertInstancesOf(DefaultWriteBatchConfig.class,
+                areImmutable());
+    }
+
+    @Test
+    public void testHashCodeAndEquals() {
+        EqualsVerifier.forClass(DefaultWriteBatchConfig.class)
+                .usingGetClass()
+                .verify();
+    }
+
+    @Test
+    public void underTestReturnsDefaultValuesIfBaseConfigWasEmpty() {
+        final DefaultWriteBatchConfig underTest = DefaultWriteBatchConfig.of(ConfigFactory.empty());
+
+        softly.assertThat(underTest.isEnabled())
+                .as(WriteBatchConfig.WriteBatchConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(WriteBatchConfig.WriteBatchConfigValue.ENABLED.getDefaultValue());
+        softly.assertThat(underTest.getMaxBatchSize())
+                .as(WriteBatchConfig.WriteBatchConfigValue.MAX_BATCH_SIZE.getConfigPath())
+                .isEqualTo(WriteBatchConfig.WriteBatchConfigValue.MAX_BATCH_SIZE.getDefaultValue());
+    }
+
+    @Test
+    public void underTestReturnsValuesOfConfigFile() {
+        final DefaultWriteBatchConfig underTest = DefaultWriteBatchConfig.of(writeBatchTestConf);
+
+        softly.assertThat(underTest.isEnabled())
+                .as(WriteBatchConfig.WriteBatchConfigValue.ENABLED.getConfigPath())
+                .isEqualTo(true);
+        softly.assertThat(underTest.getMaxBatchSize())
+                .as(WriteBatchConfig.WriteBatchConfigValue.MAX_BATCH_SIZE.getConfigPath())
+                .isEqualTo(7);
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.journal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import akka.actor.Props;
+import akka.persistence.AbstractPersistentActor;
+
+/**
+ * Persistence actor which writes each string it receives as an event and acknowledges it to the sender after the
+ * event is written.
+ */
+final class EventWritingActor extends AbstractPersistentActor {
+
+    /**
+     * Message to retrieve the events recovered by the actor.
+     */
+    static final Object RETRIEVE_RECOVERED_EVENTS = Control.RETRIEVE_RECOVERED_EVENTS;
+
+    private final String persistenceId;
+    private final List<String> recoveredEvents;
+
+    @SuppressWarnings("unused")
+    private EventWritingActor(final String persistenceId) {
+        this.persistenceId = persistenceId;
+        recoveredEvents = new ArrayList<>();
+    }
+
+    /**
+     * Create the Props object of this actor.
+     *
+     * @param persistenceId the persistence ID.
+     * @return the Props object.
+     */
+    static Props props(final String persistenceId) {
+        return Props.create(EventWritingActor.class, persistenceId);
+    }
+
+    @Override
+    public String persistenceId() {
+        return persistenceId;
+    }
+
+    @Override
+    public Receive createReceiveRecover() {
+        return receiveBuilder()
+                .match(String.class, recoveredEvents::add)
+                .build();
+    }
+
+    @Override
+    public Receive createReceive() {
+        return receiveBuilder()
+                .match(String.class, event -> persist(event, persistedEvent -> getSender().tell(persistedEvent,
+                        getSelf())))
+                .matchEquals(Control.RETRIEVE_RECOVERED_EVENTS, retrieve ->
+                        getSender().tell(new ArrayList<>(recoveredEvents), getSelf()))
+                .build();
+    }
+
+    private enum Control {
+        RETRIEVE_RECOVERED_EVENTS
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.journal;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.ditto.services.utils.test.mongo.MongoDbResource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.pattern.Patterns;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Throughput benchmark of {@link GroupCommitMongoJournal} with and without group commit against an embedded MongoDB.
+ * Each operation is the write of one event by one of many persistence actors writing concurrently, which is the
+ * fan-in of a node with many active things each writing occasionally.
+ * Run {@link #main(String[])} to report the events written per second.
+ */
+@State(Scope.Benchmark)
+public class GroupCommitMongoJournalBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int MEASUREMENT_ITERATIONS = 5;
+    private static final int WARMUP_TIME = 2000;
+    private static final int MEASUREMENT_TIME = 2000;
+
+    private static final String MONGO_HOST = "localhost";
+    private static final String MONGO_DB = "groupCommitMongoJournalBenchmark";
+    private static final int PERSISTENCE_ACTORS = 1000;
+    private static final Duration ASK_TIMEOUT = Duration.ofSeconds(30L);
+
+    @Param({"false", "true"})
+    public boolean groupCommit;
+
+    private MongoDbResource mongoResource;
+    private ActorSystem actorSystem;
+    private List<ActorRef> writers;
+    private long round;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mongoResource = new MongoDbResource(MONGO_HOST);
+        mongoResource.start();
+        final String mongoUri = String.format("mongodb://%s:%d/%s", MONGO_HOST, mongoResource.getPort(), MONGO_DB);
+        final Config config = ConfigFactory.load("group-commit-journal-test")
+                .withValue("akka.contrib.persistence.mongodb.mongo.mongouri", ConfigValueFactory.fromAnyRef(mongoUri))
+                .withValue("akka-contrib-mongodb-persistence-test-journal.group-commit.enabled",
+                        ConfigValueFactory.fromAnyRef(groupCommit));
+        actorSystem = ActorSystem.create("benchmark", config);
+        writers = IntStream.range(0, PERSISTENCE_ACTORS)
+                .mapToObj(i -> actorSystem.actorOf(EventWritingActor.props("benchmark-pid-" + i)))
+                .collect(Collectors.toList());
+        round = 0L;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        TestKit.shutdownActorSystem(actorSystem);
+        mongoResource.stop();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PERSISTENCE_ACTORS)
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void writeOneEventPerPersistenceActor() {
+        final String event = "event-" + round++;
+        CompletableFuture.allOf(writers.stream()
+                .map(writer -> Patterns.ask(writer, event, ASK_TIMEOUT).toCompletableFuture())
+                .toArray(CompletableFuture[]::new))
+                .join();
+    }
+
+    public static void main(final String... args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(GroupCommitMongoJournalBenchmark.class.getSimpleName())
+                .forks(1)
+                .build())
+                .run();
+    }
+
+}
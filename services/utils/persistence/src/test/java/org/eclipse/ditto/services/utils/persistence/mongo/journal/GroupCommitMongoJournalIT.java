@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistence.mongo.journal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.ditto.services.utils.test.mongo.MongoDbResource;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+import com.typesafe.config.ConfigValueFactory;
+
+import akka.actor.ActorRef;
+import akka.actor.ActorSystem;
+import akka.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link GroupCommitMongoJournal} against an embedded MongoDB.
+ */
+public final class GroupCommitMongoJournalIT {
+
+    private static final String MONGO_HOST = "localhost";
+    private static final String MONGO_DB = "groupCommitMongoJournalIT";
+    private static final int PERSISTENCE_ACTORS = 50;
+    private static final int EVENTS_PER_PERSISTENCE_ACTOR = 10;
+
+    private static MongoDbResource mongoResource;
+
+    private ActorSystem actorSystem;
+
+    @BeforeClass
+    public static void startMongoResource() {
+        mongoResource = new MongoDbResource(MONGO_HOST);
+        mongoResource.start();
+    }
+
+    @AfterClass
+    public static void stopMongoResource() {
+        try {
+            if (null != mongoResource) {
+                mongoResource.stop();
+            }
+        } catch (final IllegalStateException e) {
+            System.err.println("IllegalStateException during shutdown of MongoDB: " + e.getMessage());
+        }
+    }
+
+    @Before
+    public void setUp() {
+        final String mongoUri = String.format("mongodb://%s:%d/%s", MONGO_HOST, mongoResource.getPort(), MONGO_DB);
+        final Config config = ConfigFactory.load("group-commit-journal-test")
+                .withValue("akka.contrib.persistence.mongodb.mongo.mongouri", ConfigValueFactory.fromAnyRef(mongoUri));
+        actorSystem = ActorSystem.create("AkkaTestSystem", config);
+    }
+
+    @After
+    public void tearDown() {
+        if (null != actorSystem) {
+            TestKit.shutdownActorSystem(actorSystem);
+        }
+    }
+
+    @Test
+    public void eventsOfConcurrentPersistenceActorsAreWrittenInOrder() {
+        new TestKit(actorSystem) {
+            {
+                final List<ActorRef> writers = startWriters();
+                for (int i = 0; i < EVENTS_PER_PERSISTENCE_ACTOR; i++) {
+                    for (final ActorRef writer : writers) {
+                        writer.tell("event-" + i, getRef());
+                    }
+                }
+                receiveN(PERSISTENCE_ACTORS * EVENTS_PER_PERSISTENCE_ACTOR);
+
+                for (final ActorRef writer : writers) {
+                    watch(writer);
+                    actorSystem.stop(writer);
+                    expectTerminated(writer);
+                }
+
+                final List<String> expectedEvents = IntStream.range(0, EVENTS_PER_PERSISTENCE_ACTOR)
+                        .mapToObj(i -> "event-" + i)
+                        .collect(Collectors.toList());
+                for (final ActorRef recoveredWriter : startWriters()) {
+                    recoveredWriter.tell(EventWritingActor.RETRIEVE_RECOVERED_EVENTS, getRef());
+                    expectMsg(expectedEvents);
+                }
+            }
+
+            private List<ActorRef> startWriters() {
+                final List<ActorRef> writers = new ArrayList<>(PERSISTENCE_ACTORS);
+                for (int i = 0; i < PERSISTENCE_ACTORS; i++) {
+                    writers.add(actorSystem.actorOf(EventWritingActor.props("pid-" + i)));
+                }
+                return writers;
+            }
+        };
+    }
+
+}
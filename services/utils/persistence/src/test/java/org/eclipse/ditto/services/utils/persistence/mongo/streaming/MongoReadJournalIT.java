@@ -166,6 +166,37 @@ public final class MongoReadJournalIT {
         );
     }
 
+    @Test
+    public void streamLatestSnapshotsInRange() {
+        // GIVEN
+        insert("test_snaps", new Document().append("pid", "pid1").append("sn", 1L)
+                .append("s2", new Document().append("_modified", "2000-01-01T00:00:00.001Z")));
+        insert("test_snaps", new Document().append("pid", "pid2").append("sn", 1L)
+                .append("s2", new Document().append("_modified", "2000-01-01T00:00:00.002Z")));
+        insert("test_snaps", new Document().append("pid", "pid3").append("sn", 1L)
+                .append("s2", new Document().append("_modified", "2000-01-01T00:00:00.003Z")));
+        insert("test_snaps", new Document().append("pid", "pid4").append("sn", 1L)
+                .append("s2", new Document().append("_modified", "2000-01-01T00:00:00.004Z")));
+
+        // WHEN: snapshots of the partitions (, pid2] and (pid2, pid3] are requested with batch size 1
+        final List<Document> lowerPartition =
+                readJournal.getNewestSnapshotsInRange("", "pid2", 1, materializer, "_modified")
+                        .runWith(Sink.seq(), materializer)
+                        .toCompletableFuture()
+                        .join();
+        final List<Document> upperPartition =
+                readJournal.getNewestSnapshotsInRange("pid2", "pid3", 1, materializer, "_modified")
+                        .runWith(Sink.seq(), materializer)
+                        .toCompletableFuture()
+                        .join();
+
+        // THEN: each partition contains the snapshots above its exclusive lower bound up to its inclusive upper bound
+        assertThat(lowerPartition).extracting(document -> document.getString("_id"))
+                .containsExactly("pid1", "pid2");
+        assertThat(upperPartition).extracting(document -> document.getString("_id"))
+                .containsExactly("pid3");
+    }
+
     @Test
     public void streamLatestSnapshotsWithDeletedSnapshots() {
         // GIVEN
@@ -14,6 +14,9 @@ package org.eclipse.ditto.services.utils.persistentactors;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.ThreadLocalRandom;
 
 import javax.annotation.Nullable;
@@ -40,6 +43,7 @@ import akka.japi.pf.ReceiveBuilder;
  * Supervisor of sharded persistent actors. It:
  * <ol>
  * <li>restarts failed child actor after exponential backoff,</li>
+ * <li>restarts the child actor immediately on its request without losing the messages sent to it,</li>
  * <li>shuts down self on command, and</li>
  * <li>handles initialization errors by becoming corrupted for a time.</li>
  * </ol>
@@ -53,6 +57,10 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId> extends
     @Nullable private Props persistenceActorProps;
     @Nullable private ShutdownBehaviour shutdownBehaviour;
     @Nullable private ActorRef child;
+    private boolean childRestarting;
+    private final List<PendingMessage> messagesHandedBackByChild;
+    private final List<PendingMessage> messagesDuringChildRestart;
+    private boolean answeredSinceLastPassivationRequest;
 
     private ExponentialBackOffConfig exponentialBackOffConfig;
     private Instant lastRestart;
@@ -62,6 +70,10 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId> extends
         exponentialBackOffConfig = getExponentialBackOffConfig();
         lastRestart = Instant.now();
         restartDelay = Duration.ZERO; // set to min backoff on next child termination
+        childRestarting = false;
+        messagesHandedBackByChild = new ArrayList<>();
+        messagesDuringChildRestart = new ArrayList<>();
+        answeredSinceLastPassivationRequest = false;
     }
 
     /**
@@ -138,11 +150,51 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId> extends
                 .build();
     }
 
+    /**
+     * Add messages handled by the supervisor itself while the supervisor is active. All other messages are forwarded
+     * to the child actor. By default, no messages are added.
+     *
+     * @param activeBehaviour the builder of the active behaviour.
+     */
+    protected void addActiveBehaviour(final ReceiveBuilder activeBehaviour) {
+        // do nothing
+    }
+
+    /**
+     * Callback when the child actor terminated, before it is restarted. Overridable in subclasses, e.g. to discard
+     * state which the child published to this actor. Does nothing by default.
+     */
+    protected void onChildTerminated() {
+        // do nothing
+    }
+
+    /**
+     * Record that this actor answered a message for the entity without involving the child actor. The next request
+     * of the child actor to passivate is declined, because the entity is not inactive although the child actor did
+     * not see the message.
+     */
+    protected void recordAnsweredWithoutChild() {
+        answeredSinceLastPassivationRequest = true;
+    }
+
+    /**
+     * Return the child actor if it is running.
+     *
+     * @return the child actor or an empty optional if the child actor terminated.
+     */
+    protected Optional<ActorRef> getChild() {
+        return Optional.ofNullable(child);
+    }
+
     private void becomeActive(final ShutdownBehaviour shutdownBehaviour) {
-        getContext().become(shutdownBehaviour.createReceive()
+        final ReceiveBuilder activeBehaviour = shutdownBehaviour.createReceive()
                 .match(Terminated.class, this::childTerminated)
                 .matchEquals(Control.START_CHILD, this::startChild)
-                .matchEquals(Control.PASSIVATE, this::passivate)
+                .matchEquals(Control.RESTART_CHILD, this::restartChild)
+                .match(PendingMessage.class, this::handedBackByChild)
+                .matchEquals(Control.PASSIVATE, this::passivateUnlessAnsweredWithoutChild);
+        addActiveBehaviour(activeBehaviour);
+        getContext().become(activeBehaviour
                 .matchAny(this::forwardToChildIfAvailable)
                 .build());
     }
@@ -155,6 +207,16 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId> extends
                 .build());
     }
 
+    private void passivateUnlessAnsweredWithoutChild(final Control passivationTrigger) {
+        if (answeredSinceLastPassivationRequest && null != child && child.equals(getSender())) {
+            log.debug("Declining passivation of entity <{}> as messages were answered without the child.", entityId);
+            answeredSinceLastPassivationRequest = false;
+            child.tell(AbstractShardedPersistenceActor.passivationDeclined(), getSelf());
+        } else {
+            passivate(passivationTrigger);
+        }
+    }
+
     private void passivate(final Control passivationTrigger) {
         getContext().getParent().tell(new ShardRegion.Passivate(PoisonPill.getInstance()), getSelf());
     }
@@ -169,14 +231,44 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId> extends
         }
     }
 
+    private void restartChild(final Control restartChild) {
+        if (null != child && child.equals(getSender())) {
+            log.info("Restarting persistence actor for entity with ID <{}> on its request.", entityId);
+            childRestarting = true;
+            // the child hands all messages it received before the poison pill back to this actor before it stops
+            child.tell(PoisonPill.getInstance(), getSelf());
+        }
+    }
+
+    private void handedBackByChild(final PendingMessage pendingMessage) {
+        if (childRestarting && null != child && child.equals(getSender())) {
+            messagesHandedBackByChild.add(pendingMessage);
+        } else {
+            log.warning("Dropping message handed back by an actor other than the restarting child: <{}>",
+                    pendingMessage.message);
+        }
+    }
+
     private void childTerminated(final Terminated message) {
+        child = null;
+        onChildTerminated();
+        if (childRestarting) {
+            childRestarting = false;
+            startChild(Control.START_CHILD);
+            // the child received the handed back messages before the supervisor buffered any message of the same
+            // sender, so they are sent first to keep the order of the messages of each sender
+            messagesHandedBackByChild.forEach(pending -> child.tell(pending.message, pending.sender));
+            messagesHandedBackByChild.clear();
+            messagesDuringChildRestart.forEach(pending -> child.tell(pending.message, pending.sender));
+            messagesDuringChildRestart.clear();
+            return;
+        }
         if (message.getAddressTerminated()) {
             log.error("Persistence actor for entity with ID <{}> terminated abnormally " +
                     "because it crashed or because of network failure!", entityId);
         } else {
             log.warning("Persistence actor for entity with ID <{}> terminated abnormally.", entityId);
         }
-        child = null;
         restartDelay = calculateRestartDelay();
         getTimers().startSingleTimer(Control.START_CHILD, Control.START_CHILD, restartDelay);
     }
@@ -233,9 +325,13 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId> extends
     /**
      * Forward all messages to the child if it is active or by reply immediately with an exception if the child has
      * terminated (fail fast).
+     *
+     * @param message the message.
      */
-    private void forwardToChildIfAvailable(final Object message) {
-        if (null != child) {
+    protected void forwardToChildIfAvailable(final Object message) {
+        if (childRestarting) {
+            messagesDuringChildRestart.add(new PendingMessage(message, getSender()));
+        } else if (null != child) {
             if (child.equals(getSender())) {
                 log.warning("Received unhandled message from child actor '{}': {}", entityId, message);
                 unhandled(message);
@@ -247,7 +343,12 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId> extends
         }
     }
 
-    private void replyUnavailableException(final Object message) {
+    /**
+     * Reply to a message with the unavailable exception of the entity.
+     *
+     * @param message the message.
+     */
+    protected void replyUnavailableException(final Object message) {
         log.warning("Received message during downtime of child actor for Entity with ID <{}>: <{}>", entityId, message);
         final DittoRuntimeExceptionBuilder<?> builder = getUnavailableExceptionBuilder(entityId);
         if (message instanceof WithDittoHeaders) {
@@ -272,7 +373,29 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId> extends
         /**
          * Request to start child actor.
          */
-        START_CHILD
+        START_CHILD,
+
+        /**
+         * Request of the child actor to be restarted immediately and without backoff, e.g. because the state it
+         * recovered from is stale. The child hands the messages it receives afterwards back to the supervisor as
+         * {@link PendingMessage}s until it is stopped; the supervisor sends them to the restarted child before the
+         * messages it received itself in the meantime.
+         */
+        RESTART_CHILD
+    }
+
+    /**
+     * A message received while the child actor restarts, together with its sender.
+     */
+    static final class PendingMessage {
+
+        private final Object message;
+        private final ActorRef sender;
+
+        PendingMessage(final Object message, final ActorRef sender) {
+            this.message = message;
+            this.sender = sender;
+        }
     }
 
 }
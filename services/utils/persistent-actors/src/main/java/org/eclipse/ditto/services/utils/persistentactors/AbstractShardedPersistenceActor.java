@@ -13,21 +13,30 @@
 package org.eclipse.ditto.services.utils.persistentactors;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 import javax.annotation.Nullable;
 
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.model.base.entity.id.EntityId;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeExceptionBuilder;
 import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
 import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+import org.eclipse.ditto.model.base.json.Jsonifiable;
 import org.eclipse.ditto.services.utils.akka.LogUtil;
+import org.eclipse.ditto.services.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.services.utils.metrics.instruments.histogram.Histogram;
 import org.eclipse.ditto.services.utils.persistence.SnapshotAdapter;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.ActivityCheckConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultWriteBatchConfig;
 import org.eclipse.ditto.services.utils.persistence.mongo.config.SnapshotConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WriteBatchConfig;
 import org.eclipse.ditto.services.utils.persistentactors.commands.CommandStrategy;
 import org.eclipse.ditto.services.utils.persistentactors.events.EventStrategy;
 import org.eclipse.ditto.services.utils.persistentactors.results.Result;
@@ -35,8 +44,11 @@ import org.eclipse.ditto.services.utils.persistentactors.results.ResultVisitor;
 import org.eclipse.ditto.signals.commands.base.Command;
 import org.eclipse.ditto.signals.events.base.Event;
 
+import com.typesafe.config.ConfigFactory;
+
 import akka.actor.ActorRef;
 import akka.japi.pf.ReceiveBuilder;
+import akka.persistence.Recovery;
 import akka.persistence.RecoveryCompleted;
 import akka.persistence.RecoveryTimedOut;
 import akka.persistence.SaveSnapshotFailure;
@@ -61,11 +73,43 @@ public abstract class AbstractShardedPersistenceActor<
         K,
         E extends Event> extends AbstractPersistentActorWithTimersAndCleanup implements ResultVisitor<E> {
 
+    private static final WriteBatchConfig WRITE_BATCHING_DISABLED = DefaultWriteBatchConfig.of(ConfigFactory.empty());
+
+    /**
+     * Bounds of the factor by which a measured recovery corrects the estimated replay costs of an entity. The measured
+     * recovery includes fixed costs like loading the snapshot, hence the factor is bounded.
+     */
+    private static final double MIN_REPLAY_COST_FACTOR = 0.25;
+    private static final double MAX_REPLAY_COST_FACTOR = 4.0;
+    private static final long MIN_REPLAYED_EVENTS_FOR_CALIBRATION = 10L;
+
+    private static final long DEFAULT_ESTIMATED_ENTITY_SIZE = 1024L;
+
+    /**
+     * Estimated size in characters of the parts of an event other than its payload, e.g. type and headers.
+     */
+    private static final long ESTIMATED_EVENT_OVERHEAD = 256L;
+    private static final long BYTES_PER_CHAR = 2L;
+
     private final SnapshotAdapter<S> snapshotAdapter;
     private final Receive handleEvents;
     private final Receive handleCleanups;
     private long lastSnapshotRevision;
     private long confirmedSnapshotRevision;
+    private final long startNanos;
+    private final Histogram replayedEventsPerRecovery;
+    private long eventsSinceSnapshot;
+    private long eventBytesSinceSnapshot;
+    private double replayCostFactor;
+
+    private final WarmStateCache warmStateCache;
+
+    /**
+     * The cached state of the entity this actor recovers from instead of the journal, if any.
+     */
+    @Nullable
+    private WarmStateCache.CachedState warmState;
+    private boolean passivating;
 
     /**
      * The current entity, or null if it was never created.
@@ -80,6 +124,21 @@ public abstract class AbstractShardedPersistenceActor<
 
     private long accessCounter = 0L;
 
+    /**
+     * Writes waiting for the next batch, each with the reply to send after the batch is persisted.
+     */
+    private final List<BatchedWrite<E>> pendingWrites;
+    private final Histogram writeBatchSizes;
+    private boolean writeBatchInFlight;
+    private int unconfirmedEventsOfBatch;
+
+    /**
+     * The entity with all events applied which are pending or in flight; only meaningful while a batch is in flight.
+     */
+    @Nullable
+    private S speculativeEntity;
+    private long speculativeRevision;
+
     /**
      * Instantiate the actor.
      *
@@ -93,6 +152,24 @@ public abstract class AbstractShardedPersistenceActor<
 
         lastSnapshotRevision = 0L;
         confirmedSnapshotRevision = 0L;
+        startNanos = System.nanoTime();
+        replayedEventsPerRecovery = DittoMetrics.histogram("persistence_recovery_replayed_events")
+                .tag("persistenceActor", getClass().getSimpleName());
+        eventsSinceSnapshot = 0L;
+        eventBytesSinceSnapshot = 0L;
+        replayCostFactor = 1.0;
+
+        warmStateCache = WarmStateCache.get(getContext().getSystem());
+        warmState = null;
+        passivating = false;
+
+        pendingWrites = new ArrayList<>();
+        writeBatchSizes = DittoMetrics.histogram("persistence_write_batch_size")
+                .tag("persistenceActor", getClass().getSimpleName());
+        writeBatchInFlight = false;
+        unconfirmedEventsOfBatch = 0;
+        speculativeEntity = null;
+        speculativeRevision = 0L;
 
         handleEvents = ReceiveBuilder.create()
                 .match(getEventClass(), event -> entity = getEventStrategy().handle(event, entity, getRevisionNumber()))
@@ -145,6 +222,18 @@ public abstract class AbstractShardedPersistenceActor<
      */
     protected abstract SnapshotConfig getSnapshotConfig();
 
+    /**
+     * Returns the configuration for batching the writes of the entity. If write batching is enabled, the commands
+     * received while a write is in flight are handled against the speculative state of the entity, and their events
+     * are persisted together by one {@code persistAll} as soon as the write in flight completes. Overridable in
+     * subclasses; write batching is disabled by default.
+     *
+     * @return configuration for write batching.
+     */
+    protected WriteBatchConfig getWriteBatchConfig() {
+        return WRITE_BATCHING_DISABLED;
+    }
+
     /**
      * Check if the entity exists and is deleted. This is a sufficient condition to make a snapshot before stopping.
      *
@@ -204,9 +293,31 @@ public abstract class AbstractShardedPersistenceActor<
     @Override
     public void postStop() throws Exception {
         log.debug("Stopping PersistenceActor for entity with ID <{}>.", entityId);
+        if (passivating) {
+            cacheWarmState();
+        }
         super.postStop();
     }
 
+    /**
+     * Skip the recovery from snapshot and journal if the state of the entity is in the warm state cache. The journal
+     * is still asked for the highest sequence number of the entity, which becomes the last sequence number of this
+     * actor and is checked against the revision of the cached state at the end of the recovery.
+     *
+     * @return the recovery of this actor.
+     */
+    @Override
+    public Recovery recovery() {
+        if (warmStateCache.isEnabled()) {
+            warmState = warmStateCache.remove(persistenceId()).orElse(null);
+            if (null != warmState) {
+                return Recovery.none();
+            }
+            countWarmStateCacheResult("miss");
+        }
+        return super.recovery();
+    }
+
     @Override
     public Receive createReceive() {
         return createDeletedBehavior();
@@ -220,7 +331,11 @@ public abstract class AbstractShardedPersistenceActor<
     @Override
     public Receive createReceiveRecover() {
         // defines how state is updated during recovery
-        return handleEvents.orElse(ReceiveBuilder.create()
+        return ReceiveBuilder.create()
+                .match(getEventClass(), event -> {
+                    handleEvents.onMessage().apply(event);
+                    countEventSinceSnapshot(event);
+                })
                 // # Snapshot handling
                 .match(SnapshotOffer.class, ss -> {
                     log.debug("Got SnapshotOffer: {}", ss);
@@ -231,9 +346,14 @@ public abstract class AbstractShardedPersistenceActor<
                         log.warning("RecoveryTimeout occurred during recovery for entity with ID {}", entityId)
                 )
                 // # Recovery handling
-                .match(RecoveryCompleted.class, this::recoveryCompleted)
+                .match(RecoveryCompleted.class, recoveryCompleted -> {
+                    if (null == warmState || restoreWarmState(warmState)) {
+                        recordRecovery();
+                        recoveryCompleted(recoveryCompleted);
+                    }
+                })
                 .matchAny(m -> log.warning("Unknown recover message: {}", m))
-                .build());
+                .build();
     }
 
     /**
@@ -245,6 +365,7 @@ public abstract class AbstractShardedPersistenceActor<
         final Receive receive = handleCleanups.orElse(ReceiveBuilder.create()
                 .match(commandStrategy.getMatchingClass(), commandStrategy::isDefined, this::handleByCommandStrategy)
                 .match(CheckForActivity.class, this::checkForActivity)
+                .matchEquals(Control.PASSIVATION_DECLINED, this::passivationDeclined)
                 .matchEquals(Control.TAKE_SNAPSHOT, this::takeSnapshotByInterval)
                 .match(SaveSnapshotSuccess.class, this::saveSnapshotSuccess)
                 .match(SaveSnapshotFailure.class, this::saveSnapshotFailure)
@@ -276,17 +397,7 @@ public abstract class AbstractShardedPersistenceActor<
      */
     protected void persistAndApplyEvent(final E event, final BiConsumer<E, S> handler) {
 
-        final E modifiedEvent;
-        if (null != entity) {
-            // set version of event to the version of the entity
-            final DittoHeaders newHeaders = event.getDittoHeaders().toBuilder()
-                    .schemaVersion(getEntitySchemaVersion(entity))
-                    .build();
-            modifiedEvent = (E) event.setDittoHeaders(newHeaders);
-        } else {
-            modifiedEvent = event;
-        }
-
+        final E modifiedEvent = setSchemaVersionOfEntity(event, entity);
         if (modifiedEvent.getDittoHeaders().isDryRun()) {
             handler.accept(modifiedEvent, entity);
         } else {
@@ -329,13 +440,24 @@ public abstract class AbstractShardedPersistenceActor<
      * Request parent to shutdown this actor gracefully in a thread-safe manner.
      */
     protected void passivate() {
+        passivating = true;
         getContext().getParent().tell(AbstractPersistenceSupervisor.Control.PASSIVATE, getSelf());
     }
 
+    private void passivationDeclined(final Control passivationDeclined) {
+        // the supervisor answered messages for the entity itself: stay active as if this actor was accessed
+        passivating = false;
+        accessCounter++;
+        scheduleCheckForActivity(isEntityActive()
+                ? getActivityCheckConfig().getInactiveInterval()
+                : getActivityCheckConfig().getDeletedInterval());
+    }
+
     private Receive createDeletedBehavior() {
         final CommandStrategy<? extends C, S, K, Result<E>> deleteStrategy = getDeletedStrategy();
         return handleCleanups.orElse(handleByStrategyReceiveBuilder(deleteStrategy)
                 .match(CheckForActivity.class, this::checkForActivity)
+                .matchEquals(Control.PASSIVATION_DECLINED, this::passivationDeclined)
                 .matchEquals(Control.TAKE_SNAPSHOT, this::takeSnapshotByInterval)
                 .match(SaveSnapshotSuccess.class, this::saveSnapshotSuccess)
                 .match(SaveSnapshotFailure.class, this::saveSnapshotFailure)
@@ -358,6 +480,10 @@ public abstract class AbstractShardedPersistenceActor<
     }
 
     private void scheduleSnapshot() {
+        if (isAdaptiveSnapshotting()) {
+            // snapshots are taken when the estimated recovery duration exceeds the budget
+            return;
+        }
         final Duration snapshotInterval = getSnapshotConfig().getInterval();
         timers().startPeriodicTimer("takeSnapshot", Control.TAKE_SNAPSHOT, snapshotInterval);
     }
@@ -382,9 +508,13 @@ public abstract class AbstractShardedPersistenceActor<
         accessCounter++;
         final Result<E> result;
         try {
-            result = strategy.apply(getStrategyContext(), entity, getNextRevisionNumber(), command);
+            if (writeBatchInFlight) {
+                result = strategy.apply(getStrategyContext(), speculativeEntity, speculativeRevision + 1, command);
+            } else {
+                result = strategy.apply(getStrategyContext(), entity, getNextRevisionNumber(), command);
+            }
         } catch (final DittoRuntimeException e) {
-            getSender().tell(e, getSelf());
+            notifySender(e);
             return;
         }
         result.accept(this);
@@ -394,15 +524,29 @@ public abstract class AbstractShardedPersistenceActor<
     public void onMutation(final Command command, final E event, final WithDittoHeaders response,
             final boolean becomeCreated, final boolean becomeDeleted) {
 
-        persistAndApplyEvent(event, (persistedEvent, resultingEntity) -> {
-            notifySender(response);
-            if (becomeDeleted) {
-                becomeDeletedHandler();
-            }
-            if (becomeCreated) {
-                becomeCreatedHandler();
-            }
-        });
+        if (getWriteBatchConfig().isEnabled()) {
+            enqueueWrite(event, response, becomeCreated, becomeDeleted);
+        } else {
+            persistAndApplyEvent(event, (persistedEvent, resultingEntity) -> {
+                notifySender(response);
+                if (becomeDeleted) {
+                    becomeDeletedHandler();
+                }
+                if (becomeCreated) {
+                    becomeCreatedHandler();
+                }
+            });
+        }
+    }
+
+    @Override
+    public void onPersistRejected(final Throwable cause, final Object event, final long seqNr) {
+        super.onPersistRejected(cause, event, seqNr);
+        if (writeBatchInFlight) {
+            // the pending writes were validated against a state of the entity which will never be reached
+            log.error("Stopping entity <{}> because a batch of writes was rejected.", entityId);
+            getContext().stop(getSelf());
+        }
     }
 
     @Override
@@ -419,6 +563,111 @@ public abstract class AbstractShardedPersistenceActor<
         return getRevisionNumber() + 1;
     }
 
+    private E setSchemaVersionOfEntity(final E event, @Nullable final S theEntity) {
+        if (null != theEntity) {
+            // set version of event to the version of the entity
+            final DittoHeaders newHeaders = event.getDittoHeaders().toBuilder()
+                    .schemaVersion(getEntitySchemaVersion(theEntity))
+                    .build();
+            return (E) event.setDittoHeaders(newHeaders);
+        } else {
+            return event;
+        }
+    }
+
+    private void enqueueWrite(final E event, final WithDittoHeaders response, final boolean becomeCreated,
+            final boolean becomeDeleted) {
+
+        if (!writeBatchInFlight) {
+            speculativeEntity = entity;
+            speculativeRevision = getRevisionNumber();
+        }
+        final E modifiedEvent = setSchemaVersionOfEntity(event, speculativeEntity);
+        final boolean dryRun = modifiedEvent.getDittoHeaders().isDryRun();
+        if (!dryRun) {
+            speculativeRevision++;
+            speculativeEntity = getEventStrategy().handle(modifiedEvent, speculativeEntity, speculativeRevision);
+        }
+        pendingWrites.add(new BatchedWrite<>(getSender(), response, dryRun ? null : modifiedEvent, becomeCreated,
+                becomeDeleted));
+
+        if (becomeCreated || becomeDeleted) {
+            // the behavior of the actor depends on the lifecycle of the entity:
+            // defer all messages until it is persisted
+            getContext().become(ReceiveBuilder.create().matchAny(message -> stash()).build());
+        }
+        if (!writeBatchInFlight) {
+            flushWriteBatch();
+        }
+    }
+
+    private void flushWriteBatch() {
+        final int maxBatchSize = getWriteBatchConfig().getMaxBatchSize();
+        final List<E> events = new ArrayList<>();
+        int batchEnd = 0;
+        while (batchEnd < pendingWrites.size()) {
+            final E event = pendingWrites.get(batchEnd).event;
+            if (null != event) {
+                if (events.size() >= maxBatchSize) {
+                    break;
+                }
+                events.add(event);
+            }
+            batchEnd++;
+        }
+        final List<BatchedWrite<E>> batch = new ArrayList<>(pendingWrites.subList(0, batchEnd));
+        pendingWrites.subList(0, batchEnd).clear();
+
+        if (events.isEmpty()) {
+            // only dry-runs and replies; nothing to persist
+            completeWriteBatch(batch);
+        } else {
+            writeBatchInFlight = true;
+            unconfirmedEventsOfBatch = events.size();
+            writeBatchSizes.record((long) events.size());
+            LogUtil.enhanceLogWithCorrelationId(log, events.get(0));
+            log.debug("Persisting batch of <{}> events.", events.size());
+            persistAllAsync(events, persistedEvent -> {
+                applyEvent(persistedEvent);
+                if (0 == --unconfirmedEventsOfBatch) {
+                    LogUtil.enhanceLogWithCorrelationId(log, persistedEvent.getDittoHeaders().getCorrelationId());
+                    log.info("Successfully persisted batch of <{}> events.", events.size());
+                    completeWriteBatch(batch);
+                }
+            });
+        }
+    }
+
+    private void completeWriteBatch(final List<BatchedWrite<E>> batch) {
+        boolean lifecycleChanged = false;
+        for (final BatchedWrite<E> write : batch) {
+            notifySender(write.sender, write.response);
+            if (write.becomeDeleted) {
+                becomeDeletedHandler();
+                lifecycleChanged = true;
+            }
+            if (write.becomeCreated) {
+                becomeCreatedHandler();
+                lifecycleChanged = true;
+            }
+        }
+        if (lifecycleChanged) {
+            unstashAll();
+        }
+
+        // save a snapshot if there were too many changes since the last snapshot
+        if (snapshotThresholdPassed()) {
+            takeSnapshot(isAdaptiveSnapshotting() ? "recovery budget is exceeded" : "snapshot threshold is reached");
+        }
+
+        if (pendingWrites.isEmpty()) {
+            writeBatchInFlight = false;
+            speculativeEntity = null;
+        } else {
+            flushWriteBatch();
+        }
+    }
+
     private void persistEvent(final E event, final Consumer<E> handler) {
         LogUtil.enhanceLogWithCorrelationId(log, event);
         log.debug("Persisting Event <{}>.", event.getType());
@@ -435,7 +684,9 @@ public abstract class AbstractShardedPersistenceActor<
 
             // save a snapshot if there were too many changes since the last snapshot
             if (snapshotThresholdPassed()) {
-                takeSnapshot("snapshot threshold is reached");
+                takeSnapshot(isAdaptiveSnapshotting()
+                        ? "recovery budget is exceeded"
+                        : "snapshot threshold is reached");
             }
         });
     }
@@ -450,6 +701,8 @@ public abstract class AbstractShardedPersistenceActor<
             saveSnapshot(snapshotSubject);
 
             lastSnapshotRevision = revision;
+            eventsSinceSnapshot = 0L;
+            eventBytesSinceSnapshot = 0L;
         } else if (lastSnapshotRevision == revision) {
             log.debug("Not taking duplicate snapshot for entity <{}> with revision <{}> even if {}.", entity, revision,
                     reason);
@@ -459,16 +712,147 @@ public abstract class AbstractShardedPersistenceActor<
     }
 
     private boolean snapshotThresholdPassed() {
+        if (isAdaptiveSnapshotting()) {
+            return getEstimatedRecoveryNanos() > getSnapshotConfig().getRecoveryBudget().toNanos();
+        }
         return getRevisionNumber() - lastSnapshotRevision >= getSnapshotConfig().getThreshold();
     }
 
+    private boolean isAdaptiveSnapshotting() {
+        return !getSnapshotConfig().getRecoveryBudget().isZero();
+    }
+
+    private void countEventSinceSnapshot(final E event) {
+        eventsSinceSnapshot++;
+        if (isAdaptiveSnapshotting()) {
+            eventBytesSinceSnapshot += estimateEventSize(event);
+        }
+    }
+
+    /**
+     * Estimate the size of an event without serializing it. Most events carry their payload as JSON value already,
+     * whose size is known; the rest of the event is estimated by a constant.
+     *
+     * @param event the event.
+     * @return the estimated size of the event in characters.
+     */
+    private static long estimateEventSize(final Event<?> event) {
+        return ESTIMATED_EVENT_OVERHEAD + event.getEntity(event.getImplementedSchemaVersion())
+                .map(JsonValue::getUpperBoundForStringSize)
+                .orElse(0L);
+    }
+
+    /**
+     * Estimate how long the recovery from the latest snapshot and the events after it would take, corrected by the
+     * last measured recovery of this entity.
+     *
+     * @return the estimated recovery duration in nanoseconds.
+     */
+    private long getEstimatedRecoveryNanos() {
+        return (long) (replayCostFactor * estimateReplayNanos(eventsSinceSnapshot, eventBytesSinceSnapshot));
+    }
+
+    private long estimateReplayNanos(final long events, final long eventBytes) {
+        final SnapshotConfig snapshotConfig = getSnapshotConfig();
+        return events * snapshotConfig.getReplayCostPerEvent().toNanos() +
+                eventBytes * snapshotConfig.getReplayCostPerKib().toNanos() / 1024L;
+    }
+
+    private void recordRecovery() {
+        final long recoveryNanos = System.nanoTime() - startNanos;
+        DittoMetrics.timer("persistence_recovery")
+                .tag("persistenceActor", getClass().getSimpleName())
+                .tag("source", null != warmState ? "warm-state-cache" : "journal")
+                .record(recoveryNanos, TimeUnit.NANOSECONDS);
+        if (null != warmState) {
+            log.debug("Recovered entity <{}> from the warm state cache in <{}> ms.", entityId,
+                    TimeUnit.NANOSECONDS.toMillis(recoveryNanos));
+            return;
+        }
+        replayedEventsPerRecovery.record(eventsSinceSnapshot);
+        if (isAdaptiveSnapshotting() && eventsSinceSnapshot >= MIN_REPLAYED_EVENTS_FOR_CALIBRATION) {
+            final long estimatedNanos = estimateReplayNanos(eventsSinceSnapshot, eventBytesSinceSnapshot);
+            if (estimatedNanos > 0L) {
+                final double measuredFactor = recoveryNanos / (double) estimatedNanos;
+                replayCostFactor =
+                        Math.max(MIN_REPLAY_COST_FACTOR, Math.min(MAX_REPLAY_COST_FACTOR, measuredFactor));
+            }
+        }
+        log.debug("Recovered entity <{}> with <{}> replayed events in <{}> ms.", entityId, eventsSinceSnapshot,
+                TimeUnit.NANOSECONDS.toMillis(recoveryNanos));
+    }
+
+    /**
+     * Restore the entity and its snapshot bookkeeping from the warm state cache if no event was written since the
+     * state was cached. Otherwise the cached state is stale; the actor asks its supervisor to restart it immediately
+     * and hands all messages it received back to the supervisor until it is stopped. As the cached state was taken
+     * out of the cache already, the restarted actor recovers from snapshot and journal.
+     *
+     * @param cachedState the cached state.
+     * @return whether the state was restored.
+     */
+    @SuppressWarnings("unchecked")
+    private boolean restoreWarmState(final WarmStateCache.CachedState cachedState) {
+        if (lastSequenceNr() != cachedState.getRevision()) {
+            log.info("Discarding cached state of entity <{}> at revision <{}> because the journal is at <{}>.",
+                    entityId, cachedState.getRevision(), lastSequenceNr());
+            countWarmStateCacheResult("stale");
+            handBackMessagesForRestart();
+            return false;
+        }
+        entity = (S) cachedState.getEntity();
+        lastSnapshotRevision = cachedState.getLastSnapshotRevision();
+        confirmedSnapshotRevision = cachedState.getConfirmedSnapshotRevision();
+        eventsSinceSnapshot = cachedState.getEventsSinceSnapshot();
+        eventBytesSinceSnapshot = cachedState.getEventBytesSinceSnapshot();
+        countWarmStateCacheResult("hit");
+        return true;
+    }
+
+    private void handBackMessagesForRestart() {
+        final ActorRef supervisor = getContext().getParent();
+        supervisor.tell(AbstractPersistenceSupervisor.Control.RESTART_CHILD, getSelf());
+        getContext().become(ReceiveBuilder.create()
+                .matchAny(message -> supervisor.tell(
+                        new AbstractPersistenceSupervisor.PendingMessage(message, getSender()), getSelf()))
+                .build());
+    }
+
+    private void cacheWarmState() {
+        if (warmStateCache.isEnabled() && null != entity) {
+            warmStateCache.put(persistenceId(), new WarmStateCache.CachedState(entity, lastSequenceNr(),
+                    lastSnapshotRevision, confirmedSnapshotRevision, eventsSinceSnapshot, eventBytesSinceSnapshot,
+                    estimateEntitySize(entity)));
+        }
+    }
+
+    private static long estimateEntitySize(final Object entity) {
+        if (entity instanceof Jsonifiable) {
+            return BYTES_PER_CHAR * ((Jsonifiable<?>) entity).toJson().getUpperBoundForStringSize();
+        }
+        return DEFAULT_ESTIMATED_ENTITY_SIZE;
+    }
+
+    private void countWarmStateCacheResult(final String result) {
+        DittoMetrics.counter("persistence_warm_state_cache")
+                .tag("persistenceActor", getClass().getSimpleName())
+                .tag("result", result)
+                .increment();
+    }
+
     private void applyEvent(final E event) {
         handleEvents.onMessage().apply(event);
+        countEventSinceSnapshot(event);
         publishEvent(event);
     }
 
     private void notifySender(final WithDittoHeaders message) {
-        notifySender(getSender(), message);
+        if (writeBatchInFlight) {
+            // keep replies in the order of the commands
+            pendingWrites.add(new BatchedWrite<>(getSender(), message, null, false, false));
+        } else {
+            notifySender(getSender(), message);
+        }
     }
 
     private void notifySender(final ActorRef sender, final WithDittoHeaders message) {
@@ -492,6 +876,8 @@ public abstract class AbstractShardedPersistenceActor<
     private void recoverFromSnapshotOffer(final SnapshotOffer snapshotOffer) {
         entity = snapshotAdapter.fromSnapshotStore(snapshotOffer);
         lastSnapshotRevision = confirmedSnapshotRevision = snapshotOffer.metadata().sequenceNr();
+        eventsSinceSnapshot = 0L;
+        eventBytesSinceSnapshot = 0L;
     }
 
     @Override
@@ -535,6 +921,16 @@ public abstract class AbstractShardedPersistenceActor<
         return new CheckForActivity(accessCounter);
     }
 
+    /**
+     * Create the message by which the supervisor declines a request of this actor to passivate because the supervisor
+     * answered messages for the entity itself since the last request.
+     *
+     * @return the message.
+     */
+    static Object passivationDeclined() {
+        return Control.PASSIVATION_DECLINED;
+    }
+
     /**
      * Check if any command is processed.
      */
@@ -555,7 +951,30 @@ public abstract class AbstractShardedPersistenceActor<
     }
 
     private enum Control {
-        TAKE_SNAPSHOT
+        TAKE_SNAPSHOT,
+        PASSIVATION_DECLINED
+    }
+
+    /**
+     * A write waiting to be persisted in a batch, or a reply waiting for the writes before it.
+     */
+    private static final class BatchedWrite<E> {
+
+        private final ActorRef sender;
+        private final WithDittoHeaders response;
+        @Nullable
+        private final E event;
+        private final boolean becomeCreated;
+        private final boolean becomeDeleted;
+
+        private BatchedWrite(final ActorRef sender, final WithDittoHeaders response, @Nullable final E event,
+                final boolean becomeCreated, final boolean becomeDeleted) {
+            this.sender = sender;
+            this.response = response;
+            this.event = event;
+            this.becomeCreated = becomeCreated;
+            this.becomeDeleted = becomeDeleted;
+        }
     }
 
 }
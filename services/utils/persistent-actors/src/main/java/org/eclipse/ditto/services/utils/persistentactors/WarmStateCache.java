@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistentactors;
+
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultWarmStateCacheConfig;
+import org.eclipse.ditto.services.utils.persistence.mongo.config.WarmStateCacheConfig;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import akka.actor.AbstractExtensionId;
+import akka.actor.ActorSystem;
+import akka.actor.ExtendedActorSystem;
+import akka.actor.Extension;
+
+/**
+ * Node-local cache of the states of recently passivated entities by their persistence IDs.
+ * <p>
+ * A persistence actor puts its state into the cache when it passivates and takes it out again when it is started
+ * for the same entity, so that re-activating an entity shortly after its passivation does not replay its journal.
+ * The cache is bounded by the estimated memory of the cached states and is disabled if its maximum weight is zero.
+ * </p>
+ */
+@ThreadSafe
+final class WarmStateCache implements Extension {
+
+    private static final String PERSISTENCE_CONFIG_PATH = "ditto.persistence";
+    private static final long MIN_ESTIMATED_SIZE = 1L;
+
+    @Nullable
+    private final Cache<String, CachedState> cache;
+
+    private WarmStateCache(final WarmStateCacheConfig config) {
+        if (0L < config.getMaximumWeight()) {
+            cache = Caffeine.newBuilder()
+                    .maximumWeight(config.getMaximumWeight())
+                    .weigher((String persistenceId, CachedState state) -> state.getWeight())
+                    .expireAfterWrite(config.getExpireAfterWrite())
+                    .build();
+        } else {
+            cache = null;
+        }
+    }
+
+    /**
+     * Create a warm state cache.
+     *
+     * @param config the config of the cache.
+     * @return the cache.
+     */
+    static WarmStateCache of(final WarmStateCacheConfig config) {
+        return new WarmStateCache(config);
+    }
+
+    /**
+     * Get the warm state cache of an actor system according to the config at
+     * {@code ditto.persistence.warm-state-cache}.
+     *
+     * @param actorSystem the actor system.
+     * @return the warm state cache of the actor system.
+     */
+    static WarmStateCache get(final ActorSystem actorSystem) {
+        return ExtensionId.INSTANCE.get(actorSystem);
+    }
+
+    /**
+     * @return whether states are cached at all.
+     */
+    boolean isEnabled() {
+        return null != cache;
+    }
+
+    /**
+     * Cache the state of a passivated entity.
+     *
+     * @param persistenceId the persistence ID of the entity.
+     * @param state the state of the entity.
+     */
+    void put(final String persistenceId, final CachedState state) {
+        if (null != cache) {
+            cache.put(persistenceId, state);
+        }
+    }
+
+    /**
+     * Take the state of an entity out of the cache. A state is taken out at most once, because the entity changes
+     * its state as soon as it is active again.
+     *
+     * @param persistenceId the persistence ID of the entity.
+     * @return the cached state if any.
+     */
+    Optional<CachedState> remove(final String persistenceId) {
+        if (null != cache) {
+            return Optional.ofNullable(cache.asMap().remove(persistenceId));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * The state of a passivated entity together with the bookkeeping of its snapshots.
+     */
+    @Immutable
+    static final class CachedState {
+
+        private final Object entity;
+        private final long revision;
+        private final long lastSnapshotRevision;
+        private final long confirmedSnapshotRevision;
+        private final long eventsSinceSnapshot;
+        private final long eventBytesSinceSnapshot;
+        private final int weight;
+
+        CachedState(final Object entity, final long revision, final long lastSnapshotRevision,
+                final long confirmedSnapshotRevision, final long eventsSinceSnapshot,
+                final long eventBytesSinceSnapshot, final long estimatedSize) {
+            this.entity = entity;
+            this.revision = revision;
+            this.lastSnapshotRevision = lastSnapshotRevision;
+            this.confirmedSnapshotRevision = confirmedSnapshotRevision;
+            this.eventsSinceSnapshot = eventsSinceSnapshot;
+            this.eventBytesSinceSnapshot = eventBytesSinceSnapshot;
+            weight = (int) Math.min(Integer.MAX_VALUE, Math.max(MIN_ESTIMATED_SIZE, estimatedSize));
+        }
+
+        Object getEntity() {
+            return entity;
+        }
+
+        long getRevision() {
+            return revision;
+        }
+
+        long getLastSnapshotRevision() {
+            return lastSnapshotRevision;
+        }
+
+        long getConfirmedSnapshotRevision() {
+            return confirmedSnapshotRevision;
+        }
+
+        long getEventsSinceSnapshot() {
+            return eventsSinceSnapshot;
+        }
+
+        long getEventBytesSinceSnapshot() {
+            return eventBytesSinceSnapshot;
+        }
+
+        int getWeight() {
+            return weight;
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [" +
+                    "revision=" + revision +
+                    ", lastSnapshotRevision=" + lastSnapshotRevision +
+                    ", confirmedSnapshotRevision=" + confirmedSnapshotRevision +
+                    ", eventsSinceSnapshot=" + eventsSinceSnapshot +
+                    ", weight=" + weight +
+                    "]";
+        }
+
+    }
+
+    /**
+     * ID of the actor system extension to cache the states of passivated entities.
+     */
+    private static final class ExtensionId extends AbstractExtensionId<WarmStateCache> {
+
+        private static final ExtensionId INSTANCE = new ExtensionId();
+
+        @Override
+        public WarmStateCache createExtension(final ExtendedActorSystem system) {
+            final Config config = system.settings().config();
+            final Config persistenceConfig = config.hasPath(PERSISTENCE_CONFIG_PATH)
+                    ? config.getConfig(PERSISTENCE_CONFIG_PATH)
+                    : ConfigFactory.empty();
+            return of(DefaultWarmStateCacheConfig.of(persistenceConfig));
+        }
+
+    }
+
+}
@@ -22,6 +22,7 @@ import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.model.base.entity.Entity;
 import org.eclipse.ditto.model.base.exceptions.DittoRuntimeException;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
 import org.eclipse.ditto.model.base.headers.entitytag.EntityTag;
 import org.eclipse.ditto.services.utils.headers.conditional.ConditionalHeadersValidator;
 import org.eclipse.ditto.services.utils.persistentactors.commands.AbstractCommandStrategy;
@@ -74,6 +75,11 @@ public abstract class AbstractConditionHeaderCheckingCommandStrategy<
     public Result<E> apply(final Context<K> context, @Nullable final S entity, final long nextRevision,
             final C command) {
 
+        if (!hasPreconditionHeaders(command)) {
+            // nothing to validate: do not compute the entity tag of the (sub-)entity
+            return super.apply(context, entity, nextRevision, command);
+        }
+
         final EntityTag currentETagValue = previousEntityTag(command, entity).orElse(null);
 
         context.getLog().debug("Validating conditional headers with currentETagValue <{}> on command <{}>.",
@@ -89,6 +95,11 @@ public abstract class AbstractConditionHeaderCheckingCommandStrategy<
         return super.apply(context, entity, nextRevision, command);
     }
 
+    private static boolean hasPreconditionHeaders(final Command<?> command) {
+        final DittoHeaders dittoHeaders = command.getDittoHeaders();
+        return dittoHeaders.getIfMatch().isPresent() || dittoHeaders.getIfNoneMatch().isPresent();
+    }
+
     @Override
     public boolean isDefined(final Context<K> context, @Nullable final S entity, final C command) {
         checkNotNull(context, "Context");
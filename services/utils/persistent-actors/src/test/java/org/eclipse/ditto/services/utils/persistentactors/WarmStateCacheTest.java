@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.persistentactors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.services.utils.persistence.mongo.config.DefaultWarmStateCacheConfig;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests {@link WarmStateCache}.
+ */
+public final class WarmStateCacheTest {
+
+    @Test
+    public void cachedStateIsTakenOutOnce() {
+        final WarmStateCache underTest = cacheWithMaximumWeight("1MiB");
+        underTest.put("thing:ns:id", cachedState("entity", 5L));
+
+        assertThat(underTest.remove("thing:ns:id"))
+                .hasValueSatisfying(state -> {
+                    assertThat(state.getEntity()).isEqualTo("entity");
+                    assertThat(state.getRevision()).isEqualTo(5L);
+                });
+        assertThat(underTest.remove("thing:ns:id")).isEmpty();
+    }
+
+    @Test
+    public void zeroMaximumWeightDisablesCache() {
+        final WarmStateCache underTest = cacheWithMaximumWeight("0");
+        underTest.put("thing:ns:id", cachedState("entity", 5L));
+
+        assertThat(underTest.isEnabled()).isFalse();
+        assertThat(underTest.remove("thing:ns:id")).isEmpty();
+    }
+
+    private static WarmStateCache cacheWithMaximumWeight(final String maximumWeight) {
+        return WarmStateCache.of(DefaultWarmStateCacheConfig.of(
+                ConfigFactory.parseString("warm-state-cache.maximum-weight = " + maximumWeight)));
+    }
+
+    private static WarmStateCache.CachedState cachedState(final Object entity, final long revision) {
+        return new WarmStateCache.CachedState(entity, revision, 0L, 0L, revision, 0L, 10L);
+    }
+
+}
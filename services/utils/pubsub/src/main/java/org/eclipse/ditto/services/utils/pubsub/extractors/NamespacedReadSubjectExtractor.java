@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.pubsub.extractors;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
+
+/**
+ * Extract read-subjects of messages qualified by the namespace of the messages as topics.
+ * <p>
+ * Subscribers interested in some namespaces only subscribe for the qualified topics of their subjects, so that the
+ * publisher sends messages of other namespaces not to their nodes at all. Subscribers interested in all namespaces
+ * subscribe for the plain read-subjects as extracted by {@link ReadSubjectExtractor}.
+ * </p>
+ * <p>
+ * The namespace and the subject ID are delimited by the null character, which also starts each topic. Subject IDs
+ * cannot contain it as they are stored as MongoDB field names in policies, so that qualified topics never collide
+ * with plain read-subjects.
+ * </p>
+ *
+ * @param <T> type of messages.
+ */
+public final class NamespacedReadSubjectExtractor<T extends WithDittoHeaders> implements PubSubTopicExtractor<T> {
+
+    private static final char DELIMITER = '\u0000';
+
+    private final Function<T, String> namespaceExtractor;
+
+    private NamespacedReadSubjectExtractor(final Function<T, String> namespaceExtractor) {
+        this.namespaceExtractor = namespaceExtractor;
+    }
+
+    /**
+     * Create an extractor of namespace-qualified read-subjects as topics.
+     *
+     * @param namespaceExtractor function to extract the namespace of a message.
+     * @param <T> type of messages.
+     * @return a namespaced read-subject extractor.
+     */
+    public static <T extends WithDittoHeaders> NamespacedReadSubjectExtractor<T> of(
+            final Function<T, String> namespaceExtractor) {
+
+        return new NamespacedReadSubjectExtractor<>(namespaceExtractor);
+    }
+
+    /**
+     * Qualify subject IDs by namespaces as topics of messages extracted by this extractor.
+     *
+     * @param subjectIds the subject IDs.
+     * @param namespaces the namespaces.
+     * @return the topic of each subject ID in each namespace.
+     */
+    public static Set<String> toTopics(final Collection<String> subjectIds, final Collection<String> namespaces) {
+        return namespaces.stream()
+                .flatMap(namespace -> subjectIds.stream().map(subjectId -> toTopic(namespace, subjectId)))
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public Collection<String> getTopics(final T message) {
+        final String namespace = namespaceExtractor.apply(message);
+        return message.getDittoHeaders()
+                .getReadGrantedSubjects()
+                .stream()
+                .map(AuthorizationSubject::getId)
+                .map(subjectId -> toTopic(namespace, subjectId))
+                .collect(Collectors.toSet());
+    }
+
+    private static String toTopic(final String namespace, final String subjectId) {
+        return DELIMITER + namespace + DELIMITER + subjectId;
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.services.utils.pubsub.extractors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+import org.eclipse.ditto.model.base.auth.AuthorizationSubject;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.headers.WithDittoHeaders;
+import org.junit.Test;
+
+/**
+ * Tests {@link NamespacedReadSubjectExtractor}.
+ */
+public final class NamespacedReadSubjectExtractorTest {
+
+    private static final NamespacedReadSubjectExtractor<Message> UNDER_TEST =
+            NamespacedReadSubjectExtractor.of(Message::getNamespace);
+
+    @Test
+    public void topicsOfMessageMatchTopicsOfSubscriptionInItsNamespace() {
+        final Message message = new Message("org.eclipse.ditto", "issuer:subject1", "issuer:subject2");
+
+        assertThat(UNDER_TEST.getTopics(message))
+                .containsExactlyInAnyOrderElementsOf(NamespacedReadSubjectExtractor.toTopics(
+                        Arrays.asList("issuer:subject1", "issuer:subject2"),
+                        Collections.singletonList("org.eclipse.ditto")));
+    }
+
+    @Test
+    public void topicsOfMessageDoNotMatchTopicsOfSubscriptionInOtherNamespaces() {
+        final Message message = new Message("org.eclipse.ditto", "issuer:subject1");
+
+        assertThat(UNDER_TEST.getTopics(message))
+                .doesNotContainAnyElementsOf(NamespacedReadSubjectExtractor.toTopics(
+                        Collections.singletonList("issuer:subject1"),
+                        Arrays.asList("org.eclipse", "org.eclipse.ditto.other")))
+                .doesNotContain("issuer:subject1");
+    }
+
+    @Test
+    public void topicsOfMessageDoNotCollideWithPlainReadSubjects() {
+        final Message message = new Message("org.eclipse.ditto", "issuer:subject1");
+        final Message messageWithQualifiedLookingSubjects = new Message("org.eclipse.ditto",
+                "namespace:org.eclipse.ditto/issuer:subject1", "org.eclipse.ditto/issuer:subject1",
+                "org.eclipse.ditto:issuer:subject1");
+
+        assertThat(UNDER_TEST.getTopics(message))
+                .doesNotContainAnyElementsOf(
+                        ReadSubjectExtractor.<Message>of().getTopics(messageWithQualifiedLookingSubjects))
+                .allSatisfy(topic -> assertThat(topic).startsWith("\u0000"));
+    }
+
+    private static final class Message implements WithDittoHeaders<Message> {
+
+        private final String namespace;
+        private final DittoHeaders dittoHeaders;
+
+        private Message(final String namespace, final String... readSubjects) {
+            this.namespace = namespace;
+            dittoHeaders = DittoHeaders.newBuilder()
+                    .readGrantedSubjects(Arrays.stream(readSubjects)
+                            .map(AuthorizationSubject::newInstance)
+                            .collect(Collectors.toList()))
+                    .build();
+        }
+
+        private String getNamespace() {
+            return namespace;
+        }
+
+        @Override
+        public DittoHeaders getDittoHeaders() {
+            return dittoHeaders;
+        }
+
+        @Override
+        public Message setDittoHeaders(final DittoHeaders dittoHeaders) {
+            return this;
+        }
+
+    }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.signals.commands.common;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonParsableCommand;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+
+/**
+ * Command to retrieve the manifests which dominate the cluster serialization of a service instance.
+ */
+@Immutable
+@JsonParsableCommand(typePrefix = RetrieveSerializationStatistics.TYPE_PREFIX,
+        name = RetrieveSerializationStatistics.NAME)
+public final class RetrieveSerializationStatistics extends CommonCommand<RetrieveSerializationStatistics> {
+
+    /**
+     * The name of the command.
+     */
+    static final String NAME = "retrieveSerializationStatistics";
+
+    /**
+     * The type of the command.
+     */
+    public static final String TYPE = TYPE_PREFIX + NAME;
+
+    private static final JsonFieldDefinition<Integer> JSON_LIMIT = JsonFactory.newIntFieldDefinition("limit");
+
+    @Nullable
+    private final Integer limit;
+
+    private RetrieveSerializationStatistics(@Nullable final Integer limit, final DittoHeaders dittoHeaders) {
+        super(TYPE, Category.QUERY, dittoHeaders);
+        this.limit = limit;
+    }
+
+    /**
+     * Create a RetrieveSerializationStatistics object with the given limit.
+     *
+     * @param limit the maximum number of manifests to retrieve, or null to use the default of the receiver.
+     * @param dittoHeaders the Ditto headers.
+     * @return the RetrieveSerializationStatistics object.
+     */
+    public static RetrieveSerializationStatistics of(@Nullable final Integer limit, final DittoHeaders dittoHeaders) {
+        return new RetrieveSerializationStatistics(limit, dittoHeaders);
+    }
+
+    /**
+     * Return the maximum number of manifests to retrieve if present.
+     *
+     * @return the limit, or an empty optional.
+     */
+    public Optional<Integer> getLimit() {
+        return Optional.ofNullable(limit);
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> predicate) {
+
+        if (limit != null) {
+            jsonObjectBuilder.set(JSON_LIMIT, limit);
+        }
+    }
+
+    @Override
+    public RetrieveSerializationStatistics setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return new RetrieveSerializationStatistics(limit, dittoHeaders);
+    }
+
+    /**
+     * Creates a new {@code RetrieveSerializationStatistics} from the given JSON object.
+     *
+     * @param jsonObject the JSON object of which the command is to be created.
+     * @param dittoHeaders the headers.
+     * @return the command.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     */
+    public static RetrieveSerializationStatistics fromJson(final JsonObject jsonObject,
+            final DittoHeaders dittoHeaders) {
+
+        final Integer limit = jsonObject.getValue(JSON_LIMIT).orElse(null);
+        return new RetrieveSerializationStatistics(limit, dittoHeaders);
+    }
+
+    @Override
+    public boolean equals(final Object that) {
+        if (super.equals(that) && that instanceof RetrieveSerializationStatistics) {
+            return Objects.equals(limit, ((RetrieveSerializationStatistics) that).limit);
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), limit);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + super.toString() +
+                ", limit=" + limit +
+                "]";
+    }
+}
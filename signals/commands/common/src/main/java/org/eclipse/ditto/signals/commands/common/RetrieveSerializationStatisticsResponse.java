@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2020 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.signals.commands.common;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.model.base.common.HttpStatusCode;
+import org.eclipse.ditto.model.base.headers.DittoHeaders;
+import org.eclipse.ditto.model.base.json.JsonParsableCommandResponse;
+import org.eclipse.ditto.model.base.json.JsonSchemaVersion;
+
+/**
+ * Response to {@code RetrieveSerializationStatistics} containing the statistics of the manifests with the most
+ * serialized bytes.
+ */
+@JsonParsableCommandResponse(type = RetrieveSerializationStatisticsResponse.TYPE)
+public final class RetrieveSerializationStatisticsResponse
+        extends CommonCommandResponse<RetrieveSerializationStatisticsResponse> {
+
+    /**
+     * Type of this command response.
+     */
+    public static final String TYPE = TYPE_PREFIX + RetrieveSerializationStatistics.NAME;
+
+    private static final JsonFieldDefinition<JsonArray> JSON_MANIFESTS =
+            JsonFactory.newJsonArrayFieldDefinition("manifests");
+
+    private final JsonArray manifests;
+
+    private RetrieveSerializationStatisticsResponse(final JsonArray manifests, final DittoHeaders dittoHeaders) {
+        super(TYPE, HttpStatusCode.OK, dittoHeaders);
+        this.manifests = manifests;
+    }
+
+    /**
+     * Create a {@code RetrieveSerializationStatisticsResponse}.
+     *
+     * @param manifests statistics per manifest ordered by descending number of bytes.
+     * @param headers Ditto headers.
+     * @return the {@code RetrieveSerializationStatisticsResponse}.
+     */
+    public static RetrieveSerializationStatisticsResponse of(final JsonArray manifests, final DittoHeaders headers) {
+        return new RetrieveSerializationStatisticsResponse(manifests, headers);
+    }
+
+    /**
+     * Creates a new {@code RetrieveSerializationStatisticsResponse} from the given JSON object.
+     *
+     * @param jsonObject the JSON object of which the response is to be created.
+     * @param dittoHeaders the headers.
+     * @return the command response.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if the JSON object does not contain the field
+     * "manifests".
+     */
+    public static RetrieveSerializationStatisticsResponse fromJson(final JsonObject jsonObject,
+            final DittoHeaders dittoHeaders) {
+
+        return new RetrieveSerializationStatisticsResponse(jsonObject.getValueOrThrow(JSON_MANIFESTS), dittoHeaders);
+    }
+
+    /**
+     * @return statistics per manifest ordered by descending number of bytes.
+     */
+    public JsonArray getManifests() {
+        return manifests;
+    }
+
+    @Override
+    protected void appendPayload(final JsonObjectBuilder jsonObjectBuilder, final JsonSchemaVersion schemaVersion,
+            final Predicate<JsonField> predicate) {
+
+        jsonObjectBuilder.set(JSON_MANIFESTS, manifests);
+    }
+
+    @Override
+    public RetrieveSerializationStatisticsResponse setDittoHeaders(final DittoHeaders dittoHeaders) {
+        return new RetrieveSerializationStatisticsResponse(manifests, dittoHeaders);
+    }
+
+    @Override
+    public boolean equals(final Object that) {
+        if (super.equals(that) && that instanceof RetrieveSerializationStatisticsResponse) {
+            return Objects.equals(manifests, ((RetrieveSerializationStatisticsResponse) that).manifests);
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), manifests);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" + super.toString() +
+                ", manifests=" + manifests +
+                "]";
+    }
+}